@@ -0,0 +1,278 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controller.usecases;
+
+import com.google.gson.Gson;
+import java.util.concurrent.atomic.LongAdder;
+import org.onap.policy.controlloop.CanonicalAbated;
+import org.onap.policy.controlloop.CanonicalOnset;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
+import org.onap.policy.controlloop.util.Serialization;
+
+/**
+ * Decodes events arriving on the DCAE topic. Rather than evaluating a JsonPath filter per
+ * event class, and then parsing the event, this makes a single scan over the top level of
+ * the raw JSON, stopping as soon as it finds the "closedLoopEventStatus" field, and then
+ * decodes the event directly into {@link CanonicalOnset} or {@link CanonicalAbated}, as
+ * appropriate, regardless of the class requested by the topic source. Events that are not
+ * JSON objects, that are truncated, or whose status is missing or unrecognized, are
+ * rejected without being parsed. This may be plugged into a topic source via its
+ * "custom.gson" property, with no filters, for instance:
+ *
+ * <pre>
+ * kafka.source.topics.dcae_topic.events=org.onap.policy.controlloop.CanonicalOnset
+ * kafka.source.topics.dcae_topic.events.custom.gson=\
+ *     org.onap.policy.drools.apps.controller.usecases.DcaeEventCoder,coder
+ * </pre>
+ */
+public class DcaeEventCoder {
+
+    /**
+     * Coder to be referenced by the topic source properties.
+     */
+    public static final DcaeEventCoder coder = new DcaeEventCoder();
+
+    public static final String STATUS_FIELD = "closedLoopEventStatus";
+    public static final String ONSET = "ONSET";
+    public static final String ABATED = "ABATED";
+
+    private final Gson gson;
+
+    private final LongAdder onsets = new LongAdder();
+    private final LongAdder abatements = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+
+    /**
+     * Constructs the object, using the compact gson from the models to decode events.
+     */
+    public DcaeEventCoder() {
+        this(Serialization.gson);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param gson gson to be used to decode events
+     */
+    public DcaeEventCoder(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * Decodes an event.
+     *
+     * @param json JSON to be decoded
+     * @param clazz class requested by the topic source; ignored, as the class is
+     *        determined by the event's status
+     * @return the decoded event
+     * @throws IllegalArgumentException if the event is malformed or its status is not
+     *         recognized
+     */
+    public VirtualControlLoopEvent fromJson(String json, Class<?> clazz) {
+        Class<? extends VirtualControlLoopEvent> eventClass;
+
+        try {
+            eventClass = classify(json);
+
+        } catch (IllegalArgumentException e) {
+            rejected.increment();
+            throw e;
+        }
+
+        VirtualControlLoopEvent event = gson.fromJson(json, eventClass);
+        if (event == null) {
+            rejected.increment();
+            throw new IllegalArgumentException("empty event");
+        }
+
+        (eventClass == CanonicalOnset.class ? onsets : abatements).increment();
+        return event;
+    }
+
+    /**
+     * Encodes an event. Events are not published via this coder, thus this simply
+     * delegates to gson.
+     *
+     * @param object object to be encoded
+     * @return the JSON representation of the object
+     */
+    public String toJson(Object object) {
+        return gson.toJson(object);
+    }
+
+    public long getOnsets() {
+        return onsets.sum();
+    }
+
+    public long getAbatements() {
+        return abatements.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Determines the class into which an event should be decoded, based on its status.
+     *
+     * @param json JSON to be examined
+     * @return the class into which the event should be decoded
+     * @throws IllegalArgumentException if the event is malformed or its status is not
+     *         recognized
+     */
+    public static Class<? extends VirtualControlLoopEvent> classify(String json) {
+        String status = findStatus(json);
+
+        switch (status) {
+            case ONSET:
+                return CanonicalOnset.class;
+            case ABATED:
+                return CanonicalAbated.class;
+            default:
+                throw new IllegalArgumentException("unsupported " + STATUS_FIELD + ": " + status);
+        }
+    }
+
+    /**
+     * Scans the top level of a JSON object for the status field. Nested objects and
+     * arrays are skipped without being examined.
+     *
+     * @param json JSON to be scanned
+     * @return the value of the status field
+     * @throws IllegalArgumentException if the JSON is not an object, is truncated, or does
+     *         not contain a status string
+     */
+    static String findStatus(String json) {
+        if (json == null) {
+            throw new IllegalArgumentException("null event");
+        }
+
+        final int len = json.length();
+
+        var pos = skipWhitespace(json, 0);
+        if (pos >= len || json.charAt(pos) != '{') {
+            throw new IllegalArgumentException("event is not a JSON object");
+        }
+
+        var depth = 1;
+        var expectKey = true;
+
+        ++pos;
+        while (pos < len) {
+            switch (json.charAt(pos)) {
+                case '"':
+                    int end = endOfString(json, pos);
+
+                    if (depth == 1 && expectKey) {
+                        expectKey = false;
+
+                        if (end - pos - 1 == STATUS_FIELD.length()
+                                        && json.regionMatches(pos + 1, STATUS_FIELD, 0, STATUS_FIELD.length())) {
+                            return statusValue(json, end + 1);
+                        }
+                    }
+
+                    pos = end + 1;
+                    break;
+
+                case '{', '[':
+                    ++depth;
+                    ++pos;
+                    break;
+
+                case '}', ']':
+                    if (--depth == 0) {
+                        throw new IllegalArgumentException("event has no " + STATUS_FIELD);
+                    }
+                    ++pos;
+                    break;
+
+                case ',':
+                    expectKey = (depth == 1);
+                    ++pos;
+                    break;
+
+                default:
+                    ++pos;
+                    break;
+            }
+        }
+
+        throw new IllegalArgumentException("event is truncated");
+    }
+
+    /**
+     * Extracts the value of the status field.
+     *
+     * @param json JSON being scanned
+     * @param pos position just after the status field's name
+     * @return the value of the status field
+     */
+    private static String statusValue(String json, int pos) {
+        var colon = skipWhitespace(json, pos);
+        if (colon >= json.length() || json.charAt(colon) != ':') {
+            throw new IllegalArgumentException("event is malformed");
+        }
+
+        var quote = skipWhitespace(json, colon + 1);
+        if (quote >= json.length() || json.charAt(quote) != '"') {
+            throw new IllegalArgumentException(STATUS_FIELD + " is not a string");
+        }
+
+        return json.substring(quote + 1, endOfString(json, quote));
+    }
+
+    /**
+     * Finds the end of a string.
+     *
+     * @param json JSON being scanned
+     * @param start position of the string's opening quote
+     * @return the position of the string's closing quote
+     */
+    private static int endOfString(String json, int start) {
+        final int len = json.length();
+
+        var pos = start + 1;
+        while (pos < len) {
+            char chr = json.charAt(pos);
+            if (chr == '"') {
+                return pos;
+            }
+
+            // skip over the escaped character, if this is an escape
+            pos += (chr == '\\' ? 2 : 1);
+        }
+
+        throw new IllegalArgumentException("event is truncated");
+    }
+
+    private static int skipWhitespace(String json, int start) {
+        final int len = json.length();
+
+        var pos = start;
+        while (pos < len && Character.isWhitespace(json.charAt(pos))) {
+            ++pos;
+        }
+
+        return pos;
+    }
+}
@@ -0,0 +1,621 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controller.usecases;
+
+import java.time.Instant;
+import java.util.Collections;
+import org.onap.policy.controlloop.ControlLoopException;
+import org.onap.policy.controlloop.ControlLoopNotificationType;
+import org.onap.policy.controlloop.VirtualControlLoopNotification;
+import org.onap.policy.controlloop.actor.xacml.XacmlActor;
+import org.onap.policy.controlloop.actorserviceprovider.OperationFinalResult;
+import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
+import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
+import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
+import org.onap.policy.controlloop.eventmanager.ActorConstants;
+import org.onap.policy.controlloop.eventmanager.ClEventManagerWithSteps.State;
+import org.onap.policy.controlloop.eventmanager.ControlLoopEventManager;
+import org.onap.policy.controlloop.eventmanager.EventManagerServices;
+import org.onap.policy.controlloop.eventmanager.Step;
+import org.onap.policy.drools.apps.controller.usecases.step.Step2;
+import org.onap.policy.drools.system.PolicyEngineConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a manager's steps without a separate rule firing, and working memory update,
+ * for each action. It is invoked by the "EVENT.MANAGER.FAST.PATH" rule, thus it runs on
+ * the rules thread, each time an outcome is added to the manager, and performs, in a
+ * single firing, the actions that the individual step rules in "usecases.drl" would have
+ * performed until the manager must wait for another outcome. Each action is the same, and
+ * in the same order, as that of the corresponding rule, and uses the rule's name as the
+ * policy scope of its notifications, thus the notifications are identical to those
+ * generated by the rules. The rules still create the manager and generate the final
+ * notification, once this has moved the manager to the DONE state.
+ *
+ * <p/>
+ * Note: any changes to the rules must be reflected here, and vice versa.
+ * FastPathNotificationsTest verifies that both generate the same notifications.
+ */
+public class FastPathExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(FastPathExecutor.class);
+
+    // names of the rules whose actions are performed by this executor
+    public static final String LOAD_NEXT_POLICY = "EVENT.MANAGER.LOAD.NEXT.POLICY";
+    public static final String PREPROCESS = "EVENT.MANAGER.PREPROCESS";
+    public static final String ACCEPT = "EVENT.MANAGER.ACCEPT";
+    public static final String EXECUTE_STEP = "EVENT.MANAGER.EXECUTE.STEP";
+    public static final String GENERATE_SDNR_NOTIFICATION = "EVENT.MANAGER.GENERATE.SDNR.NOTIFICATION";
+    public static final String PROCESS_GUARD_OUTCOME = "EVENT.MANAGER.PROCESS.GUARD.OUTCOME";
+    public static final String PROCESS_POLICY_STARTED = "EVENT.MANAGER.PROCESS.POLICY.STARTED";
+    public static final String PROCESS_PREPROCESSOR_STARTED = "EVENT.MANAGER.PROCESS.PREPROCESSOR.STARTED";
+    public static final String PROCESS_POLICY_SUCCESS = "EVENT.MANAGER.PROCESS.POLICY.SUCCESS";
+    public static final String PROCESS_FINAL_FAILURE_ACCEPTED = "EVENT.MANAGER.PROCESS.FINAL.FAILURE.ACCEPTED";
+    public static final String PROCESS_FINAL_FAILURE_REJECTED = "EVENT.MANAGER.PROCESS.FINAL.FAILURE.REJECTED";
+    public static final String PROCESS_POLICY_FAILURE = "EVENT.MANAGER.PROCESS.POLICY.FAILURE";
+    public static final String DISCARD_OUTCOME = "EVENT.MANAGER.DISCARD.OUTCOME";
+    public static final String ABORT = "EVENT.MANAGER.ABORT";
+
+    private static final String POLICY_CL_MGT = "policy-cl-mgt";
+    private static final String DCAE_CL_RSP = "dcae_cl_rsp";
+    private static final String NOTIFICATION = "notification";
+    private static final String SDNR = "SDNR";
+
+    private final UsecasesEventManager manager;
+
+    /**
+     * {@code True} once the manager has been finalized, after the event was rejected.
+     */
+    private boolean rejected = false;
+
+
+    /**
+     * Determines if the fast path is enabled for the given policy.
+     *
+     * @param services event manager services
+     * @param params control loop parameters
+     * @return {@code true} if the fast path is enabled for the policy's type,
+     *         {@code false} otherwise
+     */
+    public static boolean isEnabled(EventManagerServices services, ControlLoopParams params) {
+        var policy = params.getToscaPolicy();
+        return (policy != null && services.getFastPathPolicyTypes().contains(policy.getType()));
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param manager manager whose steps are to be executed; the manager must already
+     *        have been started
+     */
+    public FastPathExecutor(UsecasesEventManager manager) {
+        this.manager = manager;
+    }
+
+    /**
+     * Hands the manager's steps over to the fast path. Invoked by the rules in lieu of
+     * setting the manager's state to POLICY_LOADED.
+     */
+    public void start() {
+        manager.startFastPath();
+        manager.setState(State.POLICY_LOADED);
+    }
+
+    /**
+     * Processes the manager until it must wait for an outcome or until it is done. Must
+     * only be invoked by the rules.
+     *
+     * @return {@code true} if the manager is to be updated in working memory,
+     *         {@code false} if the event was rejected and the manager, which has already
+     *         been destroyed, is to be retracted
+     */
+    public boolean run() {
+        try {
+            while (!rejected && manager.isActive() && manager.getState() != State.DONE && processNext()) {
+                // keep going until there is nothing more to do
+            }
+
+        } catch (RuntimeException e) {
+            logger.warn("{}: {}: manager={} exception on fast path", manager.getClosedLoopControlName(),
+                            manager.getPolicyName(), manager, e);
+            manager.abort(State.DONE, OperationFinalResult.FINAL_FAILURE_EXCEPTION, "failed to process the event");
+        }
+
+        return !rejected;
+    }
+
+    /**
+     * Performs the next action.
+     *
+     * @return {@code true} if an action was performed, {@code false} if the manager is
+     *         waiting for an outcome
+     */
+    private boolean processNext() {
+        final Step2 step = manager.getSteps().peek();
+        final OperationOutcome outcome = manager.getOutcomes().peek();
+
+        if (outcome != null && manager.isAbort(outcome)) {
+            abort(outcome, step);
+            return true;
+        }
+
+        switch (manager.getState()) {
+            case POLICY_LOADED:
+                processPolicyLoaded(step);
+                return true;
+
+            case AWAITING_OUTCOME:
+                return (outcome != null && processOutcome(outcome, step));
+
+            default:
+                return false;
+        }
+    }
+
+    private void processPolicyLoaded(Step2 step) {
+        if (step == null) {
+            loadNextPolicy();
+
+        } else if (!step.isPreprocessed()) {
+            preprocess(step);
+
+        } else if (!manager.isAccepted() && step.acceptsEvent()) {
+            accept(step);
+
+        } else {
+            executeStep(step);
+        }
+    }
+
+    private boolean processOutcome(OperationOutcome outcome, Step2 step) {
+        if (step == null) {
+            // nothing to which the outcome could apply
+            manager.getOutcomes().remove();
+            return true;
+        }
+
+        final boolean isFor = outcome.isFor(step.getActorName(), step.getOperationName());
+
+        if (isFor && XacmlActor.NAME.equals(step.getActorName())
+                        && manager.isNotificationEnabled(ControlLoopNotificationType.OPERATION)) {
+            guardOutcome(outcome, step);
+        }
+
+        if (outcome.getEnd() == null) {
+            // it's a "start" operation
+            if (!isFor) {
+                discardOutcome(outcome, step);
+            } else if (step.isPolicyStep()) {
+                policyStarted(outcome, step);
+            } else {
+                preprocessorStarted(step);
+            }
+
+            return true;
+        }
+
+        if (isFor && SDNR.equals(step.getActorName())) {
+            generateSdnrNotification(outcome, step);
+        }
+
+        if (outcome.getResult() == OperationResult.SUCCESS) {
+            if (isFor && step.isPolicyStep()) {
+                policySuccess(outcome, step);
+            } else {
+                discardOutcome(outcome, step);
+            }
+
+        } else if (outcome.isFinalOutcome()) {
+            if (manager.isAccepted()) {
+                finalFailureAccepted(outcome, step);
+            } else {
+                finalFailureRejected(outcome, step);
+            }
+
+        } else if (isFor && step.isPolicyStep()) {
+            policyFailure(outcome, step);
+
+        } else {
+            discardOutcome(outcome, step);
+        }
+
+        return true;
+    }
+
+    private void loadNextPolicy() {
+        log(LOAD_NEXT_POLICY, null);
+
+        try {
+            manager.loadNextPolicy(manager.getResult());
+
+            if (manager.getSteps().isEmpty()) {
+                // no steps - must be the final policy
+                manager.setState(State.DONE);
+            }
+
+        } catch (ControlLoopException | RuntimeException e) {
+            logException(LOAD_NEXT_POLICY, "exception loading next policy", e);
+            manager.abort(State.DONE, OperationFinalResult.FINAL_FAILURE_EXCEPTION, "failed to load next policy");
+        }
+    }
+
+    private void preprocess(Step2 step) {
+        log(PREPROCESS, step);
+
+        try {
+            step.setPreprocessed(true);
+            manager.loadPreprocessorSteps();
+
+        } catch (RuntimeException e) {
+            logException(PREPROCESS, "exception loading preprocessor steps", e);
+            manager.abort(State.DONE, OperationFinalResult.FINAL_FAILURE_EXCEPTION,
+                            "failed to load preprocessing steps");
+        }
+    }
+
+    private void accept(Step2 step) {
+        log(ACCEPT, step);
+
+        try {
+            manager.setAccepted(true);
+
+            var notification = makeNotification(ControlLoopNotificationType.ACTIVE, ACCEPT);
+            manager.deliver(POLICY_CL_MGT, notification, NOTIFICATION, ACCEPT);
+
+        } catch (RuntimeException e) {
+            logException(ACCEPT, "exception processing operation outcome", e);
+            manager.abort(State.DONE, OperationFinalResult.FINAL_FAILURE_EXCEPTION, "failed to accept the event");
+        }
+    }
+
+    private void executeStep(Step2 step) {
+        log(EXECUTE_STEP, step);
+
+        try {
+            step.init();
+            step.setProperties();
+
+            if (isGuardDisabled() && XacmlActor.NAME.equals(step.getActorName())) {
+                // guard is disabled - just enqueue a "SUCCESS" (i.e., "Permit")
+                var outcome = step.getParams().makeOutcome();
+                outcome.setStart(Instant.now());
+                outcome.setEnd(outcome.getStart());
+
+                manager.getOutcomes().add(outcome);
+                manager.setState(State.AWAITING_OUTCOME);
+
+            } else if (manager.executeStep()) {
+                manager.setState(State.AWAITING_OUTCOME);
+
+            } else {
+                // this step is no longer necessary - try the next one
+                manager.nextStep();
+            }
+
+        } catch (RuntimeException e) {
+            logException(EXECUTE_STEP, "exception executing a step", e);
+            manager.abort(State.DONE, OperationFinalResult.FINAL_FAILURE_EXCEPTION, "failed to execute the next step");
+        }
+    }
+
+    private void generateSdnrNotification(OperationOutcome outcome, Step2 step) {
+        log(GENERATE_SDNR_NOTIFICATION, step);
+
+        try {
+            var clResponse = manager.makeControlLoopResponse(outcome);
+            manager.deliver(DCAE_CL_RSP, clResponse, "SDNR notification", GENERATE_SDNR_NOTIFICATION);
+
+        } catch (RuntimeException e) {
+            logException(GENERATE_SDNR_NOTIFICATION, "exception generating SDNR Response notification", e);
+        }
+    }
+
+    private void guardOutcome(OperationOutcome outcome, Step2 step) {
+        log(PROCESS_GUARD_OUTCOME, step);
+
+        try {
+            var notification = makeNotification(ControlLoopNotificationType.OPERATION, PROCESS_GUARD_OUTCOME);
+            notification.setHistory(Collections.emptyList());
+
+            // get actor/operation name from the policy step, not from the guard step
+            Step step2 = step.getParentStep();
+
+            if (outcome.getEnd() == null) {
+                // it's a "start" operation
+                notification.setMessage("Sending guard query for " + step2.getActorName() + " "
+                                + step2.getOperationName());
+
+            } else if (outcome.getResult() == OperationResult.SUCCESS) {
+                notification.setMessage("Guard result for " + step2.getActorName() + " " + step2.getOperationName()
+                                + " is Permit");
+            } else {
+                // it's a failure
+                notification.setMessage("Guard result for " + step2.getActorName() + " " + step2.getOperationName()
+                                + " is Deny");
+            }
+
+            manager.deliver(POLICY_CL_MGT, notification, "GUARD notification", PROCESS_GUARD_OUTCOME);
+
+        } catch (RuntimeException e) {
+            logException(PROCESS_GUARD_OUTCOME, "exception generating GUARD notification", e);
+        }
+    }
+
+    private void policyStarted(OperationOutcome outcome, Step2 step) {
+        log(PROCESS_POLICY_STARTED, step);
+
+        try {
+            manager.getOutcomes().remove();
+
+            // it's a "start" operation for the step
+            manager.bumpAttempts();
+
+            manager.addToHistory(outcome);
+            manager.storeInDataBase(manager.getPartialHistory().peekLast());
+
+            if (manager.isNotificationEnabled(ControlLoopNotificationType.OPERATION)) {
+                var notification = makeNotification(ControlLoopNotificationType.OPERATION, PROCESS_POLICY_STARTED);
+                notification.setHistory(Collections.emptyList());
+                notification.setMessage(manager.getOperationMessage());
+
+                manager.deliver(POLICY_CL_MGT, notification, NOTIFICATION, PROCESS_POLICY_STARTED);
+            }
+
+        } catch (RuntimeException e) {
+            logException(PROCESS_POLICY_STARTED, "exception processing operation outcome", e);
+            manager.abort(State.DONE, OperationFinalResult.FINAL_FAILURE_EXCEPTION,
+                            "failed to handle policy 'start' outcome");
+        }
+    }
+
+    private void preprocessorStarted(Step2 step) {
+        log(PROCESS_PREPROCESSOR_STARTED, step);
+
+        try {
+            manager.getOutcomes().remove();
+
+            // it's a "start" operation for the step
+            manager.bumpAttempts();
+
+        } catch (RuntimeException e) {
+            logException(PROCESS_PREPROCESSOR_STARTED, "exception processing operation outcome", e);
+            manager.abort(State.DONE, OperationFinalResult.FINAL_FAILURE_EXCEPTION, "failed to handle 'start' outcome");
+        }
+    }
+
+    private void policySuccess(OperationOutcome outcome, Step2 step) {
+        log(PROCESS_POLICY_SUCCESS, step);
+
+        try {
+            manager.getOutcomes().remove();
+
+            // let the step record the response that's contained within the outcome
+            step.success(outcome);
+
+            manager.addToHistory(outcome);
+            manager.storeInDataBase(manager.getPartialHistory().peekLast());
+
+            manager.setResult(outcome.getResult());
+
+            VirtualControlLoopNotification notification = null;
+            if (manager.isNotificationEnabled(ControlLoopNotificationType.OPERATION_SUCCESS)) {
+                notification = makeNotification(ControlLoopNotificationType.OPERATION_SUCCESS, PROCESS_POLICY_SUCCESS);
+                notification.setHistory(manager.getPartialClHistory());
+            }
+
+            // this step is complete - discard it
+            manager.getSteps().remove();
+
+            manager.setState(State.POLICY_LOADED);
+
+            manager.deliver(POLICY_CL_MGT, notification, NOTIFICATION, PROCESS_POLICY_SUCCESS);
+
+        } catch (RuntimeException e) {
+            logException(PROCESS_POLICY_SUCCESS, "exception processing operation outcome", e);
+            manager.abort(State.DONE, OperationFinalResult.FINAL_FAILURE_EXCEPTION,
+                            "failed to handle policy 'success' outcome");
+        }
+    }
+
+    private void finalFailureAccepted(OperationOutcome outcome, Step2 step) {
+        log(PROCESS_FINAL_FAILURE_ACCEPTED, step);
+
+        try {
+            manager.getOutcomes().remove();
+
+            if (!outcome.isFor(step.getActorName(), step.getOperationName())) {
+                outcome.setResult(OperationResult.FAILURE_GUARD);
+                outcome.setMessage("Operation denied by " + outcome.getActor());
+            }
+
+            // final failure for this policy
+            manager.addToHistory(outcome);
+            manager.storeInDataBase(manager.getPartialHistory().peekLast());
+
+            manager.setResult(outcome.getResult());
+
+            VirtualControlLoopNotification notification = null;
+            if (manager.isNotificationEnabled(ControlLoopNotificationType.OPERATION_FAILURE)) {
+                notification = makeNotification(ControlLoopNotificationType.OPERATION_FAILURE,
+                                PROCESS_FINAL_FAILURE_ACCEPTED);
+                notification.setHistory(manager.getPartialClHistory());
+            }
+
+            // trigger move to the next policy - clear all steps
+            manager.getSteps().clear();
+            manager.setState(State.POLICY_LOADED);
+
+            manager.deliver(POLICY_CL_MGT, notification, NOTIFICATION, PROCESS_FINAL_FAILURE_ACCEPTED);
+
+        } catch (RuntimeException e) {
+            logException(PROCESS_FINAL_FAILURE_ACCEPTED, "exception processing operation outcome", e);
+            manager.abort(State.DONE, OperationFinalResult.FINAL_FAILURE_EXCEPTION,
+                            "failed to handle policy 'failure' outcome");
+        }
+    }
+
+    private void finalFailureRejected(OperationOutcome outcome, Step2 step) {
+        log(PROCESS_FINAL_FAILURE_REJECTED, step);
+
+        // the rules will retract the manager
+        rejected = true;
+
+        try {
+            // final failure for this policy
+            manager.addToHistory(outcome);
+
+            manager.setResult(outcome.getResult());
+
+            var notification = makeNotification(ControlLoopNotificationType.REJECTED, PROCESS_FINAL_FAILURE_REJECTED);
+            notification.setHistory(manager.getPartialClHistory());
+
+            manager.deliver(POLICY_CL_MGT, notification, NOTIFICATION, PROCESS_FINAL_FAILURE_REJECTED);
+
+        } catch (RuntimeException e) {
+            logException(PROCESS_FINAL_FAILURE_REJECTED, "exception processing operation outcome", e);
+            manager.abort(State.DONE, OperationFinalResult.FINAL_FAILURE_EXCEPTION, "failed to reject event");
+        }
+
+        manager.destroy();
+    }
+
+    private void policyFailure(OperationOutcome outcome, Step2 step) {
+        log(PROCESS_POLICY_FAILURE, step);
+
+        try {
+            // not a final failure, thus it will be retried automatically
+
+            manager.getOutcomes().remove();
+
+            // do NOT invoke manager.setResult()
+
+            manager.addToHistory(outcome);
+            manager.storeInDataBase(manager.getPartialHistory().peekLast());
+
+            if (manager.isNotificationEnabled(ControlLoopNotificationType.OPERATION_FAILURE)) {
+                var notification = makeNotification(ControlLoopNotificationType.OPERATION_FAILURE,
+                                PROCESS_POLICY_FAILURE);
+
+                manager.deliver(POLICY_CL_MGT, notification, NOTIFICATION, PROCESS_POLICY_FAILURE);
+            }
+
+        } catch (RuntimeException e) {
+            logException(PROCESS_POLICY_FAILURE, "exception processing operation outcome", e);
+            manager.abort(State.DONE, OperationFinalResult.FINAL_FAILURE_EXCEPTION,
+                            "failed to handle policy 'failure' outcome");
+        }
+    }
+
+    private void discardOutcome(OperationOutcome outcome, Step2 step) {
+        log(DISCARD_OUTCOME, step);
+
+        try {
+            manager.getOutcomes().remove();
+
+            if (outcome.getEnd() != null && outcome.isFor(step.getActorName(), step.getOperationName())) {
+                // it's a completion for the step
+
+                // let the step record the response that's contained within the outcome
+                if (outcome.getResult() == OperationResult.SUCCESS) {
+                    step.success(outcome);
+                }
+
+                // this step is complete - discard it
+                manager.getSteps().remove();
+
+                manager.setState(State.POLICY_LOADED);
+            }
+
+        } catch (RuntimeException e) {
+            logException(DISCARD_OUTCOME, "exception processing operation outcome", e);
+            manager.abort(State.DONE, OperationFinalResult.FINAL_FAILURE_EXCEPTION, "failed to handle outcome");
+        }
+    }
+
+    private void abort(OperationOutcome outcome, Step2 step) {
+        log(ABORT, step);
+
+        try {
+            // determine the final message
+            String msg;
+            switch (outcome.getActor()) {
+                case ActorConstants.CL_TIMEOUT_ACTOR:
+                    msg = "Control Loop timed out";
+                    break;
+                case ActorConstants.LOCK_ACTOR:
+                    msg = "Target Lock was lost";
+                    break;
+                default:
+                    msg = "Processing aborted by " + outcome.getActor();
+                    break;
+            }
+
+            manager.abort(State.DONE, OperationFinalResult.FINAL_FAILURE, msg);
+
+            if (step != null && SDNR.equals(step.getActorName())
+                            && outcome.isFor(step.getActorName(), step.getOperationName())) {
+
+                // aborted while processing the SDNR step - generate a notification
+                var clResponse = manager.makeControlLoopResponse(outcome);
+                manager.deliver(DCAE_CL_RSP, clResponse, "SDNR notification", ABORT);
+            }
+
+            if (step != null) {
+                outcome.setActor(step.getActorName());
+                outcome.setOperation(step.getOperationName());
+
+                manager.addToHistory(outcome);
+                manager.storeInDataBase(manager.getPartialHistory().peekLast());
+            }
+
+        } catch (RuntimeException e) {
+            logException(ABORT, "exception handling ABORT outcome", e);
+            manager.abort(State.DONE, OperationFinalResult.FINAL_FAILURE_EXCEPTION, "failed to handle ABORT");
+        }
+    }
+
+    private VirtualControlLoopNotification makeNotification(ControlLoopNotificationType type, String ruleName) {
+        var notification = manager.makeNotification();
+        notification.setNotification(type);
+        notification.setPolicyScope(ruleName);
+        notification.setPolicyName(manager.getPolicyName());
+        notification.setPolicyVersion(manager.getPolicyVersion());
+
+        return notification;
+    }
+
+    private void log(String ruleName, Step2 step) {
+        logger.info("{}: {}.{}: {} manager={}", manager.getClosedLoopControlName(), manager.getPolicyName(), ruleName,
+                        step, manager);
+    }
+
+    private void logException(String ruleName, String message, Exception exception) {
+        logger.warn("{}: {}.{}: manager={} {}", manager.getClosedLoopControlName(), manager.getPolicyName(), ruleName,
+                        manager, message, exception);
+    }
+
+    // the following may be overridden by junit tests
+
+    protected boolean isGuardDisabled() {
+        return "true".equalsIgnoreCase(PolicyEngineConstants.getManager()
+                        .getEnvironmentProperty(ControlLoopEventManager.GUARD_DISABLED_PROPERTY));
+    }
+}
@@ -33,7 +33,6 @@ import java.util.concurrent.CompletableFuture;
 import org.onap.aai.domain.yang.GenericVnf;
 import org.onap.policy.controlloop.VirtualControlLoopEvent;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
-import org.onap.policy.controlloop.actorserviceprovider.OperationProperties;
 import org.onap.policy.controlloop.actorserviceprovider.TargetType;
 import org.onap.policy.controlloop.actorserviceprovider.impl.OperationPartial;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
@@ -84,7 +83,7 @@ public class GetTargetEntityOperation2 extends OperationPartial {
      *         entity is already known
      */
     private String detmTarget(TargetType targetType) {
-        if (stepContext.contains(OperationProperties.AAI_TARGET_ENTITY)) {
+        if (stepContext.getAaiTargetEntity() != null) {
             // the target entity has already been determined
             return null;
         }
@@ -196,6 +195,6 @@ public class GetTargetEntityOperation2 extends OperationPartial {
      * @param targetEntity the new target entity
      */
     private void setTargetEntity(String targetEntity) {
-        stepContext.setProperty(OperationProperties.AAI_TARGET_ENTITY, targetEntity);
+        stepContext.setAaiTargetEntity(targetEntity);
     }
 }
@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,15 +43,17 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.Setter;
 import org.drools.core.WorkingMemory;
 import org.onap.policy.controlloop.ControlLoopException;
 import org.onap.policy.controlloop.ControlLoopResponse;
 import org.onap.policy.controlloop.VirtualControlLoopEvent;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
-import org.onap.policy.controlloop.actorserviceprovider.OperationProperties;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
 import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
 import org.onap.policy.controlloop.eventmanager.ActorConstants;
+import org.onap.policy.controlloop.eventmanager.AdmissionController;
 import org.onap.policy.controlloop.eventmanager.ClEventManagerWithEvent;
 import org.onap.policy.controlloop.eventmanager.EventManagerServices;
 import org.onap.policy.controlloop.eventmanager.StepContext;
@@ -86,22 +89,25 @@ public class UsecasesEventManager extends ClEventManagerWithEvent<Step2> impleme
     private static final Set<String> TRUE_VALUES = Set.of("true", "t", "yes", "y");
 
     /**
-     * Names of Operation properties for which A&AI PNF query is needed.
+     * {@code True} if the steps are being executed by a {@link FastPathExecutor}, in
+     * which case the individual step rules ignore the manager.
      */
-    private static final Set<String> PNF_PROPERTIES = Set.of(OperationProperties.AAI_PNF);
+    @Getter
+    private boolean fastPath = false;
 
     /**
-     * Names of Operation properties for which A&AI Tenant query is needed.
+     * Permit by which the event was admitted, released when the manager is destroyed.
      */
-    private static final Set<String> TENANT_PROPERTIES = Set.of(OperationProperties.AAI_VSERVER_LINK);
+    @Setter
+    private transient AdmissionController.Permit permit;
 
     /**
-     * Names of Operation properties for which A&AI custom query is needed.
+     * Entity targeted by the event, as determined from the event's A&AI data, or
+     * {@code null} if it cannot be determined without querying A&AI. Used to coalesce
+     * onsets for the same target.
      */
-    private static final Set<String> CQ_PROPERTIES = Set.of(OperationProperties.AAI_DEFAULT_CLOUD_REGION,
-                    OperationProperties.AAI_VNF, OperationProperties.AAI_SERVICE_MODEL,
-                    OperationProperties.AAI_VNF_MODEL, OperationProperties.AAI_SERVICE,
-                    OperationProperties.AAI_RESOURCE_VNF, UsecasesConstants.AAI_DEFAULT_GENERIC_VNF);
+    @Getter
+    private final String targetKey;
 
 
     /**
@@ -126,6 +132,51 @@ public class UsecasesEventManager extends ClEventManagerWithEvent<Step2> impleme
         if (isProvStatusInactive(event)) {
             throw new IllegalStateException("prov-status is not ACTIVE on VServer or VNF");
         }
+
+        targetKey = detmTargetKey(event);
+    }
+
+    /**
+     * Determines the entity targeted by an event, in the same manner as
+     * {@link GetTargetEntityOperation2}, but using only the event's A&AI data. The key is
+     * of the form "type:value", where "type" is the A&AI attribute that identifies the
+     * entity (e.g., "generic-vnf.vnf-id"), so that values of different types never
+     * match. A VNF is identified by its id, whether the target is its id or its name.
+     *
+     * <p/>
+     * Coalescing is best-effort: if an event targets a VNF by name, but does not include
+     * the VNF's id, the VNF is identified by its name instead, thus that event's key does
+     * not match the key of an event that identifies the same VNF by its id. Resolving the
+     * name would require an A&AI query, which is not done here.
+     *
+     * @param event the event
+     * @return the target key, or {@code null} if it cannot be determined
+     */
+    public static String detmTargetKey(VirtualControlLoopEvent event) {
+        String target = event.getTarget();
+        Map<String, String> aai = event.getAai();
+        if (target == null || aai == null) {
+            return null;
+        }
+
+        switch (target.toLowerCase()) {
+            case PNF_NAME:
+                return makeTargetKey(PNF_NAME, aai);
+            case VSERVER_VSERVER_NAME:
+                return makeTargetKey(VSERVER_VSERVER_NAME, aai);
+            case GENERIC_VNF_VNF_ID:
+                return makeTargetKey(GENERIC_VNF_VNF_ID, aai);
+            case GENERIC_VNF_VNF_NAME:
+                String key = makeTargetKey(GENERIC_VNF_VNF_ID, aai);
+                return (key != null ? key : makeTargetKey(GENERIC_VNF_VNF_NAME, aai));
+            default:
+                return null;
+        }
+    }
+
+    private static String makeTargetKey(String type, Map<String, String> aai) {
+        String value = aai.get(type);
+        return (value == null ? null : type + ":" + value);
     }
 
     /*
@@ -143,18 +194,8 @@ public class UsecasesEventManager extends ClEventManagerWithEvent<Step2> impleme
         final Deque<Step2> steps = getSteps();
         final Step2 step = getSteps().peek();
 
-        // determine if any A&AI queries are needed
-        var needCq = false;
-        var needPnf = false;
-        var needTenant = false;
-        var needTargetEntity = false;
-
-        for (String propName : step.getPropertyNames()) {
-            needCq = needCq || CQ_PROPERTIES.contains(propName);
-            needPnf = needPnf || PNF_PROPERTIES.contains(propName);
-            needTenant = needTenant || TENANT_PROPERTIES.contains(propName);
-            needTargetEntity = needTargetEntity || OperationProperties.AAI_TARGET_ENTITY.equals(propName);
-        }
+        // determine if any A&AI queries are needed - the plan is shared by all managers
+        final var plan = step.getPlan();
 
         /*
          * The Policy's actual operation requires additional, implicit steps, such as
@@ -175,15 +216,15 @@ public class UsecasesEventManager extends ClEventManagerWithEvent<Step2> impleme
         }
 
         // A&AI queries
-        if (needCq) {
+        if (plan.isNeedCq()) {
             steps.push(new AaiCqStep2(step));
         }
 
-        if (needPnf) {
+        if (plan.isNeedPnf()) {
             steps.push(new AaiGetPnfStep2(step));
         }
 
-        if (needTenant) {
+        if (plan.isNeedTenant()) {
             steps.push(new AaiGetTenantStep2(step));
         }
 
@@ -193,11 +234,27 @@ public class UsecasesEventManager extends ClEventManagerWithEvent<Step2> impleme
         }
 
         // GET-TARGET-ENTITY should be pushed last
-        if (needTargetEntity) {
+        if (plan.isNeedTargetEntity()) {
             steps.push(new GetTargetEntityStep2(step));
         }
     }
 
+    @Override
+    public void destroy() {
+        if (permit != null) {
+            permit.release();
+        }
+
+        super.destroy();
+    }
+
+    /**
+     * Hands the manager's steps over to the fast path.
+     */
+    void startFastPath() {
+        fastPath = true;
+    }
+
     @Override
     public boolean isAbort(OperationOutcome outcome) {
         return (super.isAbort(outcome) && ABORT_ACTORS.contains(outcome.getActor()));
@@ -209,7 +266,7 @@ public class UsecasesEventManager extends ClEventManagerWithEvent<Step2> impleme
      * @param outcome operation outcome to store
      */
     public void storeInDataBase(OperationOutcome2 outcome) {
-        storeInDataBase(outcome, getProperty(OperationProperties.AAI_TARGET_ENTITY));
+        storeInDataBase(outcome, getAaiTargetEntity());
     }
 
     @Override
@@ -45,7 +45,7 @@ public class AaiCqStep2 extends Step2 {
      */
     @Override
     public boolean start(long remainingMs) {
-        if (stepContext.contains(AaiCqResponse.CONTEXT_KEY)) {
+        if (stepContext.getAaiCq() != null) {
             // already have the data
             return false;
         }
@@ -59,7 +59,7 @@ public class AaiCqStep2 extends Step2 {
     @Override
     public void success(OperationOutcome outcome) {
         AaiCqResponse resp = outcome.getResponse();
-        stepContext.setProperty(AaiCqResponse.CONTEXT_KEY, resp);
+        stepContext.setAaiCq(resp);
 
         super.success(outcome);
     }
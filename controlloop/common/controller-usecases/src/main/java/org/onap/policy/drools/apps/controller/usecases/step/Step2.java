@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,7 +23,6 @@ package org.onap.policy.drools.apps.controller.usecases.step;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -70,8 +70,9 @@ public class Step2 extends Step {
     public static final String RESOURCE_LINK = "resource-link";
     public static final String RESULT_DATA = "result-data";
 
-    private static final Map<String, BiConsumer<Step2, String>> PROPERTY_LOADER;
-    private static final Map<String, Consumer<Step2>> PROPERTY_SAVER;
+    // these are used by StepPlan
+    static final Map<String, BiConsumer<Step2, String>> PROPERTY_LOADER;
+    static final Map<String, Consumer<Step2>> PROPERTY_SAVER;
 
     static {
         /*
@@ -124,7 +125,12 @@ public class Step2 extends Step {
     /**
      * Actions to take to store the Operation's properties back into the context.
      */
-    private List<Consumer<Step2>> postProcessors = new LinkedList<>();
+    private List<Consumer<Step2>> postProcessors = List.of();
+
+    /**
+     * Plan for this step, computed the first time it is needed.
+     */
+    private StepPlan plan;
 
 
     /**
@@ -190,33 +196,28 @@ public class Step2 extends Step {
 
     /**
      * Sets the operation's properties. This is invoked <i>after</i> any preprocessor
-     * steps have been performed. It also adds items to {@link #postProcessors}.
+     * steps have been performed. It also identifies the {@link #postProcessors}.
      */
     public void setProperties() {
-        postProcessors.clear();
-
-        for (String propName : getPropertyNames()) {
-            // identify the saver, if any
-            Consumer<Step2> saver = PROPERTY_SAVER.get(propName);
-            if (saver != null) {
-                postProcessors.add(saver);
-            }
-
-
-            // load data
-            if (propName.startsWith(ENRICHMENT_PREFIX)) {
-                loadEnrichment(propName);
-                continue;
-            }
+        var plan = getPlan();
 
-            BiConsumer<Step2, String> loader = PROPERTY_LOADER.get(propName);
-            if (loader == null) {
-                throw new IllegalArgumentException("unknown property " + propName + " needed by " + getActorName() + "."
-                                + getOperationName());
-            }
+        postProcessors = plan.getSavers();
+        plan.loadProperties(this);
+    }
 
-            loader.accept(this, propName);
+    /**
+     * Gets the plan for this step, based on the names of the properties required by the
+     * operation. The plan is computed the first time this is invoked, after which the
+     * same plan is returned, without consulting the operation again.
+     *
+     * @return the plan for this step
+     */
+    public StepPlan getPlan() {
+        if (plan == null) {
+            plan = StepPlan.of(getPropertyNames());
         }
+
+        return plan;
     }
 
     protected void loadCloudRegion(String propName) {
@@ -332,7 +333,7 @@ public class Step2 extends Step {
      * within the step's context.
      */
     protected String getTargetEntity() {
-        return verifyNotNull("A&AI target entity", stepContext.getProperty(OperationProperties.AAI_TARGET_ENTITY));
+        return verifyNotNull("A&AI target entity", stepContext.getAaiTargetEntity());
     }
 
     protected GenericVnf getVnf() {
@@ -372,8 +373,9 @@ public class Step2 extends Step {
     }
 
     protected Integer getVfCount() {
-        if (stepContext.contains(OperationProperties.DATA_VF_COUNT)) {
-            return stepContext.getProperty(OperationProperties.DATA_VF_COUNT);
+        Integer vfCount = stepContext.getVfCount();
+        if (vfCount != null) {
+            return vfCount;
         }
 
         verifyNotNull(TARGET_INFO_MSG, params.getTargetEntityIds());
@@ -412,7 +414,7 @@ public class Step2 extends Step {
     }
 
     protected AaiCqResponse getCustomQueryData() {
-        AaiCqResponse aaicq = stepContext.getProperty(AaiCqResponse.CONTEXT_KEY);
+        AaiCqResponse aaicq = stepContext.getAaiCq();
         verifyNotNull("custom query data", aaicq);
 
         return aaicq;
@@ -424,7 +426,7 @@ public class Step2 extends Step {
         }
 
         int vfcount = getOperation().getProperty(OperationProperties.DATA_VF_COUNT);
-        stepContext.setProperty(OperationProperties.DATA_VF_COUNT, vfcount);
+        stepContext.setVfCount(vfcount);
     }
 
     protected <T> T verifyNotNull(String propName, T value) {
@@ -0,0 +1,201 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controller.usecases.step;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import lombok.Getter;
+import org.onap.policy.controlloop.actorserviceprovider.OperationProperties;
+import org.onap.policy.drools.apps.controller.usecases.UsecasesConstants;
+
+/**
+ * Plan for processing a step, derived from the names of the properties required by the
+ * step's operation. Identifies the preprocessor steps that must be performed before the
+ * step, and the functions used to load the operation's properties and to save its
+ * results. As the plan depends only on the property names, which, in turn, depend only on
+ * the step's actor, operation, and target type (and, for some preprocessor steps, the
+ * event's A&AI data), plans are cached and shared by all event managers.
+ */
+public final class StepPlan {
+
+    /**
+     * Maximum number of plans to cache. Beyond this, plans are built but not cached.
+     */
+    private static final int MAX_PLANS = 1000;
+
+    private static final Map<List<String>, StepPlan> PLANS = new ConcurrentHashMap<>();
+
+    /**
+     * Names of Operation properties for which A&AI PNF query is needed.
+     */
+    private static final Set<String> PNF_PROPERTIES = Set.of(OperationProperties.AAI_PNF);
+
+    /**
+     * Names of Operation properties for which A&AI Tenant query is needed.
+     */
+    private static final Set<String> TENANT_PROPERTIES = Set.of(OperationProperties.AAI_VSERVER_LINK);
+
+    /**
+     * Names of Operation properties for which A&AI custom query is needed.
+     */
+    private static final Set<String> CQ_PROPERTIES = Set.of(OperationProperties.AAI_DEFAULT_CLOUD_REGION,
+                    OperationProperties.AAI_VNF, OperationProperties.AAI_SERVICE_MODEL,
+                    OperationProperties.AAI_VNF_MODEL, OperationProperties.AAI_SERVICE,
+                    OperationProperties.AAI_RESOURCE_VNF, UsecasesConstants.AAI_DEFAULT_GENERIC_VNF);
+
+    @Getter
+    private final boolean needCq;
+
+    @Getter
+    private final boolean needPnf;
+
+    @Getter
+    private final boolean needTenant;
+
+    @Getter
+    private final boolean needTargetEntity;
+
+    /**
+     * Names of the properties, in the order in which they are to be loaded.
+     */
+    private final String[] names;
+
+    /**
+     * Function used to load each property, or {@code null} if the property is unknown.
+     */
+    private final BiConsumer<Step2, String>[] loaders;
+
+    /**
+     * Functions used to save an operation's results into the step's context.
+     */
+    @Getter
+    private final List<Consumer<Step2>> savers;
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param propNames names of the properties required by the step's operation
+     */
+    @SuppressWarnings("unchecked")
+    private StepPlan(List<String> propNames) {
+        names = propNames.toArray(new String[0]);
+        loaders = new BiConsumer[names.length];
+
+        var cq = false;
+        var pnf = false;
+        var tenant = false;
+        var targetEntity = false;
+
+        List<Consumer<Step2>> saverList = new ArrayList<>();
+
+        for (var index = 0; index < names.length; ++index) {
+            String propName = names[index];
+
+            cq = cq || CQ_PROPERTIES.contains(propName);
+            pnf = pnf || PNF_PROPERTIES.contains(propName);
+            tenant = tenant || TENANT_PROPERTIES.contains(propName);
+            targetEntity = targetEntity || OperationProperties.AAI_TARGET_ENTITY.equals(propName);
+
+            Consumer<Step2> saver = Step2.PROPERTY_SAVER.get(propName);
+            if (saver != null) {
+                saverList.add(saver);
+            }
+
+            if (propName.startsWith(Step2.ENRICHMENT_PREFIX)) {
+                loaders[index] = Step2::loadEnrichment;
+            } else {
+                loaders[index] = Step2.PROPERTY_LOADER.get(propName);
+            }
+        }
+
+        needCq = cq;
+        needPnf = pnf;
+        needTenant = tenant;
+        needTargetEntity = targetEntity;
+        savers = Collections.unmodifiableList(saverList);
+    }
+
+    /**
+     * Gets the plan for a step whose operation requires the given properties.
+     *
+     * @param propNames names of the properties required by the step's operation
+     * @return the plan for the step
+     */
+    public static StepPlan of(List<String> propNames) {
+        var plan = PLANS.get(propNames);
+        if (plan != null) {
+            return plan;
+        }
+
+        plan = new StepPlan(propNames);
+
+        if (PLANS.size() < MAX_PLANS) {
+            // key on a copy of the names, as the given list may be mutable
+            var prev = PLANS.putIfAbsent(List.of(plan.names), plan);
+            if (prev != null) {
+                return prev;
+            }
+        }
+
+        return plan;
+    }
+
+    /**
+     * Loads the properties into a step's operation.
+     *
+     * @param step step whose operation's properties are to be loaded
+     * @throws IllegalArgumentException if a property is unknown
+     */
+    public void loadProperties(Step2 step) {
+        for (var index = 0; index < names.length; ++index) {
+            BiConsumer<Step2, String> loader = loaders[index];
+            if (loader == null) {
+                throw new IllegalArgumentException("unknown property " + names[index] + " needed by "
+                                + step.getActorName() + "." + step.getOperationName());
+            }
+
+            loader.accept(step, names[index]);
+        }
+    }
+
+    /**
+     * Clears the plan cache. Used by junit tests.
+     */
+    static void clearCache() {
+        PLANS.clear();
+    }
+
+    /**
+     * Gets the number of cached plans. Used by junit tests.
+     *
+     * @return the number of cached plans
+     */
+    static int getCacheSize() {
+        return PLANS.size();
+    }
+}
@@ -0,0 +1,79 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.BeforeAll;
+import org.onap.policy.controlloop.common.rules.test.TestNames;
+import org.onap.policy.controlloop.eventmanager.EventManagerServices;
+import org.onap.policy.drools.persistence.SystemPersistenceConstants;
+import org.onap.policy.simulators.Util;
+
+/**
+ * Runs the same use cases as {@link UsecasesTest}, end-to-end, but with the policies'
+ * steps executed by the fast path rather than by the individual step rules. The
+ * notification sequences of the two are compared by FastPathNotificationsTest.
+ */
+@TestNames(prefixes = {"test"})
+class UsecasesFastPathTest extends UsecasesTest {
+    private static final String CONFIG_DIR = "src/test/resources/config";
+    private static final String FAST_PATH_CONFIG_DIR = "target/fastpath-config";
+    private static final String POLICY_TYPE = "onap.policies.controlloop.operational.common.Drools";
+
+    /**
+     * Sets up statics, using a copy of the configuration that enables the fast path.
+     */
+    @BeforeAll
+    static void setUpBeforeClass() throws IOException {
+        initStatics(CONTROLLER_NAME);
+
+        rules.configure("src/main/resources");
+
+        makeFastPathConfig();
+        SystemPersistenceConstants.getManager().setConfigurationDir(FAST_PATH_CONFIG_DIR);
+
+        httpClients.addClients("usecases");
+        simulators.start(Util::buildAaiSim, Util::buildSoSim, Util::buildXacmlSim,
+            Util::buildSdncSim);
+
+        rules.start();
+    }
+
+    private static void makeFastPathConfig() throws IOException {
+        var target = Path.of(FAST_PATH_CONFIG_DIR);
+        Files.createDirectories(target);
+
+        try (var files = Files.list(Path.of(CONFIG_DIR))) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.copy(file, target.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Files.writeString(target.resolve("event-manager.properties"),
+            "\n" + EventManagerServices.FAST_PATH_POLICY_TYPES_PROPERTY + "=" + POLICY_TYPE + "\n",
+            StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,297 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controller.usecases;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieModule;
+import org.kie.api.builder.Message;
+import org.kie.api.runtime.ClassObjectFilter;
+import org.kie.api.runtime.KieSession;
+import org.onap.policy.controlloop.CanonicalOnset;
+import org.onap.policy.controlloop.ControlLoopNotificationType;
+import org.onap.policy.controlloop.VirtualControlLoopNotification;
+import org.onap.policy.controlloop.actorserviceprovider.Actor;
+import org.onap.policy.controlloop.actorserviceprovider.ActorService;
+import org.onap.policy.controlloop.actorserviceprovider.Operation;
+import org.onap.policy.controlloop.actorserviceprovider.Operator;
+import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
+import org.onap.policy.controlloop.eventmanager.AdmissionController;
+import org.onap.policy.controlloop.eventmanager.AdmissionControllerParams;
+import org.onap.policy.controlloop.eventmanager.EventManagerServices;
+import org.onap.policy.controlloop.eventmanager.EventManagerServices.Readiness;
+import org.onap.policy.controlloop.eventmanager.NotificationPublisher;
+import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerStub;
+
+/**
+ * Measures how long it takes to activate the "usecases" rules, i.e., to go from nothing
+ * to a session that is ready to accept events, and the latency of the first onset, from
+ * the time its JSON is decoded, via the {@link DcaeEventCoder}, until the rules have
+ * generated the ACTIVE notification. The onset is inserted into the session, as it is by
+ * the topic source, thus the manager is created by the "EVENT" rule and is taken through
+ * the preprocessing rules. The actors are stubbed, but none is invoked before the event is
+ * accepted. The steady-state latency, after a few thousand onsets, is reported for
+ * comparison. Each argument is a configuration to be measured, either "drl", which
+ * compiles the DRL at runtime, as a DRL-only kjar does when the controller boots, or the
+ * path of a kjar. With no arguments, "drl" is compared with the kjar found in "target".
+ * For each kjar, the benchmark reports whether it contains the pre-generated executable
+ * model, thus a kjar built with generateModel=YES may be compared with one built via the
+ * "drl" profile, or with the plugin's default setting. Only the first configuration starts
+ * with a cold JVM, thus, for cold-start figures, measure each one in its own run. This is
+ * not run as part of the build; run it manually, e.g., via:
+ *
+ * <pre>
+ * mvn package -DskipTests
+ * mvn exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.onap.policy.drools.apps.controller.usecases.ControllerStartupBenchmark \
+ *     -Dexec.args=target/controller-usecases-4.1.0-SNAPSHOT.jar
+ * </pre>
+ */
+public class ControllerStartupBenchmark {
+    private static final int STEADY_ITERATIONS = 2_000;
+
+    private static final String RUNTIME_DRL = "drl";
+    private static final String DRL_FILE = "src/main/resources/usecases.drl";
+    private static final String KMODULE_FILE = "src/main/resources/META-INF/kmodule.xml";
+    private static final String KJAR_PATTERN = "controller-usecases-[\\d.]+(-SNAPSHOT)?\\.jar";
+    private static final String SESSION_NAME = "usecases";
+
+    // where the executable model is placed within a kjar, i.e., META-INF/kie/<group>/<artifact>/drools-model
+    private static final String MODEL_DIRECTORY = "META-INF/kie/";
+    private static final String MODEL_FILE = "/drools-model";
+
+    private static final DcaeEventCoder coder = new DcaeEventCoder();
+
+    /**
+     * Time, in nanoseconds, at which the ACTIVE notification was generated for the current
+     * onset.
+     */
+    private static long activeNs;
+
+    /**
+     * Message of the REJECTED notification generated for the current onset.
+     */
+    private static String rejection;
+
+    /**
+     * Session processing the current onset.
+     */
+    private static KieSession currentSession;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args configurations to be measured
+     * @throws Exception if an error occurs
+     */
+    public static void main(String[] args) throws Exception {
+        var configs = (args.length > 0 ? List.of(args) : List.of(RUNTIME_DRL, findKjar().toString()));
+
+        var services = makeServices();
+        var params = FastPathBenchmark.makeParams();
+
+        System.out.printf("%-50s %-20s %10s %14s %14s %14s%n", "rules", "module", "exec model", "activation ms",
+                        "first onset ms", "onset p50 us");
+
+        for (String config : configs) {
+            run(config, services, params);
+        }
+    }
+
+    private static void run(String config, EventManagerServices services, ControlLoopParams params)
+                    throws IOException {
+
+        final long tstart = System.nanoTime();
+
+        var kieServices = KieServices.Factory.get();
+        var module = (RUNTIME_DRL.equals(config) ? compile(kieServices) : load(kieServices, Path.of(config)));
+        var session = kieServices.newKieContainer(module.getReleaseId()).newKieSession(SESSION_NAME);
+
+        // keeps the rules from creating "real" services
+        session.insert(services);
+        session.fireAllRules();
+
+        final long activation = System.nanoTime() - tstart;
+
+        // deploy the policy
+        session.insert(params);
+        session.fireAllRules();
+
+        final long first = process(session);
+
+        var latencies = new long[STEADY_ITERATIONS];
+        for (var count = 0; count < STEADY_ITERATIONS; ++count) {
+            latencies[count] = process(session);
+        }
+
+        Arrays.sort(latencies);
+
+        String execModel = (RUNTIME_DRL.equals(config) ? "-" : hasExecutableModel(Path.of(config)));
+
+        System.out.printf("%-50s %-20s %10s %14.1f %14.1f %14.1f%n", config, module.getClass().getSimpleName(),
+                        execModel, activation / 1e6, first / 1e6, latencies[STEADY_ITERATIONS / 2] / 1e3);
+
+        session.dispose();
+    }
+
+    /**
+     * Processes a single onset, discarding its manager once the event has been accepted.
+     *
+     * @return the time, in nanoseconds, from when the onset was decoded until the ACTIVE
+     *         notification was generated
+     */
+    private static long process(KieSession session) {
+        String json = coder.toJson(FastPathBenchmark.makeEvent());
+
+        activeNs = 0;
+        rejection = null;
+        currentSession = session;
+
+        final long tstart = System.nanoTime();
+        session.insert(coder.fromJson(json, CanonicalOnset.class));
+        session.fireAllRules();
+
+        if (rejection != null) {
+            throw new IllegalStateException("onset was rejected: " + rejection);
+        }
+
+        if (activeNs == 0) {
+            throw new IllegalStateException("onset was not activated");
+        }
+
+        // the operations are not of interest, thus discard the manager
+        for (Object mgr : session.getObjects(new ClassObjectFilter(UsecasesEventManager.class))) {
+            ((UsecasesEventManager) mgr).destroy();
+            session.delete(session.getFactHandle(mgr));
+        }
+
+        return activeNs - tstart;
+    }
+
+    /**
+     * Makes event services that admit every event, publish notifications to
+     * {@link #notify(Object)}, and provide stub actors.
+     */
+    private static EventManagerServices makeServices() {
+        var operation = mock(Operation.class, withSettings().stubOnly());
+
+        var operator = mock(Operator.class, withSettings().stubOnly());
+        when(operator.buildOperation(any())).thenReturn(operation);
+
+        var actor = mock(Actor.class, withSettings().stubOnly());
+        when(actor.getOperator(anyString())).thenReturn(operator);
+
+        var actors = mock(ActorService.class, withSettings().stubOnly());
+        when(actors.getActor(anyString())).thenReturn(actor);
+
+        var publisher = mock(NotificationPublisher.class, withSettings().stubOnly());
+        doAnswer(args -> {
+            notify(args.getArgument(2));
+            return null;
+        }).when(publisher).deliver(anyString(), any(), any());
+
+        var services = mock(EventManagerServices.class, withSettings().stubOnly());
+        when(services.getDataManager()).thenReturn(new OperationHistoryDataManagerStub());
+        when(services.getActorService()).thenReturn(actors);
+        when(services.getNotificationPublisher()).thenReturn(publisher);
+        when(services.getAdmissionController()).thenReturn(new AdmissionController(new AdmissionControllerParams()));
+        when(services.checkReady(any(), any(), any())).thenReturn(Readiness.READY);
+
+        return services;
+    }
+
+    /**
+     * Records the time at which the ACTIVE notification is generated, and stops the rules
+     * so that the operation is not started.
+     *
+     * @param notification notification that was published
+     */
+    private static void notify(Object notification) {
+        if (!(notification instanceof VirtualControlLoopNotification notif)) {
+            return;
+        }
+
+        if (notif.getNotification() == ControlLoopNotificationType.REJECTED) {
+            rejection = notif.getMessage();
+
+        } else if (activeNs == 0 && notif.getNotification() == ControlLoopNotificationType.ACTIVE) {
+            activeNs = System.nanoTime();
+            currentSession.halt();
+        }
+    }
+
+    /**
+     * Compiles the DRL, laid out as it is in the kjar.
+     */
+    private static KieModule compile(KieServices kieServices) throws IOException {
+        var fileSystem = kieServices.newKieFileSystem();
+        fileSystem.writeKModuleXML(Files.readString(Path.of(KMODULE_FILE), StandardCharsets.UTF_8));
+        fileSystem.write(DRL_FILE, Files.readString(Path.of(DRL_FILE), StandardCharsets.UTF_8));
+
+        var builder = kieServices.newKieBuilder(fileSystem).buildAll();
+        if (builder.getResults().hasMessages(Message.Level.ERROR)) {
+            throw new IllegalStateException("cannot compile rules: " + builder.getResults());
+        }
+
+        return builder.getKieModule();
+    }
+
+    /**
+     * Loads a kjar, as the controller does when it boots.
+     */
+    private static KieModule load(KieServices kieServices, Path kjar) {
+        var resource = kieServices.getResources().newFileSystemResource(kjar.toFile());
+        return kieServices.getRepository().addKieModule(resource);
+    }
+
+    /**
+     * Determines if a kjar contains the pre-generated executable model, rather than just
+     * the DRL.
+     */
+    private static String hasExecutableModel(Path kjar) throws IOException {
+        try (var jar = new JarFile(kjar.toFile())) {
+            boolean found = jar.stream().map(JarEntry::getName)
+                            .anyMatch(name -> name.startsWith(MODEL_DIRECTORY) && name.endsWith(MODEL_FILE));
+            return (found ? "yes" : "no");
+        }
+    }
+
+    private static Path findKjar() throws IOException {
+        try (var files = Files.list(Path.of("target"))) {
+            return files.filter(path -> path.getFileName().toString().matches(KJAR_PATTERN)).findFirst()
+                            .orElseThrow(() -> new IllegalStateException("no kjar in target; run mvn package"));
+        }
+    }
+}
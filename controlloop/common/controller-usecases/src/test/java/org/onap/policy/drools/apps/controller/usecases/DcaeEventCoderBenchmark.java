@@ -0,0 +1,99 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controller.usecases;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.controlloop.CanonicalAbated;
+import org.onap.policy.controlloop.CanonicalOnset;
+import org.onap.policy.controlloop.util.Serialization;
+import org.onap.policy.drools.protocol.coders.JsonProtocolFilter;
+
+/**
+ * Compares the throughput of decoding DCAE events via the {@link DcaeEventCoder} with
+ * that of the JsonPath filters plus gson that the dcae_topic source has traditionally
+ * used. This is not run as part of the build; run it manually, e.g., from the IDE, or
+ * via:
+ *
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.onap.policy.drools.apps.controller.usecases.DcaeEventCoderBenchmark
+ * </pre>
+ */
+public class DcaeEventCoderBenchmark {
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private static final String[] ONSET_FILES = {
+        "vcpe/vcpe.onset.1.json", "vdns/vdns.onset.json", "vfw/vfw.onset.json", "vsonh/vsonh.onset.json"
+    };
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args not used
+     */
+    public static void main(String[] args) {
+        List<String> events = new ArrayList<>();
+        for (String file : ONSET_FILES) {
+            String onset = ResourceUtils.getResourceAsString(file);
+            events.add(onset);
+            events.add(onset.replace("\"ONSET\"", "\"ABATED\""));
+        }
+
+        var onsetFilter = new JsonProtocolFilter("[?($.closedLoopEventStatus == 'ONSET')]");
+        var abatedFilter = new JsonProtocolFilter("[?($.closedLoopEventStatus == 'ABATED')]");
+
+        run("jsonpath+gson", events, json -> {
+            if (onsetFilter.accept(json)) {
+                return Serialization.gson.fromJson(json, CanonicalOnset.class).hashCode();
+            } else if (abatedFilter.accept(json)) {
+                return Serialization.gson.fromJson(json, CanonicalAbated.class).hashCode();
+            } else {
+                return 0;
+            }
+        });
+
+        var coder = new DcaeEventCoder();
+        run("single-pass", events, json -> coder.fromJson(json, CanonicalOnset.class).hashCode());
+
+        run("classify-only", events, json -> DcaeEventCoder.classify(json).hashCode());
+    }
+
+    private static void run(String name, List<String> events, ToIntFunction<String> decoder) {
+        long checksum = 0;
+        for (var count = 0; count < WARMUP_ITERATIONS; ++count) {
+            checksum += decoder.applyAsInt(events.get(count % events.size()));
+        }
+
+        final long tstart = System.nanoTime();
+        for (var count = 0; count < ITERATIONS; ++count) {
+            checksum += decoder.applyAsInt(events.get(count % events.size()));
+        }
+        final long elapsed = System.nanoTime() - tstart;
+
+        // the checksum is printed so the JIT cannot discard the decoding
+        System.out.printf("%-14s %8d ns/event %10d events/sec (checksum %d)%n", name, elapsed / ITERATIONS,
+                        ITERATIONS * 1_000_000_000L / Math.max(1, elapsed), checksum);
+    }
+}
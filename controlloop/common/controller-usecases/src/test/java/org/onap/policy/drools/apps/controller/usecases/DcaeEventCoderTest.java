@@ -0,0 +1,162 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controller.usecases;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.controlloop.CanonicalAbated;
+import org.onap.policy.controlloop.CanonicalOnset;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
+
+class DcaeEventCoderTest {
+    private static final String ONSET_FILE = "vcpe/vcpe.onset.1.json";
+    private static final String LOOP_NAME = "ControlLoop-vCPE-48f0c2c3-a172-4192-9ae3-052274181b6e";
+
+    private DcaeEventCoder coder;
+    private String onset;
+
+    @BeforeEach
+    void setUp() {
+        coder = new DcaeEventCoder();
+        onset = ResourceUtils.getResourceAsString(ONSET_FILE);
+        assertNotNull(onset);
+    }
+
+    @Test
+    void testFromJsonOnset() {
+        var event = coder.fromJson(onset, CanonicalOnset.class);
+        assertInstanceOf(CanonicalOnset.class, event);
+        assertEquals(LOOP_NAME, event.getClosedLoopControlName());
+        assertEquals("vCPE_Infrastructure_vGMUX_demo_app", event.getAai().get("generic-vnf.vnf-id"));
+
+        assertEquals(1, coder.getOnsets());
+        assertEquals(0, coder.getAbatements());
+        assertEquals(0, coder.getRejected());
+    }
+
+    @Test
+    void testFromJsonAbated() {
+        var abated = onset.replace("\"ONSET\"", "\"ABATED\"");
+
+        // class requested by the source should be ignored
+        var event = coder.fromJson(abated, CanonicalOnset.class);
+        assertInstanceOf(CanonicalAbated.class, event);
+        assertEquals(LOOP_NAME, event.getClosedLoopControlName());
+
+        assertEquals(0, coder.getOnsets());
+        assertEquals(1, coder.getAbatements());
+    }
+
+    @Test
+    void testFromJsonRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> coder.fromJson("[]", CanonicalOnset.class))
+                        .withMessage("event is not a JSON object");
+
+        assertThatIllegalArgumentException()
+                        .isThrownBy(() -> coder.fromJson(onset.replace("ONSET", "OTHER"), CanonicalOnset.class))
+                        .withMessage("unsupported closedLoopEventStatus: OTHER");
+
+        assertEquals(2, coder.getRejected());
+        assertEquals(0, coder.getOnsets());
+    }
+
+    @Test
+    void testToJson() {
+        VirtualControlLoopEvent event = coder.fromJson(onset, CanonicalOnset.class);
+        var event2 = coder.fromJson(coder.toJson(event), CanonicalOnset.class);
+        assertEquals(event.getRequestId(), event2.getRequestId());
+        assertEquals(event.getAai(), event2.getAai());
+    }
+
+    @Test
+    void testCoder() {
+        assertNotNull(DcaeEventCoder.coder);
+    }
+
+    @Test
+    void testClassify() {
+        assertSame(CanonicalOnset.class, DcaeEventCoder.classify(onset));
+        assertSame(CanonicalAbated.class, DcaeEventCoder.classify("{\"closedLoopEventStatus\":\"ABATED\"}"));
+    }
+
+    @Test
+    void testFindStatus() {
+        assertEquals("ONSET", DcaeEventCoder.findStatus(onset));
+
+        // white space
+        assertEquals("ABATED", DcaeEventCoder.findStatus(" \n{ \"closedLoopEventStatus\" \t: \"ABATED\" }"));
+
+        // status appears after nested objects and arrays, and strings with embedded quotes
+        assertEquals("ONSET", DcaeEventCoder.findStatus("{\"a\": {\"b\": [1, {\"c\": \"x\"}]}, "
+                        + "\"d\": \"say \\\"hi\\\", {[\", \"closedLoopEventStatus\": \"ONSET\"}"));
+
+        // status appears as a value rather than a key - should not match
+        assertEquals("ONSET", DcaeEventCoder.findStatus(
+                        "{\"x\": \"closedLoopEventStatus\", \"closedLoopEventStatus\": \"ONSET\"}"));
+    }
+
+    @Test
+    void testFindStatusInvalid() {
+        assertThatIllegalArgumentException().isThrownBy(() -> DcaeEventCoder.findStatus(null))
+                        .withMessage("null event");
+        assertThatIllegalArgumentException().isThrownBy(() -> DcaeEventCoder.findStatus(""))
+                        .withMessage("event is not a JSON object");
+        assertThatIllegalArgumentException().isThrownBy(() -> DcaeEventCoder.findStatus("  "))
+                        .withMessage("event is not a JSON object");
+        assertThatIllegalArgumentException().isThrownBy(() -> DcaeEventCoder.findStatus("null"))
+                        .withMessage("event is not a JSON object");
+
+        // status only appears in a nested object
+        final var nested = "{\"AAI\": {\"closedLoopEventStatus\": \"ONSET\"}}";
+        assertThatIllegalArgumentException().isThrownBy(() -> DcaeEventCoder.findStatus(nested))
+                        .withMessage("event has no closedLoopEventStatus");
+
+        // truncated
+        assertThatIllegalArgumentException().isThrownBy(() -> DcaeEventCoder.findStatus("{\"a\": 1"))
+                        .withMessage("event is truncated");
+        assertThatIllegalArgumentException().isThrownBy(() -> DcaeEventCoder.findStatus("{\"abc"))
+                        .withMessage("event is truncated");
+        assertThatIllegalArgumentException()
+                        .isThrownBy(() -> DcaeEventCoder.findStatus("{\"closedLoopEventStatus\": \"ONS"))
+                        .withMessage("event is truncated");
+
+        // malformed status
+        assertThatIllegalArgumentException()
+                        .isThrownBy(() -> DcaeEventCoder.findStatus("{\"closedLoopEventStatus\" \"ONSET\"}"))
+                        .withMessage("event is malformed");
+        assertThatIllegalArgumentException()
+                        .isThrownBy(() -> DcaeEventCoder.findStatus("{\"closedLoopEventStatus\""))
+                        .withMessage("event is malformed");
+        assertThatIllegalArgumentException()
+                        .isThrownBy(() -> DcaeEventCoder.findStatus("{\"closedLoopEventStatus\": null}"))
+                        .withMessage("closedLoopEventStatus is not a string");
+        assertThatIllegalArgumentException()
+                        .isThrownBy(() -> DcaeEventCoder.findStatus("{\"closedLoopEventStatus\":"))
+                        .withMessage("closedLoopEventStatus is not a string");
+    }
+}
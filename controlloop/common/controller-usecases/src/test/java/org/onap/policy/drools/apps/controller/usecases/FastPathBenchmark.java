@@ -0,0 +1,258 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controller.usecases;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import org.drools.core.WorkingMemory;
+import org.kie.api.KieServices;
+import org.kie.api.builder.Message;
+import org.kie.api.runtime.KieSession;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardYamlCoder;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.controlloop.ControlLoopEventStatus;
+import org.onap.policy.controlloop.ControlLoopException;
+import org.onap.policy.controlloop.ControlLoopTargetType;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
+import org.onap.policy.controlloop.VirtualControlLoopNotification;
+import org.onap.policy.controlloop.actorserviceprovider.Operation;
+import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
+import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
+import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
+import org.onap.policy.controlloop.eventmanager.ClEventManagerWithSteps.State;
+import org.onap.policy.controlloop.eventmanager.EventManagerServices;
+import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerStub;
+import org.onap.policy.drools.apps.controller.usecases.step.Step2;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+
+/**
+ * Compares the latency of processing an event via the step rules in "usecases.drl" with
+ * that of processing it via the {@link FastPathExecutor}, which is invoked by a single
+ * rule. Both use the same manager, whose operation completes immediately, thus the
+ * difference is the cost of orchestrating the steps. In both cases, the final
+ * notification is generated by the rules. The number of notifications of each type is
+ * also reported, and should be identical. This is not run as part of the build; run it
+ * manually, e.g., from the IDE, or via:
+ *
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.onap.policy.drools.apps.controller.usecases.FastPathBenchmark
+ * </pre>
+ */
+public class FastPathBenchmark {
+    private static final int WARMUP_ITERATIONS = 5_000;
+    private static final int ITERATIONS = 20_000;
+
+    private static final String DRL_FILE = "src/main/resources/usecases.drl";
+    private static final String POLICY_YAML = "../eventmanager/src/test/resources/eventManager/event-mgr-simple.yaml";
+
+    private static final Operation OPERATION = mock(Operation.class, withSettings().stubOnly());
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args not used
+     * @throws Exception if an error occurs
+     */
+    public static void main(String[] args) throws Exception {
+        var services = mock(EventManagerServices.class, withSettings().stubOnly());
+        when(services.getDataManager()).thenReturn(new OperationHistoryDataManagerStub());
+
+        var params = makeParams();
+        var session = makeSession();
+
+        // keeps the rules from creating "real" services
+        session.insert(services);
+        session.fireAllRules();
+
+        run("rules", session, services, params, false);
+        run("fast-path", session, services, params, true);
+
+        session.dispose();
+    }
+
+    private static void run(String name, KieSession session, EventManagerServices services, ControlLoopParams params,
+                    boolean fastPath) throws ControlLoopException {
+
+        var counts = new TreeMap<String, Integer>();
+
+        for (var count = 0; count < WARMUP_ITERATIONS; ++count) {
+            process(session, services, params, fastPath, counts);
+        }
+
+        counts.clear();
+
+        var latencies = new long[ITERATIONS];
+        for (var count = 0; count < ITERATIONS; ++count) {
+            final long tstart = System.nanoTime();
+            process(session, services, params, fastPath, counts);
+            latencies[count] = System.nanoTime() - tstart;
+        }
+
+        Arrays.sort(latencies);
+        long total = Arrays.stream(latencies).sum();
+
+        System.out.printf("%-10s %8d ns/event (p50 %d, p99 %d) %10d events/sec%n", name, total / ITERATIONS,
+                        latencies[ITERATIONS / 2], latencies[ITERATIONS * 99 / 100],
+                        ITERATIONS * 1_000_000_000L / Math.max(1, total));
+
+        counts.forEach((type, count) -> System.out.printf("    %-40s %8d%n", type, count));
+    }
+
+    /**
+     * Processes a single event, from the time its manager is started until the final
+     * notification has been generated.
+     */
+    private static void process(KieSession session, EventManagerServices services, ControlLoopParams params,
+                    boolean fastPath, Map<String, Integer> counts) throws ControlLoopException {
+
+        var mgr = new StubManager(services, params, makeEvent(), (WorkingMemory) session, counts);
+        var handle = session.insert(mgr);
+        mgr.start();
+
+        if (fastPath) {
+            new FastPathExecutor(mgr).start();
+        } else {
+            mgr.setState(State.POLICY_LOADED);
+        }
+
+        session.update(handle, mgr);
+
+        session.fireAllRules();
+
+        if (session.getFactHandle(mgr) != null) {
+            throw new IllegalStateException(mgr.getRequestIdStr() + " was not completed");
+        }
+    }
+
+    static KieSession makeSession() throws IOException {
+        var kieServices = KieServices.Factory.get();
+        var fileSystem = kieServices.newKieFileSystem();
+        fileSystem.write(DRL_FILE, Files.readString(Path.of(DRL_FILE), StandardCharsets.UTF_8));
+
+        var builder = kieServices.newKieBuilder(fileSystem).buildAll();
+        if (builder.getResults().hasMessages(Message.Level.ERROR)) {
+            throw new IllegalStateException("cannot compile rules: " + builder.getResults());
+        }
+
+        return kieServices.newKieContainer(kieServices.getRepository().getDefaultReleaseId()).newKieSession();
+    }
+
+    static ControlLoopParams makeParams() throws CoderException {
+        var template = new StandardYamlCoder().decode(ResourceUtils.getResourceAsString(POLICY_YAML),
+                        ToscaServiceTemplate.class);
+
+        var params = new ControlLoopParams();
+        params.setClosedLoopControlName("my-closed-loop-name");
+        params.setPolicyName("my-policy-name");
+        params.setPolicyVersion("1.2.3");
+        params.setToscaPolicy(template.getToscaTopologyTemplate().getPolicies().get(0).values().iterator().next());
+
+        return params;
+    }
+
+    static VirtualControlLoopEvent makeEvent() {
+        var event = new VirtualControlLoopEvent();
+        event.setRequestId(UUID.randomUUID());
+        event.setTarget(UsecasesConstants.VSERVER_VSERVER_NAME);
+        event.setAai(Map.of(UsecasesConstants.VSERVER_VSERVER_NAME, "my-target"));
+        event.setClosedLoopEventStatus(ControlLoopEventStatus.ONSET);
+        event.setClosedLoopControlName("my-closed-loop-name");
+        event.setTargetType(ControlLoopTargetType.VNF);
+
+        return event;
+    }
+
+    private static OperationOutcome makeOutcome(Step2 step, boolean completed) {
+        var outcome = new OperationOutcome();
+        outcome.setActor(step.getActorName());
+        outcome.setOperation(step.getOperationName());
+        outcome.setResult(OperationResult.SUCCESS);
+        outcome.setStart(Instant.now());
+
+        if (completed) {
+            outcome.setEnd(outcome.getStart());
+            outcome.setFinalOutcome(true);
+        }
+
+        return outcome;
+    }
+
+    /**
+     * Manager whose policy has no preprocessor steps and whose operation completes
+     * immediately, without involving any actors.
+     */
+    private static class StubManager extends UsecasesEventManager {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Map<String, Integer> counts;
+
+        public StubManager(EventManagerServices services, ControlLoopParams params, VirtualControlLoopEvent event,
+                        WorkingMemory workMem, Map<String, Integer> counts) throws ControlLoopException {
+
+            super(services, params, event, workMem);
+            this.counts = counts;
+        }
+
+        @Override
+        protected void loadPolicyStep(ControlLoopOperationParams params) {
+            getSteps().add(new Step2(this, params, getEvent()) {
+                @Override
+                protected Operation buildOperation() {
+                    return OPERATION;
+                }
+            });
+        }
+
+        @Override
+        public void loadPreprocessorSteps() {
+            getSteps().peek().init();
+        }
+
+        @Override
+        public boolean executeStep() {
+            Step2 step = getSteps().peek();
+            onStart(makeOutcome(step, false));
+            onComplete(makeOutcome(step, true));
+            return true;
+        }
+
+        @Override
+        public <N> void deliver(String sinkName, N notification, String notificationType, String ruleName) {
+            if (notification instanceof VirtualControlLoopNotification notif) {
+                counts.merge(notif.getNotification() + " " + notif.getPolicyScope(), 1, Integer::sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,406 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controller.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.drools.core.WorkingMemory;
+import org.drools.core.common.InternalFactHandle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.onap.policy.common.utils.coder.Coder;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardYamlCoder;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.controlloop.ControlLoopEventStatus;
+import org.onap.policy.controlloop.ControlLoopException;
+import org.onap.policy.controlloop.ControlLoopNotificationType;
+import org.onap.policy.controlloop.ControlLoopTargetType;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
+import org.onap.policy.controlloop.VirtualControlLoopNotification;
+import org.onap.policy.controlloop.actor.xacml.XacmlActor;
+import org.onap.policy.controlloop.actorserviceprovider.Operation;
+import org.onap.policy.controlloop.actorserviceprovider.OperationFinalResult;
+import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
+import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
+import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
+import org.onap.policy.controlloop.eventmanager.ActorConstants;
+import org.onap.policy.controlloop.eventmanager.ClEventManagerWithSteps.State;
+import org.onap.policy.controlloop.eventmanager.EventManagerServices;
+import org.onap.policy.controlloop.ophistory.OperationHistoryDataManager;
+import org.onap.policy.drools.apps.controller.usecases.step.Step2;
+import org.onap.policy.drools.system.PolicyEngine;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+
+class FastPathExecutorTest {
+    private static final UUID REQ_ID = UUID.randomUUID();
+    private static final String CL_NAME = "my-closed-loop-name";
+    private static final String POLICY_NAME = "my-policy-name";
+    private static final String POLICY_VERSION = "1.2.3";
+    private static final String SIMPLE_ACTOR = "First";
+    private static final String SIMPLE_OPERATION = "OperationA";
+    private static final String MY_TARGET = "my-target";
+    private static final String EVENT_MGR_SIMPLE_YAML =
+        "../eventmanager/src/test/resources/eventManager/event-mgr-simple.yaml";
+    private static final Coder yamlCoder = new StandardYamlCoder();
+
+    private final PolicyEngine engineMgr = mock(PolicyEngine.class);
+    private final WorkingMemory workMem = mock(WorkingMemory.class);
+    private final InternalFactHandle factHandle = mock(InternalFactHandle.class);
+    private final Operation policyOperation = mock(Operation.class);
+    private final EventManagerServices services = mock(EventManagerServices.class);
+    private final OperationHistoryDataManager dataMgr = mock(OperationHistoryDataManager.class);
+    private final ExecutorService blockingExecutor = mock(ExecutorService.class);
+
+    /**
+     * Preprocessor steps to be loaded ahead of the policy step, given the policy step.
+     */
+    private final List<Function<Step2, Step2>> preprocessors = new ArrayList<>();
+
+    /**
+     * Completion outcomes to be generated, keyed by actor name. Steps whose actor is not
+     * in the map succeed.
+     */
+    private final Map<String, OperationOutcome> completions = new TreeMap<>();
+
+    private ToscaPolicy tosca;
+    private ControlLoopParams params;
+    private VirtualControlLoopEvent event;
+    private MyManager mgr;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() throws ControlLoopException, CoderException {
+        when(services.getDataManager()).thenReturn(dataMgr);
+        when(workMem.getFactHandle(any())).thenReturn(factHandle);
+
+        event = new VirtualControlLoopEvent();
+        event.setRequestId(REQ_ID);
+        event.setTarget(UsecasesConstants.VSERVER_VSERVER_NAME);
+        event.setAai(new TreeMap<>(Map.of(UsecasesConstants.VSERVER_VSERVER_NAME, MY_TARGET)));
+        event.setClosedLoopEventStatus(ControlLoopEventStatus.ONSET);
+        event.setClosedLoopControlName(CL_NAME);
+        event.setTargetType(ControlLoopTargetType.VNF);
+
+        var template = yamlCoder.decode(ResourceUtils.getResourceAsString(EVENT_MGR_SIMPLE_YAML),
+            ToscaServiceTemplate.class);
+        tosca = template.getToscaTopologyTemplate().getPolicies().get(0).values().iterator().next();
+
+        params = new ControlLoopParams();
+        params.setClosedLoopControlName(CL_NAME);
+        params.setPolicyName(POLICY_NAME);
+        params.setPolicyVersion(POLICY_VERSION);
+        params.setToscaPolicy(tosca);
+
+        mgr = new MyManager(services, params, event, workMem);
+        mgr.start();
+    }
+
+    @Test
+    void testIsEnabled() {
+        when(services.getFastPathPolicyTypes()).thenReturn(Set.of());
+        assertFalse(FastPathExecutor.isEnabled(services, params));
+
+        when(services.getFastPathPolicyTypes()).thenReturn(Set.of(tosca.getType()));
+        assertTrue(FastPathExecutor.isEnabled(services, params));
+
+        params.setToscaPolicy(null);
+        assertFalse(FastPathExecutor.isEnabled(services, params));
+    }
+
+    /**
+     * Tests a policy whose operation succeeds, preceded by a guard. The notifications
+     * must be the same as those generated by the rules.
+     */
+    @Test
+    void testSuccess() {
+        preprocessors.add(step -> new MyStep(step, XacmlActor.NAME, "Guard"));
+
+        assertTrue(run());
+
+        var notifications = getNotifications();
+        assertThat(summarize(notifications)).containsExactly(
+            ControlLoopNotificationType.OPERATION + " " + FastPathExecutor.PROCESS_GUARD_OUTCOME,
+            ControlLoopNotificationType.OPERATION + " " + FastPathExecutor.PROCESS_GUARD_OUTCOME,
+            ControlLoopNotificationType.ACTIVE + " " + FastPathExecutor.ACCEPT,
+            ControlLoopNotificationType.OPERATION + " " + FastPathExecutor.PROCESS_POLICY_STARTED,
+            ControlLoopNotificationType.OPERATION_SUCCESS + " " + FastPathExecutor.PROCESS_POLICY_SUCCESS);
+
+        assertEquals("Sending guard query for First OperationA", notifications.get(0).getMessage());
+        assertEquals("Guard result for First OperationA is Permit", notifications.get(1).getMessage());
+        assertThat(notifications.get(3).getMessage()).startsWith("actor=");
+        assertThat(notifications.get(4).getHistory()).hasSize(1);
+
+        assertEquals(State.DONE, mgr.getState());
+        assertEquals(OperationFinalResult.FINAL_SUCCESS, mgr.getFinalResult());
+        assertThat(mgr.getFullClHistory()).hasSize(1);
+    }
+
+    /**
+     * Tests a policy whose operation fails.
+     */
+    @Test
+    void testFinalFailureAccepted() {
+        var outcome = makeOutcome(SIMPLE_ACTOR, SIMPLE_OPERATION, OperationResult.FAILURE);
+        outcome.setFinalOutcome(true);
+        completions.put(SIMPLE_ACTOR, outcome);
+
+        assertTrue(run());
+
+        assertThat(summarize(getNotifications())).containsExactly(
+            ControlLoopNotificationType.ACTIVE + " " + FastPathExecutor.ACCEPT,
+            ControlLoopNotificationType.OPERATION + " " + FastPathExecutor.PROCESS_POLICY_STARTED,
+            ControlLoopNotificationType.OPERATION_FAILURE + " " + FastPathExecutor.PROCESS_FINAL_FAILURE_ACCEPTED);
+
+        assertEquals(State.DONE, mgr.getState());
+        assertEquals(OperationFinalResult.FINAL_FAILURE, mgr.getFinalResult());
+    }
+
+    /**
+     * Tests a preprocessor step that fails before the event has been accepted.
+     */
+    @Test
+    void testFinalFailureRejected() {
+        preprocessors.add(step -> new MyStep(step, "AAI", "CustomQuery"));
+
+        var outcome = makeOutcome("AAI", "CustomQuery", OperationResult.FAILURE);
+        outcome.setFinalOutcome(true);
+        completions.put("AAI", outcome);
+
+        // the rules must retract the manager
+        assertFalse(run());
+
+        assertThat(summarize(getNotifications())).containsExactly(
+            ControlLoopNotificationType.REJECTED + " " + FastPathExecutor.PROCESS_FINAL_FAILURE_REJECTED);
+
+        // destroyed, but left for the rules to retract
+        verify(blockingExecutor).execute(any());
+        verify(workMem, never()).delete(any());
+    }
+
+    /**
+     * Tests a time out while the policy's operation is running.
+     */
+    @Test
+    void testAbort() {
+        completions.put(SIMPLE_ACTOR,
+            makeOutcome(ActorConstants.CL_TIMEOUT_ACTOR, SIMPLE_OPERATION, OperationResult.FAILURE));
+
+        assertTrue(run());
+
+        assertThat(summarize(getNotifications())).containsExactly(
+            ControlLoopNotificationType.ACTIVE + " " + FastPathExecutor.ACCEPT,
+            ControlLoopNotificationType.OPERATION + " " + FastPathExecutor.PROCESS_POLICY_STARTED);
+
+        assertEquals(State.DONE, mgr.getState());
+        assertEquals(OperationFinalResult.FINAL_FAILURE, mgr.getFinalResult());
+        assertEquals("Control Loop timed out", mgr.getFinalMessage());
+    }
+
+    /**
+     * Tests an exception thrown while executing a step.
+     */
+    @Test
+    void testExecuteStepException() {
+        mgr.executeException = new IllegalStateException("expected exception");
+
+        assertTrue(run());
+
+        assertThat(summarize(getNotifications())).containsExactly(
+            ControlLoopNotificationType.ACTIVE + " " + FastPathExecutor.ACCEPT);
+
+        assertEquals(State.DONE, mgr.getState());
+        assertEquals(OperationFinalResult.FINAL_FAILURE_EXCEPTION, mgr.getFinalResult());
+        assertEquals("failed to execute the next step", mgr.getFinalMessage());
+    }
+
+    /**
+     * Starts the fast path and runs it, as the rules would. As the steps complete
+     * synchronously, a single run processes the manager to completion.
+     *
+     * @return the result of the run
+     */
+    private boolean run() {
+        var executor = new FastPathExecutor(mgr) {
+            @Override
+            protected boolean isGuardDisabled() {
+                return false;
+            }
+        };
+
+        executor.start();
+        assertTrue(mgr.isFastPath());
+        assertEquals(State.POLICY_LOADED, mgr.getState());
+
+        return executor.run();
+    }
+
+    /**
+     * Gets the notifications that were delivered to POLICY-CL-MGT.
+     *
+     * @return the notifications that were delivered
+     */
+    private List<VirtualControlLoopNotification> getNotifications() {
+        var captor = ArgumentCaptor.forClass(Object.class);
+        verify(engineMgr, atLeast(0)).deliver(eq("policy-cl-mgt"), captor.capture());
+
+        List<VirtualControlLoopNotification> notifications = new ArrayList<>();
+        for (Object notif : captor.getAllValues()) {
+            var notif2 = (VirtualControlLoopNotification) notif;
+            assertEquals(POLICY_NAME, notif2.getPolicyName());
+            assertEquals(POLICY_VERSION, notif2.getPolicyVersion());
+            assertEquals(REQ_ID, notif2.getRequestId());
+            notifications.add(notif2);
+        }
+
+        return notifications;
+    }
+
+    /**
+     * Reduces each notification to its type and policy scope.
+     *
+     * @param notifications notifications to be summarized
+     * @return the notification summaries
+     */
+    private List<String> summarize(List<VirtualControlLoopNotification> notifications) {
+        return notifications.stream().map(notif -> notif.getNotification() + " " + notif.getPolicyScope())
+            .collect(Collectors.toList());
+    }
+
+    private OperationOutcome makeOutcome(String actor, String operation, OperationResult result) {
+        var outcome = new OperationOutcome();
+        outcome.setActor(actor);
+        outcome.setOperation(operation);
+        outcome.setResult(result);
+        outcome.setStart(Instant.now());
+        outcome.setEnd(outcome.getStart());
+        outcome.setTarget(MY_TARGET);
+
+        return outcome;
+    }
+
+
+    private class MyStep extends Step2 {
+        public MyStep(MyManager manager, ControlLoopOperationParams params) {
+            super(manager, params, event);
+        }
+
+        public MyStep(Step2 otherStep, String actor, String operation) {
+            super(otherStep, actor, operation);
+        }
+
+        @Override
+        protected Operation buildOperation() {
+            return policyOperation;
+        }
+    }
+
+    private class MyManager extends UsecasesEventManager {
+        private static final long serialVersionUID = 1L;
+
+        private transient RuntimeException executeException;
+
+        public MyManager(EventManagerServices services, ControlLoopParams params, VirtualControlLoopEvent event,
+                         WorkingMemory workMem) throws ControlLoopException {
+
+            super(services, params, event, workMem);
+        }
+
+        @Override
+        protected void loadPolicyStep(ControlLoopOperationParams params) {
+            getSteps().add(new MyStep(this, params));
+        }
+
+        @Override
+        public void loadPreprocessorSteps() {
+            Step2 step = getSteps().peek();
+            step.init();
+
+            if (step.isPolicyStep()) {
+                // push in reverse order
+                for (int index = preprocessors.size() - 1; index >= 0; --index) {
+                    getSteps().push(preprocessors.get(index).apply(step));
+                }
+            }
+        }
+
+        /**
+         * Simulates the execution of the step, generating a "start" outcome and a
+         * "completion" outcome.
+         */
+        @Override
+        public boolean executeStep() {
+            if (executeException != null) {
+                throw executeException;
+            }
+
+            Step2 step = getSteps().peek();
+
+            var start = makeOutcome(step.getActorName(), step.getOperationName(), OperationResult.SUCCESS);
+            start.setEnd(null);
+            onStart(start);
+
+            var completion = completions.get(step.getActorName());
+            if (completion == null) {
+                completion = makeOutcome(step.getActorName(), step.getOperationName(), OperationResult.SUCCESS);
+                completion.setFinalOutcome(true);
+            }
+            onComplete(completion);
+
+            return true;
+        }
+
+        @Override
+        protected ExecutorService getBlockingExecutor() {
+            return blockingExecutor;
+        }
+
+        @Override
+        protected PolicyEngine getPolicyEngineManager() {
+            return engineMgr;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controller.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import org.drools.core.WorkingMemory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.KieSession;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.controlloop.ControlLoopException;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
+import org.onap.policy.controlloop.VirtualControlLoopNotification;
+import org.onap.policy.controlloop.actor.xacml.XacmlActor;
+import org.onap.policy.controlloop.actorserviceprovider.Operation;
+import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
+import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
+import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
+import org.onap.policy.controlloop.eventmanager.ActorConstants;
+import org.onap.policy.controlloop.eventmanager.ClEventManagerWithSteps.State;
+import org.onap.policy.controlloop.eventmanager.EventManagerServices;
+import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerStub;
+import org.onap.policy.drools.apps.controller.usecases.step.Step2;
+
+/**
+ * Runs each scenario through the rules in "usecases.drl", once with the steps executed
+ * by the individual step rules and once with them executed by the
+ * {@link FastPathExecutor}, and verifies that both generate the same sequence of
+ * notifications.
+ */
+class FastPathNotificationsTest {
+    private static final String SIMPLE_ACTOR = "First";
+    private static final String SIMPLE_OPERATION = "OperationA";
+    private static final String MY_TARGET = "my-target";
+
+    private static final Operation OPERATION = mock(Operation.class);
+    private static final ExecutorService BLOCKING_EXECUTOR = mock(ExecutorService.class);
+
+    private static KieSession session;
+    private static ControlLoopParams params;
+
+    /**
+     * Preprocessor steps to be loaded ahead of the policy step, given the policy step.
+     */
+    private final List<Function<Step2, Step2>> preprocessors = new ArrayList<>();
+
+    /**
+     * Completion outcomes to be generated, in order, keyed by actor name. Steps whose
+     * actor is not in the map succeed.
+     */
+    private final Map<String, List<OperationOutcome>> completions = new TreeMap<>();
+
+    /**
+     * Sets up statics.
+     */
+    @BeforeAll
+    static void setUpBeforeClass() throws IOException, CoderException {
+        var services = mock(EventManagerServices.class);
+        when(services.getDataManager()).thenReturn(new OperationHistoryDataManagerStub());
+
+        params = FastPathBenchmark.makeParams();
+        session = FastPathBenchmark.makeSession();
+
+        // keeps the rules from creating "real" services
+        session.insert(services);
+        session.fireAllRules();
+    }
+
+    @AfterAll
+    static void tearDownAfterClass() {
+        session.dispose();
+    }
+
+    @BeforeEach
+    void setUp() {
+        preprocessors.clear();
+        completions.clear();
+    }
+
+    @Test
+    void testSuccess() {
+        assertThat(verifySame()).hasSize(4);
+    }
+
+    @Test
+    void testGuard() {
+        preprocessors.add(step -> new MyStep(step, XacmlActor.NAME, "Guard"));
+
+        assertThat(verifySame()).hasSize(6);
+    }
+
+    @Test
+    void testFinalFailureAccepted() {
+        completions.put(SIMPLE_ACTOR,
+            List.of(makeOutcome(SIMPLE_ACTOR, SIMPLE_OPERATION, OperationResult.FAILURE, true)));
+
+        assertThat(verifySame()).hasSize(4);
+    }
+
+    @Test
+    void testFinalFailureRejected() {
+        preprocessors.add(step -> new MyStep(step, "AAI", "CustomQuery"));
+        completions.put("AAI", List.of(makeOutcome("AAI", "CustomQuery", OperationResult.FAILURE, true)));
+
+        assertThat(verifySame()).hasSize(1);
+    }
+
+    @Test
+    void testPolicyFailureThenSuccess() {
+        completions.put(SIMPLE_ACTOR,
+            List.of(makeOutcome(SIMPLE_ACTOR, SIMPLE_OPERATION, OperationResult.FAILURE, false),
+                makeOutcome(SIMPLE_ACTOR, SIMPLE_OPERATION, OperationResult.SUCCESS, true)));
+
+        assertThat(verifySame()).hasSize(5);
+    }
+
+    @Test
+    void testAbort() {
+        completions.put(SIMPLE_ACTOR,
+            List.of(makeOutcome(ActorConstants.CL_TIMEOUT_ACTOR, SIMPLE_OPERATION, OperationResult.FAILURE, true)));
+
+        assertThat(verifySame()).hasSize(3);
+    }
+
+    /**
+     * Processes an event via the rules and then via the fast path, and verifies that the
+     * notifications are the same.
+     *
+     * @return the notifications
+     */
+    private List<String> verifySame() {
+        var rules = process(false);
+        var fastPath = process(true);
+
+        assertEquals(rules, fastPath);
+
+        return rules;
+    }
+
+    /**
+     * Processes a single event, from the time its manager is started until it has been
+     * removed from working memory.
+     *
+     * @param fastPath {@code true} if the steps are to be executed via the fast path
+     * @return a summary of each notification that was delivered, in order
+     */
+    private List<String> process(boolean fastPath) {
+        try {
+            var mgr = new MyManager(FastPathBenchmark.makeEvent(), (WorkingMemory) session);
+            var handle = session.insert(mgr);
+            mgr.start();
+
+            if (fastPath) {
+                new FastPathExecutor(mgr).start();
+            } else {
+                mgr.setState(State.POLICY_LOADED);
+            }
+
+            session.update(handle, mgr);
+            session.fireAllRules();
+
+            assertNull(session.getFactHandle(mgr));
+
+            return mgr.notifications;
+
+        } catch (ControlLoopException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private OperationOutcome makeOutcome(String actor, String operation, OperationResult result,
+                    boolean finalOutcome) {
+        var outcome = new OperationOutcome();
+        outcome.setActor(actor);
+        outcome.setOperation(operation);
+        outcome.setResult(result);
+        outcome.setStart(Instant.now());
+        outcome.setEnd(outcome.getStart());
+        outcome.setTarget(MY_TARGET);
+        outcome.setFinalOutcome(finalOutcome);
+
+        return outcome;
+    }
+
+
+    private static class MyStep extends Step2 {
+        public MyStep(MyManager manager, ControlLoopOperationParams params) {
+            super(manager, params, manager.getEvent());
+        }
+
+        public MyStep(Step2 otherStep, String actor, String operation) {
+            super(otherStep, actor, operation);
+        }
+
+        @Override
+        protected Operation buildOperation() {
+            return OPERATION;
+        }
+    }
+
+    private class MyManager extends UsecasesEventManager {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<String> notifications = new ArrayList<>();
+
+        public MyManager(VirtualControlLoopEvent event, WorkingMemory workMem) throws ControlLoopException {
+            super(mock(EventManagerServices.class), params, event, workMem);
+        }
+
+        @Override
+        protected void loadPolicyStep(ControlLoopOperationParams params) {
+            getSteps().add(new MyStep(this, params));
+        }
+
+        @Override
+        public void loadPreprocessorSteps() {
+            Step2 step = getSteps().peek();
+            step.init();
+
+            if (step.isPolicyStep()) {
+                // push in reverse order
+                for (int index = preprocessors.size() - 1; index >= 0; --index) {
+                    getSteps().push(preprocessors.get(index).apply(step));
+                }
+            }
+        }
+
+        /**
+         * Simulates the execution of the step, generating a "start" outcome followed by
+         * the "completion" outcomes.
+         */
+        @Override
+        public boolean executeStep() {
+            Step2 step = getSteps().peek();
+
+            var start = makeOutcome(step.getActorName(), step.getOperationName(), OperationResult.SUCCESS, false);
+            start.setEnd(null);
+            onStart(start);
+
+            var outcomes = completions.getOrDefault(step.getActorName(), List.of(
+                makeOutcome(step.getActorName(), step.getOperationName(), OperationResult.SUCCESS, true)));
+
+            // outcomes are shared by both runs, thus each is given a copy
+            outcomes.forEach(outcome -> onComplete(new OperationOutcome(outcome)));
+
+            return true;
+        }
+
+        @Override
+        protected ExecutorService getBlockingExecutor() {
+            return BLOCKING_EXECUTOR;
+        }
+
+        @Override
+        public <N> void deliver(String sinkName, N notification, String notificationType, String ruleName) {
+            if (notification instanceof VirtualControlLoopNotification notif) {
+                notifications.add(notif.getNotification() + " " + notif.getPolicyScope() + " "
+                    + notif.getMessage() + " " + (notif.getHistory() == null ? 0 : notif.getHistory().size()));
+            }
+        }
+    }
+}
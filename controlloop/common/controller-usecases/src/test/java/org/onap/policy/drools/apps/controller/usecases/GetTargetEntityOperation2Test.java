@@ -38,7 +38,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.onap.aai.domain.yang.GenericVnf;
 import org.onap.policy.controlloop.VirtualControlLoopEvent;
-import org.onap.policy.controlloop.actorserviceprovider.OperationProperties;
 import org.onap.policy.controlloop.actorserviceprovider.TargetType;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
 import org.onap.policy.controlloop.eventmanager.StepContext;
@@ -88,7 +87,7 @@ class GetTargetEntityOperation2Test {
         assertEquals(List.of(UsecasesConstants.AAI_DEFAULT_GENERIC_VNF), oper.getPropertyNames());
 
         // tell it the entity is available
-        when(stepContext.contains(OperationProperties.AAI_TARGET_ENTITY)).thenReturn(true);
+        when(stepContext.getAaiTargetEntity()).thenReturn("some-target");
         assertThat(oper.getPropertyNames()).isEmpty();
     }
 
@@ -107,7 +106,7 @@ class GetTargetEntityOperation2Test {
         assertFalse(oper.getPropertyNames().isEmpty());
 
         // tell it the entity is available
-        when(stepContext.contains(OperationProperties.AAI_TARGET_ENTITY)).thenReturn(true);
+        when(stepContext.getAaiTargetEntity()).thenReturn("some-target");
         assertThat(oper.getPropertyNames()).isEmpty();
 
         // repeat
@@ -275,6 +274,7 @@ class GetTargetEntityOperation2Test {
         // not a property of interest - should be ignored
         oper.setProperty("unknown-property", vnf);
         verify(stepContext, never()).setProperty(any(), any());
+        verify(stepContext, never()).setAaiTargetEntity(any());
 
         // now set the desired property and try again
         oper.setProperty(UsecasesConstants.AAI_DEFAULT_GENERIC_VNF, vnf);
@@ -288,7 +288,7 @@ class GetTargetEntityOperation2Test {
     }
 
     private void verifyTarget(String targetEntity) {
-        verify(stepContext).setProperty(OperationProperties.AAI_TARGET_ENTITY, targetEntity);
+        verify(stepContext).setAaiTargetEntity(targetEntity);
     }
 
     private void remakeWithoutData() {
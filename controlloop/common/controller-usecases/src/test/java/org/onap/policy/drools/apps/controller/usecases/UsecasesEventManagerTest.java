@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021, 2023 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023-2025 OpenInfra Foundation Europe. All rights reserved.
+ * Modifications Copyright (C) 2023-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,7 +26,9 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -62,6 +64,8 @@ import org.onap.policy.controlloop.actorserviceprovider.TargetType;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
 import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
 import org.onap.policy.controlloop.eventmanager.ActorConstants;
+import org.onap.policy.controlloop.eventmanager.AdmissionController;
+import org.onap.policy.controlloop.eventmanager.AdmissionControllerParams;
 import org.onap.policy.controlloop.eventmanager.EventManagerServices;
 import org.onap.policy.controlloop.ophistory.OperationHistoryDataManager;
 import org.onap.policy.drools.apps.controller.usecases.step.AaiCqStep2;
@@ -70,6 +74,7 @@ import org.onap.policy.drools.apps.controller.usecases.step.AaiGetTenantStep2;
 import org.onap.policy.drools.apps.controller.usecases.step.GetTargetEntityStep2;
 import org.onap.policy.drools.apps.controller.usecases.step.GuardStep2;
 import org.onap.policy.drools.apps.controller.usecases.step.Step2;
+import org.onap.policy.drools.apps.controller.usecases.step.StepPlan;
 import org.onap.policy.drools.core.lock.LockCallback;
 import org.onap.policy.drools.core.lock.LockImpl;
 import org.onap.policy.drools.core.lock.LockState;
@@ -191,6 +196,49 @@ class UsecasesEventManagerTest {
             .isInstanceOf(ControlLoopException.class);
     }
 
+    @Test
+    void testDetmTargetKey() {
+        assertEquals(UsecasesConstants.VSERVER_VSERVER_NAME + ":" + MY_TARGET, mgr.getTargetKey());
+
+        event.setTarget(UsecasesConstants.PNF_NAME);
+        event.setAai(Map.of(UsecasesConstants.PNF_NAME, "my-pnf"));
+        assertEquals("pnf.pnf-name:my-pnf", UsecasesEventManager.detmTargetKey(event));
+
+        event.setTarget(UsecasesConstants.GENERIC_VNF_VNF_ID);
+        event.setAai(Map.of(UsecasesConstants.GENERIC_VNF_VNF_ID, "my-vnf-id"));
+        final String vnfIdKey = UsecasesEventManager.detmTargetKey(event);
+        assertEquals("generic-vnf.vnf-id:my-vnf-id", vnfIdKey);
+
+        // vnf-name - prefers the vnf-id, if available, so both identify the same VNF
+        event.setTarget(UsecasesConstants.GENERIC_VNF_VNF_NAME.toUpperCase());
+        event.setAai(Map.of(UsecasesConstants.GENERIC_VNF_VNF_NAME, "my-vnf-name",
+                        UsecasesConstants.GENERIC_VNF_VNF_ID, "my-vnf-id"));
+        assertEquals(vnfIdKey, UsecasesEventManager.detmTargetKey(event));
+
+        // without the vnf-id, the same VNF cannot be matched - coalescing is best-effort
+        event.setAai(Map.of(UsecasesConstants.GENERIC_VNF_VNF_NAME, "my-vnf-name"));
+        assertEquals("generic-vnf.vnf-name:my-vnf-name", UsecasesEventManager.detmTargetKey(event));
+        assertNotEquals(vnfIdKey, UsecasesEventManager.detmTargetKey(event));
+
+        // the same value, but of different types, does not match
+        event.setAai(Map.of(UsecasesConstants.GENERIC_VNF_VNF_NAME, "my-vnf-id"));
+        assertNotEquals(vnfIdKey, UsecasesEventManager.detmTargetKey(event));
+
+        // cannot be determined
+        event.setAai(Map.of());
+        assertNull(UsecasesEventManager.detmTargetKey(event));
+
+        event.setTarget("unknown-target");
+        assertNull(UsecasesEventManager.detmTargetKey(event));
+
+        event.setTarget(null);
+        assertNull(UsecasesEventManager.detmTargetKey(event));
+
+        event.setTarget(UsecasesConstants.PNF_NAME);
+        event.setAai(null);
+        assertNull(UsecasesEventManager.detmTargetKey(event));
+    }
+
     @Test
     void testLoadPreprocessorSteps() {
         stepa = new Step2(mgr, ControlLoopOperationParams.builder().build(), event) {
@@ -228,7 +276,7 @@ class UsecasesEventManagerTest {
     @Test
     void testLoadPreprocessorStepsNothingToLoad() {
         when(stepa.isPolicyStep()).thenReturn(false);
-        when(stepa.getPropertyNames()).thenReturn(List.of("unknown-property"));
+        when(stepa.getPlan()).thenReturn(StepPlan.of(List.of("unknown-property")));
 
         var steps = mgr.getSteps();
         steps.add(stepa);
@@ -361,6 +409,19 @@ class UsecasesEventManagerTest {
         assertFalse(mgr.isAbort(outcome));
     }
 
+    @Test
+    void testDestroy() {
+        var admission = new AdmissionController(new AdmissionControllerParams());
+        mgr.setPermit(admission.admit(CL_NAME));
+        assertEquals(1, admission.getMetrics().getInFlight());
+
+        mgr.destroy();
+        assertEquals(0, admission.getMetrics().getInFlight());
+
+        // no permit
+        assertThatCode(() -> new MyManager(services, params, event, workMem).destroy()).doesNotThrowAnyException();
+    }
+
     @Test
     void testStoreInDataBase() throws ControlLoopException {
         when(services.getDataManager()).thenReturn(dataMgr);
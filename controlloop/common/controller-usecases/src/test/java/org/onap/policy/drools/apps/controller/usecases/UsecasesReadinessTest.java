@@ -0,0 +1,236 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controller.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.drools.core.WorkingMemory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.api.KieServices;
+import org.kie.api.builder.Message;
+import org.kie.api.runtime.KieSession;
+import org.onap.policy.common.utils.coder.StandardYamlCoder;
+import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.controlloop.CanonicalOnset;
+import org.onap.policy.controlloop.ControlLoopEventStatus;
+import org.onap.policy.controlloop.ControlLoopNotificationType;
+import org.onap.policy.controlloop.ControlLoopTargetType;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
+import org.onap.policy.controlloop.VirtualControlLoopNotification;
+import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
+import org.onap.policy.controlloop.eventmanager.AdmissionController;
+import org.onap.policy.controlloop.eventmanager.AdmissionControllerParams;
+import org.onap.policy.controlloop.eventmanager.EventManagerServices;
+import org.onap.policy.controlloop.eventmanager.EventManagerServices.Readiness;
+import org.onap.policy.controlloop.eventmanager.NotificationPublisher;
+import org.onap.policy.controlloop.eventmanager.OnsetCoalescing;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+
+/**
+ * Runs onsets for two control loops through the "EVENT" rule in "usecases.drl", where
+ * the actors of one loop are still starting, to verify that the rules thread is not
+ * blocked waiting for them.
+ */
+class UsecasesReadinessTest {
+    private static final String DRL_FILE = "src/main/resources/usecases.drl";
+    private static final String POLICY_YAML = "../eventmanager/src/test/resources/eventManager/event-mgr-simple.yaml";
+    private static final String SLOW_LOOP = "slow-loop";
+    private static final String READY_LOOP = "ready-loop";
+    private static final String SHED_MESSAGE = "Rejected by admission control: insufficient memory";
+
+    private KieSession session;
+    private EventManagerServices services;
+    private List<VirtualControlLoopNotification> notifications;
+
+    /**
+     * Completes once the actors of the slow loop have started.
+     */
+    private CompletableFuture<Void> slowStarted;
+
+    /**
+     * Set to {@code true} if a deferred onset is to be rejected when it is checked again.
+     */
+    private boolean rejectDeferred;
+
+    /**
+     * Creates a session containing parameters for both loops, with services that shed
+     * every admitted onset, so that each onset generates exactly one notification
+     * without creating a manager.
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        slowStarted = new CompletableFuture<>();
+        rejectDeferred = false;
+        notifications = new ArrayList<>();
+
+        // sheds every onset, because the heap is always "full"
+        var admission = new AdmissionController(AdmissionControllerParams.builder().maxHeapUsedPercent(50).build()) {
+            @Override
+            protected int getHeapUsedPercent() {
+                return 100;
+            }
+        };
+
+        var publisher = mock(NotificationPublisher.class);
+        doAnswer(args -> notifications.add(args.getArgument(2))).when(publisher)
+                        .deliver(any(), any(), any());
+
+        services = mock(EventManagerServices.class);
+        when(services.getOnsetCoalescing()).thenReturn(OnsetCoalescing.NONE);
+        when(services.getAdmissionController()).thenReturn(admission);
+        when(services.getNotificationPublisher()).thenReturn(publisher);
+        when(services.checkReady(any(), any(), any())).thenAnswer(args -> checkReady(args.getArgument(0),
+                        args.getArgument(1), args.getArgument(2)));
+
+        session = makeSession();
+
+        // keeps the rules from creating "real" services
+        session.insert(services);
+        session.insert(makePolicy(SLOW_LOOP));
+        session.insert(makePolicy(READY_LOOP));
+        session.fireAllRules();
+    }
+
+    @AfterEach
+    void tearDown() {
+        session.dispose();
+    }
+
+    @Test
+    void testReadyLoopNotDelayed() {
+        var slowEvent = makeOnset(SLOW_LOOP);
+        var readyEvent = makeOnset(READY_LOOP);
+
+        session.insert(slowEvent);
+        session.insert(readyEvent);
+        session.fireAllRules();
+
+        // the ready loop's onset was processed while the slow loop's actors are starting
+        assertEquals(1, notifications.size());
+        assertEquals(readyEvent.getRequestId(), notifications.get(0).getRequestId());
+        assertEquals(SHED_MESSAGE, notifications.get(0).getMessage());
+
+        // the slow loop's onset was deferred, not processed
+        assertNull(session.getFactHandle(slowEvent));
+
+        // the actors start - the onset is re-inserted and processed
+        slowStarted.complete(null);
+        session.fireAllRules();
+
+        assertEquals(2, notifications.size());
+        assertEquals(slowEvent.getRequestId(), notifications.get(1).getRequestId());
+        assertEquals(SHED_MESSAGE, notifications.get(1).getMessage());
+        assertTrue(session.getObjects(obj -> obj instanceof VirtualControlLoopEvent).isEmpty());
+    }
+
+    @Test
+    void testDeferredOnsetRejected() {
+        var slowEvent = makeOnset(SLOW_LOOP);
+
+        session.insert(slowEvent);
+        session.fireAllRules();
+        assertTrue(notifications.isEmpty());
+
+        // the wait time elapses before the actors start
+        rejectDeferred = true;
+        slowStarted.complete(null);
+        session.fireAllRules();
+
+        assertEquals(1, notifications.size());
+        assertEquals(slowEvent.getRequestId(), notifications.get(0).getRequestId());
+        assertEquals(ControlLoopNotificationType.REJECTED, notifications.get(0).getNotification());
+        assertEquals("Actors are not ready", notifications.get(0).getMessage());
+    }
+
+    /**
+     * Emulates {@link EventManagerServices#checkReady}, where the actors of the slow loop
+     * are still starting, while those of the ready loop have already started.
+     */
+    private Readiness checkReady(ControlLoopParams params, VirtualControlLoopEvent event, WorkingMemory workMem) {
+        if (READY_LOOP.equals(params.getClosedLoopControlName())) {
+            return Readiness.READY;
+        }
+
+        if (!slowStarted.isDone()) {
+            slowStarted.thenRun(() -> workMem.insert(event));
+            return Readiness.DEFERRED;
+        }
+
+        return (rejectDeferred ? Readiness.NOT_READY : Readiness.READY);
+    }
+
+    private KieSession makeSession() throws Exception {
+        var kieServices = KieServices.Factory.get();
+        var fileSystem = kieServices.newKieFileSystem();
+        fileSystem.write(DRL_FILE, Files.readString(Path.of(DRL_FILE), StandardCharsets.UTF_8));
+
+        var builder = kieServices.newKieBuilder(fileSystem).buildAll();
+        if (builder.getResults().hasMessages(Message.Level.ERROR)) {
+            throw new IllegalStateException("cannot compile rules: " + builder.getResults());
+        }
+
+        return kieServices.newKieContainer(kieServices.getRepository().getDefaultReleaseId()).newKieSession();
+    }
+
+    /**
+     * Makes a policy for the given control loop. The rules turn it into the loop's
+     * parameters.
+     */
+    private ToscaPolicy makePolicy(String closedLoopControlName) throws Exception {
+        var template = new StandardYamlCoder().decode(ResourceUtils.getResourceAsString(POLICY_YAML),
+                        ToscaServiceTemplate.class);
+
+        var policy = template.getToscaTopologyTemplate().getPolicies().get(0).values().iterator().next();
+        policy.setName(closedLoopControlName + "-policy");
+        policy.getProperties().put("id", closedLoopControlName);
+
+        return policy;
+    }
+
+    private CanonicalOnset makeOnset(String closedLoopControlName) {
+        var event = new CanonicalOnset();
+        event.setRequestId(UUID.randomUUID());
+        event.setTarget(UsecasesConstants.VSERVER_VSERVER_NAME);
+        event.setAai(Map.of(UsecasesConstants.VSERVER_VSERVER_NAME, "my-target"));
+        event.setClosedLoopEventStatus(ControlLoopEventStatus.ONSET);
+        event.setClosedLoopControlName(closedLoopControlName);
+        event.setTargetType(ControlLoopTargetType.VNF);
+
+        return event;
+    }
+}
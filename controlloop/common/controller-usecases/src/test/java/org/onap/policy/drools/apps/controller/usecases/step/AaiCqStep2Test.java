@@ -102,7 +102,7 @@ class AaiCqStep2Test {
      */
     @Test
     void testStartAlreadyHaveData() {
-        when(stepContext.contains(AaiCqResponse.CONTEXT_KEY)).thenReturn(true);
+        when(stepContext.getAaiCq()).thenReturn(new AaiCqResponse("{}"));
 
         step.init();
         assertFalse(step.start(200));
@@ -116,6 +116,6 @@ class AaiCqStep2Test {
         outcome.setResponse(data);
 
         step.success(outcome);
-        verify(stepContext).setProperty(AaiCqResponse.CONTEXT_KEY, data);
+        verify(stepContext).setAaiCq(data);
     }
 }
@@ -42,7 +42,6 @@ import org.onap.policy.controlloop.actor.aai.AaiGetPnfOperation;
 import org.onap.policy.controlloop.actorserviceprovider.ActorService;
 import org.onap.policy.controlloop.actorserviceprovider.Operation;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
-import org.onap.policy.controlloop.actorserviceprovider.OperationProperties;
 import org.onap.policy.controlloop.actorserviceprovider.Operator;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
 import org.onap.policy.controlloop.actorserviceprovider.spi.Actor;
@@ -79,7 +78,7 @@ class AaiGetPnfStep2Test {
         when(policyActor.getOperator(AaiGetPnfOperation.NAME)).thenReturn(policyOperator);
         when(policyOperator.buildOperation(any())).thenReturn(policyOperation);
         when(policyOperation.start()).thenReturn(future);
-        when(stepContext.getProperty(OperationProperties.AAI_TARGET_ENTITY)).thenReturn(MY_TARGET);
+        when(stepContext.getAaiTargetEntity()).thenReturn(MY_TARGET);
 
         master = new Step2(stepContext, params, event);
         step = new AaiGetPnfStep2(master);
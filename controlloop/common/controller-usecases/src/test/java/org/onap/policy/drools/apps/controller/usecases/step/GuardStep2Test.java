@@ -141,12 +141,11 @@ class GuardStep2Test {
         when(cloudRegion.getCloudRegionId()).thenReturn(MY_REGION);
         when(customQuery.getDefaultCloudRegion()).thenReturn(cloudRegion);
 
-        when(stepContext.getProperty(OperationProperties.AAI_TARGET_ENTITY)).thenReturn(MY_TARGET);
-        when(stepContext.getProperty(AaiCqResponse.CONTEXT_KEY)).thenReturn(customQuery);
+        when(stepContext.getAaiTargetEntity()).thenReturn(MY_TARGET);
+        when(stepContext.getAaiCq()).thenReturn(customQuery);
         //when(stepContext.getProperty(VSERVER_VSERVER_NAME)).thenReturn()
 
-        when(stepContext.contains(OperationProperties.DATA_VF_COUNT)).thenReturn(true);
-        when(stepContext.getProperty(OperationProperties.DATA_VF_COUNT)).thenReturn(VF_COUNT);
+        when(stepContext.getVfCount()).thenReturn(VF_COUNT);
 
         // @formatter:off
         params = ControlLoopOperationParams.builder()
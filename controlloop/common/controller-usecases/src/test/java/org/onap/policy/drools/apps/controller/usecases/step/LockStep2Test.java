@@ -36,7 +36,6 @@ import org.junit.jupiter.api.Test;
 import org.onap.policy.controlloop.VirtualControlLoopEvent;
 import org.onap.policy.controlloop.actorserviceprovider.Operation;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
-import org.onap.policy.controlloop.actorserviceprovider.OperationProperties;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
 import org.onap.policy.controlloop.eventmanager.ActorConstants;
 import org.onap.policy.controlloop.eventmanager.StepContext;
@@ -62,7 +61,7 @@ class LockStep2Test {
         future = new CompletableFuture<>();
 
         when(stepContext.requestLock(MY_TARGET)).thenReturn(future);
-        when(stepContext.getProperty(OperationProperties.AAI_TARGET_ENTITY)).thenReturn(MY_TARGET);
+        when(stepContext.getAaiTargetEntity()).thenReturn(MY_TARGET);
 
         params = ControlLoopOperationParams.builder().completeCallback(callback).build();
 
@@ -104,7 +104,7 @@ class Step2Test {
 
         when(policyOperation.getPropertyNames()).thenReturn(List.of());
 
-        when(stepContext.getProperty(AaiCqResponse.CONTEXT_KEY)).thenReturn(aaicq);
+        when(stepContext.getAaiCq()).thenReturn(aaicq);
 
         payload = Map.of(PAYLOAD_KEY, PAYLOAD_VALUE);
 
@@ -170,6 +170,18 @@ class Step2Test {
         assertThat(step.getPropertyNames()).isEqualTo(List.of("propA", "propB"));
     }
 
+    @Test
+    void testGetPlan() {
+        when(policyOperation.getPropertyNames()).thenReturn(List.of(OperationProperties.AAI_DEFAULT_CLOUD_REGION));
+
+        var plan = step.getPlan();
+        assertTrue(plan.isNeedCq());
+
+        // computed only once
+        assertSame(plan, step.getPlan());
+        verify(policyOperation, times(1)).getPropertyNames();
+    }
+
     @Test
     void testSetProperties() {
         var cloudRegion = new CloudRegion();
@@ -231,7 +243,7 @@ class Step2Test {
     @Test
     void testLoadPnf_testGetPnf() {
         var data = new StandardCoderObject();
-        when(stepContext.getProperty(OperationProperties.AAI_TARGET_ENTITY)).thenReturn(MY_TARGET);
+        when(stepContext.getAaiTargetEntity()).thenReturn(MY_TARGET);
         when(stepContext.getProperty(AaiGetPnfOperation.getKey(MY_TARGET))).thenReturn(data);
         when(policyOperation.getPropertyNames()).thenReturn(List.of(OperationProperties.AAI_PNF));
 
@@ -324,11 +336,11 @@ class Step2Test {
 
     @Test
     void testGetTargetEntity() {
-        when(stepContext.getProperty(OperationProperties.AAI_TARGET_ENTITY)).thenReturn(MY_TARGET);
+        when(stepContext.getAaiTargetEntity()).thenReturn(MY_TARGET);
 
         assertEquals(MY_TARGET, step.getTargetEntity());
 
-        when(stepContext.getProperty(OperationProperties.AAI_TARGET_ENTITY)).thenReturn(null);
+        when(stepContext.getAaiTargetEntity()).thenReturn(null);
         assertThatIllegalArgumentException().isThrownBy(() -> step.getTargetEntity())
                         .withMessageContaining("missing A&AI target entity");
     }
@@ -452,8 +464,7 @@ class Step2Test {
                         .withMessageContaining(Step2.TARGET_INFO_MSG);
 
         // get it from the step context
-        when(stepContext.contains(OperationProperties.DATA_VF_COUNT)).thenReturn(true);
-        when(stepContext.getProperty(OperationProperties.DATA_VF_COUNT)).thenReturn(22);
+        when(stepContext.getVfCount()).thenReturn(22);
         step.setProperties();
         verify(policyOperation).setProperty(OperationProperties.DATA_VF_COUNT, 22);
     }
@@ -516,7 +527,7 @@ class Step2Test {
     void testGetCustomQueryData() {
         assertSame(aaicq, step.getCustomQueryData());
 
-        when(stepContext.getProperty(AaiCqResponse.CONTEXT_KEY)).thenReturn(null);
+        when(stepContext.getAaiCq()).thenReturn(null);
 
         assertThatIllegalArgumentException().isThrownBy(() -> step.getCustomQueryData())
                         .withMessage("missing custom query data for my-actor.my-operation");
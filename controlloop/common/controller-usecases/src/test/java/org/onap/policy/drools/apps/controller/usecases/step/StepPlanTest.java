@@ -0,0 +1,120 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controller.usecases.step;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.actorserviceprovider.OperationProperties;
+
+class StepPlanTest {
+    private static final String ENRICHMENT = Step2.ENRICHMENT_PREFIX + "abc";
+
+    private final Step2 step = mock(Step2.class);
+
+    @BeforeEach
+    void setUp() {
+        StepPlan.clearCache();
+
+        when(step.getActorName()).thenReturn("my-actor");
+        when(step.getOperationName()).thenReturn("my-operation");
+    }
+
+    @Test
+    void testOf() {
+        List<String> names = new ArrayList<>(List.of(OperationProperties.AAI_VNF, OperationProperties.DATA_VF_COUNT));
+
+        var plan = StepPlan.of(names);
+        assertEquals(1, StepPlan.getCacheSize());
+
+        // same names - same plan
+        assertSame(plan, StepPlan.of(List.of(OperationProperties.AAI_VNF, OperationProperties.DATA_VF_COUNT)));
+
+        // altering the original list should not affect the cache
+        names.add(OperationProperties.AAI_PNF);
+        var plan2 = StepPlan.of(names);
+        assertNotSame(plan, plan2);
+        assertEquals(2, StepPlan.getCacheSize());
+        assertSame(plan, StepPlan.of(List.of(OperationProperties.AAI_VNF, OperationProperties.DATA_VF_COUNT)));
+    }
+
+    @Test
+    void testNeedXxx() {
+        var plan = StepPlan.of(List.of());
+        assertFalse(plan.isNeedCq());
+        assertFalse(plan.isNeedPnf());
+        assertFalse(plan.isNeedTenant());
+        assertFalse(plan.isNeedTargetEntity());
+
+        plan = StepPlan.of(List.of(OperationProperties.AAI_DEFAULT_CLOUD_REGION));
+        assertTrue(plan.isNeedCq());
+        assertFalse(plan.isNeedPnf());
+
+        plan = StepPlan.of(List.of(OperationProperties.AAI_PNF));
+        assertTrue(plan.isNeedPnf());
+        assertFalse(plan.isNeedCq());
+
+        plan = StepPlan.of(List.of(OperationProperties.AAI_VSERVER_LINK));
+        assertTrue(plan.isNeedTenant());
+        assertFalse(plan.isNeedTargetEntity());
+
+        plan = StepPlan.of(List.of(OperationProperties.AAI_TARGET_ENTITY));
+        assertTrue(plan.isNeedTargetEntity());
+        assertFalse(plan.isNeedTenant());
+    }
+
+    @Test
+    void testGetSavers() {
+        assertThat(StepPlan.of(List.of(OperationProperties.AAI_VNF)).getSavers()).isEmpty();
+        assertThat(StepPlan.of(List.of(OperationProperties.AAI_VNF, OperationProperties.DATA_VF_COUNT)).getSavers())
+                        .hasSize(1);
+    }
+
+    @Test
+    void testLoadProperties() {
+        var plan = StepPlan.of(List.of(OperationProperties.DATA_VF_COUNT, ENRICHMENT, OperationProperties.AAI_VNF));
+        plan.loadProperties(step);
+
+        verify(step).loadVfCount(OperationProperties.DATA_VF_COUNT);
+        verify(step).loadEnrichment(ENRICHMENT);
+        verify(step).loadVnf(OperationProperties.AAI_VNF);
+    }
+
+    @Test
+    void testLoadPropertiesUnknown() {
+        var plan = StepPlan.of(List.of("unknown-property"));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> plan.loadProperties(step))
+                        .withMessage("unknown property unknown-property needed by my-actor.my-operation");
+    }
+}
@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +23,7 @@
 package org.onap.policy.controlloop.drl.legacy;
 
 import java.io.Serializable;
+import java.util.Set;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
@@ -32,10 +34,24 @@ public class ControlLoopParams implements Serializable {
 
     private static final long serialVersionUID = 970755684770982776L;
 
+    /**
+     * Range of priorities. Loops with higher priorities are scheduled ahead of those with
+     * lower priorities. The range is kept narrow, as the priority is added to the rules'
+     * salience, and must not change the order of rules with different saliences.
+     */
+    public static final int MIN_PRIORITY = -9;
+    public static final int MAX_PRIORITY = 9;
+
     private String closedLoopControlName;
     private String policyName;
     private String policyScope;
     private String policyVersion;
+    private int priority = 0;
+
+    /**
+     * Names of the actors used by the loop's operations.
+     */
+    private Set<String> actors = Set.of();
 
     // not serializable, thus must be transient
     private transient ToscaPolicy toscaPolicy;
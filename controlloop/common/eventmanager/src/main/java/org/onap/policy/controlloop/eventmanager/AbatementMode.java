@@ -0,0 +1,39 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+/**
+ * Determines what an event manager does when it receives an abatement.
+ */
+public enum AbatementMode {
+
+    /**
+     * Ignores the abatement, continuing to process the event until the operation
+     * completes or the control loop times out.
+     */
+    IGNORE,
+
+    /**
+     * Cancels any steps that remain, provided the policy's operation has not been
+     * started yet, and generates the final notification.
+     */
+    CANCEL
+}
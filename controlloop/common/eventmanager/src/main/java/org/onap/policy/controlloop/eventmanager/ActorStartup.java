@@ -0,0 +1,278 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.onap.policy.controlloop.actorserviceprovider.Actor;
+import org.onap.policy.controlloop.actorserviceprovider.ActorService;
+import org.onap.policy.controlloop.actorserviceprovider.Util;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Configures and starts the actors of an {@link ActorService}. Unlike the service, which
+ * configures and starts its actors one at a time, this configures them in parallel, and
+ * starts them in parallel, either right away or the first time each is needed, as
+ * specified by the {@link ActorStartupMode}. Once all of the actors have been started,
+ * the service, itself, is marked as running, so that stopping the service stops them.
+ */
+public class ActorStartup {
+    private static final Logger logger = LoggerFactory.getLogger(ActorStartup.class);
+
+    private final ActorService actorService;
+
+    /**
+     * Runs the actors' configuration and start-up.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Futures that complete once the respective actor has been started (or has failed to
+     * start), by actor name.
+     */
+    private final Map<String, CompletableFuture<Void>> name2started = new ConcurrentHashMap<>();
+
+    private volatile boolean stopped = false;
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param actorService service whose actors are to be configured and started
+     */
+    public ActorStartup(ActorService actorService) {
+        this.actorService = actorService;
+        this.executor = Executors.newCachedThreadPool(command -> makeThread(command, "actor-startup"));
+    }
+
+    /**
+     * Configures the actors, in parallel, waiting for all of them to be configured. Actors
+     * that fail to be configured are logged and left unconfigured, just as they are by the
+     * actor service.
+     *
+     * @param parameters configuration parameters, by actor name
+     */
+    public void configure(Map<String, Object> parameters) {
+        long startMs = System.currentTimeMillis();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Actor actor : actorService.getActors()) {
+            Object subparams = parameters.get(actor.getName());
+            if (subparams == null) {
+                logger.info("cannot configure actor {} as the parameters are missing", actor.getName());
+                continue;
+            }
+
+            futures.add(CompletableFuture.runAsync(() -> configureActor(actor, subparams), executor));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+        // the actors have already been configured; this merely marks the service as configured
+        actorService.configure(Map.of());
+
+        logger.info("configured {} actors in {} ms", futures.size(), System.currentTimeMillis() - startMs);
+    }
+
+    /**
+     * Starts the actors.
+     *
+     * @param mode when the actors are to be started
+     */
+    public void start(ActorStartupMode mode) {
+        switch (mode) {
+            case EAGER:
+                startAll().join();
+                break;
+
+            case BACKGROUND:
+                startAll();
+                break;
+
+            case LAZY:
+            default:
+                logger.info("actors will be started when first used");
+                break;
+        }
+    }
+
+    /**
+     * Stops the actors, including any that are still being started.
+     */
+    public void stop() {
+        stopped = true;
+        executor.shutdownNow();
+
+        actorService.stop();
+
+        // the service only stops its actors once it has been marked as running
+        for (Actor actor : actorService.getActors()) {
+            try {
+                actor.stop();
+
+            } catch (RuntimeException e) {
+                logger.warn("failed to stop actor {}", actor.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Gets a future that completes once an actor has been started, starting the actor, if
+     * it has not been started yet. The future also completes if the actor fails to start,
+     * or if it is not configured, in which case there is nothing to start.
+     *
+     * @param name actor name
+     * @return a future that completes once the actor has been started
+     */
+    public CompletableFuture<Void> whenStarted(String name) {
+        if (stopped) {
+            return CompletableFuture.failedFuture(new IllegalStateException("actors have been stopped"));
+        }
+
+        return name2started.computeIfAbsent(name, key -> CompletableFuture.runAsync(() -> startActor(key), executor));
+    }
+
+    /**
+     * Determines if an actor has been started (or has failed to start).
+     *
+     * @param name actor name
+     * @return {@code true} if the actor's start-up has completed, {@code false} if it has
+     *         not been started yet, or is still starting
+     */
+    public boolean isStarted(String name) {
+        CompletableFuture<Void> future = name2started.get(name);
+        return (future != null && future.isDone());
+    }
+
+    /**
+     * Gets a future that completes once all of the given actors have been started,
+     * starting any that have not been started yet. Does not block.
+     *
+     * @param names names of the actors of interest
+     * @return a future that completes once all of the actors' start-ups have completed
+     */
+    public CompletableFuture<Void> whenAllStarted(Collection<String> names) {
+        return CompletableFuture
+                        .allOf(names.stream().map(this::whenStarted).toArray(CompletableFuture<?>[]::new));
+    }
+
+    /**
+     * Starts all of the actors, in parallel.
+     *
+     * @return a future that completes once all of the actors have been started
+     */
+    private CompletableFuture<Void> startAll() {
+        long startMs = System.currentTimeMillis();
+
+        List<CompletableFuture<Void>> futures =
+                        actorService.getActors().stream().map(Actor::getName).map(this::whenStarted).toList();
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).handle((unused, thrown) -> {
+            if (!stopped) {
+                markRunning();
+                logger.info("started {} actors in {} ms", futures.size(), System.currentTimeMillis() - startMs);
+            }
+
+            return null;
+        });
+    }
+
+    /**
+     * Marks the service as running. As the actors have already been started, this does
+     * not start them again.
+     */
+    private void markRunning() {
+        try {
+            actorService.start();
+
+        } catch (RuntimeException e) {
+            logger.warn("cannot mark actor service as running", e);
+        }
+    }
+
+    /**
+     * Configures an actor.
+     *
+     * @param actor actor to be configured
+     * @param subparams the actor's configuration parameters
+     */
+    private void configureActor(Actor actor, Object subparams) {
+        long startMs = System.currentTimeMillis();
+
+        try {
+            actor.configure(Util.translateToMap(actor.getName(), subparams));
+            logger.info("configured actor {} in {} ms", actor.getName(), System.currentTimeMillis() - startMs);
+
+        } catch (RuntimeException e) {
+            logger.warn("failed to configure actor {}", actor.getName(), e);
+        }
+    }
+
+    /**
+     * Starts an actor, provided it has been configured.
+     *
+     * @param name name of the actor to be started
+     */
+    private void startActor(String name) {
+        Actor actor;
+        try {
+            actor = actorService.getActor(name);
+
+        } catch (IllegalArgumentException e) {
+            logger.warn("cannot start unknown actor {}", name, e);
+            return;
+        }
+
+        if (stopped) {
+            return;
+        }
+
+        if (!actor.isConfigured()) {
+            logger.info("not starting unconfigured actor {}", name);
+            return;
+        }
+
+        long startMs = System.currentTimeMillis();
+
+        try {
+            actor.start();
+            logger.info("started actor {} in {} ms", name, System.currentTimeMillis() - startMs);
+
+        } catch (RuntimeException e) {
+            logger.warn("failed to start actor {}", name, e);
+        }
+    }
+
+    // the following may be overridden by junit tests
+
+    protected Thread makeThread(Runnable command, String name) {
+        var thread = new Thread(command, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,44 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+/**
+ * Determines when the actors are started, by the {@link ActorStartup}.
+ */
+public enum ActorStartupMode {
+
+    /**
+     * Starts all of the actors, in parallel, and waits for them to start before the event
+     * services are created.
+     */
+    EAGER,
+
+    /**
+     * Starts all of the actors, in parallel, in the background, without waiting for them
+     * to start.
+     */
+    BACKGROUND,
+
+    /**
+     * Starts each actor the first time it is needed.
+     */
+    LAZY
+}
@@ -0,0 +1,334 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Builder;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decides whether or not a new event may be processed, before an event manager is
+ * created for it. Enforces global and per-control loop limits on the number of events in
+ * progress, a per-control loop onset rate (i.e., a token bucket), and, optionally, limits
+ * on heap usage and on the average time events remain in progress. Events that are not
+ * admitted are "shed", and should be rejected without further processing.
+ */
+public class AdmissionController {
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionController.class);
+
+    /**
+     * Weight given to the latest latency when computing the average.
+     */
+    private static final double LATENCY_WEIGHT = 0.1;
+
+    /**
+     * Reasons for which an event may be shed.
+     */
+    public enum Reason {
+        GLOBAL_LIMIT("too many events in progress"),
+        LOOP_LIMIT("too many events in progress for this control loop"),
+        RATE_LIMIT("onset rate exceeded for this control loop"),
+        HEAP_LIMIT("insufficient memory"),
+        LATENCY_LIMIT("events are taking too long to complete");
+
+        @Getter
+        private final String message;
+
+        private final Permit rejected;
+
+        Reason(String text) {
+            this.message = "Rejected by admission control: " + text;
+            this.rejected = new Permit(this);
+        }
+    }
+
+    private final AdmissionControllerParams params;
+    private final double loopBurst;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final Map<Reason, LongAdder> shed = new EnumMap<>(Reason.class);
+
+    /**
+     * Average time, in milliseconds, that events have remained in progress, stored as
+     * the bits of a double.
+     */
+    private final AtomicLong averageLatencyBits = new AtomicLong(Double.doubleToLongBits(0));
+
+    /**
+     * Maps a control loop name to its data.
+     */
+    private final Map<String, Loop> loops = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param params admission parameters
+     */
+    public AdmissionController(AdmissionControllerParams params) {
+        this.params = params;
+        this.loopBurst = (params.getLoopBurst() > 0 ? params.getLoopBurst() : Math.max(1, params.getLoopRate()));
+
+        for (Reason reason : Reason.values()) {
+            shed.put(reason, new LongAdder());
+        }
+    }
+
+    /**
+     * Decides whether or not an event may be processed.
+     *
+     * @param closedLoopControlName name of the control loop to which the event belongs
+     * @return a permit, which must be released once the event is no longer in progress,
+     *         if the event was admitted, or a rejected permit, identifying the reason for
+     *         which it was shed
+     */
+    public Permit admit(String closedLoopControlName) {
+        Reason reason = checkResources();
+        if (reason != null) {
+            return shed(closedLoopControlName, reason);
+        }
+
+        if (!increment(inFlight, params.getMaxInFlight())) {
+            return shed(closedLoopControlName, Reason.GLOBAL_LIMIT);
+        }
+
+        Loop loop = loops.computeIfAbsent(closedLoopControlName, key -> new Loop());
+
+        if (!increment(loop.inFlight, params.getMaxInFlightPerLoop())) {
+            inFlight.decrementAndGet();
+            return shed(closedLoopControlName, Reason.LOOP_LIMIT);
+        }
+
+        if (params.getLoopRate() > 0 && !loop.takeToken(currentTimeMillis())) {
+            loop.inFlight.decrementAndGet();
+            inFlight.decrementAndGet();
+            return shed(closedLoopControlName, Reason.RATE_LIMIT);
+        }
+
+        admitted.increment();
+        return new Permit(this, loop, currentTimeMillis());
+    }
+
+    /**
+     * Increments a count, unless doing so would exceed its limit.
+     *
+     * @param count count to be incremented
+     * @param max maximum value of the count, or &lt;= 0 if it is not limited
+     * @return {@code true} if the count was incremented, {@code false} otherwise
+     */
+    private static boolean increment(AtomicInteger count, int max) {
+        if (count.incrementAndGet() <= max || max <= 0) {
+            return true;
+        }
+
+        count.decrementAndGet();
+        return false;
+    }
+
+    /**
+     * Checks the heap usage and latency limits.
+     *
+     * @return the limit that has been exceeded, or {@code null} if neither has been
+     *         exceeded
+     */
+    private Reason checkResources() {
+        if (params.getMaxHeapUsedPercent() > 0 && getHeapUsedPercent() > params.getMaxHeapUsedPercent()) {
+            return Reason.HEAP_LIMIT;
+        }
+
+        // only applies while events are in progress, otherwise the average would never change
+        if (params.getMaxLatencyMs() > 0 && inFlight.get() > 0
+                        && getAverageLatencyMs() > params.getMaxLatencyMs()) {
+            return Reason.LATENCY_LIMIT;
+        }
+
+        return null;
+    }
+
+    private Permit shed(String closedLoopControlName, Reason reason) {
+        shed.get(reason).increment();
+        logger.debug("{}: event shed: {}", closedLoopControlName, reason);
+        return reason.rejected;
+    }
+
+    /**
+     * Records that an event is no longer in progress.
+     *
+     * @param loop control loop to which the event belongs
+     * @param latencyMs time, in milliseconds, that the event was in progress
+     */
+    private void release(Loop loop, long latencyMs) {
+        loop.inFlight.decrementAndGet();
+        inFlight.decrementAndGet();
+
+        averageLatencyBits.getAndUpdate(bits -> {
+            double average = Double.longBitsToDouble(bits);
+            return Double.doubleToLongBits(average + LATENCY_WEIGHT * (latencyMs - average));
+        });
+    }
+
+    private long getAverageLatencyMs() {
+        return (long) Double.longBitsToDouble(averageLatencyBits.get());
+    }
+
+    /**
+     * Gets a snapshot of the metrics.
+     *
+     * @return a snapshot of the metrics
+     */
+    public Metrics getMetrics() {
+        return Metrics.builder()
+            .inFlight(inFlight.get())
+            .admitted(admitted.sum())
+            .shedGlobalLimit(shed.get(Reason.GLOBAL_LIMIT).sum())
+            .shedLoopLimit(shed.get(Reason.LOOP_LIMIT).sum())
+            .shedRateLimit(shed.get(Reason.RATE_LIMIT).sum())
+            .shedHeapLimit(shed.get(Reason.HEAP_LIMIT).sum())
+            .shedLatencyLimit(shed.get(Reason.LATENCY_LIMIT).sum())
+            .averageLatencyMs(getAverageLatencyMs())
+            .build();
+    }
+
+    // the following may be overridden by junit tests
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    protected int getHeapUsedPercent() {
+        var runtime = Runtime.getRuntime();
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        return (int) (100 * used / runtime.maxMemory());
+    }
+
+    /**
+     * Snapshot of the admission metrics. Latencies are measured from the time an event is
+     * admitted until its permit is released.
+     */
+    @Getter
+    @Builder
+    public static class Metrics {
+        private final int inFlight;
+        private final long admitted;
+        private final long shedGlobalLimit;
+        private final long shedLoopLimit;
+        private final long shedRateLimit;
+        private final long shedHeapLimit;
+        private final long shedLatencyLimit;
+        private final long averageLatencyMs;
+    }
+
+    /**
+     * Data for a single control loop.
+     */
+    private class Loop {
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private double tokens = loopBurst;
+        private long refilledMs = currentTimeMillis();
+
+        /**
+         * Refills the bucket, based on the time that has elapsed since it was last
+         * refilled, and then takes a token from it.
+         *
+         * @param nowMs current time, in milliseconds
+         * @return {@code true} if a token was taken, {@code false} if the bucket is empty
+         */
+        private synchronized boolean takeToken(long nowMs) {
+            if (nowMs > refilledMs) {
+                tokens = Math.min(loopBurst, tokens + (nowMs - refilledMs) * params.getLoopRate() / 1000);
+                refilledMs = nowMs;
+            }
+
+            if (tokens < 1) {
+                return false;
+            }
+
+            --tokens;
+            return true;
+        }
+    }
+
+    /**
+     * Permission for an event to be processed. Admitted permits must be released once
+     * the event is no longer in progress. Releasing a permit more than once, or releasing
+     * a rejected permit, has no effect.
+     */
+    public static final class Permit {
+        private final AdmissionController controller;
+        private final Loop loop;
+        private final long admittedMs;
+        private final AtomicBoolean released;
+
+        /**
+         * Reason the event was shed, or {@code null} if it was admitted.
+         */
+        @Getter
+        private final Reason reason;
+
+        private Permit(AdmissionController controller, Loop loop, long admittedMs) {
+            this.controller = controller;
+            this.loop = loop;
+            this.admittedMs = admittedMs;
+            this.released = new AtomicBoolean(false);
+            this.reason = null;
+        }
+
+        private Permit(Reason reason) {
+            this.controller = null;
+            this.loop = null;
+            this.admittedMs = 0;
+            this.released = new AtomicBoolean(true);
+            this.reason = reason;
+        }
+
+        public boolean isAdmitted() {
+            return (reason == null);
+        }
+
+        /**
+         * Gets the message to be placed in the REJECTED notification.
+         *
+         * @return the message, or {@code null} if the event was admitted
+         */
+        public String getMessage() {
+            return (reason == null ? null : reason.getMessage());
+        }
+
+        /**
+         * Releases the permit.
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                controller.release(loop, controller.currentTimeMillis() - admittedMs);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.onap.policy.common.parameters.BeanValidator;
+import org.onap.policy.common.parameters.ValidationResult;
+import org.onap.policy.common.parameters.annotations.Max;
+import org.onap.policy.common.parameters.annotations.Min;
+
+/**
+ * Parameters for an Admission Controller. A value of zero disables the associated limit.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdmissionControllerParams {
+
+    /**
+     * Maximum number of events, across all control loops, that may be in progress at
+     * once.
+     */
+    @Min(0)
+    @Builder.Default
+    private int maxInFlight = 0;
+
+    /**
+     * Maximum number of events, for a given control loop, that may be in progress at
+     * once.
+     */
+    @Min(0)
+    @Builder.Default
+    private int maxInFlightPerLoop = 0;
+
+    /**
+     * Maximum sustained rate, in onsets per second, at which events are admitted for a
+     * given control loop.
+     */
+    @Min(0)
+    @Builder.Default
+    private double loopRate = 0;
+
+    /**
+     * Number of onsets that may be admitted, for a given control loop, in a burst above
+     * {@link #loopRate}. Defaults to one second's worth of onsets.
+     */
+    @Min(0)
+    @Builder.Default
+    private int loopBurst = 0;
+
+    /**
+     * Maximum percentage of the heap that may be in use when an event is admitted.
+     */
+    @Min(0)
+    @Max(100)
+    @Builder.Default
+    private int maxHeapUsedPercent = 0;
+
+    /**
+     * Maximum average time, in milliseconds, that events may remain in progress before
+     * new events are shed.
+     */
+    @Min(0)
+    @Builder.Default
+    private long maxLatencyMs = 0;
+
+    /**
+     * Validates the parameters.
+     *
+     * @param resultName name of the result
+     *
+     * @return the validation result
+     */
+    public ValidationResult validate(String resultName) {
+        return new BeanValidator().validateTop(resultName, this);
+    }
+}
@@ -0,0 +1,228 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Bulkhead limiting the number of a single operation's calls that may be in progress at
+ * once, so that a slow operation cannot tie up the resources needed by the others. Calls
+ * arriving when the limit has been reached wait in a bounded queue, and are started, in
+ * order, as earlier calls complete. Calls arriving when the queue is also full are
+ * rejected.
+ */
+public class Bulkhead {
+
+    /**
+     * Message placed in the outcome of an operation that was rejected.
+     */
+    public static final String FULL_MESSAGE = "bulkhead is full";
+
+    public enum Admission {
+        /**
+         * The call may start now.
+         */
+        ADMITTED,
+
+        /**
+         * The call has been queued and will be started once there is room.
+         */
+        QUEUED,
+
+        /**
+         * The call may not be made.
+         */
+        REJECTED
+    }
+
+    @Getter
+    private final String actor;
+
+    @Getter
+    private final String operation;
+
+    // the remaining fields are all guarded by "this"
+
+    private int maxInFlight;
+    private int maxQueued;
+
+    private int inFlight = 0;
+    private final Deque<Runnable> queue = new ArrayDeque<>();
+
+    private long admitted = 0;
+    private long queued = 0;
+    private long rejected = 0;
+    private int maxQueueDepth = 0;
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param actor actor name
+     * @param operation operation name
+     * @param params bulkhead parameters
+     */
+    public Bulkhead(String actor, String operation, BulkheadParams params) {
+        this.actor = actor;
+        this.operation = operation;
+        this.maxInFlight = params.getMaxInFlight();
+        this.maxQueued = params.getMaxQueued();
+    }
+
+    /**
+     * Requests permission to make a call. If the call is {@link Admission#ADMITTED} or,
+     * eventually, once the queued task is run, {@link #release()} must be invoked when
+     * the call completes.
+     *
+     * @param queuedTask task to be run to start the call, if the call is queued; it is
+     *        run by the thread that releases the call ahead of it, thus it should merely
+     *        hand off the call to an executor
+     * @return the admission decision
+     */
+    public synchronized Admission acquire(Runnable queuedTask) {
+        if (inFlight < maxInFlight) {
+            ++inFlight;
+            ++admitted;
+            return Admission.ADMITTED;
+        }
+
+        if (queue.size() >= maxQueued) {
+            ++rejected;
+            return Admission.REJECTED;
+        }
+
+        queue.add(queuedTask);
+        ++queued;
+        maxQueueDepth = Math.max(maxQueueDepth, queue.size());
+
+        return Admission.QUEUED;
+    }
+
+    /**
+     * Removes a task from the queue, if it is still there. Used when a queued call is
+     * canceled.
+     *
+     * @param queuedTask task that was passed to {@link #acquire(Runnable)}
+     * @return {@code true} if the task was removed, {@code false} if it had already been
+     *         dequeued
+     */
+    public synchronized boolean remove(Runnable queuedTask) {
+        return queue.remove(queuedTask);
+    }
+
+    /**
+     * Releases a call, once it has completed, starting the next queued call, if any.
+     */
+    public void release() {
+        List<Runnable> tasks;
+        synchronized (this) {
+            --inFlight;
+            tasks = dequeue();
+        }
+
+        tasks.forEach(Runnable::run);
+    }
+
+    /**
+     * Changes the limits. Calls that are already queued are not rejected, even if the
+     * queue now exceeds its new limit.
+     *
+     * @param params new limits
+     */
+    public void setLimits(BulkheadParams params) {
+        List<Runnable> tasks;
+        synchronized (this) {
+            maxInFlight = params.getMaxInFlight();
+            maxQueued = params.getMaxQueued();
+            tasks = dequeue();
+        }
+
+        tasks.forEach(Runnable::run);
+    }
+
+    /**
+     * Dequeues as many tasks as there is room for, counting each as being in flight.
+     *
+     * @return the tasks to be run, outside of the lock
+     */
+    private List<Runnable> dequeue() {
+        List<Runnable> tasks = new ArrayList<>();
+        while (inFlight < maxInFlight && !queue.isEmpty()) {
+            ++inFlight;
+            ++admitted;
+            tasks.add(queue.remove());
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Gets the metrics.
+     *
+     * @return a snapshot of the metrics
+     */
+    public synchronized Metrics getMetrics() {
+        return Metrics.builder()
+            .actor(actor)
+            .operation(operation)
+            .maxInFlight(maxInFlight)
+            .maxQueued(maxQueued)
+            .inFlight(inFlight)
+            .queueDepth(queue.size())
+            .maxQueueDepth(maxQueueDepth)
+            .admitted(admitted)
+            .queued(queued)
+            .rejected(rejected)
+            .build();
+    }
+
+    /**
+     * Snapshot of the metrics for a single bulkhead.
+     */
+    @Getter
+    @Builder
+    public static class Metrics {
+        private final String actor;
+        private final String operation;
+        private final int maxInFlight;
+        private final int maxQueued;
+        private final int inFlight;
+        private final int queueDepth;
+        private final int maxQueueDepth;
+
+        /**
+         * Number of calls that have been started, including those that were queued first.
+         */
+        private final long admitted;
+
+        /**
+         * Number of calls that had to wait in the queue.
+         */
+        private final long queued;
+
+        private final long rejected;
+    }
+}
@@ -0,0 +1,92 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bulkheads, one for each operation of each actor that has been configured with them.
+ * The bulkheads are created as the operations are first used. The limits of an actor may
+ * be changed at runtime, in which case they are applied to all of its operations.
+ */
+public class BulkheadRegistry {
+
+    /**
+     * Bulkhead parameters, by actor name.
+     */
+    private final Map<String, BulkheadParams> actor2params;
+
+    /**
+     * Bulkheads, keyed by "actor.operation".
+     */
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param actor2params bulkhead parameters, by actor name
+     */
+    public BulkheadRegistry(Map<String, BulkheadParams> actor2params) {
+        this.actor2params = new ConcurrentHashMap<>(actor2params);
+    }
+
+    /**
+     * Gets the bulkhead for an operation, creating it if necessary.
+     *
+     * @param actor actor name
+     * @param operation operation name
+     * @return the operation's bulkhead, or {@code null} if the actor has no bulkheads
+     */
+    public Bulkhead get(String actor, String operation) {
+        BulkheadParams params = actor2params.get(actor);
+        if (params == null) {
+            return null;
+        }
+
+        return bulkheads.computeIfAbsent(actor + "." + operation, key -> new Bulkhead(actor, operation, params));
+    }
+
+    /**
+     * Changes the limits of an actor, or adds bulkheads for an actor that has none.
+     *
+     * @param actor actor name
+     * @param params new limits
+     */
+    public synchronized void setLimits(String actor, BulkheadParams params) {
+        actor2params.put(actor, params);
+
+        bulkheads.values().stream().filter(bulkhead -> bulkhead.getActor().equals(actor))
+                        .forEach(bulkhead -> bulkhead.setLimits(params));
+    }
+
+    /**
+     * Gets the metrics, one entry per operation, sorted by actor and operation.
+     *
+     * @return a snapshot of the metrics
+     */
+    public List<Bulkhead.Metrics> getMetrics() {
+        return new TreeMap<>(bulkheads).values().stream().map(Bulkhead::getMetrics).toList();
+    }
+}
@@ -0,0 +1,328 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker wrapped around the operations of a single actor. While closed, calls
+ * are let through and their results are tracked over a sliding window of the most recent
+ * calls. Once the percentage of bad calls (i.e., calls that failed with an error or that
+ * took too long) reaches the threshold, the breaker opens, and calls are rejected
+ * immediately, rather than waiting for the actor to time out. After the open interval,
+ * the breaker becomes half-open and lets a single call through, as a probe; the breaker
+ * closes if the probe succeeds and reopens if it does not.
+ */
+public class CircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    /**
+     * Message placed in the outcome of an operation that was rejected.
+     */
+    public static final String OPEN_MESSAGE = "circuit breaker is open";
+
+    /**
+     * Maximum number of transitions retained for the metrics.
+     */
+    private static final int MAX_TRANSITIONS = 10;
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    @Getter
+    private final String actor;
+
+    private final CircuitBreakerParams params;
+
+    /**
+     * Results of the most recent calls, {@code true} if the call was bad. Used as a
+     * circular buffer.
+     */
+    private final boolean[] window;
+
+    // the remaining fields are all guarded by "this"
+
+    @Getter
+    private State state = State.CLOSED;
+
+    private int windowCount = 0;
+    private int windowNext = 0;
+    private int windowBad = 0;
+
+    private long openedMs;
+    private boolean probing = false;
+
+    private long calls = 0;
+    private long failures = 0;
+    private long slowCalls = 0;
+    private long rejected = 0;
+
+    private final Deque<Transition> transitions = new ArrayDeque<>(MAX_TRANSITIONS);
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param actor actor whose operations are protected by the breaker
+     * @param params breaker parameters
+     */
+    public CircuitBreaker(String actor, CircuitBreakerParams params) {
+        this.actor = actor;
+        this.params = params;
+        this.window = new boolean[params.getWindowSize()];
+    }
+
+    /**
+     * Requests permission to make a call.
+     *
+     * @return a permit through which the result of the call must be reported, or
+     *         {@code null} if the call is to be rejected
+     */
+    public synchronized Permit tryAcquire() {
+        if (state == State.CLOSED) {
+            return new Permit(false);
+        }
+
+        if (state == State.OPEN) {
+            if (currentTimeMillis() - openedMs < params.getOpenMs()) {
+                ++rejected;
+                return null;
+            }
+
+            transition(State.HALF_OPEN, "open interval elapsed");
+        }
+
+        // half-open - only one probe at a time
+        if (probing) {
+            ++rejected;
+            return null;
+        }
+
+        probing = true;
+        return new Permit(true);
+    }
+
+    /**
+     * Records the result of a call.
+     *
+     * @param probe {@code true} if the call was a probe
+     * @param failed {@code true} if the call failed
+     * @param elapsedMs time, in milliseconds, taken by the call
+     */
+    private synchronized void record(boolean probe, boolean failed, long elapsedMs) {
+        boolean slow = (!failed && params.getSlowCallMs() > 0 && elapsedMs > params.getSlowCallMs());
+        boolean bad = (failed || slow);
+
+        ++calls;
+        if (failed) {
+            ++failures;
+        } else if (slow) {
+            ++slowCalls;
+        }
+
+        if (probe) {
+            probing = false;
+
+            if (state == State.HALF_OPEN) {
+                if (bad) {
+                    open(failed ? "probe failed" : "probe was slow");
+                } else {
+                    transition(State.CLOSED, "probe succeeded");
+                }
+            }
+
+            return;
+        }
+
+        if (state != State.CLOSED) {
+            // a call that was let through before the breaker opened - ignore it
+            return;
+        }
+
+        if (windowCount == window.length) {
+            // discard the oldest result
+            if (window[windowNext]) {
+                --windowBad;
+            }
+        } else {
+            ++windowCount;
+        }
+
+        window[windowNext] = bad;
+        if (bad) {
+            ++windowBad;
+        }
+
+        windowNext = (windowNext + 1) % window.length;
+
+        if (windowCount >= params.getMinimumCalls() && getFailureRatePercent() >= params.getFailureRatePercent()) {
+            open("bad call rate " + getFailureRatePercent() + "%");
+        }
+    }
+
+    /**
+     * Releases the probe, if the call was a probe, without recording a result. Used
+     * when the call was canceled.
+     *
+     * @param probe {@code true} if the call was a probe
+     */
+    private synchronized void release(boolean probe) {
+        if (probe) {
+            probing = false;
+        }
+    }
+
+    private void open(String reason) {
+        openedMs = currentTimeMillis();
+        transition(State.OPEN, reason);
+    }
+
+    private void transition(State newState, String reason) {
+        logger.warn("{} circuit breaker {} -> {}: {}", actor, state, newState, reason);
+
+        if (transitions.size() == MAX_TRANSITIONS) {
+            transitions.removeFirst();
+        }
+
+        transitions.addLast(new Transition(Instant.ofEpochMilli(currentTimeMillis()), state, newState, reason));
+        state = newState;
+
+        // start with a clean window
+        windowCount = 0;
+        windowNext = 0;
+        windowBad = 0;
+    }
+
+    private int getFailureRatePercent() {
+        return (windowCount == 0 ? 0 : windowBad * 100 / windowCount);
+    }
+
+    /**
+     * Gets the metrics.
+     *
+     * @return a snapshot of the metrics
+     */
+    public synchronized Metrics getMetrics() {
+        return Metrics.builder()
+            .actor(actor)
+            .state(state)
+            .calls(calls)
+            .failures(failures)
+            .slowCalls(slowCalls)
+            .rejected(rejected)
+            .failureRatePercent(getFailureRatePercent())
+            .transitions(List.copyOf(transitions))
+            .build();
+    }
+
+    // the following may be overridden by junit tests
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Permission to make a single call, through which the result of the call is reported.
+     * Only the first report has any effect.
+     */
+    public class Permit {
+        private final boolean probe;
+        private final long startMs = currentTimeMillis();
+        private final AtomicBoolean done = new AtomicBoolean(false);
+
+        private Permit(boolean probe) {
+            this.probe = probe;
+        }
+
+        /**
+         * Reports that the call completed without error.
+         */
+        public void success() {
+            if (done.compareAndSet(false, true)) {
+                record(probe, false, currentTimeMillis() - startMs);
+            }
+        }
+
+        /**
+         * Reports that the call failed with an error.
+         */
+        public void failure() {
+            if (done.compareAndSet(false, true)) {
+                record(probe, true, currentTimeMillis() - startMs);
+            }
+        }
+
+        /**
+         * Reports that the call was canceled, thus it has no bearing on the breaker.
+         */
+        public void release() {
+            if (done.compareAndSet(false, true)) {
+                CircuitBreaker.this.release(probe);
+            }
+        }
+    }
+
+    /**
+     * A change in the state of the breaker.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Transition {
+        private final Instant time;
+        private final State from;
+        private final State to;
+        private final String reason;
+    }
+
+    /**
+     * Snapshot of the metrics for a single breaker.
+     */
+    @Getter
+    @Builder
+    public static class Metrics {
+        private final String actor;
+        private final State state;
+        private final long calls;
+        private final long failures;
+        private final long slowCalls;
+        private final long rejected;
+
+        /**
+         * Percentage of bad calls within the current window.
+         */
+        private final int failureRatePercent;
+
+        /**
+         * Most recent transitions, oldest first.
+         */
+        private final List<Transition> transitions;
+    }
+}
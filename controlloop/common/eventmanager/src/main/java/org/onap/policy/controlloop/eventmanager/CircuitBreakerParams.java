@@ -0,0 +1,91 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.onap.policy.common.parameters.BeanValidator;
+import org.onap.policy.common.parameters.ValidationResult;
+import org.onap.policy.common.parameters.annotations.Max;
+import org.onap.policy.common.parameters.annotations.Min;
+
+/**
+ * Parameters for the {@link CircuitBreaker} wrapped around an actor's operations. The
+ * breaker opens once the percentage of bad calls, among the most recent calls, reaches
+ * the threshold, where a call is "bad" if it fails with an error or takes too long.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CircuitBreakerParams {
+
+    /**
+     * Number of most recent calls over which the percentage of bad calls is computed.
+     */
+    @Min(1)
+    @Builder.Default
+    private int windowSize = 20;
+
+    /**
+     * Minimum number of calls that must be in the window before the breaker may open.
+     */
+    @Min(1)
+    @Builder.Default
+    private int minimumCalls = 10;
+
+    /**
+     * Percentage of bad calls at which the breaker opens.
+     */
+    @Min(1)
+    @Max(100)
+    @Builder.Default
+    private int failureRatePercent = 50;
+
+    /**
+     * Calls taking longer than this, in milliseconds, are considered bad, even if they
+     * succeed. Zero disables the latency check.
+     */
+    @Min(0)
+    @Builder.Default
+    private long slowCallMs = 0;
+
+    /**
+     * Time, in milliseconds, for which the breaker remains open before letting a single
+     * probe through.
+     */
+    @Min(1)
+    @Builder.Default
+    private long openMs = 30000;
+
+    /**
+     * Validates the parameters.
+     *
+     * @param resultName name of the result
+     *
+     * @return the validation result
+     */
+    public ValidationResult validate(String resultName) {
+        return new BeanValidator().validateTop(resultName, this);
+    }
+}
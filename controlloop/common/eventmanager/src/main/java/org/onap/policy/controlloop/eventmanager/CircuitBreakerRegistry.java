@@ -0,0 +1,65 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Circuit breakers, one for each actor that has been configured with one.
+ */
+public class CircuitBreakerRegistry {
+
+    /**
+     * Breakers, by actor name, sorted by actor name.
+     */
+    private final Map<String, CircuitBreaker> actor2breaker = new TreeMap<>();
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param actor2params breaker parameters, by actor name
+     */
+    public CircuitBreakerRegistry(Map<String, CircuitBreakerParams> actor2params) {
+        actor2params.forEach((actor, params) -> actor2breaker.put(actor, new CircuitBreaker(actor, params)));
+    }
+
+    /**
+     * Gets the breaker for an actor.
+     *
+     * @param actor actor name
+     * @return the actor's breaker, or {@code null} if the actor has no breaker
+     */
+    public CircuitBreaker get(String actor) {
+        return actor2breaker.get(actor);
+    }
+
+    /**
+     * Gets the metrics, one entry per actor, sorted by actor name.
+     *
+     * @return a snapshot of the metrics
+     */
+    public List<CircuitBreaker.Metrics> getMetrics() {
+        return actor2breaker.values().stream().map(CircuitBreaker::getMetrics).toList();
+    }
+}
@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,7 +22,9 @@
 
 package org.onap.policy.controlloop.eventmanager;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -54,6 +57,12 @@ public abstract class ClEventManagerWithEvent<T extends Step> extends ClEventMan
 
     private final VirtualControlLoopEvent event;
 
+    /**
+     * Immutable snapshot of the event's A&AI data, shared by all notifications.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> aai;
+
     @Setter(AccessLevel.PROTECTED)
     private VirtualControlLoopEvent abatement = null;
 
@@ -76,6 +85,7 @@ public abstract class ClEventManagerWithEvent<T extends Step> extends ClEventMan
         checkEventSyntax(event);
 
         this.event = event;
+        this.aai = (event.getAai() == null ? null : Collections.unmodifiableMap(new HashMap<>(event.getAai())));
     }
 
     @Override
@@ -88,15 +98,13 @@ public abstract class ClEventManagerWithEvent<T extends Step> extends ClEventMan
         notif.setTargetType(event.getTargetType());
         notif.setTarget(event.getTarget());
 
-        if (event.getAai() != null) {
-            notif.setAai(new HashMap<>(event.getAai()));
-        }
+        notif.setAai(aai);
         notif.setClosedLoopAlarmStart(event.getClosedLoopAlarmStart());
         notif.setClosedLoopAlarmEnd(event.getClosedLoopAlarmEnd());
     }
 
     /**
-     * Stores an operation outcome in the DB.
+     * Stores an operation outcome in the DB, and then discards the actor's response.
      *
      * @param outcome operation outcome to store
      * @param targetEntity target entity
@@ -104,6 +112,9 @@ public abstract class ClEventManagerWithEvent<T extends Step> extends ClEventMan
     protected void storeInDataBase(OperationOutcome2 outcome, String targetEntity) {
         getDataManager().store(getRequestIdStr(), event.getClosedLoopControlName(), event, targetEntity,
                         outcome.getClOperation());
+
+        // the response is not persisted, and it isn't needed once the outcome is in the history
+        outcome.discardResponse();
     }
 
     @Override
@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,8 +24,9 @@ package org.onap.policy.controlloop.eventmanager;
 
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
 import org.drools.core.WorkingMemory;
@@ -52,6 +54,12 @@ public abstract class ClEventManagerWithOutcome<T extends Step> extends ClEventM
      */
     private int attempts;
 
+    /**
+     * Maximum number of operations retained in each history, beyond which the oldest are
+     * compacted. A value &lt;= 0 indicates that the histories are not bounded.
+     */
+    private final int historyMaxEntries;
+
     /**
      * Full history of operations that have been processed by the rules. This includes the
      * items in {@link #partialHistory}.
@@ -65,6 +73,18 @@ public abstract class ClEventManagerWithOutcome<T extends Step> extends ClEventM
      */
     private final transient Deque<OperationOutcome2> partialHistory = new LinkedList<>();
 
+    /**
+     * Operations in {@link #fullHistory}, from which notification history is taken.
+     */
+    @Getter(AccessLevel.NONE)
+    private final transient ClOperationHistory fullClHistory = new ClOperationHistory();
+
+    /**
+     * Operations in {@link #partialHistory}, from which notification history is taken.
+     */
+    @Getter(AccessLevel.NONE)
+    private final transient ClOperationHistory partialClHistory = new ClOperationHistory();
+
 
     /**
      * Constructs the object.
@@ -80,11 +100,14 @@ public abstract class ClEventManagerWithOutcome<T extends Step> extends ClEventM
                     WorkingMemory workMem) throws ControlLoopException {
 
         super(services, params, requestId, workMem);
+
+        this.historyMaxEntries = (services == null ? 0 : services.getHistoryMaxEntries());
     }
 
     @Override
     protected void loadPolicy() throws ControlLoopException {
         partialHistory.clear();
+        partialClHistory.clear();
         super.loadPolicy();
     }
 
@@ -123,15 +146,62 @@ public abstract class ClEventManagerWithOutcome<T extends Step> extends ClEventM
                         && last.getOutcome().isFor(outcome.getActor(), outcome.getOperation())) {
             // last item was a "start" - remove it
             partialHistory.removeLast();
+            partialClHistory.removeLast();
 
             if (fullHistory.peekLast() == last) {
                 fullHistory.removeLast();
+                fullClHistory.removeLast();
             }
         }
 
         var outcome2 = makeOperationOutcome2(outcome);
         partialHistory.add(outcome2);
         fullHistory.add(outcome2);
+
+        partialClHistory.add(outcome2.getClOperation());
+        fullClHistory.add(outcome2.getClOperation());
+
+        compactHistory(partialHistory, partialClHistory);
+        compactHistory(fullHistory, fullClHistory);
+    }
+
+    /**
+     * Bounds a history, discarding its oldest outcomes, which are summarized in the
+     * associated operation history.
+     *
+     * @param history history to be bounded
+     * @param clHistory operations in the history
+     */
+    private void compactHistory(Deque<OperationOutcome2> history, ClOperationHistory clHistory) {
+        if (historyMaxEntries <= 0) {
+            return;
+        }
+
+        while (history.size() > historyMaxEntries) {
+            history.removeFirst();
+        }
+
+        clHistory.compact(historyMaxEntries);
+    }
+
+    /**
+     * Gets the operations in the partial history. The returned list is immutable and is
+     * shared by all notifications generated until the history changes.
+     *
+     * @return the operations in the partial history
+     */
+    public List<ControlLoopOperation> getPartialClHistory() {
+        return partialClHistory.snapshot();
+    }
+
+    /**
+     * Gets the operations in the full history. The returned list is immutable and is
+     * shared by all notifications generated until the history changes.
+     *
+     * @return the operations in the full history
+     */
+    public List<ControlLoopOperation> getFullClHistory() {
+        return fullClHistory.snapshot();
     }
 
     /**
@@ -153,7 +223,7 @@ public abstract class ClEventManagerWithOutcome<T extends Step> extends ClEventM
         }
 
         notif.setMessage(last.getClOperation().toHistory());
-        notif.setHistory(partialHistory.stream().map(OperationOutcome2::getClOperation).collect(Collectors.toList()));
+        notif.setHistory(partialClHistory.snapshot());
 
         return notif;
     }
@@ -221,6 +291,14 @@ public abstract class ClEventManagerWithOutcome<T extends Step> extends ClEventM
                 clOperation.setOutcome("");
             }
         }
+
+        /**
+         * Discards the actor's response, which is no longer needed once the outcome has
+         * been persisted.
+         */
+        public void discardResponse() {
+            outcome.setResponse(null);
+        }
     }
 
     protected OperationOutcome2 makeOperationOutcome2(OperationOutcome outcome) {
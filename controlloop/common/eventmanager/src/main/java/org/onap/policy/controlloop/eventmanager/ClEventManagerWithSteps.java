@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +27,7 @@ import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -64,6 +66,12 @@ public abstract class ClEventManagerWithSteps<T extends Step> extends ControlLoo
      */
     public static final int MAX_STEPS = 30;
 
+    /**
+     * Message placed into the final notification when processing is canceled by an
+     * abatement.
+     */
+    public static final String ABATED_MESSAGE = "Control Loop abated before the operation was started";
+
     public enum State {
         LOAD_POLICY, POLICY_LOADED, AWAITING_OUTCOME, DONE
     }
@@ -123,6 +131,31 @@ public abstract class ClEventManagerWithSteps<T extends Step> extends ControlLoo
     @Getter
     private String finalMessage = null;
 
+    /**
+     * {@code True} if a policy's operation has been started, {@code false} if only
+     * preprocessor steps have been started thus far.
+     */
+    @Getter
+    private boolean operationStarted = false;
+
+    /**
+     * Policy step whose retries are being scheduled by the {@link RetryScheduler}, rather
+     * than by the operation itself, or {@code null} if the operation retries on its own.
+     */
+    private transient volatile T retryStep;
+
+    /**
+     * Number of retries remaining, and the number performed thus far, for
+     * {@link #retryStep}.
+     */
+    private transient volatile int retriesLeft;
+    private transient volatile int retryCount;
+
+    /**
+     * Retry that has been scheduled, but not yet run.
+     */
+    private transient volatile ScheduledFuture<?> pendingRetry;
+
     private final transient WorkingMemory workMem;
     private transient FactHandle factHandle;
 
@@ -152,6 +185,8 @@ public abstract class ClEventManagerWithSteps<T extends Step> extends ControlLoo
 
     @Override
     public void destroy() {
+        cancelPendingRetry();
+
         for (T step : getSteps()) {
             step.cancel();
         }
@@ -193,6 +228,34 @@ public abstract class ClEventManagerWithSteps<T extends Step> extends ControlLoo
         this.finalMessage = finalMessage;
     }
 
+    /**
+     * Cancels processing in response to an abatement, provided the control loop's
+     * abatement mode is {@link AbatementMode#CANCEL} and no policy operation has been
+     * started yet. Any remaining preprocessor steps are canceled and discarded, and the
+     * manager is left in the DONE state, so that the final notification is generated and
+     * the locks are freed when the manager is destroyed.
+     *
+     * @return {@code true} if processing was canceled, {@code false} if the abatement is
+     *         to be ignored
+     */
+    public boolean cancelOnAbatement() {
+        if (getAbatementMode() != AbatementMode.CANCEL || state == State.DONE || operationStarted) {
+            return false;
+        }
+
+        cancelPendingRetry();
+
+        for (T step : getSteps()) {
+            step.cancel();
+        }
+
+        getSteps().clear();
+        getOutcomes().clear();
+
+        abort(State.DONE, OperationFinalResult.FINAL_SUCCESS, ABATED_MESSAGE);
+        return true;
+    }
+
     /**
      * Loads the next policy.
      *
@@ -224,6 +287,12 @@ public abstract class ClEventManagerWithSteps<T extends Step> extends ControlLoo
         String targetType = (target != null ? target.getTargetType() : null);
         Map<String, String> entityIds = (target != null ? target.getEntityIds() : null);
 
+        // let the retry scheduler perform the retries, if it has a backoff for the actor
+        Integer retries = policy.getRetries();
+        RetryScheduler scheduler = getRetryScheduler();
+        boolean backoff = (scheduler != null && retries != null && retries > 0
+                        && scheduler.isEnabled(actor.getActor()));
+
         // convert policy payload from Map<String,String> to Map<String,Object>
         Map<String, Object> payload = new LinkedHashMap<>();
         if (actor.getPayload() != null) {
@@ -237,7 +306,7 @@ public abstract class ClEventManagerWithSteps<T extends Step> extends ControlLoo
                         .operation(actor.getOperation())
                         .requestId(getRequestId())
                         .executor(getExecutor())
-                        .retry(policy.getRetries())
+                        .retry(backoff ? Integer.valueOf(0) : retries)
                         .timeoutSec(policy.getTimeout())
                         .targetType(TargetType.toTargetType(targetType))
                         .targetEntityIds(entityIds)
@@ -249,6 +318,11 @@ public abstract class ClEventManagerWithSteps<T extends Step> extends ControlLoo
 
         // load the policy's operation
         loadPolicyStep(params);
+
+        cancelPendingRetry();
+        retryStep = (backoff ? getSteps().peekLast() : null);
+        retriesLeft = (backoff ? retries : 0);
+        retryCount = 0;
     }
 
     /**
@@ -283,7 +357,13 @@ public abstract class ClEventManagerWithSteps<T extends Step> extends ControlLoo
             return false;
         }
 
-        return step.start(getEndTimeMs() - System.currentTimeMillis());
+        if (step.isPolicyStep()) {
+            operationStarted = true;
+        }
+
+        step.setCircuitBreaker(getCircuitBreaker(step.getActorName()));
+        step.setBulkhead(getBulkhead(step.getActorName(), step.getOperationName()));
+        return step.start(getEndTimeMs() - currentTimeMillis());
     }
 
     /**
@@ -294,7 +374,9 @@ public abstract class ClEventManagerWithSteps<T extends Step> extends ControlLoo
     }
 
     /**
-     * Delivers a notification to a topic.
+     * Delivers a notification to a topic. The notification is handed off to the
+     * {@link NotificationPublisher}, if there is one, so that it is published in the
+     * background, in order with this manager's other notifications.
      *
      * @param sinkName name of the topic sink
      * @param notification notification to be published, or {@code null} if nothing is to
@@ -304,7 +386,14 @@ public abstract class ClEventManagerWithSteps<T extends Step> extends ControlLoo
      */
     public <N> void deliver(String sinkName, N notification, String notificationType, String ruleName) {
         try {
-            if (notification != null) {
+            if (notification == null) {
+                return;
+            }
+
+            NotificationPublisher publisher = getNotificationPublisher();
+            if (publisher != null) {
+                publisher.deliver(sinkName, getRequestId(), notification);
+            } else {
                 getPolicyEngineManager().deliver(sinkName, notification);
             }
 
@@ -330,12 +419,77 @@ public abstract class ClEventManagerWithSteps<T extends Step> extends ControlLoo
 
     @Override
     public void onComplete(OperationOutcome outcome) {
+        T step = retryStep;
+        if (step != null && outcome.isFinalOutcome() && isRetryable(outcome)
+                        && outcome.isFor(step.getActorName(), step.getOperationName())) {
+            scheduleRetry(step, outcome);
+        }
+
         super.onComplete(outcome);
         workMem.update(factHandle, this);
     }
 
+    /**
+     * Determines if an operation might succeed if it were retried.
+     *
+     * @param outcome outcome of the operation
+     * @return {@code true} if the operation should be retried, {@code false} otherwise
+     */
+    protected boolean isRetryable(OperationOutcome outcome) {
+        return (outcome.getResult() == OperationResult.FAILURE
+                        || outcome.getResult() == OperationResult.FAILURE_TIMEOUT);
+    }
+
+    /**
+     * Schedules a retry of the policy step, after it has failed, or marks the outcome as
+     * having exhausted the retries, if none remain. When a retry is scheduled, the outcome
+     * is marked as non-final, just as the operation itself would have done.
+     *
+     * @param step step that failed
+     * @param outcome outcome of the failed attempt
+     */
+    private void scheduleRetry(T step, OperationOutcome outcome) {
+        RetryScheduler scheduler = getRetryScheduler();
+        long remainingMs = getEndTimeMs() - currentTimeMillis();
+
+        if (retriesLeft <= 0) {
+            outcome.setResult(OperationResult.FAILURE_RETRIES);
+            scheduler.exhausted(step.getActorName());
+            retryStep = null;
+            return;
+        }
+
+        if (remainingMs <= 0) {
+            // the control loop is about to time out - no point in retrying
+            retryStep = null;
+            return;
+        }
+
+        --retriesLeft;
+        long delayMs = scheduler.getDelayMs(step.getActorName(), ++retryCount, remainingMs);
+
+        outcome.setFinalOutcome(false);
+        pendingRetry = scheduler.schedule(step.getActorName(), delayMs,
+            () -> getExecutor().execute(() -> step.restart(getEndTimeMs() - currentTimeMillis())));
+    }
+
+    /**
+     * Cancels the pending retry, if any.
+     */
+    private void cancelPendingRetry() {
+        ScheduledFuture<?> retry = pendingRetry;
+        if (retry != null) {
+            retry.cancel(false);
+            pendingRetry = null;
+        }
+    }
+
     // these following methods may be overridden by junit tests
 
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
     protected PolicyEngine getPolicyEngineManager() {
         return PolicyEngineConstants.getManager();
     }
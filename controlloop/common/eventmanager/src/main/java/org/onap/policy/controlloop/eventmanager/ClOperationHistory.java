@@ -0,0 +1,264 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+import org.onap.policy.controlloop.ControlLoopOperation;
+
+/**
+ * History of control loop operations, from which immutable snapshots may be taken in
+ * constant time, for inclusion in notifications. Snapshots share the backing array with
+ * the history. Items are only appended to the array, beyond the portion that's visible to
+ * the snapshots, thus the snapshots never change. The array is only copied when an item
+ * that is visible to a snapshot is removed (i.e., when the "start" of an operation is
+ * replaced by its outcome, after a notification has been generated for the "start").
+ * <p/>
+ * The history may be bounded via {@link #compact(int)}, in which case the oldest items are
+ * folded into a single summary record, which then appears as the first item.
+ * <p/>
+ * This is not thread-safe; it is expected to be modified only by the rules. Snapshots,
+ * however, may be read by any thread.
+ */
+class ClOperationHistory {
+    public static final String SUMMARY_ACTOR = "policy";
+    public static final String SUMMARY_OPERATION = "compacted-history";
+    public static final String SUMMARY_OUTCOME = "COMPACTED";
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private ControlLoopOperation[] items = new ControlLoopOperation[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Number of items, at the start of {@link #items}, that are visible to snapshots.
+     */
+    private int shared = 0;
+
+    /**
+     * Snapshot of the current content, or {@code null} if it must be regenerated.
+     */
+    private List<ControlLoopOperation> snapshot = List.of();
+
+    /**
+     * Summary of the items that have been compacted, or {@code null} if nothing has been
+     * compacted. When present, its record is the first item in {@link #items}.
+     */
+    private Summary summary = null;
+
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends an operation to the history.
+     *
+     * @param operation operation to be appended
+     */
+    public void add(ControlLoopOperation operation) {
+        if (size == items.length) {
+            // snapshots retain the old array, thus nothing in the new array is shared
+            items = Arrays.copyOf(items, 2 * size);
+            shared = 0;
+        }
+
+        items[size++] = operation;
+        snapshot = null;
+    }
+
+    /**
+     * Removes the last operation from the history. The summary record is never removed.
+     */
+    public void removeLast() {
+        if (size == (summary == null ? 0 : 1)) {
+            return;
+        }
+
+        if (size <= shared) {
+            // the last item is visible to a snapshot - leave the snapshot's array intact
+            items = items.clone();
+            shared = 0;
+        }
+
+        items[--size] = null;
+        snapshot = null;
+    }
+
+    /**
+     * Removes all operations from the history.
+     */
+    public void clear() {
+        if (shared > 0) {
+            items = new ControlLoopOperation[INITIAL_CAPACITY];
+            shared = 0;
+        } else {
+            Arrays.fill(items, 0, size, null);
+        }
+
+        size = 0;
+        snapshot = List.of();
+        summary = null;
+    }
+
+    /**
+     * Compacts the history, folding the oldest items into the summary record, so that no
+     * more than the given number of items, in addition to the summary record, remain.
+     *
+     * @param maxItems maximum number of items to retain, not counting the summary record
+     */
+    public void compact(int maxItems) {
+        int first = (summary == null ? 0 : 1);
+        int excess = size - first - maxItems;
+        if (maxItems <= 0 || excess <= 0) {
+            return;
+        }
+
+        if (summary == null) {
+            summary = new Summary();
+        }
+
+        for (var index = first; index < first + excess; ++index) {
+            summary.add(items[index]);
+        }
+
+        // the first item changes, thus a new array is always needed
+        int remaining = size - first - excess;
+        var newItems = new ControlLoopOperation[Math.max(INITIAL_CAPACITY, 2 * (remaining + 1))];
+        newItems[0] = summary.toOperation();
+        System.arraycopy(items, first + excess, newItems, 1, remaining);
+
+        items = newItems;
+        size = remaining + 1;
+        shared = 0;
+        snapshot = null;
+    }
+
+    /**
+     * Gets the number of items that have been compacted into the summary record.
+     *
+     * @return the number of items that have been compacted
+     */
+    public int getCompacted() {
+        return (summary == null ? 0 : summary.count);
+    }
+
+    /**
+     * Gets an immutable snapshot of the history. The same snapshot is returned until the
+     * history is modified.
+     *
+     * @return an immutable snapshot of the history
+     */
+    public List<ControlLoopOperation> snapshot() {
+        if (snapshot == null) {
+            snapshot = new Snapshot(items, size);
+            shared = Math.max(shared, size);
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Summary of compacted items.
+     */
+    private static class Summary {
+        private int count = 0;
+        private final Map<String, Integer> outcomes = new TreeMap<>();
+        private Instant start = null;
+        private Instant end = null;
+
+        public void add(ControlLoopOperation operation) {
+            ++count;
+            outcomes.merge(String.valueOf(operation.getOutcome()), 1, Integer::sum);
+
+            if (start == null) {
+                start = operation.getStart();
+            }
+
+            if (operation.getEnd() != null) {
+                end = operation.getEnd();
+            }
+        }
+
+        /**
+         * Makes a new summary record. A new record is created each time, as older records
+         * may still be referenced by snapshots.
+         *
+         * @return a new summary record
+         */
+        public ControlLoopOperation toOperation() {
+            var operation = new ControlLoopOperation();
+            operation.setActor(SUMMARY_ACTOR);
+            operation.setOperation(SUMMARY_OPERATION);
+            operation.setStart(start);
+            operation.setEnd(end);
+            operation.setOutcome(SUMMARY_OUTCOME);
+            operation.setMessage(count + " earlier operations compacted, outcomes=" + outcomes);
+
+            return operation;
+        }
+    }
+
+    /**
+     * Immutable view of a prefix of the history's backing array.
+     */
+    private static class Snapshot extends AbstractList<ControlLoopOperation> implements RandomAccess, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final ControlLoopOperation[] items;
+        private final int size;
+
+        public Snapshot(ControlLoopOperation[] items, int size) {
+            this.items = items;
+            this.size = size;
+        }
+
+        @Override
+        public ControlLoopOperation get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("index " + index + " out of bounds for length " + size);
+            }
+
+            return items[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Serializes a copy of the visible items, rather than the entire backing array.
+         *
+         * @return a copy of this list
+         */
+        private Object writeReplace() {
+            return new ArrayList<>(this);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.onap.policy.controlloop.util.Serialization;
+
+/**
+ * Encodes notifications (e.g., VirtualControlLoopNotification, ControlLoopResponse) as
+ * compact JSON, streaming them straight into a buffer that is reused by the thread. The
+ * output contains the same fields and values as that produced by
+ * {@link Serialization#gsonPretty}, but without the white space. This may be plugged into
+ * a topic sink via its "custom.gson" property, for instance:
+ *
+ * <pre>
+ * kafka.sink.topics.policy-cl-mgt.events.custom.gson=\
+ *     org.onap.policy.controlloop.eventmanager.CompactNotificationCoder,compact
+ * </pre>
+ */
+public class CompactNotificationCoder {
+
+    /**
+     * Coder to be referenced by the topic sink properties.
+     */
+    public static final CompactNotificationCoder compact = new CompactNotificationCoder();
+
+    /**
+     * Buffers larger than this, in characters, are discarded after use, so that a single
+     * huge notification does not pin memory to the thread forever.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final int INITIAL_CAPACITY = 4 * 1024;
+
+    private final Gson gson;
+
+    private final Map<Class<?>, TypeAdapter<?>> adapters = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<BufferWriter> buffers = ThreadLocal.withInitial(BufferWriter::new);
+
+
+    /**
+     * Constructs the object, using the compact gson from the models, so that dates, enums
+     * and field names are encoded the same way they always have been.
+     */
+    public CompactNotificationCoder() {
+        this(Serialization.gson);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param gson gson whose type adapters and settings are to be used
+     */
+    public CompactNotificationCoder(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * Encodes an object as compact JSON.
+     *
+     * @param object object to be encoded
+     * @return the JSON representation of the object
+     */
+    public String toJson(Object object) {
+        if (object == null) {
+            return "null";
+        }
+
+        BufferWriter buffer = buffers.get();
+
+        try {
+            var writer = gson.newJsonWriter(buffer);
+            getAdapter(object.getClass()).write(writer, object);
+            writer.flush();
+
+            return buffer.builder.toString();
+
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+
+        } finally {
+            buffer.reset();
+        }
+    }
+
+    /**
+     * Decodes JSON into an object. Decoding is not on the hot path, thus this simply
+     * delegates to gson.
+     *
+     * @param <T> type of object to be decoded
+     * @param json JSON to be decoded
+     * @param clazz class of object to be decoded
+     * @return the decoded object
+     */
+    public <T> T fromJson(String json, Class<T> clazz) {
+        return gson.fromJson(json, clazz);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> TypeAdapter<T> getAdapter(Class<?> clazz) {
+        return (TypeAdapter<T>) adapters.computeIfAbsent(clazz, gson::getAdapter);
+    }
+
+    /**
+     * Writer that appends to a StringBuilder, without any synchronization.
+     */
+    private static class BufferWriter extends Writer {
+        private StringBuilder builder = new StringBuilder(INITIAL_CAPACITY);
+
+        @Override
+        public void write(int chr) {
+            builder.append((char) chr);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            builder.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            builder.append(str, off, off + len);
+        }
+
+        @Override
+        public Writer append(CharSequence csq) {
+            builder.append(csq);
+            return this;
+        }
+
+        @Override
+        public Writer append(CharSequence csq, int start, int end) {
+            builder.append(csq, start, end);
+            return this;
+        }
+
+        @Override
+        public Writer append(char chr) {
+            builder.append(chr);
+            return this;
+        }
+
+        @Override
+        public void flush() {
+            // nothing to flush
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        private void reset() {
+            if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+                builder = new StringBuilder(INITIAL_CAPACITY);
+            } else {
+                builder.setLength(0);
+            }
+        }
+    }
+}
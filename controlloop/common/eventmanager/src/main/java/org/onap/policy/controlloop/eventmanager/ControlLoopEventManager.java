@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2017-2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,7 +29,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -38,15 +38,19 @@ import java.util.concurrent.atomic.AtomicLong;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
+import org.onap.policy.aai.AaiCqResponse;
 import org.onap.policy.controlloop.ControlLoopException;
+import org.onap.policy.controlloop.ControlLoopNotificationType;
 import org.onap.policy.controlloop.ControlLoopOperation;
 import org.onap.policy.controlloop.actorserviceprovider.ActorService;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
+import org.onap.policy.controlloop.actorserviceprovider.OperationProperties;
 import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
 import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
 import org.onap.policy.controlloop.ophistory.OperationHistoryDataManager;
 import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerStub;
 import org.onap.policy.controlloop.processor.ControlLoopProcessor;
+import org.onap.policy.controlloop.utils.ControlLoopUtils;
 import org.onap.policy.drools.core.lock.LockCallback;
 import org.onap.policy.drools.system.PolicyEngineConstants;
 import org.slf4j.Logger;
@@ -71,6 +75,17 @@ public class ControlLoopEventManager implements StepContext, Serializable {
 
     public static final String GUARD_DISABLED_PROPERTY = "guard.disabled";
 
+    /**
+     * Policy metadata key specifying the notification level for the control loop.
+     */
+    public static final String NOTIFICATION_LEVEL_METADATA = "notificationLevel";
+
+    /**
+     * Policy metadata key specifying what the control loop does when it receives an
+     * abatement.
+     */
+    public static final String ABATEMENT_MODE_METADATA = "abatementMode";
+
     /**
      * Counts the number of these objects that have been created. This is used by junit
      * tests.
@@ -105,6 +120,24 @@ public class ControlLoopEventManager implements StepContext, Serializable {
     @Getter
     private final String policyVersion;
 
+    /**
+     * Determines which notifications are published for this control loop.
+     */
+    @Getter
+    private final NotificationLevel notificationLevel;
+
+    /**
+     * Determines what is done when an abatement is received for this control loop.
+     */
+    @Getter
+    private final AbatementMode abatementMode;
+
+    /**
+     * Priority of the control loop, used when scheduling its operations.
+     */
+    @Getter
+    private final int priority;
+
     /**
      * Maps a target entity to its lock.
      */
@@ -116,7 +149,7 @@ public class ControlLoopEventManager implements StepContext, Serializable {
     /**
      * Set of properties used while processing the event.
      */
-    private final Map<String, Serializable> properties = new ConcurrentHashMap<>();
+    private final StepProperties properties = new StepProperties();
 
     /**
      * Unprocessed outcomes from the operations. Outcomes are added to this each time the
@@ -149,6 +182,9 @@ public class ControlLoopEventManager implements StepContext, Serializable {
         this.policyVersion = params.getPolicyVersion();
         this.processor = new ControlLoopProcessor(params.getToscaPolicy());
         this.endTimeMs = System.currentTimeMillis() + detmControlLoopTimeoutMs();
+        this.notificationLevel = detmNotificationLevel(params);
+        this.abatementMode = detmAbatementMode(params);
+        this.priority = params.getPriority();
     }
 
     /**
@@ -197,6 +233,69 @@ public class ControlLoopEventManager implements StepContext, Serializable {
         return TimeUnit.MILLISECONDS.convert(timeout, TimeUnit.SECONDS);
     }
 
+    /**
+     * Determines the notification level, using the level from the policy metadata, if
+     * specified, otherwise using the default level from the services.
+     *
+     * @param params control loop parameters
+     * @return the notification level for this control loop
+     */
+    private NotificationLevel detmNotificationLevel(ControlLoopParams params) {
+        Map<String, ?> metadata = params.getToscaPolicy().getMetadata();
+        Object text = (metadata == null ? null : metadata.get(NOTIFICATION_LEVEL_METADATA));
+
+        if (text != null) {
+            var level = ControlLoopUtils.parseEnum(NotificationLevel.class, text.toString());
+            if (level != null) {
+                return level;
+            }
+
+            logger.warn("{}: invalid {} {} in policy {}", closedLoopControlName, NOTIFICATION_LEVEL_METADATA, text,
+                            policyName);
+        }
+
+        NotificationLevel level = (services == null ? null : services.getNotificationLevel());
+        return (level == null ? NotificationLevel.FULL : level);
+    }
+
+    /**
+     * Determines the abatement mode, using the mode from the policy metadata, if
+     * specified, otherwise using the default mode from the services.
+     *
+     * @param params control loop parameters
+     * @return the abatement mode for this control loop
+     */
+    private AbatementMode detmAbatementMode(ControlLoopParams params) {
+        Map<String, ?> metadata = params.getToscaPolicy().getMetadata();
+        Object text = (metadata == null ? null : metadata.get(ABATEMENT_MODE_METADATA));
+
+        if (text != null) {
+            var mode = ControlLoopUtils.parseEnum(AbatementMode.class, text.toString());
+            if (mode != null) {
+                return mode;
+            }
+
+            logger.warn("{}: invalid {} {} in policy {}", closedLoopControlName, ABATEMENT_MODE_METADATA, text,
+                            policyName);
+        }
+
+        AbatementMode mode = (services == null ? null : services.getAbatementMode());
+        return (mode == null ? AbatementMode.IGNORE : mode);
+    }
+
+    /**
+     * Determines if notifications of the given type are to be published for this control
+     * loop. Rules should check this <i>before</i> building a notification, so that no
+     * effort is wasted on notifications that would be discarded.
+     *
+     * @param type notification type of interest
+     * @return {@code true} if the notification is to be published, {@code false}
+     *         otherwise
+     */
+    public boolean isNotificationEnabled(ControlLoopNotificationType type) {
+        return notificationLevel.isEnabled(type);
+    }
+
     @Override
     public synchronized CompletableFuture<OperationOutcome> requestLock(String targetEntity) {
 
@@ -283,7 +382,7 @@ public class ControlLoopEventManager implements StepContext, Serializable {
      */
     @Override
     public boolean contains(String name) {
-        return properties.containsKey(name);
+        return properties.contains(name);
     }
 
     /**
@@ -307,7 +406,7 @@ public class ControlLoopEventManager implements StepContext, Serializable {
      */
     @Override
     public void setProperty(String name, Serializable value) {
-        logger.info("set property {}={} manager={}", name, value, this);
+        logSetProperty(name, value);
         properties.put(name, value);
     }
 
@@ -321,10 +420,52 @@ public class ControlLoopEventManager implements StepContext, Serializable {
         properties.remove(name);
     }
 
+    @Override
+    public String getAaiTargetEntity() {
+        return properties.getAaiTargetEntity();
+    }
+
+    @Override
+    public void setAaiTargetEntity(String targetEntity) {
+        logSetProperty(OperationProperties.AAI_TARGET_ENTITY, targetEntity);
+        properties.setAaiTargetEntity(targetEntity);
+    }
+
+    @Override
+    public Integer getVfCount() {
+        return properties.getVfCount();
+    }
+
+    @Override
+    public void setVfCount(int vfCount) {
+        logSetProperty(OperationProperties.DATA_VF_COUNT, vfCount);
+        properties.setVfCount(vfCount);
+    }
+
+    @Override
+    public AaiCqResponse getAaiCq() {
+        return properties.getAaiCq();
+    }
+
+    @Override
+    public void setAaiCq(AaiCqResponse aaiCq) {
+        logSetProperty(AaiCqResponse.CONTEXT_KEY, aaiCq);
+        properties.setAaiCq(aaiCq);
+    }
+
+    private void logSetProperty(String name, Object value) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("set property {}={} manager={}", name, value, this);
+        } else {
+            logger.info("{}: set property {}", requestId, name);
+        }
+    }
+
     // the following methods may be overridden by junit tests
 
     public Executor getExecutor() {
-        return ForkJoinPool.commonPool();
+        PriorityExecutor executor = (services == null ? null : services.getPriorityExecutor());
+        return (executor == null ? ForkJoinPool.commonPool() : executor.forPriority(priority));
     }
 
     protected ExecutorService getBlockingExecutor() {
@@ -332,7 +473,38 @@ public class ControlLoopEventManager implements StepContext, Serializable {
     }
 
     protected void makeLock(String targetEntity, String requestId, int holdSec, LockCallback callback) {
-        PolicyEngineConstants.getManager().createLock(targetEntity, requestId, holdSec, callback, false);
+        if (services != null) {
+            services.createLock(targetEntity, requestId, holdSec, callback);
+        } else {
+            PolicyEngineConstants.getManager().createLock(targetEntity, requestId, holdSec, callback, false);
+        }
+    }
+
+    public RetryScheduler getRetryScheduler() {
+        return (services == null ? null : services.getRetryScheduler());
+    }
+
+    /**
+     * Gets the circuit breaker wrapped around an actor's operations.
+     *
+     * @param actor actor name
+     * @return the actor's breaker, or {@code null} if the actor has no breaker
+     */
+    public CircuitBreaker getCircuitBreaker(String actor) {
+        CircuitBreakerRegistry breakers = (services == null ? null : services.getCircuitBreakers());
+        return (breakers == null ? null : breakers.get(actor));
+    }
+
+    /**
+     * Gets the bulkhead limiting the concurrency of an operation.
+     *
+     * @param actor actor name
+     * @param operation operation name
+     * @return the operation's bulkhead, or {@code null} if the operation has no bulkhead
+     */
+    public Bulkhead getBulkhead(String actor, String operation) {
+        BulkheadRegistry bulkheads = (services == null ? null : services.getBulkheads());
+        return (bulkheads == null ? null : bulkheads.get(actor, operation));
     }
 
     public ActorService getActorService() {
@@ -344,6 +516,16 @@ public class ControlLoopEventManager implements StepContext, Serializable {
         return (guardDisabled ? STUB_DATA_MANAGER : services.getDataManager());
     }
 
+    /**
+     * Gets the publisher to be used to deliver notifications.
+     *
+     * @return the notification publisher, or {@code null} if notifications should be
+     *         delivered directly to the policy engine
+     */
+    public NotificationPublisher getNotificationPublisher() {
+        return (services == null ? null : services.getNotificationPublisher());
+    }
+
     protected String getEnvironmentProperty(String propName) {
         return PolicyEngineConstants.getManager().getEnvironmentProperty(propName);
     }
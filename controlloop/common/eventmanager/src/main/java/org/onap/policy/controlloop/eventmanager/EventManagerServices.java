@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,22 +21,40 @@
 
 package org.onap.policy.controlloop.eventmanager;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import lombok.Getter;
+import org.drools.core.WorkingMemory;
 import org.onap.policy.common.parameters.ValidationResult;
 import org.onap.policy.common.utils.properties.PropertyObjectUtils;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
 import org.onap.policy.controlloop.actor.xacml.DecisionConfig;
 import org.onap.policy.controlloop.actor.xacml.DecisionOperator;
 import org.onap.policy.controlloop.actor.xacml.GuardOperation;
 import org.onap.policy.controlloop.actor.xacml.XacmlActor;
 import org.onap.policy.controlloop.actorserviceprovider.ActorService;
 import org.onap.policy.controlloop.actorserviceprovider.Util;
+import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
 import org.onap.policy.controlloop.ophistory.OperationHistoryDataManager;
+import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerDeferred;
 import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerImpl;
 import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerParams;
 import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerStub;
+import org.onap.policy.controlloop.utils.ControlLoopUtils;
+import org.onap.policy.drools.core.lock.LockCallback;
 import org.onap.policy.drools.persistence.SystemPersistenceConstants;
+import org.onap.policy.drools.system.PolicyEngineConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,33 +66,218 @@ public class EventManagerServices {
     public static final Logger logger = LoggerFactory.getLogger(EventManagerServices.class);
     public static final String ACTOR_SERVICE_PROPERTIES = "actor.service";
     public static final String DATA_MANAGER_PROPERTIES = "operation.history";
+    public static final String NOTIFICATION_PUBLISHER_PROPERTIES = "notification.publisher";
+    public static final String ADMISSION_PROPERTIES = "admission";
+    public static final String NOTIFICATION_LEVEL_PROPERTY = "notification.level";
+    public static final String HISTORY_MAX_ENTRIES_PROPERTY = "manager.history.maxEntries";
+    public static final int DEFAULT_HISTORY_MAX_ENTRIES = 100;
+    public static final String FAST_PATH_POLICY_TYPES_PROPERTY = "fastpath.policyTypes";
+    public static final String ONSET_COALESCING_PROPERTY = "onset.coalescing";
+    public static final String ABATEMENT_MODE_PROPERTY = "abatement.mode";
+    public static final String PRIORITY_EXECUTOR_THREADS_PROPERTY = "priority.executor.threads";
+    public static final String RETRY_BACKOFF_PROPERTIES = "retry.backoff";
+    public static final String CIRCUIT_BREAKER_PROPERTIES = "circuit.breaker";
+    public static final String BULKHEAD_PROPERTIES = "bulkhead";
+    public static final String ACTOR_STARTUP_MODE_PROPERTY = "actor.startup.mode";
+    public static final String ACTOR_READY_WAIT_MS_PROPERTY = "actor.startup.readyWaitMs";
+    public static final long DEFAULT_ACTOR_READY_WAIT_MS = 5000;
 
     public final ActorService actorService = new ActorService();
 
+    /**
+     * Configures and starts the actors of the {@link #actorService}.
+     */
+    public final ActorStartup actorStartup = new ActorStartup(actorService);
+
+    /**
+     * {@code true} if guards are configured and not disabled.
+     */
+    public final boolean guarded;
+
+    /**
+     * Completes with {@code true} once the guard actor has been started and found to be
+     * running, or with {@code false} if guards are not configured or the guard actor is
+     * not running.
+     */
+    public final CompletableFuture<Boolean> guardProbe;
+
+    /**
+     * Maximum time, in milliseconds, for which an onset is deferred while its control
+     * loop's actors are starting, before it is rejected.
+     */
+    public final long actorReadyWaitMs;
+
     // assume we're using a stub until proven otherwise
     public final OperationHistoryDataManager dataManager;
 
+    public final NotificationPublisher notificationPublisher;
+
+    /**
+     * Decides which new events may be processed.
+     */
+    public final AdmissionController admissionController;
+
+    /**
+     * Notification level used by control loops whose policies do not specify one.
+     */
+    public final NotificationLevel notificationLevel;
+
+    /**
+     * Maximum number of operations retained in an event manager's history, beyond which
+     * older operations are compacted. A value &lt;= 0 indicates that the history is not
+     * bounded.
+     */
+    public final int historyMaxEntries;
+
+    /**
+     * Types of the policies whose steps are executed outside of the rules, by a
+     * controller's "fast path", rather than by the rules themselves.
+     */
+    public final Set<String> fastPathPolicyTypes;
+
+    /**
+     * What is done with onsets whose target is already being remediated.
+     */
+    public final OnsetCoalescing onsetCoalescing;
+
+    /**
+     * Abatement mode used by control loops whose policies do not specify one.
+     */
+    public final AbatementMode abatementMode;
+
+    /**
+     * Executor used by the event managers to run their operations, in priority order, or
+     * {@code null} if the operations are to be run by the common fork-join pool.
+     */
+    public final PriorityExecutor priorityExecutor;
+
+    /**
+     * Schedules the retries of failed operations, with backoff, or {@code null} if the
+     * operations are to retry immediately.
+     */
+    public final RetryScheduler retryScheduler;
+
+    /**
+     * Circuit breakers wrapped around the actors' operations, or {@code null} if no actor
+     * has a breaker.
+     */
+    public final CircuitBreakerRegistry circuitBreakers;
+
+    /**
+     * Bulkheads limiting the concurrency of the actors' operations. Never {@code null},
+     * so that limits may be added at runtime, even if none were configured.
+     */
+    public final BulkheadRegistry bulkheads;
+
+    /**
+     * Events that have been deferred by {@link #checkReady}, waiting for their actors to
+     * start. Compared by identity, as distinct events may be equal.
+     */
+    private final Set<VirtualControlLoopEvent> deferredEvents =
+                    Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    /**
+     * Set once {@link #shutdown()} has been invoked.
+     */
+    private final AtomicBoolean shutdown = new AtomicBoolean(false);
+
     /**
      * Constructs the object. Configures and starts the actor service. Initializes
-     * {@link #dataManager}, to a "real" data manager, if guards are enabled.
+     * {@link #dataManager}, to a "real" data manager, if guards are enabled. Starts the
+     * {@link #notificationPublisher}. The time taken by each phase is logged.
      *
      * @param configFileName configuration file name
      */
     public EventManagerServices(String configFileName) {
+        final long startMs = System.currentTimeMillis();
+
         // configure and start actor services
         Properties props = startActorService(configFileName);
+        long phaseMs = logPhase("actor service", startMs);
 
-        if (isGuardEnabled()) {
-            // guards are enabled - use a real data manager
-            dataManager = makeDataManager(props);
-        } else {
-            // guards are disabled - use a stub data manager
-            dataManager = new OperationHistoryDataManagerStub();
+        guarded = isGuardConfigured();
+
+        // the guard actor may still be starting, thus it is checked in the background
+        guardProbe = probeGuard();
+
+        dataManager = makeGuardedDataManager(props);
+        phaseMs = logPhase("operation history", phaseMs);
+
+        notificationPublisher = makeNotificationPublisher(props);
+        admissionController = makeAdmissionController(props);
+        notificationLevel = detmNotificationLevel(props);
+        historyMaxEntries = detmHistoryMaxEntries(props);
+        fastPathPolicyTypes = detmFastPathPolicyTypes(props);
+        onsetCoalescing = detmOnsetCoalescing(props);
+        abatementMode = detmAbatementMode(props);
+        priorityExecutor = makePriorityExecutor(props);
+        retryScheduler = makeRetryScheduler(props);
+        circuitBreakers = makeCircuitBreakers(props);
+        bulkheads = makeBulkheads(props);
+        actorReadyWaitMs = detmActorReadyWaitMs(props);
+        logPhase("other services", phaseMs);
+
+        logger.info("event services created in {} ms", System.currentTimeMillis() - startMs);
+    }
+
+    /**
+     * Shuts down the services, stopping their threads and connections. Also invoked when
+     * the constructor fails, thus services that have not been created are skipped. Does
+     * nothing if the services have already been shut down.
+     */
+    public void shutdown() {
+        if (!shutdown.compareAndSet(false, true)) {
+            return;
         }
+
+        logger.info("shutting down event services");
+
+        // stop the threads that run operations before the actors that they invoke
+        stopService("notification publisher", notificationPublisher, NotificationPublisher::stop);
+        stopService("retry scheduler", retryScheduler, RetryScheduler::stop);
+        stopService("priority executor", priorityExecutor, PriorityExecutor::stop);
+        stopService("actor service", actorStartup, ActorStartup::stop);
+
+        // stopped last, so that it can record the operations that were completed above
+        stopService("operation history data manager", dataManager, OperationHistoryDataManager::stop);
+    }
+
+    /**
+     * Stops a service, logging any exception.
+     *
+     * @param name name of the service, used when logging
+     * @param service service to be stopped, or {@code null}
+     * @param stopper function used to stop the service
+     */
+    private <T> void stopService(String name, T service, Consumer<T> stopper) {
+        if (service == null) {
+            return;
+        }
+
+        try {
+            stopper.accept(service);
+
+        } catch (RuntimeException e) {
+            logger.warn("cannot stop {}", name, e);
+        }
+    }
+
+    /**
+     * Logs the time taken by a phase of the start-up.
+     *
+     * @param phase name of the phase
+     * @param phaseStartMs time, in milliseconds, at which the phase started
+     * @return the current time, in milliseconds, at which the next phase starts
+     */
+    private long logPhase(String phase, long phaseStartMs) {
+        long nowMs = System.currentTimeMillis();
+        logger.info("event services start-up: {} took {} ms", phase, nowMs - phaseStartMs);
+        return nowMs;
     }
 
     /**
-     * Configures and starts the actor service.
+     * Configures and starts the actor service. The actors are configured in parallel, and
+     * then started as specified by the {@link ActorStartupMode}.
      *
      * @param configFileName configuration file name
      * @return the properties that were loaded from the configuration file
@@ -85,8 +289,8 @@ public class EventManagerServices {
             Map<String, Object> parameters = PropertyObjectUtils.toObject(props, ACTOR_SERVICE_PROPERTIES);
             PropertyObjectUtils.compressLists(parameters);
 
-            actorService.configure(parameters);
-            actorService.start();
+            actorStartup.configure(parameters);
+            actorStartup.start(detmActorStartupMode(props));
 
             return props;
 
@@ -102,9 +306,18 @@ public class EventManagerServices {
      * @return {@code true} if guards are enabled, {@code false} otherwise
      */
     public boolean isGuardEnabled() {
+        return isGuardConfigured() && isGuardAlive();
+    }
+
+    /**
+     * Determines if guards are configured and not disabled. Unlike
+     * {@link #isGuardEnabled()}, this does not require the guard actor to be running.
+     *
+     * @return {@code true} if guards are configured, {@code false} otherwise
+     */
+    public boolean isGuardConfigured() {
         try {
-            DecisionOperator guard = (DecisionOperator) getActorService().getActor(XacmlActor.NAME)
-                            .getOperator(GuardOperation.NAME);
+            DecisionOperator guard = getGuardOperator();
             if (!guard.isConfigured()) {
                 logger.warn("cannot check 'disabled' property in GUARD actor - assuming disabled");
                 return false;
@@ -116,7 +329,22 @@ public class EventManagerServices {
                 return false;
             }
 
-            if (!guard.isAlive()) {
+            return true;
+
+        } catch (RuntimeException e) {
+            logger.warn("cannot check 'disabled' property in GUARD actor - assuming disabled", e);
+            return false;
+        }
+    }
+
+    /**
+     * Determines if the guard actor is running.
+     *
+     * @return {@code true} if the guard actor is running, {@code false} otherwise
+     */
+    public boolean isGuardAlive() {
+        try {
+            if (!getGuardOperator().isAlive()) {
                 logger.warn("guard actor is not running");
                 return false;
             }
@@ -124,11 +352,142 @@ public class EventManagerServices {
             return true;
 
         } catch (RuntimeException e) {
-            logger.warn("cannot check 'disabled' property in GUARD actor - assuming disabled", e);
+            logger.warn("cannot check whether the GUARD actor is running", e);
             return false;
         }
     }
 
+    private DecisionOperator getGuardOperator() {
+        return (DecisionOperator) getActorService().getActor(XacmlActor.NAME).getOperator(GuardOperation.NAME);
+    }
+
+    /**
+     * Checks, once the guard actor has been started, that it is running. If the actors are
+     * started lazily, this starts the guard actor.
+     *
+     * @return a future that completes with {@code true} if the guard actor is running,
+     *         {@code false} otherwise
+     */
+    public CompletableFuture<Boolean> probeGuard() {
+        if (!guarded) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        final long startMs = System.currentTimeMillis();
+
+        return actorStartup.whenStarted(XacmlActor.NAME).handle((unused, thrown) -> {
+            boolean alive = isGuardAlive();
+            logger.info("guard probe completed in {} ms, running={}", System.currentTimeMillis() - startMs, alive);
+            return alive;
+        });
+    }
+
+    /**
+     * Checks, without blocking, whether the actors used by a control loop have been
+     * started, starting any that have not been started yet. Also checks the guard actor,
+     * if guards are configured. If some are still starting, the event is deferred: it is
+     * re-inserted into working memory once the actors have started or once
+     * {@link #actorReadyWaitMs} has elapsed, whichever comes first. When a deferred event
+     * is checked again and the actors are still not ready, it should be rejected.
+     *
+     * @param params control loop parameters
+     * @param event event to be deferred, if the actors are not ready
+     * @param workMem working memory into which the event is to be re-inserted
+     * @return the readiness of the loop's actors
+     */
+    public Readiness checkReady(ControlLoopParams params, VirtualControlLoopEvent event, WorkingMemory workMem) {
+        Set<String> actors = new TreeSet<>();
+        if (params.getActors() != null) {
+            actors.addAll(params.getActors());
+        }
+
+        if (guarded) {
+            actors.add(XacmlActor.NAME);
+        }
+
+        CompletableFuture<Void> started = getActorStartup().whenAllStarted(actors);
+        boolean wasDeferred = deferredEvents.remove(event);
+
+        if (started.isDone()) {
+            return Readiness.READY;
+        }
+
+        if (wasDeferred) {
+            logger.warn("actors {} have not started within {} ms", actors, actorReadyWaitMs);
+            return Readiness.NOT_READY;
+        }
+
+        deferredEvents.add(event);
+        started.completeOnTimeout(null, actorReadyWaitMs, TimeUnit.MILLISECONDS)
+                        .whenComplete((unused, thrown) -> resubmit(event, workMem));
+
+        return Readiness.DEFERRED;
+    }
+
+    /**
+     * Re-inserts a deferred event into working memory.
+     *
+     * @param event event to be re-inserted
+     * @param workMem working memory into which the event is to be inserted
+     */
+    private void resubmit(VirtualControlLoopEvent event, WorkingMemory workMem) {
+        if (shutdown.get()) {
+            deferredEvents.remove(event);
+            return;
+        }
+
+        try {
+            workMem.insert(event);
+
+        } catch (RuntimeException e) {
+            logger.warn("cannot re-insert deferred event {}", event.getRequestId(), e);
+            deferredEvents.remove(event);
+        }
+    }
+
+    /**
+     * Requests a lock on a target entity, via the policy engine's lock manager. The
+     * callback is invoked once the lock has been granted or denied.
+     *
+     * @param targetEntity entity to be locked
+     * @param ownerKey key of the lock's owner
+     * @param holdSec number of seconds for which the lock is to be held
+     * @param callback callback to be invoked when the lock is granted or denied
+     */
+    public void createLock(String targetEntity, String ownerKey, int holdSec, LockCallback callback) {
+        PolicyEngineConstants.getManager().createLock(targetEntity, ownerKey, holdSec, callback, false);
+    }
+
+    /**
+     * Makes the data manager used by the event managers. This is a "real" data manager if
+     * the {@link #guardProbe} finds the guard actor running, and a stub otherwise. If the
+     * guard actor is still starting, then the choice is deferred until the probe
+     * completes.
+     *
+     * @param props properties with which to configure the data manager
+     * @return a new data manager
+     */
+    public OperationHistoryDataManager makeGuardedDataManager(Properties props) {
+        if (!guardProbe.isDone()) {
+            logger.info("operation history data manager will be chosen once the guard actor has started");
+            return new OperationHistoryDataManagerDeferred(guardProbe, () -> makeDataManager(props));
+        }
+
+        if (!Boolean.TRUE.equals(guardProbe.join())) {
+            // guards are disabled - use a stub data manager
+            return new OperationHistoryDataManagerStub();
+        }
+
+        // guards are enabled - use a real data manager
+        try {
+            return makeDataManager(props);
+
+        } catch (RuntimeException e) {
+            shutdown();
+            throw e;
+        }
+    }
+
     /**
      * Makes and starts the data manager.
      *
@@ -152,8 +511,353 @@ public class EventManagerServices {
 
         } catch (RuntimeException e) {
             logger.error("cannot start operation history data manager");
-            actorService.stop();
             throw e;
         }
     }
+
+    /**
+     * Makes and starts the notification publisher.
+     *
+     * @param props properties with which to configure the publisher
+     * @return a new notification publisher
+     */
+    public NotificationPublisher makeNotificationPublisher(Properties props) {
+        try {
+            Map<String, Object> parameters = PropertyObjectUtils.toObject(props, NOTIFICATION_PUBLISHER_PROPERTIES);
+            NotificationPublisherParams params = Util.translate(NOTIFICATION_PUBLISHER_PROPERTIES, parameters,
+                            NotificationPublisherParams.class);
+            ValidationResult result = params.validate(NOTIFICATION_PUBLISHER_PROPERTIES);
+            if (!result.isValid()) {
+                throw new IllegalArgumentException("invalid notification publisher properties:\n"
+                                + result.getResult());
+            }
+
+            var publisher = new NotificationPublisher(params);
+            publisher.start();
+
+            return publisher;
+
+        } catch (RuntimeException e) {
+            logger.error("cannot start notification publisher");
+            shutdown();
+            throw e;
+        }
+    }
+
+    /**
+     * Makes the admission controller.
+     *
+     * @param props properties with which to configure the admission controller
+     * @return a new admission controller
+     */
+    public AdmissionController makeAdmissionController(Properties props) {
+        try {
+            Map<String, Object> parameters = PropertyObjectUtils.toObject(props, ADMISSION_PROPERTIES);
+            AdmissionControllerParams params = Util.translate(ADMISSION_PROPERTIES, parameters,
+                            AdmissionControllerParams.class);
+            ValidationResult result = params.validate(ADMISSION_PROPERTIES);
+            if (!result.isValid()) {
+                throw new IllegalArgumentException("invalid admission properties:\n" + result.getResult());
+            }
+
+            return new AdmissionController(params);
+
+        } catch (RuntimeException e) {
+            logger.error("cannot create admission controller");
+            shutdown();
+            throw e;
+        }
+    }
+
+    /**
+     * Makes the executor used to run operations in priority order.
+     *
+     * @param props properties from which to extract the number of threads
+     * @return a new executor, or {@code null} if the number of threads is missing, invalid,
+     *         or &lt;= 0
+     */
+    public PriorityExecutor makePriorityExecutor(Properties props) {
+        String text = props.getProperty(PRIORITY_EXECUTOR_THREADS_PROPERTY);
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+
+        int threads;
+        try {
+            threads = Integer.parseInt(text.strip());
+
+        } catch (NumberFormatException e) {
+            logger.warn("invalid {} property {}; using the common pool", PRIORITY_EXECUTOR_THREADS_PROPERTY, text, e);
+            return null;
+        }
+
+        if (threads <= 0) {
+            return null;
+        }
+
+        logger.info("operations will be run in priority order by {} threads", threads);
+        return new PriorityExecutor(threads);
+    }
+
+    /**
+     * Makes the scheduler used to delay the retries of failed operations.
+     *
+     * @param props properties with which to configure the backoff of each actor
+     * @return a new retry scheduler, or {@code null} if no actor has a backoff
+     */
+    public RetryScheduler makeRetryScheduler(Properties props) {
+        try {
+            Map<String, Object> parameters = PropertyObjectUtils.toObject(props, RETRY_BACKOFF_PROPERTIES);
+            if (parameters.isEmpty()) {
+                return null;
+            }
+
+            Map<String, RetryBackoffParams> actor2params = new HashMap<>();
+            for (Map.Entry<String, Object> ent : parameters.entrySet()) {
+                String name = RETRY_BACKOFF_PROPERTIES + "." + ent.getKey();
+                RetryBackoffParams params = Util.translate(name, ent.getValue(), RetryBackoffParams.class);
+                ValidationResult result = params.validate(name);
+                if (!result.isValid()) {
+                    throw new IllegalArgumentException("invalid retry backoff properties:\n" + result.getResult());
+                }
+
+                actor2params.put(ent.getKey(), params);
+            }
+
+            logger.info("retries will be delayed for actors {}", actor2params.keySet());
+            return new RetryScheduler(actor2params);
+
+        } catch (RuntimeException e) {
+            logger.error("cannot create retry scheduler");
+            shutdown();
+            throw e;
+        }
+    }
+
+    /**
+     * Makes the circuit breakers wrapped around the actors' operations.
+     *
+     * @param props properties with which to configure the breaker of each actor
+     * @return the new circuit breakers, or {@code null} if no actor has a breaker
+     */
+    public CircuitBreakerRegistry makeCircuitBreakers(Properties props) {
+        try {
+            Map<String, Object> parameters = PropertyObjectUtils.toObject(props, CIRCUIT_BREAKER_PROPERTIES);
+            if (parameters.isEmpty()) {
+                return null;
+            }
+
+            Map<String, CircuitBreakerParams> actor2params = new HashMap<>();
+            for (Map.Entry<String, Object> ent : parameters.entrySet()) {
+                String name = CIRCUIT_BREAKER_PROPERTIES + "." + ent.getKey();
+                CircuitBreakerParams params = Util.translate(name, ent.getValue(), CircuitBreakerParams.class);
+                ValidationResult result = params.validate(name);
+                if (!result.isValid()) {
+                    throw new IllegalArgumentException("invalid circuit breaker properties:\n" + result.getResult());
+                }
+
+                actor2params.put(ent.getKey(), params);
+            }
+
+            logger.info("circuit breakers enabled for actors {}", actor2params.keySet());
+            return new CircuitBreakerRegistry(actor2params);
+
+        } catch (RuntimeException e) {
+            logger.error("cannot create circuit breakers");
+            shutdown();
+            throw e;
+        }
+    }
+
+    /**
+     * Makes the bulkheads limiting the concurrency of the actors' operations.
+     *
+     * @param props properties with which to configure the bulkheads of each actor
+     * @return the new bulkheads
+     */
+    public BulkheadRegistry makeBulkheads(Properties props) {
+        try {
+            Map<String, Object> parameters = PropertyObjectUtils.toObject(props, BULKHEAD_PROPERTIES);
+
+            Map<String, BulkheadParams> actor2params = new HashMap<>();
+            for (Map.Entry<String, Object> ent : parameters.entrySet()) {
+                String name = BULKHEAD_PROPERTIES + "." + ent.getKey();
+                BulkheadParams params = Util.translate(name, ent.getValue(), BulkheadParams.class);
+                ValidationResult result = params.validate(name);
+                if (!result.isValid()) {
+                    throw new IllegalArgumentException("invalid bulkhead properties:\n" + result.getResult());
+                }
+
+                actor2params.put(ent.getKey(), params);
+            }
+
+            if (!actor2params.isEmpty()) {
+                logger.info("bulkheads enabled for actors {}", actor2params.keySet());
+            }
+
+            return new BulkheadRegistry(actor2params);
+
+        } catch (RuntimeException e) {
+            logger.error("cannot create bulkheads");
+            shutdown();
+            throw e;
+        }
+    }
+
+    /**
+     * Determines when the actors are to be started.
+     *
+     * @param props properties from which to extract the startup mode
+     * @return the startup mode, or {@link ActorStartupMode#EAGER}, if the property is
+     *         missing or invalid
+     */
+    public ActorStartupMode detmActorStartupMode(Properties props) {
+        return detmEnum(props, ACTOR_STARTUP_MODE_PROPERTY, ActorStartupMode.class, ActorStartupMode.EAGER);
+    }
+
+    /**
+     * Determines the maximum time to wait for a control loop's actors to start.
+     *
+     * @param props properties from which to extract the value
+     * @return the maximum time, in milliseconds, or {@link #DEFAULT_ACTOR_READY_WAIT_MS},
+     *         if the property is missing or invalid
+     */
+    public long detmActorReadyWaitMs(Properties props) {
+        String text = props.getProperty(ACTOR_READY_WAIT_MS_PROPERTY);
+        if (text == null || text.isBlank()) {
+            return DEFAULT_ACTOR_READY_WAIT_MS;
+        }
+
+        try {
+            return Long.parseLong(text.strip());
+
+        } catch (NumberFormatException e) {
+            logger.warn("invalid {} property {}; using {}", ACTOR_READY_WAIT_MS_PROPERTY, text,
+                            DEFAULT_ACTOR_READY_WAIT_MS, e);
+            return DEFAULT_ACTOR_READY_WAIT_MS;
+        }
+    }
+
+    /**
+     * Determines the default notification level.
+     *
+     * @param props properties from which to extract the notification level
+     * @return the notification level, or {@link NotificationLevel#FULL}, if the property
+     *         is missing or invalid
+     */
+    public NotificationLevel detmNotificationLevel(Properties props) {
+        return detmEnum(props, NOTIFICATION_LEVEL_PROPERTY, NotificationLevel.class, NotificationLevel.FULL);
+    }
+
+    /**
+     * Determines the value of an enumerated property.
+     *
+     * @param props properties from which to extract the value
+     * @param propName name of the property
+     * @param clazz enumeration class
+     * @param defaultValue value to return if the property is missing or invalid
+     * @return the property's value, or the default value, if the property is missing or
+     *         invalid
+     */
+    private <E extends Enum<E>> E detmEnum(Properties props, String propName, Class<E> clazz, E defaultValue) {
+        String text = props.getProperty(propName);
+        E value = ControlLoopUtils.parseEnum(clazz, text);
+
+        if (value != null) {
+            return value;
+        }
+
+        if (text != null && !text.isBlank()) {
+            logger.warn("invalid {} property {}; using {}", propName, text, defaultValue);
+        }
+
+        return defaultValue;
+    }
+
+    /**
+     * Determines what is done with onsets whose target is already being remediated.
+     *
+     * @param props properties from which to extract the coalescing mode
+     * @return the coalescing mode, or {@link OnsetCoalescing#NONE}, if the property is
+     *         missing or invalid
+     */
+    public OnsetCoalescing detmOnsetCoalescing(Properties props) {
+        return detmEnum(props, ONSET_COALESCING_PROPERTY, OnsetCoalescing.class, OnsetCoalescing.NONE);
+    }
+
+    /**
+     * Determines the default abatement mode.
+     *
+     * @param props properties from which to extract the abatement mode
+     * @return the abatement mode, or {@link AbatementMode#IGNORE}, if the property is
+     *         missing or invalid
+     */
+    public AbatementMode detmAbatementMode(Properties props) {
+        return detmEnum(props, ABATEMENT_MODE_PROPERTY, AbatementMode.class, AbatementMode.IGNORE);
+    }
+
+    /**
+     * Determines the maximum number of operations to retain in an event manager's
+     * history.
+     *
+     * @param props properties from which to extract the value
+     * @return the maximum number of operations, or {@link #DEFAULT_HISTORY_MAX_ENTRIES},
+     *         if the property is missing or invalid
+     */
+    public int detmHistoryMaxEntries(Properties props) {
+        String text = props.getProperty(HISTORY_MAX_ENTRIES_PROPERTY);
+        if (text == null || text.isBlank()) {
+            return DEFAULT_HISTORY_MAX_ENTRIES;
+        }
+
+        try {
+            return Integer.parseInt(text.strip());
+
+        } catch (NumberFormatException e) {
+            logger.warn("invalid {} property {}; using {}", HISTORY_MAX_ENTRIES_PROPERTY, text,
+                            DEFAULT_HISTORY_MAX_ENTRIES, e);
+            return DEFAULT_HISTORY_MAX_ENTRIES;
+        }
+    }
+
+    /**
+     * Determines the types of the policies that are to be executed via the fast path.
+     *
+     * @param props properties from which to extract the policy types
+     * @return the policy types, or an empty set, if the property is missing
+     */
+    public Set<String> detmFastPathPolicyTypes(Properties props) {
+        String text = props.getProperty(FAST_PATH_POLICY_TYPES_PROPERTY);
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+
+        Set<String> types = Arrays.stream(text.split(",")).map(String::strip).filter(type -> !type.isEmpty())
+                        .collect(Collectors.toUnmodifiableSet());
+        logger.info("fast path enabled for policy types {}", types);
+
+        return types;
+    }
+
+    /**
+     * Readiness of a control loop's actors, as determined by {@link #checkReady}.
+     */
+    public enum Readiness {
+        /**
+         * The actors have been started; the event may be processed.
+         */
+        READY,
+
+        /**
+         * The actors are still starting; the event has been deferred and will be
+         * re-inserted into working memory later.
+         */
+        DEFERRED,
+
+        /**
+         * The event was already deferred and the actors are still not ready; the event
+         * should be rejected.
+         */
+        NOT_READY
+    }
 }
@@ -0,0 +1,69 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import org.onap.policy.controlloop.ControlLoopNotificationType;
+
+/**
+ * Determines which control loop notifications are published to the "policy-cl-mgt"
+ * topic. Notifications that mark the start or end of a transaction (i.e., ACTIVE,
+ * REJECTED, and FINAL_xxx) are always published, regardless of the level, as they are
+ * required by the transaction metrics feature and by consumers tracking the state of a
+ * control loop.
+ */
+public enum NotificationLevel {
+
+    /**
+     * Publishes all notifications.
+     */
+    FULL,
+
+    /**
+     * Publishes operation outcomes, but suppresses intermediate OPERATION notifications
+     * (e.g., guard queries and "operation started").
+     */
+    OPERATIONS,
+
+    /**
+     * Publishes only the notifications marking the start and end of a transaction.
+     */
+    FINAL_ONLY;
+
+    /**
+     * Determines if a notification type is published at this level.
+     *
+     * @param type notification type of interest
+     * @return {@code true} if notifications of the given type are to be published,
+     *         {@code false} otherwise
+     */
+    public boolean isEnabled(ControlLoopNotificationType type) {
+        switch (type) {
+            case OPERATION:
+                return (this == FULL);
+
+            case OPERATION_SUCCESS, OPERATION_FAILURE:
+                return (this != FINAL_ONLY);
+
+            default:
+                return true;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.onap.policy.common.parameters.ValidationResult;
+import org.onap.policy.drools.system.PolicyEngine;
+import org.onap.policy.drools.system.PolicyEngineConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes notifications to topic sinks using background threads, so that a slow sink
+ * does not stall the rules thread. Each notification is assigned to a thread based on its
+ * key (typically the request ID), thus notifications having the same key are published
+ * in the order in which they were generated. Notifications are published via the
+ * {@link PolicyEngine}, thus controller features still see each of them.
+ */
+public class NotificationPublisher {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationPublisher.class);
+
+    /**
+     * Maximum time, in milliseconds, that a publisher thread waits for a notification
+     * before re-checking {@link #stopped}.
+     */
+    private static final long POLL_WAIT_MS = 100;
+
+    // copied from the parameters
+    private final boolean async;
+    private final long offerTimeoutMs;
+
+    private final Lane[] lanes;
+
+    /**
+     * Set to {@code true} once the publisher threads have been started.
+     */
+    private volatile boolean started = false;
+
+    /**
+     * Set to {@code true} to stop the publisher threads.
+     */
+    private volatile boolean stopped = false;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder latencySumMs = new LongAdder();
+    private final AtomicLong latencyMaxMs = new AtomicLong();
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param params publisher parameters
+     */
+    public NotificationPublisher(NotificationPublisherParams params) {
+        ValidationResult result = params.validate("notification-publisher-properties");
+        if (!result.isValid()) {
+            throw new IllegalArgumentException(result.getResult());
+        }
+
+        this.async = params.isAsync();
+        this.offerTimeoutMs = params.getOfferTimeoutMs();
+
+        this.lanes = new Lane[params.getThreads()];
+        for (var index = 0; index < lanes.length; ++index) {
+            lanes[index] = new Lane(params.getMaxQueueLength());
+        }
+    }
+
+    /**
+     * Starts the publisher threads, if publishing asynchronously.
+     */
+    public synchronized void start() {
+        if (!async || started || stopped) {
+            return;
+        }
+
+        logger.info("start {} notification publisher threads", lanes.length);
+
+        for (var index = 0; index < lanes.length; ++index) {
+            Thread thread = makeThread(lanes[index]::run, "notification-publisher-" + index);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        started = true;
+    }
+
+    /**
+     * Stops the publisher threads. Notifications already queued are still published.
+     * Until a thread has drained its queue, notifications for that thread continue to be
+     * queued behind the others; thereafter, they are published synchronously. Thus a
+     * request's notifications are still published in order.
+     */
+    public synchronized void stop() {
+        logger.info("requesting stop of notification publisher threads");
+        stopped = true;
+    }
+
+    /**
+     * Delivers a notification to a topic sink.
+     *
+     * @param sinkName name of the topic sink
+     * @param key key used to select the publisher thread; notifications having the same
+     *        key are published in order
+     * @param notification notification to be published
+     */
+    public void deliver(String sinkName, Object key, Object notification) {
+        if (!started) {
+            // not publishing asynchronously
+            publish(sinkName, notification);
+            return;
+        }
+
+        var lane = lanes[Math.floorMod(Objects.hashCode(key), lanes.length)];
+
+        if (lane.closed) {
+            // the lane has been drained - publish directly, after anything still queued
+            lane.drain();
+            publish(sinkName, notification);
+            return;
+        }
+
+        // the lane is not locked while waiting, so that other deliveries aren't held up
+        try {
+            if (!lane.queue.offer(new Delivery(sinkName, notification, System.currentTimeMillis()), offerTimeoutMs,
+                            TimeUnit.MILLISECONDS)) {
+                dropped.increment();
+                logger.warn("too many notifications waiting to be published to {}, discarding {}", sinkName,
+                                notification);
+                return;
+            }
+
+        } catch (InterruptedException e) {
+            logger.warn("interrupted while queuing notification for {}", sinkName);
+            Thread.currentThread().interrupt();
+            dropped.increment();
+            return;
+        }
+
+        /*
+         * The lane is closed before its thread drains it for the last time. Thus, if the
+         * lane is still open, the thread will publish the notification. Otherwise, it may
+         * have been queued after the final drain, so it's drained here.
+         */
+        if (lane.closed) {
+            lane.drain();
+        }
+    }
+
+    /**
+     * Publishes a notification.
+     *
+     * @param sinkName name of the topic sink
+     * @param notification notification to be published
+     * @return {@code true} if the notification was published, {@code false} otherwise
+     */
+    private boolean publish(String sinkName, Object notification) {
+        try {
+            getPolicyEngineManager().deliver(sinkName, notification);
+            published.increment();
+            return true;
+
+        } catch (RuntimeException e) {
+            failed.increment();
+            logger.warn("exception publishing to {}: {}", sinkName, notification, e);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the number of notifications waiting to be published.
+     *
+     * @return the number of notifications waiting to be published
+     */
+    public int getQueueLength() {
+        var length = 0;
+        for (Lane lane : lanes) {
+            length += lane.queue.size();
+        }
+
+        return length;
+    }
+
+    /**
+     * Gets a snapshot of the metrics.
+     *
+     * @return a snapshot of the metrics
+     */
+    public Metrics getMetrics() {
+        long npublished = published.sum();
+
+        return Metrics.builder()
+            .async(started && !stopped)
+            .threads(lanes.length)
+            .queueLength(getQueueLength())
+            .published(npublished)
+            .failed(failed.sum())
+            .dropped(dropped.sum())
+            .averageLatencyMs(npublished == 0 ? 0 : latencySumMs.sum() / npublished)
+            .maxLatencyMs(latencyMaxMs.get())
+            .build();
+    }
+
+    /**
+     * Snapshot of the publisher metrics. Latencies are measured from the time a
+     * notification is queued until it has been published.
+     */
+    @Getter
+    @Builder
+    public static class Metrics {
+        private final boolean async;
+        private final int threads;
+        private final int queueLength;
+        private final long published;
+        private final long failed;
+        private final long dropped;
+        private final long averageLatencyMs;
+        private final long maxLatencyMs;
+    }
+
+    /**
+     * Notification waiting to be published.
+     */
+    @AllArgsConstructor
+    private static class Delivery {
+        private final String sinkName;
+        private final Object notification;
+        private final long enqueuedMs;
+    }
+
+    /**
+     * Queue of notifications, drained by a single publisher thread.
+     */
+    private class Lane {
+        private final BlockingQueue<Delivery> queue;
+
+        /**
+         * Set to {@code true} once {@link #stop()} has been invoked and the publisher thread
+         * has stopped polling the queue. Thereafter, the queue is drained by the threads
+         * delivering notifications.
+         */
+        private volatile boolean closed = false;
+
+        Lane(int maxQueueLength) {
+            this.queue = new ArrayBlockingQueue<>(maxQueueLength);
+        }
+
+        /**
+         * Publishes notifications until {@link #stop()} is invoked and the queue is
+         * empty, then closes the lane and publishes anything queued in the meantime.
+         */
+        private void run() {
+            try {
+                for (;;) {
+                    Delivery delivery = queue.poll(POLL_WAIT_MS, TimeUnit.MILLISECONDS);
+                    if (delivery != null) {
+                        publish(delivery);
+
+                    } else if (stopped) {
+                        break;
+                    }
+                }
+
+            } catch (InterruptedException e) {
+                logger.warn("notification publisher thread interrupted");
+                Thread.currentThread().interrupt();
+            }
+
+            closed = true;
+            drain();
+        }
+
+        /**
+         * Publishes anything still queued. The lane is locked so that concurrent drains
+         * don't publish a request's notifications out of order.
+         */
+        private synchronized void drain() {
+            for (Delivery delivery = queue.poll(); delivery != null; delivery = queue.poll()) {
+                publish(delivery);
+            }
+        }
+
+        private void publish(Delivery delivery) {
+            if (NotificationPublisher.this.publish(delivery.sinkName, delivery.notification)) {
+                long latency = System.currentTimeMillis() - delivery.enqueuedMs;
+                latencySumMs.add(latency);
+                latencyMaxMs.accumulateAndGet(latency, Math::max);
+            }
+        }
+    }
+
+    // the following may be overridden by junit tests
+
+    protected PolicyEngine getPolicyEngineManager() {
+        return PolicyEngineConstants.getManager();
+    }
+
+    protected Thread makeThread(Runnable command, String name) {
+        return new Thread(command, name);
+    }
+}
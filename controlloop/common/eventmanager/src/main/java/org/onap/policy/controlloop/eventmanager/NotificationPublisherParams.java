@@ -0,0 +1,81 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.onap.policy.common.parameters.BeanValidator;
+import org.onap.policy.common.parameters.ValidationResult;
+import org.onap.policy.common.parameters.annotations.Min;
+
+/**
+ * Parameters for a Notification Publisher.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationPublisherParams {
+
+    /**
+     * {@code True} if notifications are to be published by background threads,
+     * {@code false} if they are to be published by the thread that generates them, as
+     * they always were before the publisher was introduced.
+     */
+    @Builder.Default
+    private boolean async = false;
+
+    /**
+     * Number of publisher threads. Notifications for a given request are always published
+     * by the same thread, thus they are published in order.
+     */
+    @Min(1)
+    @Builder.Default
+    private int threads = 2;
+
+    /**
+     * Maximum number of notifications that can be waiting for each publisher thread.
+     */
+    @Min(1)
+    @Builder.Default
+    private int maxQueueLength = 10000;
+
+    /**
+     * Maximum time, in milliseconds, to wait for room in a full queue before the
+     * notification is discarded.
+     */
+    @Min(0)
+    @Builder.Default
+    private long offerTimeoutMs = 1000;
+
+    /**
+     * Validates the parameters.
+     *
+     * @param resultName name of the result
+     *
+     * @return the validation result
+     */
+    public ValidationResult validate(String resultName) {
+        return new BeanValidator().validateTop(resultName, this);
+    }
+}
@@ -0,0 +1,43 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+/**
+ * Determines what is done with an onset whose target is already being remediated, for
+ * the same control loop, by an event manager created for a different request.
+ */
+public enum OnsetCoalescing {
+
+    /**
+     * Creates a new event manager for the onset, as usual.
+     */
+    NONE,
+
+    /**
+     * Attaches the onset to the existing event manager, as a subsequent onset.
+     */
+    ATTACH,
+
+    /**
+     * Rejects the onset, without creating an event manager for it.
+     */
+    REJECT
+}
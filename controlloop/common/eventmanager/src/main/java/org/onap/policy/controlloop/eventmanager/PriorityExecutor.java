@@ -0,0 +1,196 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Executor, shared by all event managers, that runs the tasks of high-priority control
+ * loops ahead of those of low-priority control loops. Tasks having the same priority are
+ * run in the order in which they were submitted.
+ */
+public class PriorityExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Used to assign sequence numbers to tasks, so that tasks having the same priority
+     * are run in FIFO order.
+     */
+    private final AtomicLong seqno = new AtomicLong();
+
+    /**
+     * Statistics for each priority, sorted by descending priority.
+     */
+    private final Map<Integer, Stats> priority2stats = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param threads number of threads with which to execute tasks
+     */
+    public PriorityExecutor(int threads) {
+        var threadNum = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                        new PriorityBlockingQueue<>(),
+                        command -> makeThread(command, "priority-executor-" + threadNum.getAndIncrement()));
+    }
+
+    /**
+     * Gets an executor that runs tasks at the given priority.
+     *
+     * @param priority priority at which the tasks are to be run
+     * @return an executor for the given priority
+     */
+    public Executor forPriority(int priority) {
+        return command -> execute(priority, command);
+    }
+
+    /**
+     * Runs a task at the given priority.
+     *
+     * @param priority priority at which the task is to be run
+     * @param command task to be run
+     */
+    public void execute(int priority, Runnable command) {
+        var stats = priority2stats.computeIfAbsent(priority, key -> new Stats());
+        stats.queued.incrementAndGet();
+
+        executor.execute(new Task(priority, seqno.getAndIncrement(), currentTimeMillis(), stats, command));
+    }
+
+    /**
+     * Stops the executor, discarding any tasks that have not been started yet.
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Gets the metrics, one entry per priority, highest priority first.
+     *
+     * @return a snapshot of the metrics
+     */
+    public List<Metrics> getMetrics() {
+        return priority2stats.entrySet().stream().map(ent -> ent.getValue().toMetrics(ent.getKey())).toList();
+    }
+
+    // the following may be overridden by junit tests
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    protected Thread makeThread(Runnable command, String name) {
+        var thread = new Thread(command, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Snapshot of the metrics for a single priority. Waiting times are measured from the
+     * time a task is submitted until the time it is started.
+     */
+    @Getter
+    @Builder
+    public static class Metrics {
+        private final int priority;
+        private final int queued;
+        private final long executed;
+        private final long averageWaitMs;
+        private final long maxWaitMs;
+    }
+
+    /**
+     * Statistics for a single priority.
+     */
+    private static class Stats {
+        private final AtomicInteger queued = new AtomicInteger();
+        private final LongAdder executed = new LongAdder();
+        private final LongAdder totalWaitMs = new LongAdder();
+        private final AtomicLong maxWaitMs = new AtomicLong();
+
+        private void record(long waitMs) {
+            queued.decrementAndGet();
+            executed.increment();
+            totalWaitMs.add(waitMs);
+            maxWaitMs.accumulateAndGet(waitMs, Math::max);
+        }
+
+        private Metrics toMetrics(int priority) {
+            long count = executed.sum();
+
+            return Metrics.builder()
+                .priority(priority)
+                .queued(queued.get())
+                .executed(count)
+                .averageWaitMs(count == 0 ? 0 : totalWaitMs.sum() / count)
+                .maxWaitMs(maxWaitMs.get())
+                .build();
+        }
+    }
+
+    /**
+     * Task waiting to be run. Tasks are ordered by descending priority, and then by
+     * ascending sequence number.
+     */
+    private class Task implements Runnable, Comparable<Task> {
+        private final int priority;
+        private final long seqno;
+        private final long submittedMs;
+        private final Stats stats;
+        private final Runnable command;
+
+        private Task(int priority, long seqno, long submittedMs, Stats stats, Runnable command) {
+            this.priority = priority;
+            this.seqno = seqno;
+            this.submittedMs = submittedMs;
+            this.stats = stats;
+            this.command = command;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            int diff = Integer.compare(other.priority, priority);
+            return (diff != 0 ? diff : Long.compare(seqno, other.seqno));
+        }
+
+        @Override
+        public void run() {
+            stats.record(Math.max(0, currentTimeMillis() - submittedMs));
+            command.run();
+        }
+    }
+}
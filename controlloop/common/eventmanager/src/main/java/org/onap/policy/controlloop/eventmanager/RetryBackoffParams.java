@@ -0,0 +1,73 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.onap.policy.common.parameters.BeanValidator;
+import org.onap.policy.common.parameters.ValidationResult;
+import org.onap.policy.common.parameters.annotations.Min;
+
+/**
+ * Parameters for the backoff applied, by the {@link RetryScheduler}, before an actor's
+ * operation is retried. The n-th retry is delayed by a random amount of time between zero
+ * and {@code min(maxDelayMs, initialDelayMs * multiplier^(n-1))}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RetryBackoffParams {
+
+    /**
+     * Upper bound, in milliseconds, of the delay before the first retry.
+     */
+    @Min(1)
+    @Builder.Default
+    private long initialDelayMs = 1000;
+
+    /**
+     * Upper bound, in milliseconds, of the delay before any retry.
+     */
+    @Min(1)
+    @Builder.Default
+    private long maxDelayMs = 30000;
+
+    /**
+     * Factor by which the upper bound grows with each retry.
+     */
+    @Min(1)
+    @Builder.Default
+    private double multiplier = 2;
+
+    /**
+     * Validates the parameters.
+     *
+     * @param resultName name of the result
+     *
+     * @return the validation result
+     */
+    public ValidationResult validate(String resultName) {
+        return new BeanValidator().validateTop(resultName, this);
+    }
+}
@@ -0,0 +1,226 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Schedules the retries of failed operations, delaying each by an exponential backoff
+ * with "full jitter", so that control loops whose operations are failing, because an
+ * actor is overloaded, do not all retry at once. The delays are run by a single, shared
+ * scheduler thread, which merely hands each retry off to its event manager's executor.
+ */
+public class RetryScheduler {
+
+    /**
+     * Upper bounds, in milliseconds, of the buckets into which the delays are counted.
+     * The last bucket has no upper bound.
+     */
+    private static final long[] BUCKET_BOUNDS_MS = {100, 1000, 10000, 60000};
+    private static final String[] BUCKET_NAMES = {"<=100ms", "<=1s", "<=10s", "<=60s", ">60s"};
+
+    /**
+     * Backoff parameters, by actor name.
+     */
+    private final Map<String, RetryBackoffParams> actor2params;
+
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * Statistics for each actor.
+     */
+    private final Map<String, Stats> actor2stats = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param actor2params backoff parameters, by actor name
+     */
+    public RetryScheduler(Map<String, RetryBackoffParams> actor2params) {
+        this.actor2params = Map.copyOf(actor2params);
+
+        scheduler = new ScheduledThreadPoolExecutor(1, command -> makeThread(command, "retry-scheduler"));
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Determines if retries of the given actor's operations are to be delayed.
+     *
+     * @param actor actor name
+     * @return {@code true} if retries of the actor's operations are to be delayed,
+     *         {@code false} if they are to be retried immediately, by the operations
+     *         themselves
+     */
+    public boolean isEnabled(String actor) {
+        return actor2params.containsKey(actor);
+    }
+
+    /**
+     * Computes the delay before a retry of an actor's operation.
+     *
+     * @param actor actor name
+     * @param retry retry number, starting at 1
+     * @param remainingMs time remaining, in milliseconds, before the control loop times
+     *        out, by which the delay is capped
+     * @return the delay, in milliseconds
+     */
+    public long getDelayMs(String actor, int retry, long remainingMs) {
+        var params = actor2params.get(actor);
+        if (params == null) {
+            return 0;
+        }
+
+        double bound = params.getInitialDelayMs() * Math.pow(params.getMultiplier(), Math.max(0, retry - 1));
+        long maxDelayMs = (long) Math.min(params.getMaxDelayMs(), bound);
+
+        return Math.max(0, Math.min(nextRandom(maxDelayMs + 1), remainingMs));
+    }
+
+    /**
+     * Schedules a retry.
+     *
+     * @param actor actor name
+     * @param delayMs delay, in milliseconds, before the retry is run
+     * @param retry task that performs the retry
+     * @return a future that can be used to cancel the retry
+     */
+    public ScheduledFuture<?> schedule(String actor, long delayMs, Runnable retry) {
+        actor2stats.computeIfAbsent(actor, key -> new Stats()).record(delayMs);
+        return scheduler.schedule(retry, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records the fact that an actor's operation failed after exhausting its retries.
+     *
+     * @param actor actor name
+     */
+    public void exhausted(String actor) {
+        actor2stats.computeIfAbsent(actor, key -> new Stats()).exhausted.increment();
+    }
+
+    /**
+     * Stops the scheduler, discarding any retries that have not been run yet.
+     */
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Gets the metrics, one entry per actor, sorted by actor name.
+     *
+     * @return a snapshot of the metrics
+     */
+    public List<Metrics> getMetrics() {
+        return new TreeMap<>(actor2stats).entrySet().stream().map(ent -> ent.getValue().toMetrics(ent.getKey()))
+                        .toList();
+    }
+
+    // the following may be overridden by junit tests
+
+    protected long nextRandom(long bound) {
+        return ThreadLocalRandom.current().nextLong(bound);
+    }
+
+    protected Thread makeThread(Runnable command, String name) {
+        var thread = new Thread(command, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Snapshot of the metrics for a single actor.
+     */
+    @Getter
+    @Builder
+    public static class Metrics {
+        private final String actor;
+        private final long retries;
+        private final long exhausted;
+        private final long averageDelayMs;
+        private final long maxDelayMs;
+
+        /**
+         * Number of retries whose delay fell within each range.
+         */
+        private final Map<String, Long> delayDistribution;
+    }
+
+    /**
+     * Statistics for a single actor.
+     */
+    private static class Stats {
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+        private final LongAdder totalDelayMs = new LongAdder();
+        private final AtomicLong maxDelayMs = new AtomicLong();
+        private final LongAdder[] buckets = new LongAdder[BUCKET_NAMES.length];
+
+        private Stats() {
+            for (var index = 0; index < buckets.length; ++index) {
+                buckets[index] = new LongAdder();
+            }
+        }
+
+        private void record(long delayMs) {
+            retries.increment();
+            totalDelayMs.add(delayMs);
+            maxDelayMs.accumulateAndGet(delayMs, Math::max);
+
+            var index = 0;
+            while (index < BUCKET_BOUNDS_MS.length && delayMs > BUCKET_BOUNDS_MS[index]) {
+                ++index;
+            }
+
+            buckets[index].increment();
+        }
+
+        private Metrics toMetrics(String actor) {
+            long count = retries.sum();
+
+            Map<String, Long> distribution = new LinkedHashMap<>();
+            for (var index = 0; index < buckets.length; ++index) {
+                distribution.put(BUCKET_NAMES[index], buckets[index].sum());
+            }
+
+            return Metrics.builder()
+                .actor(actor)
+                .retries(count)
+                .exhausted(exhausted.sum())
+                .averageDelayMs(count == 0 ? 0 : totalDelayMs.sum() / count)
+                .maxDelayMs(maxDelayMs.get())
+                .delayDistribution(distribution)
+                .build();
+        }
+    }
+}
@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,12 +26,16 @@ import java.util.LinkedHashMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.Getter;
 import lombok.NonNull;
+import lombok.Setter;
 import org.onap.policy.controlloop.actorserviceprovider.Operation;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
 import org.onap.policy.controlloop.actorserviceprovider.OperationProperties;
+import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
 import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
 import org.onap.policy.controlloop.actorserviceprovider.pipeline.PipelineUtil;
 import org.slf4j.Logger;
@@ -44,6 +49,7 @@ import org.slf4j.LoggerFactory;
  */
 public class Step {
     private static final Logger logger = LoggerFactory.getLogger(Step.class);
+    private static final String QUEUE_TIMEOUT_MESSAGE = "timed out waiting in the bulkhead queue";
 
     @Getter
     protected ControlLoopOperationParams params;
@@ -80,6 +86,37 @@ public class Step {
      */
     protected CompletableFuture<OperationOutcome> future;
 
+    /**
+     * {@code True} if the step has been canceled, in which case it may not be restarted.
+     */
+    private volatile boolean canceled = false;
+
+    /**
+     * Circuit breaker wrapped around the operation, or {@code null} if there is none.
+     */
+    @Getter
+    @Setter
+    private CircuitBreaker circuitBreaker;
+
+    /**
+     * Permit obtained from the circuit breaker for the current attempt, or {@code null}.
+     */
+    private volatile CircuitBreaker.Permit permit;
+
+    /**
+     * Bulkhead limiting the concurrency of the operation, or {@code null} if there is
+     * none.
+     */
+    @Getter
+    @Setter
+    private Bulkhead bulkhead;
+
+    /**
+     * Task that will launch the operation, while it is waiting in the bulkhead's queue,
+     * or {@code null}.
+     */
+    private Runnable queuedTask;
+
 
     /**
      * Constructs the object. This is used when constructing the step for the policy's
@@ -139,24 +176,114 @@ public class Step {
     }
 
     /**
-     * Starts the operation.
+     * Starts the operation. If the operation's bulkhead is at its limit, the operation
+     * waits in the bulkhead's queue, and is launched once there is room. If the queue is
+     * full, or if the actor's circuit breaker is open, the operation is not started;
+     * instead, an exception outcome is reported immediately.
      *
      * @param remainingMs time remaining, in milliseconds, for the control loop
      * @return {@code true} if started, {@code false} if the step is no longer necessary
      *         (i.e., because it was previously completed)
      */
-    public boolean start(long remainingMs) {
+    public synchronized boolean start(long remainingMs) {
         if (!isInitialized()) {
             throw new IllegalStateException("step has not been initialized");
         }
 
-        if (future != null) {
+        if (future != null || queuedTask != null) {
             throw new IllegalStateException("step is already running");
         }
 
+        Bulkhead current = bulkhead;
+        if (current == null) {
+            launch(null, remainingMs);
+            return true;
+        }
+
+        long queuedMs = System.currentTimeMillis();
+        Runnable task = () -> params.getExecutor().execute(
+            () -> launchQueued(current, remainingMs - (System.currentTimeMillis() - queuedMs)));
+
+        switch (current.acquire(task)) {
+            case ADMITTED:
+                launch(current, remainingMs);
+                break;
+
+            case QUEUED:
+                logger.info("{}.{}: queued by bulkhead for {}", params.getActor(), params.getOperation(),
+                                params.getRequestId());
+                queuedTask = task;
+                CompletableFuture.runAsync(() -> expireQueued(current, task),
+                                CompletableFuture.delayedExecutor(remainingMs, TimeUnit.MILLISECONDS));
+                break;
+
+            case REJECTED:
+            default:
+                rejectOperation(Bulkhead.FULL_MESSAGE);
+                break;
+        }
+
+        return true;
+    }
+
+    /**
+     * Launches the operation, once it has left the bulkhead's queue.
+     *
+     * @param current bulkhead in whose queue the operation was waiting
+     * @param remainingMs time remaining, in milliseconds, for the control loop
+     */
+    private synchronized void launchQueued(Bulkhead current, long remainingMs) {
+        queuedTask = null;
+
+        if (canceled) {
+            current.release();
+
+        } else if (remainingMs <= 0) {
+            current.release();
+            reportTimeout(new TimeoutException(QUEUE_TIMEOUT_MESSAGE));
+
+        } else {
+            launch(current, remainingMs);
+        }
+    }
+
+    /**
+     * Reports a control loop timeout if the operation is still waiting in the bulkhead's
+     * queue when the control loop times out.
+     *
+     * @param current bulkhead in whose queue the operation is waiting
+     * @param task task that was queued
+     */
+    private synchronized void expireQueued(Bulkhead current, Runnable task) {
+        if (queuedTask == task && current.remove(task)) {
+            queuedTask = null;
+            reportTimeout(new TimeoutException(QUEUE_TIMEOUT_MESSAGE));
+        }
+    }
+
+    /**
+     * Launches the operation, unless the actor's circuit breaker is open.
+     *
+     * @param current bulkhead through which the operation was admitted, or {@code null}
+     * @param remainingMs time remaining, in milliseconds, for the control loop
+     */
+    private void launch(Bulkhead current, long remainingMs) {
+        Runnable release = makeReleaser(current);
+
+        CircuitBreaker breaker = circuitBreaker;
+        permit = (breaker == null ? null : breaker.tryAcquire());
+        if (breaker != null && permit == null) {
+            // fail fast rather than waiting for the actor to time out
+            release.run();
+            rejectOperation(CircuitBreaker.OPEN_MESSAGE);
+            return;
+        }
+
         try {
             initStartTime();
             future = operation.start();
+            future.whenComplete((outcome, thrown) -> release.run());
+            trackOperation();
 
             // handle any exceptions that may be thrown, set timeout, and handle timeout
 
@@ -167,10 +294,94 @@ public class Step {
             // @formatter:on
 
         } catch (RuntimeException e) {
+            release.run();
+            if (permit != null) {
+                permit.failure();
+            }
             handleException(e);
         }
+    }
 
-        return true;
+    /**
+     * Makes a task that releases the operation from its bulkhead, at most once.
+     *
+     * @param current bulkhead through which the operation was admitted, or {@code null}
+     * @return a new task
+     */
+    private static Runnable makeReleaser(Bulkhead current) {
+        if (current == null) {
+            return () -> { };
+        }
+
+        var released = new AtomicBoolean(false);
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                current.release();
+            }
+        };
+    }
+
+    /**
+     * Restarts the operation, after an attempt has failed. Used when the retries are
+     * scheduled by the event manager rather than by the operation itself.
+     *
+     * @param remainingMs time remaining, in milliseconds, for the control loop
+     * @return {@code true} if restarted, {@code false} if the step has been canceled
+     */
+    public synchronized boolean restart(long remainingMs) {
+        if (canceled) {
+            return false;
+        }
+
+        future = null;
+        return start(remainingMs);
+    }
+
+    /**
+     * Reports the outcome of the operation to the circuit breaker, when the operation
+     * completes. Only errors and timeouts count against the actor; other failures (e.g.,
+     * a "Deny" from guard) indicate that the actor is working.
+     */
+    private void trackOperation() {
+        CircuitBreaker.Permit current = permit;
+        if (current == null) {
+            return;
+        }
+
+        future.whenComplete((outcome, thrown) -> {
+            if (thrown instanceof CancellationException
+                            || (thrown != null && thrown.getCause() instanceof CancellationException)) {
+                current.release();
+
+            } else if (thrown != null || outcome.getResult() == OperationResult.FAILURE_EXCEPTION
+                            || outcome.getResult() == OperationResult.FAILURE_TIMEOUT) {
+                current.failure();
+
+            } else {
+                current.success();
+            }
+        });
+    }
+
+    /**
+     * Completes the step with an exception outcome, without starting the operation,
+     * because the actor's circuit breaker is open or the operation's bulkhead is full. The
+     * outcome is reported via the executor, as it would be had the operation run, so that
+     * the caller's thread does not run the completion callback.
+     *
+     * @param message message to be placed in the outcome
+     */
+    private void rejectOperation(String message) {
+        logger.warn("{}.{}: {} for {}", params.getActor(), params.getOperation(), message, params.getRequestId());
+
+        initStartTime();
+        OperationOutcome outcome = makeOutcome();
+        outcome.setResult(OperationResult.FAILURE_EXCEPTION);
+        outcome.setMessage(message);
+        outcome.setStart(Instant.now());
+        outcome.setEnd(outcome.getStart());
+        outcome.setFinalOutcome(true);
+        params.getExecutor().execute(() -> params.getCompleteCallback().accept(outcome));
     }
 
     /**
@@ -208,9 +419,31 @@ public class Step {
      * @return {@code null}
      */
     private OperationOutcome handleTimeout(Throwable thrown) {
+        reportTimeout(thrown);
+
+        // the operation hung - count it against the actor before canceling it
+        CircuitBreaker.Permit current = permit;
+        if (current != null) {
+            current.failure();
+        }
+
+        // cancel the operation, if it's still running
+        future.cancel(false);
+
+        // this outcome is not used so just return "null"
+        return null;
+    }
+
+    /**
+     * Reports a control loop timeout.
+     *
+     * @param thrown exception that was generated
+     */
+    private void reportTimeout(Throwable thrown) {
         logger.warn("{}.{}: control loop timeout for {}", params.getActor(), params.getOperation(),
                         params.getRequestId(), thrown);
 
+        initStartTime();
         OperationOutcome outcome = new PipelineUtil(params).setOutcome(makeOutcome(), thrown);
         outcome.setActor(ActorConstants.CL_TIMEOUT_ACTOR);
         outcome.setOperation(null);
@@ -218,18 +451,19 @@ public class Step {
         outcome.setEnd(Instant.now());
         outcome.setFinalOutcome(true);
         params.getCompleteCallback().accept(outcome);
-
-        // cancel the operation, if it's still running
-        future.cancel(false);
-
-        // this outcome is not used so just return "null"
-        return null;
     }
 
     /**
-     * Cancels the operation, if it's running.
+     * Cancels the operation, if it's running or waiting in the bulkhead's queue.
      */
-    public void cancel() {
+    public synchronized void cancel() {
+        canceled = true;
+
+        if (queuedTask != null) {
+            bulkhead.remove(queuedTask);
+            queuedTask = null;
+        }
+
         if (future != null) {
             future.cancel(false);
         }
@@ -22,7 +22,9 @@ package org.onap.policy.controlloop.eventmanager;
 
 import java.io.Serializable;
 import java.util.concurrent.CompletableFuture;
+import org.onap.policy.aai.AaiCqResponse;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
+import org.onap.policy.controlloop.actorserviceprovider.OperationProperties;
 
 /**
  * Context used by steps to perform their work.
@@ -61,6 +63,62 @@ public interface StepContext {
      */
     public void removeProperty(String name);
 
+    /**
+     * Gets the A&AI target entity. This is equivalent to
+     * {@code getProperty(OperationProperties.AAI_TARGET_ENTITY)}, but implementations may
+     * avoid the name lookup.
+     *
+     * @return the target entity, or {@code null} if it has not been determined yet
+     */
+    public default String getAaiTargetEntity() {
+        return getProperty(OperationProperties.AAI_TARGET_ENTITY);
+    }
+
+    /**
+     * Sets the A&AI target entity.
+     *
+     * @param targetEntity the new target entity
+     */
+    public default void setAaiTargetEntity(String targetEntity) {
+        setProperty(OperationProperties.AAI_TARGET_ENTITY, targetEntity);
+    }
+
+    /**
+     * Gets the VF Module count.
+     *
+     * @return the VF Module count, or {@code null} if it has not been determined yet
+     */
+    public default Integer getVfCount() {
+        return getProperty(OperationProperties.DATA_VF_COUNT);
+    }
+
+    /**
+     * Sets the VF Module count.
+     *
+     * @param vfCount the new VF Module count
+     */
+    public default void setVfCount(int vfCount) {
+        setProperty(OperationProperties.DATA_VF_COUNT, vfCount);
+    }
+
+    /**
+     * Gets the A&AI custom query response.
+     *
+     * @return the custom query response, or {@code null} if it has not been retrieved yet
+     */
+    public default AaiCqResponse getAaiCq() {
+        return getProperty(AaiCqResponse.CONTEXT_KEY);
+    }
+
+    /**
+     * Sets the A&AI custom query response.
+     *
+     * @param aaiCq the new custom query response
+     */
+    public default void setAaiCq(AaiCqResponse aaiCq) {
+        setProperty(AaiCqResponse.CONTEXT_KEY, aaiCq);
+    }
+
     /**
      * Requests a lock. This requests the lock for the time that remains before the
      * timeout expires. This avoids having to extend the lock.
@@ -0,0 +1,191 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.onap.policy.aai.AaiCqResponse;
+import org.onap.policy.controlloop.actorserviceprovider.OperationProperties;
+
+/**
+ * Properties used by the steps while processing an event. The well-known properties,
+ * which are used by nearly every event, are held in fixed fields, of the appropriate
+ * type. Only the remaining properties (e.g., tenant and PNF data, which are keyed by
+ * target) are held in a map. The well-known properties may also be accessed directly,
+ * via their own accessors, which avoids looking up the property name.
+ */
+class StepProperties implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Properties having their own fields.
+     */
+    private enum Slot {
+        AAI_TARGET_ENTITY, DATA_VF_COUNT, AAI_CQ
+    }
+
+    private volatile String aaiTargetEntity;
+    private volatile Integer vfCount;
+    private volatile AaiCqResponse aaiCq;
+
+    /**
+     * Properties that do not have their own fields.
+     */
+    private final Map<String, Serializable> others = new ConcurrentHashMap<>();
+
+
+    /**
+     * Determines if a property has a value.
+     *
+     * @param name name of the property of interest
+     * @return {@code true} if the property has a value, {@code false} otherwise
+     */
+    public boolean contains(String name) {
+        return (get(name) != null);
+    }
+
+    /**
+     * Gets a property's value.
+     *
+     * @param name name of the property whose value is to be retrieved
+     * @return the property's value, or {@code null} if it does not have a value
+     */
+    public Serializable get(String name) {
+        Slot slot = toSlot(name);
+        if (slot == null) {
+            return others.get(name);
+        }
+
+        switch (slot) {
+            case AAI_TARGET_ENTITY:
+                return aaiTargetEntity;
+            case DATA_VF_COUNT:
+                return vfCount;
+            default:
+                return aaiCq;
+        }
+    }
+
+    /**
+     * Sets a property's value.
+     *
+     * @param name property name
+     * @param value new property value
+     * @throws IllegalArgumentException if the value is not of the type required by a
+     *         well-known property
+     */
+    public void put(String name, Serializable value) {
+        Objects.requireNonNull(value, name);
+
+        Slot slot = toSlot(name);
+        if (slot == null) {
+            others.put(name, value);
+            return;
+        }
+
+        switch (slot) {
+            case AAI_TARGET_ENTITY:
+                aaiTargetEntity = cast(name, value, String.class);
+                break;
+            case DATA_VF_COUNT:
+                vfCount = cast(name, value, Integer.class);
+                break;
+            default:
+                aaiCq = cast(name, value, AaiCqResponse.class);
+                break;
+        }
+    }
+
+    /**
+     * Removes a property.
+     *
+     * @param name property name
+     */
+    public void remove(String name) {
+        Slot slot = toSlot(name);
+        if (slot == null) {
+            others.remove(name);
+            return;
+        }
+
+        switch (slot) {
+            case AAI_TARGET_ENTITY:
+                aaiTargetEntity = null;
+                break;
+            case DATA_VF_COUNT:
+                vfCount = null;
+                break;
+            default:
+                aaiCq = null;
+                break;
+        }
+    }
+
+    public String getAaiTargetEntity() {
+        return aaiTargetEntity;
+    }
+
+    public void setAaiTargetEntity(String aaiTargetEntity) {
+        this.aaiTargetEntity = Objects.requireNonNull(aaiTargetEntity, OperationProperties.AAI_TARGET_ENTITY);
+    }
+
+    public Integer getVfCount() {
+        return vfCount;
+    }
+
+    public void setVfCount(int vfCount) {
+        this.vfCount = vfCount;
+    }
+
+    public AaiCqResponse getAaiCq() {
+        return aaiCq;
+    }
+
+    public void setAaiCq(AaiCqResponse aaiCq) {
+        this.aaiCq = Objects.requireNonNull(aaiCq, AaiCqResponse.CONTEXT_KEY);
+    }
+
+    private static Slot toSlot(String name) {
+        if (OperationProperties.AAI_TARGET_ENTITY.equals(name)) {
+            return Slot.AAI_TARGET_ENTITY;
+        }
+
+        if (OperationProperties.DATA_VF_COUNT.equals(name)) {
+            return Slot.DATA_VF_COUNT;
+        }
+
+        if (AaiCqResponse.CONTEXT_KEY.equals(name)) {
+            return Slot.AAI_CQ;
+        }
+
+        return null;
+    }
+
+    private static <V> V cast(String name, Serializable value, Class<V> clazz) {
+        if (!clazz.isInstance(value)) {
+            throw new IllegalArgumentException("property " + name + " must be a " + clazz.getSimpleName());
+        }
+
+        return clazz.cast(value);
+    }
+}
@@ -0,0 +1,265 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.drools.core.WorkingMemory;
+import org.onap.policy.controlloop.ControlLoopNotificationType;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
+import org.onap.policy.controlloop.VirtualControlLoopNotification;
+import org.onap.policy.controlloop.actorserviceprovider.Actor;
+import org.onap.policy.controlloop.actorserviceprovider.ActorService;
+import org.onap.policy.controlloop.actorserviceprovider.Operation;
+import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
+import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
+import org.onap.policy.controlloop.actorserviceprovider.Operator;
+import org.onap.policy.controlloop.actorserviceprovider.impl.ActorImpl;
+import org.onap.policy.controlloop.actorserviceprovider.impl.OperationPartial;
+import org.onap.policy.controlloop.actorserviceprovider.impl.OperatorPartial;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
+import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
+import org.onap.policy.drools.core.lock.LockCallback;
+import org.onap.policy.drools.core.lock.LockImpl;
+import org.onap.policy.drools.core.lock.LockState;
+import org.onap.policy.drools.persistence.SystemPersistenceConstants;
+
+/**
+ * Services used to warm up the rules before any "real" events arrive. They are configured
+ * from the same file as the "real" services, but have no side effects: the actors are
+ * replaced by stubs whose operations succeed immediately, locks are granted without
+ * consulting the lock manager, operation history is not recorded, guards are disabled,
+ * and notifications are encoded, as they would be when published, and then discarded.
+ */
+public class WarmupServices extends EventManagerServices {
+    public static final String WARMUP_MESSAGE = "warm-up";
+
+    /**
+     * Notifications that end the processing of an event.
+     */
+    private static final Set<ControlLoopNotificationType> FINAL_TYPES =
+                    EnumSet.of(ControlLoopNotificationType.REJECTED, ControlLoopNotificationType.FINAL_SUCCESS,
+                                    ControlLoopNotificationType.FINAL_FAILURE,
+                                    ControlLoopNotificationType.FINAL_OPENLOOP);
+
+    private final ActorService stubActors = new StubActorService();
+
+    /**
+     * Maps a request ID to the future to be completed when its final notification is
+     * delivered.
+     */
+    private final Map<UUID, CompletableFuture<VirtualControlLoopNotification>> request2final =
+                    new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the object.
+     *
+     * @param configFileName configuration file name
+     */
+    public WarmupServices(String configFileName) {
+        super(configFileName);
+    }
+
+    /**
+     * Loads the properties. The stub actors need neither be configured nor started.
+     */
+    @Override
+    public Properties startActorService(String configFileName) {
+        try {
+            return SystemPersistenceConstants.getManager().getProperties(configFileName);
+
+        } catch (RuntimeException e) {
+            logger.error("cannot load warm-up services properties");
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public ActorService getActorService() {
+        return stubActors;
+    }
+
+    @Override
+    public boolean isGuardConfigured() {
+        return false;
+    }
+
+    @Override
+    public boolean isGuardAlive() {
+        return false;
+    }
+
+    @Override
+    public Readiness checkReady(ControlLoopParams params, VirtualControlLoopEvent event, WorkingMemory workMem) {
+        return Readiness.READY;
+    }
+
+    /**
+     * Grants the lock immediately.
+     */
+    @Override
+    public void createLock(String targetEntity, String ownerKey, int holdSec, LockCallback callback) {
+        callback.lockAvailable(new LockImpl(LockState.ACTIVE, targetEntity, ownerKey, holdSec, callback));
+    }
+
+    @Override
+    public NotificationPublisher makeNotificationPublisher(Properties props) {
+        return new DiscardingPublisher();
+    }
+
+    /**
+     * Gets a future that is completed when the final notification for a request is
+     * delivered. Should be invoked before the request's event is inserted.
+     *
+     * @param requestId request of interest
+     * @return a future that completes with the request's final notification
+     */
+    public CompletableFuture<VirtualControlLoopNotification> awaitFinal(UUID requestId) {
+        return request2final.computeIfAbsent(requestId, key -> new CompletableFuture<>());
+    }
+
+    /**
+     * Shuts down the services, and cancels any requests that are still awaiting their
+     * final notification.
+     */
+    @Override
+    public void shutdown() {
+        super.shutdown();
+
+        // null if invoked by the superclass constructor, before this class is initialized
+        if (request2final != null) {
+            request2final.values().forEach(future -> future.cancel(false));
+            request2final.clear();
+        }
+    }
+
+    /**
+     * Publisher that encodes notifications, but never publishes them.
+     */
+    private class DiscardingPublisher extends NotificationPublisher {
+        private final CompactNotificationCoder coder = new CompactNotificationCoder();
+
+        public DiscardingPublisher() {
+            super(NotificationPublisherParams.builder().async(false).build());
+        }
+
+        @Override
+        public void deliver(String sinkName, Object key, Object notification) {
+            coder.toJson(notification);
+
+            if (notification instanceof VirtualControlLoopNotification notif && notif.getRequestId() != null
+                            && FINAL_TYPES.contains(notif.getNotification())) {
+
+                CompletableFuture<VirtualControlLoopNotification> future = request2final.remove(notif.getRequestId());
+                if (future != null) {
+                    future.complete(notif);
+                }
+            }
+        }
+    }
+
+    /**
+     * Actor service whose actors are all stubs.
+     */
+    private static class StubActorService extends ActorService {
+        private final Map<String, Actor> actors = new ConcurrentHashMap<>();
+
+        @Override
+        public Actor getActor(String name) {
+            return actors.computeIfAbsent(name, StubActor::new);
+        }
+    }
+
+    /**
+     * Actor that supports any operation.
+     */
+    private static class StubActor extends ActorImpl {
+        private final Map<String, Operator> operators = new ConcurrentHashMap<>();
+
+        public StubActor(String name) {
+            super(name);
+        }
+
+        @Override
+        public Operator getOperator(String name) {
+            return operators.computeIfAbsent(name, key -> new StubOperator(getName(), key));
+        }
+    }
+
+    private static class StubOperator extends OperatorPartial {
+        public StubOperator(String actorName, String name) {
+            super(actorName, name);
+        }
+
+        @Override
+        public Operation buildOperation(ControlLoopOperationParams params) {
+            return new StubOperation(params);
+        }
+    }
+
+    /**
+     * Operation that requires no properties and succeeds, asynchronously, without doing
+     * anything. The start and completion callbacks are invoked, as they would be by a
+     * "real" operation.
+     */
+    private static class StubOperation extends OperationPartial {
+        private final ControlLoopOperationParams operParams;
+
+        public StubOperation(ControlLoopOperationParams params) {
+            super(params, null, List.of());
+            this.operParams = params;
+        }
+
+        @Override
+        public CompletableFuture<OperationOutcome> start() {
+            return CompletableFuture.supplyAsync(this::run, operParams.getExecutor());
+        }
+
+        private OperationOutcome run() {
+            OperationOutcome started = operParams.makeOutcome();
+            started.setStart(Instant.now());
+
+            if (operParams.getStartCallback() != null) {
+                operParams.getStartCallback().accept(started);
+            }
+
+            OperationOutcome outcome = operParams.makeOutcome();
+            outcome.setStart(started.getStart());
+            outcome.setEnd(Instant.now());
+            outcome.setResult(OperationResult.SUCCESS);
+            outcome.setMessage(WARMUP_MESSAGE);
+            outcome.setFinalOutcome(true);
+
+            if (operParams.getCompleteCallback() != null) {
+                operParams.getCompleteCallback().accept(outcome);
+            }
+
+            return outcome;
+        }
+    }
+}
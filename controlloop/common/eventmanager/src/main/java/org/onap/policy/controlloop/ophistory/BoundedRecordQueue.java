@@ -0,0 +1,236 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.ophistory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import lombok.Getter;
+
+/**
+ * Bounded, lock-free ring buffer. Any number of threads may add items, and any number of
+ * threads may remove them, though the data manager only has one consumer (i.e., the
+ * background thread) plus producers that evict the oldest item when the buffer is full.
+ * Each slot carries a sequence number that indicates whether the slot is ready to be
+ * written or read, thus producers and consumers never block each other.
+ *
+ * @param <T> type of item held in the buffer
+ */
+class BoundedRecordQueue<T> {
+
+    /**
+     * Time, in nanoseconds, a producer waits between attempts while blocked on a full
+     * buffer.
+     */
+    private static final long PRODUCER_BACKOFF_NS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    @Getter
+    private final int capacity;
+
+    private final AtomicReferenceArray<T> items;
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong head = new AtomicLong(0);
+    private final AtomicLong tail = new AtomicLong(0);
+
+    /**
+     * Thread waiting in {@link #poll(long, TimeUnit)}, or {@code null} if no thread is
+     * waiting.
+     */
+    private volatile Thread waiter;
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param capacity maximum number of items that may be held in the buffer
+     */
+    public BoundedRecordQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("invalid capacity " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.items = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+
+        for (var slot = 0; slot < capacity; ++slot) {
+            sequences.set(slot, slot);
+        }
+    }
+
+    /**
+     * Adds an item to the buffer, if there is room.
+     *
+     * @param item item to be added
+     * @return {@code true} if the item was added, {@code false} if the buffer is full
+     */
+    public boolean offer(T item) {
+        for (;;) {
+            long pos = tail.get();
+            var slot = (int) (pos % capacity);
+            long diff = sequences.get(slot) - pos;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    items.set(slot, item);
+                    sequences.set(slot, pos + 1);
+                    wakeWaiter();
+                    return true;
+                }
+
+            } else if (diff < 0) {
+                // the slot has not been consumed yet - buffer is full
+                return false;
+            }
+
+            // ELSE: another producer claimed the slot - try again
+        }
+    }
+
+    /**
+     * Adds an item to the buffer, waiting for room to become available.
+     *
+     * @param item item to be added
+     * @param timeout maximum time to wait
+     * @param unit time units
+     * @return {@code true} if the item was added, {@code false} if the timeout expired
+     *         before room became available
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        while (!offer(item)) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+
+            LockSupport.parkNanos(this, Math.min(remaining, PRODUCER_BACKOFF_NS));
+
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes the oldest item from the buffer.
+     *
+     * @return the oldest item, or {@code null} if the buffer is empty
+     */
+    public T poll() {
+        for (;;) {
+            long pos = head.get();
+            var slot = (int) (pos % capacity);
+            long diff = sequences.get(slot) - (pos + 1);
+
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    T item = items.getAndSet(slot, null);
+                    sequences.set(slot, pos + capacity);
+                    return item;
+                }
+
+            } else if (diff < 0) {
+                // the slot has not been filled yet - buffer is empty
+                return null;
+            }
+
+            // ELSE: another consumer claimed the slot - try again
+        }
+    }
+
+    /**
+     * Removes the oldest item from the buffer, waiting for one to arrive. Only one thread
+     * may wait at a time.
+     *
+     * @param timeout maximum time to wait
+     * @param unit time units
+     * @return the oldest item, or {@code null} if the timeout expired before an item
+     *         arrived
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        for (;;) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            T item = poll();
+            if (item != null) {
+                return item;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+
+            waiter = Thread.currentThread();
+            try {
+                // check again, in case an item arrived before the waiter was set
+                item = poll();
+                if (item != null) {
+                    return item;
+                }
+
+                LockSupport.parkNanos(this, remaining);
+
+            } finally {
+                waiter = null;
+            }
+        }
+    }
+
+    /**
+     * Wakes the consumer, if it's waiting. Also used to get the consumer out of a wait
+     * when the data manager is stopped.
+     */
+    public void wakeWaiter() {
+        Thread thread = waiter;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Gets the number of items in the buffer. As items may be concurrently added and
+     * removed, this is only an estimate.
+     *
+     * @return the approximate number of items in the buffer
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public boolean isEmpty() {
+        return (size() == 0);
+    }
+}
@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +21,8 @@
 
 package org.onap.policy.controlloop.ophistory;
 
+import java.time.Duration;
+import java.util.List;
 import org.onap.policy.controlloop.ControlLoopOperation;
 
 /**
@@ -28,8 +31,9 @@ import org.onap.policy.controlloop.ControlLoopOperation;
 public interface OperationHistoryDataManager {
 
     /**
-     * Stores an operation in the DB. If the queue is full, then the oldest records is
-     * discarded.
+     * Stores an operation in the DB and adds it to the index of recent operations. If the
+     * queue is full, then the record is handled according to the configured overflow
+     * policy.
      *
      * @param requestId request ID
      * @param clName control loop name
@@ -40,6 +44,39 @@ public interface OperationHistoryDataManager {
      */
     void store(String requestId, String clName, Object event, String targetEntity, ControlLoopOperation operation);
 
+    /**
+     * Gets the operations recently performed on a target, from the in-memory index.
+     *
+     * @param targetEntity target entity of interest
+     * @param actor actor of interest, or {@code null} to include all actors
+     * @param window how far back to look
+     * @return the operations that were performed within the window, oldest first
+     */
+    List<RecentOperation> getRecentOperations(String targetEntity, String actor, Duration window);
+
+    /**
+     * Counts the operations recently performed on a target, from the in-memory index.
+     *
+     * @param targetEntity target entity of interest
+     * @param actor actor of interest
+     * @param operation operation of interest, or {@code null} to include all operations
+     * @param window how far back to look
+     * @return the number of operations that were performed within the window
+     */
+    default int countRecentOperations(String targetEntity, String actor, String operation, Duration window) {
+        return (int) getRecentOperations(targetEntity, actor, window).stream()
+                        .filter(recent -> operation == null || operation.equals(recent.getOperation()))
+                        .count();
+    }
+
+    /**
+     * Gets the metrics of the background thread.
+     *
+     * @return a snapshot of the metrics, or {@code null} if this data manager does not
+     *         collect metrics
+     */
+    OperationHistoryMetrics.Snapshot getMetrics();
+
     /**
      * Starts the background thread.
      */
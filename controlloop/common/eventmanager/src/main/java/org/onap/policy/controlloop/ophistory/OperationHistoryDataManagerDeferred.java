@@ -0,0 +1,127 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.ophistory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.onap.policy.controlloop.ControlLoopOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Data manager whose implementation is chosen once a condition has been decided. If the
+ * condition completes with {@code true}, a "real" data manager is made and all requests
+ * are thereafter delegated to it. Until then, or if the condition completes with
+ * {@code false}, or if the data manager cannot be made, requests are delegated to a stub,
+ * thus operations performed before the condition is decided are not recorded.
+ */
+public class OperationHistoryDataManagerDeferred implements OperationHistoryDataManager {
+    private static final Logger logger = LoggerFactory.getLogger(OperationHistoryDataManagerDeferred.class);
+
+    /**
+     * Data manager to which requests are currently delegated.
+     */
+    @Getter
+    private volatile OperationHistoryDataManager delegate = new OperationHistoryDataManagerStub();
+
+    /**
+     * Set to {@code true} once {@link #stop()} has been invoked, after which no data
+     * manager is made.
+     */
+    private boolean stopped = false;
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param condition completes with {@code true} if the "real" data manager is to be
+     *        used, {@code false} otherwise
+     * @param factory makes and starts the "real" data manager
+     */
+    public OperationHistoryDataManagerDeferred(CompletableFuture<Boolean> condition,
+                    Supplier<? extends OperationHistoryDataManager> factory) {
+
+        condition.whenComplete((useReal, thrown) -> choose(Boolean.TRUE.equals(useReal), factory));
+    }
+
+    /**
+     * Chooses the data manager to which requests are delegated.
+     *
+     * @param useReal {@code true} if the "real" data manager is to be used
+     * @param factory makes and starts the "real" data manager
+     */
+    private synchronized void choose(boolean useReal, Supplier<? extends OperationHistoryDataManager> factory) {
+        if (stopped) {
+            return;
+        }
+
+        if (!useReal) {
+            logger.info("guards are not running - operation history will not be recorded");
+            return;
+        }
+
+        try {
+            delegate = factory.get();
+            logger.info("operation history will now be recorded");
+
+        } catch (RuntimeException e) {
+            logger.error("cannot start operation history data manager - operation history will not be recorded", e);
+        }
+    }
+
+    @Override
+    public void store(String requestId, String clName, Object event, String targetEntity,
+                    ControlLoopOperation operation) {
+        delegate.store(requestId, clName, event, targetEntity, operation);
+    }
+
+    @Override
+    public List<RecentOperation> getRecentOperations(String targetEntity, String actor, Duration window) {
+        return delegate.getRecentOperations(targetEntity, actor, window);
+    }
+
+    @Override
+    public int countRecentOperations(String targetEntity, String actor, String operation, Duration window) {
+        return delegate.countRecentOperations(targetEntity, actor, operation, window);
+    }
+
+    @Override
+    public OperationHistoryMetrics.Snapshot getMetrics() {
+        return delegate.getMetrics();
+    }
+
+    /**
+     * Does nothing, as the "real" data manager is started when it is made.
+     */
+    @Override
+    public void start() {
+        // do nothing
+    }
+
+    @Override
+    public synchronized void stop() {
+        stopped = true;
+        delegate.stop();
+    }
+}
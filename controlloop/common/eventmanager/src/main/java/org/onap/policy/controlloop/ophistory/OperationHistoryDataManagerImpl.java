@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2023-2024 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,13 +25,13 @@ package org.onap.policy.controlloop.ophistory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
+import java.time.Duration;
 import java.util.Date;
 import java.util.List;
 import java.util.Properties;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
@@ -38,26 +39,41 @@ import org.onap.policy.common.parameters.ValidationResult;
 import org.onap.policy.common.utils.jpa.EntityMgrCloser;
 import org.onap.policy.common.utils.jpa.EntityTransCloser;
 import org.onap.policy.controlloop.ControlLoopOperation;
+import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerParams.OverflowPolicy;
 import org.onap.policy.guard.OperationsHistory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Data manager that stores records in the DB, asynchronously, using a background thread.
+ * Records are passed to the thread via a bounded, lock-free queue, and only the fields
+ * that are actually written to the DB are retained; the event is not.
  */
 public class OperationHistoryDataManagerImpl implements OperationHistoryDataManager {
     private static final Logger logger = LoggerFactory.getLogger(OperationHistoryDataManagerImpl.class);
 
     /**
-     * Added to the end of {@link #operations} when {@link #stop()} is called. This is
-     * used to get the background thread out of a blocking wait for the next record.
+     * Maximum time, in milliseconds, that the background thread waits for a record before
+     * re-checking {@link #stopped}.
      */
-    private static final Record END_MARKER = new Record();
+    private static final long POLL_WAIT_MS = 1000;
 
     // copied from the parameters
-    private final int maxQueueLength;
     private final int batchSize;
 
+    /**
+     * Times at which the records in the current batch were queued. Only used by the
+     * background thread.
+     */
+    private final long[] batchEnqueuedMs;
+
+    /**
+     * Number of records in the current batch. Only used by the background thread.
+     */
+    private int batchCount;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMs;
+
     private final EntityManagerFactory emFactory;
 
     /**
@@ -68,13 +84,35 @@ public class OperationHistoryDataManagerImpl implements OperationHistoryDataMana
     /**
      * Set to {@code true} to stop the background thread.
      */
-    private boolean stopped = false;
+    private volatile boolean stopped = false;
+
+    /**
+     * Queue of operations waiting to be stored in the DB.
+     */
+    private final BoundedRecordQueue<Record> operations;
 
     /**
-     * Queue of operations waiting to be stored in the DB. When {@link #stop()} is called,
-     * an {@link #END_MARKER} is added to the end of the queue.
+     * File to which records are written when the queue is full, or {@code null} if the
+     * {@link #overflowPolicy} is not {@link OverflowPolicy#SPILL}.
      */
-    private final BlockingQueue<Record> operations = new LinkedBlockingQueue<>();
+    private final RecordSpillFile spillFile;
+
+    /**
+     * Index of the operations recently performed on each target.
+     */
+    private final RecentOperationsIndex recentOperations;
+
+    /**
+     * Metrics of the background thread.
+     */
+    private final OperationHistoryMetrics metrics;
+
+    // overflow counters, updated by the threads invoking store()
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
 
     /**
      * Number of records that have been processed and committed into the DB by this data
@@ -108,8 +146,16 @@ public class OperationHistoryDataManagerImpl implements OperationHistoryDataMana
             throw new IllegalArgumentException(result.getResult());
         }
 
-        this.maxQueueLength = params.getMaxQueueLength();
         this.batchSize = params.getBatchSize();
+        this.batchEnqueuedMs = new long[batchSize];
+        this.overflowPolicy = params.getOverflowPolicy();
+        this.blockTimeoutMs = params.getBlockTimeoutMs();
+        this.operations = new BoundedRecordQueue<>(params.getMaxQueueLength());
+        this.recentOperations = makeRecentOperationsIndex(TimeUnit.SECONDS.toMillis(params.getRecentWindowSec()),
+                        params.getRecentMaxPerActor());
+        this.metrics = makeMetrics(params);
+        this.spillFile = (overflowPolicy == OverflowPolicy.SPILL
+                        ? makeSpillFile(params.getSpillDir(), params.getPersistenceUnit()) : null);
 
         // create the factory using the properties
         var props = toProperties(params);
@@ -140,14 +186,18 @@ public class OperationHistoryDataManagerImpl implements OperationHistoryDataMana
             // no thread to close the factory - do it here
             emFactory.close();
 
+            if (spillFile != null) {
+                spillFile.close();
+            }
+
         } else {
-            // the thread will close the factory when it sees the end marker
-            operations.add(END_MARKER);
+            // the thread will close the factory when it sees that it's been stopped
+            operations.wakeWaiter();
         }
     }
 
     @Override
-    public synchronized void store(String requestId, String clName, Object event, String targetEntity,
+    public void store(String requestId, String clName, Object event, String targetEntity,
         ControlLoopOperation operation) {
 
         if (stopped) {
@@ -156,12 +206,183 @@ public class OperationHistoryDataManagerImpl implements OperationHistoryDataMana
             return;
         }
 
-        operations.add(new Record(requestId, clName, event, targetEntity, operation));
+        recentOperations.add(requestId, clName, targetEntity, operation);
+
+        var rec = new Record(requestId, clName, targetEntity, operation);
+
+        switch (overflowPolicy) {
+            case DROP_NEWEST:
+                storeDropNewest(rec);
+                break;
+            case BLOCK:
+                storeBlock(rec);
+                break;
+            case SPILL:
+                storeSpill(rec);
+                break;
+            case DROP_OLDEST:
+            default:
+                storeDropOldest(rec);
+                break;
+        }
+
+        // the writer can't check the alerts if it's stalled or dead, so check them here
+        metrics.recordQueued(operations.size(), operations.getCapacity(), this::isWriterDead);
+    }
+
+    @Override
+    public List<RecentOperation> getRecentOperations(String targetEntity, String actor, Duration window) {
+        return recentOperations.getRecentOperations(targetEntity, actor, window);
+    }
+
+    @Override
+    public OperationHistoryMetrics.Snapshot getMetrics() {
+        return metrics.snapshot(this, operations.size(), operations.getCapacity(), isWriterAlive());
+    }
+
+    private boolean isWriterAlive() {
+        Thread writer = thread;
+        return (writer != null && writer.isAlive());
+    }
+
+    private boolean isWriterDead() {
+        return (thread != null && !stopped && !isWriterAlive());
+    }
+
+    /**
+     * Adds a record to the queue, discarding the oldest records until there is room.
+     *
+     * @param rec record to be added
+     */
+    private void storeDropOldest(Record rec) {
+        while (!operations.offer(rec)) {
+            Record oldest = operations.poll();
+            if (oldest != null) {
+                discarded.increment();
+                logger.warn("too many items to store in the operation history table, discarding {}", oldest);
+            }
+        }
+    }
+
+    /**
+     * Adds a record to the queue, discarding it if the queue is full.
+     *
+     * @param rec record to be added
+     */
+    private void storeDropNewest(Record rec) {
+        if (!operations.offer(rec)) {
+            rejected.increment();
+            logger.warn("too many items to store in the operation history table, discarding {}", rec);
+        }
+    }
+
+    /**
+     * Adds a record to the queue, waiting for room if the queue is full. Discards the
+     * record if no room becomes available within the configured time.
+     *
+     * @param rec record to be added
+     */
+    private void storeBlock(Record rec) {
+        if (operations.offer(rec)) {
+            return;
+        }
+
+        blocked.increment();
 
-        if (operations.size() > maxQueueLength) {
-            Record discarded = operations.remove();
-            logger.warn("too many items to store in the operation history table, discarding {}", discarded);
+        try {
+            if (operations.offer(rec, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+
+        } catch (InterruptedException e) {
+            logger.warn("interrupted while waiting to store operation history record");
+            Thread.currentThread().interrupt();
         }
+
+        timedOut.increment();
+        logger.warn("timed out waiting to store in the operation history table, discarding {}", rec);
+    }
+
+    /**
+     * Adds a record to the queue, writing it to the spill file if the queue is full. Once
+     * records have been spilled, new records also go to the spill file until the
+     * background thread has read them all back, so that they are stored in order.
+     *
+     * @param rec record to be added
+     */
+    private void storeSpill(Record rec) {
+        if (!spillFile.hasRecords() && operations.offer(rec)) {
+            return;
+        }
+
+        if (spillFile.append(rec)) {
+            spilled.increment();
+
+        } else {
+            rejected.increment();
+            logger.warn("cannot spill operation history record, discarding {}", rec);
+        }
+    }
+
+    /**
+     * Gets the number of records waiting in the queue. As records may be concurrently
+     * added and removed, this is only an estimate.
+     *
+     * @return the approximate number of records waiting in the queue
+     */
+    public int getQueueLength() {
+        return operations.size();
+    }
+
+    /**
+     * Gets the number of queued records that were discarded to make room for newer
+     * records ({@link OverflowPolicy#DROP_OLDEST}).
+     *
+     * @return the number of records that were discarded
+     */
+    public long getRecordsDiscarded() {
+        return discarded.sum();
+    }
+
+    /**
+     * Gets the number of new records that were discarded because the queue was full
+     * ({@link OverflowPolicy#DROP_NEWEST}), or because they could not be spilled
+     * ({@link OverflowPolicy#SPILL}).
+     *
+     * @return the number of records that were rejected
+     */
+    public long getRecordsRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Gets the number of times a caller had to wait for room in the queue
+     * ({@link OverflowPolicy#BLOCK}).
+     *
+     * @return the number of times a caller was blocked
+     */
+    public long getRecordsBlocked() {
+        return blocked.sum();
+    }
+
+    /**
+     * Gets the number of records that were discarded because no room became available
+     * in the queue within the configured time ({@link OverflowPolicy#BLOCK}).
+     *
+     * @return the number of records that timed out
+     */
+    public long getRecordsTimedOut() {
+        return timedOut.sum();
+    }
+
+    /**
+     * Gets the number of records that were written to the spill file
+     * ({@link OverflowPolicy#SPILL}).
+     *
+     * @return the number of records that were spilled
+     */
+    public long getRecordsSpilled() {
+        return spilled.sum();
     }
 
     /**
@@ -175,8 +396,16 @@ public class OperationHistoryDataManagerImpl implements OperationHistoryDataMana
             // store records until stopped, continuing if an exception occurs
             while (!stopped) {
                 try {
-                    Record triple = operations.take();
-                    storeBatch(factory.createEntityManager(), triple);
+                    metrics.heartbeat();
+                    metrics.checkAlerts(operations.size(), operations.getCapacity(), false);
+
+                    Record rec = nextRecord(POLL_WAIT_MS);
+                    if (rec != null) {
+                        storeBatch(factory, rec);
+                    } else {
+                        // idle - take the opportunity to discard stale index entries
+                        recentOperations.purge();
+                    }
 
                 } catch (RuntimeException e) {
                     logger.error("failed to save data to operation history table", e);
@@ -191,11 +420,38 @@ public class OperationHistoryDataManagerImpl implements OperationHistoryDataMana
             storeRemainingRecords(factory);
 
         } finally {
-            synchronized (this) {
-                stopped = true;
+            stopped = true;
+
+            if (spillFile != null) {
+                spillFile.close();
             }
+        }
+    }
 
+    /**
+     * Gets the next record from the queue or, if the queue is empty, from the spill file.
+     *
+     * @return the next record, or {@code null} if there are no more records
+     */
+    private Record nextRecord() {
+        Record rec = operations.poll();
+        if (rec == null && spillFile != null) {
+            rec = spillFile.poll();
         }
+
+        return rec;
+    }
+
+    /**
+     * Gets the next record, waiting for one to arrive.
+     *
+     * @param waitMs maximum time, in milliseconds, to wait
+     * @return the next record, or {@code null} if none arrived within the given time
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    private Record nextRecord(long waitMs) throws InterruptedException {
+        Record rec = nextRecord();
+        return (rec != null ? rec : operations.poll(waitMs, TimeUnit.MILLISECONDS));
     }
 
     /**
@@ -205,10 +461,8 @@ public class OperationHistoryDataManagerImpl implements OperationHistoryDataMana
      */
     private void storeRemainingRecords(EntityManagerFactory factory) {
         try {
-            while (!operations.isEmpty()) {
-                try (var em = factory.createEntityManager()) {
-                    storeBatch(em, operations.poll());
-                }
+            for (var rec = nextRecord(); rec != null; rec = nextRecord()) {
+                storeBatch(factory, rec);
             }
 
         } catch (RuntimeException e) {
@@ -216,6 +470,27 @@ public class OperationHistoryDataManagerImpl implements OperationHistoryDataMana
         }
     }
 
+    /**
+     * Stores a batch of records, updating the metrics.
+     *
+     * @param factory entity manager factory
+     * @param firstRecord first record to be stored
+     */
+    private void storeBatch(EntityManagerFactory factory, Record firstRecord) {
+        final long startMs = System.currentTimeMillis();
+        batchCount = 0;
+
+        try {
+            storeBatch(factory.createEntityManager(), firstRecord);
+
+        } catch (RuntimeException e) {
+            metrics.batchFailed(Math.max(batchCount, 1), startMs, e);
+            throw e;
+        }
+
+        metrics.batchCommitted(batchEnqueuedMs, batchCount, startMs);
+    }
+
     /**
      * Stores a batch of records.
      *
@@ -228,21 +503,21 @@ public class OperationHistoryDataManagerImpl implements OperationHistoryDataMana
         try (var ignored = new EntityMgrCloser(entityManager);
              var trans = new EntityTransCloser(entityManager.getTransaction())) {
 
-            var nrecords = 0;
             var rec = firstRecord;
 
-            while (rec != null && rec != END_MARKER) {
+            while (rec != null) {
+                batchEnqueuedMs[batchCount++] = rec.getEnqueuedMs();
                 storeRecord(entityManager, rec);
 
-                if (++nrecords >= batchSize) {
+                if (batchCount >= batchSize) {
                     break;
                 }
 
-                rec = operations.poll();
+                rec = nextRecord();
             }
 
             trans.commit();
-            recordsCommitted += nrecords;
+            recordsCommitted += batchCount;
         }
     }
 
@@ -256,7 +531,6 @@ public class OperationHistoryDataManagerImpl implements OperationHistoryDataMana
 
         final String reqId = rec.getRequestId();
         final String clName = rec.getClName();
-        final ControlLoopOperation operation = rec.getOperation();
 
         logger.info("store operation history record for {}", reqId);
 
@@ -265,8 +539,8 @@ public class OperationHistoryDataManagerImpl implements OperationHistoryDataMana
                 + " and e.requestId= ?2" + " and e.subrequestId= ?3" + " and e.actor= ?4"
                 + " and e.operation= ?5" + " and e.target= ?6", OperationsHistory.class)
             .setParameter(1, clName).setParameter(2, rec.getRequestId())
-            .setParameter(3, operation.getSubRequestId()).setParameter(4, operation.getActor())
-            .setParameter(5, operation.getOperation()).setParameter(6, rec.getTargetEntity())
+            .setParameter(3, rec.getSubRequestId()).setParameter(4, rec.getActor())
+            .setParameter(5, rec.getOperation()).setParameter(6, rec.getTargetEntity())
             .getResultList();
 
         if (results.size() > 1) {
@@ -277,22 +551,14 @@ public class OperationHistoryDataManagerImpl implements OperationHistoryDataMana
 
         entry.setClosedLoopName(clName);
         entry.setRequestId(rec.getRequestId());
-        entry.setActor(operation.getActor());
-        entry.setOperation(operation.getOperation());
+        entry.setActor(rec.getActor());
+        entry.setOperation(rec.getOperation());
         entry.setTarget(rec.getTargetEntity());
-        entry.setSubrequestId(operation.getSubRequestId());
-        entry.setMessage(operation.getMessage());
-        entry.setOutcome(operation.getOutcome());
-        if (operation.getStart() != null) {
-            entry.setStarttime(new Date(operation.getStart().toEpochMilli()));
-        } else {
-            entry.setStarttime(null);
-        }
-        if (operation.getEnd() != null) {
-            entry.setEndtime(new Date(operation.getEnd().toEpochMilli()));
-        } else {
-            entry.setEndtime(null);
-        }
+        entry.setSubrequestId(rec.getSubRequestId());
+        entry.setMessage(rec.getMessage());
+        entry.setOutcome(rec.getOutcome());
+        entry.setStarttime(rec.getStartMs() != null ? new Date(rec.getStartMs()) : null);
+        entry.setEndtime(rec.getEndMs() != null ? new Date(rec.getEndMs()) : null);
 
         if (results.isEmpty()) {
             logger.info("insert operation history record for {}", reqId);
@@ -321,20 +587,66 @@ public class OperationHistoryDataManagerImpl implements OperationHistoryDataMana
         return props;
     }
 
+    /**
+     * Operation history record, holding only the fields that are stored in the DB.
+     */
     @Getter
     @NoArgsConstructor
-    @AllArgsConstructor
     @ToString
-    private static class Record {
+    static class Record {
         private String requestId;
         private String clName;
-        private Object event;
         private String targetEntity;
-        private ControlLoopOperation operation;
+        private String actor;
+        private String operation;
+        private String subRequestId;
+        private String message;
+        private String outcome;
+        private Long startMs;
+        private Long endMs;
+
+        /**
+         * Time, in milliseconds, at which the record was queued.
+         */
+        private long enqueuedMs;
+
+        /**
+         * Constructs the object.
+         *
+         * @param requestId request ID
+         * @param clName control loop name
+         * @param targetEntity target entity
+         * @param operation operation whose fields are to be copied
+         */
+        public Record(String requestId, String clName, String targetEntity, ControlLoopOperation operation) {
+            this.requestId = requestId;
+            this.clName = clName;
+            this.targetEntity = targetEntity;
+            this.actor = operation.getActor();
+            this.operation = operation.getOperation();
+            this.subRequestId = operation.getSubRequestId();
+            this.message = operation.getMessage();
+            this.outcome = operation.getOutcome();
+            this.startMs = (operation.getStart() != null ? operation.getStart().toEpochMilli() : null);
+            this.endMs = (operation.getEnd() != null ? operation.getEnd().toEpochMilli() : null);
+            this.enqueuedMs = System.currentTimeMillis();
+        }
     }
 
     // the following may be overridden by junit tests
 
+    protected RecentOperationsIndex makeRecentOperationsIndex(long windowMs, int maxPerActor) {
+        return new RecentOperationsIndex(windowMs, maxPerActor);
+    }
+
+    protected OperationHistoryMetrics makeMetrics(OperationHistoryDataManagerParams params) {
+        return new OperationHistoryMetrics(params);
+    }
+
+    RecordSpillFile makeSpillFile(String spillDir, String persistenceUnit) {
+        return new RecordSpillFile(spillDir, "operation-history-" + persistenceUnit);
+    }
+
     protected EntityManagerFactory makeEntityManagerFactory(String opsHistPu, Properties props) {
         logger.info("Starting persistence unit {}", opsHistPu);
         logger.info("Properties {}", props);
@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2023-2025 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +28,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.onap.policy.common.parameters.BeanValidator;
 import org.onap.policy.common.parameters.ValidationResult;
+import org.onap.policy.common.parameters.annotations.Max;
 import org.onap.policy.common.parameters.annotations.Min;
 import org.onap.policy.common.parameters.annotations.NotBlank;
 import org.onap.policy.common.parameters.annotations.NotNull;
@@ -42,6 +44,35 @@ import org.onap.policy.common.parameters.annotations.NotNull;
 public class OperationHistoryDataManagerParams {
     public static final String DEFAULT_PU = "OperationsHistoryPU";
     public static final String DEFAULT_DRIVER = "org.postgresql.jdbc.Driver";
+    public static final String DEFAULT_SPILL_DIR = System.getProperty("java.io.tmpdir");
+
+    /**
+     * Action to take when a record is stored while the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Discard the oldest record in the queue to make room for the new record.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Discard the new record.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Wait up to {@link OperationHistoryDataManagerParams#blockTimeoutMs} for room to
+         * become available, discarding the new record if the time expires.
+         */
+        BLOCK,
+
+        /**
+         * Append the new record to a file in
+         * {@link OperationHistoryDataManagerParams#spillDir}, from which the background
+         * thread reloads it once the queue has drained.
+         */
+        SPILL
+    }
 
     @NotBlank
     private String url;
@@ -59,7 +90,8 @@ public class OperationHistoryDataManagerParams {
 
     /**
      * Maximum number of records that can be waiting to be inserted into the DB. When the
-     * limit is reached, the oldest records are discarded.
+     * limit is reached, the {@link #overflowPolicy} determines what happens to new
+     * records.
      */
     @Min(1)
     @Builder.Default
@@ -72,6 +104,68 @@ public class OperationHistoryDataManagerParams {
     @Builder.Default
     private int batchSize = 100;
 
+    /**
+     * Maximum age, in seconds, of the operations retained in the in-memory index of recent
+     * operations.
+     */
+    @Min(1)
+    @Builder.Default
+    private long recentWindowSec = 3600;
+
+    /**
+     * Maximum number of operations retained in the in-memory index for each target and
+     * actor.
+     */
+    @Min(1)
+    @Builder.Default
+    private int recentMaxPerActor = 100;
+
+    /**
+     * Queue occupancy, as a percentage of {@link #maxQueueLength}, at or above which an
+     * alert is raised.
+     */
+    @Min(1)
+    @Max(100)
+    @Builder.Default
+    private int alertQueueDepthPct = 80;
+
+    /**
+     * Enqueue-to-commit latency, in milliseconds, at or above which an alert is raised.
+     */
+    @Min(1)
+    @Builder.Default
+    private long alertCommitLatencyMs = 30000;
+
+    /**
+     * Time, in milliseconds, without any activity from the background thread, after
+     * which an alert is raised.
+     */
+    @Min(1)
+    @Builder.Default
+    private long alertWriterStallMs = 60000;
+
+    /**
+     * Action to take when the queue is full.
+     */
+    @Builder.Default
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+    /**
+     * Maximum time, in milliseconds, to wait for room in the queue, when the
+     * {@link #overflowPolicy} is {@link OverflowPolicy#BLOCK}.
+     */
+    @Min(0)
+    @Builder.Default
+    private long blockTimeoutMs = 100;
+
+    /**
+     * Directory in which to write records, when the {@link #overflowPolicy} is
+     * {@link OverflowPolicy#SPILL}.
+     */
+    @NotBlank
+    @Builder.Default
+    private String spillDir = DEFAULT_SPILL_DIR;
+
     /**
      * Validates the parameters.
      *
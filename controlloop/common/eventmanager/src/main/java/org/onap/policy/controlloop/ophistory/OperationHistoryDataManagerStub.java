@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +21,9 @@
 
 package org.onap.policy.controlloop.ophistory;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import org.onap.policy.controlloop.ControlLoopOperation;
 
 /**
@@ -33,6 +37,16 @@ public class OperationHistoryDataManagerStub implements OperationHistoryDataMana
         // do nothing
     }
 
+    @Override
+    public List<RecentOperation> getRecentOperations(String targetEntity, String actor, Duration window) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public OperationHistoryMetrics.Snapshot getMetrics() {
+        return null;
+    }
+
     @Override
     public void start() {
         // do nothing
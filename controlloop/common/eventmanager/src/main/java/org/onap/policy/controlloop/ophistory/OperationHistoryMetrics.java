@@ -0,0 +1,401 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.ophistory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import lombok.Builder;
+import lombok.Getter;
+import org.onap.policy.drools.utils.logging.MdcTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Metrics for the operation history writer. Batch outcomes are also pegged, as
+ * transactions, to the engine's metric log. Alerts are raised when the queue, the commit
+ * latency, or the writer thread cross their configured thresholds; a warning is logged,
+ * and a failed transaction pegged, each time an alert becomes active. The writer thread
+ * checks the alerts each time it looks for work; as a stalled or dead writer can't do
+ * that, the threads queuing records also check them once the writer has gone quiet.
+ * Snapshots report the alerts found by the most recent check.
+ */
+public class OperationHistoryMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(OperationHistoryMetrics.class);
+
+    public static final String ALERT_QUEUE_DEPTH = "queue-depth";
+    public static final String ALERT_COMMIT_LATENCY = "commit-latency";
+    public static final String ALERT_WRITER_STALLED = "writer-stalled";
+    public static final String ALERT_WRITER_DEAD = "writer-dead";
+
+    private static final String METRIC_SERVICE_NAME = "OperationHistory";
+
+    /**
+     * Minimum time, in milliseconds, between the checks made by {@link #recordQueued}.
+     */
+    private static final long QUEUED_CHECK_INTERVAL_MS = 1000;
+
+    private static final long[] LATENCY_BOUNDS_MS = {10, 50, 100, 500, 1000, 5000, 10000, 30000, 60000};
+    private static final long[] BATCH_SIZE_BOUNDS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000};
+    private static final long[] TRANSACTION_BOUNDS_MS = {1, 5, 10, 50, 100, 500, 1000, 5000, 10000};
+
+    private final String persistenceUnit;
+
+    // thresholds, copied from the parameters
+    private final int alertQueueDepthPct;
+    private final long alertCommitLatencyMs;
+    private final long alertWriterStallMs;
+
+    private final Histogram commitLatency = new Histogram(LATENCY_BOUNDS_MS);
+    private final Histogram batchSize = new Histogram(BATCH_SIZE_BOUNDS);
+    private final Histogram transactionDuration = new Histogram(TRANSACTION_BOUNDS_MS);
+
+    private final LongAdder batchesCommitted = new LongAdder();
+    private final LongAdder batchesFailed = new LongAdder();
+    private final LongAdder recordsFailed = new LongAdder();
+
+    /**
+     * Time, in milliseconds, that the writer thread last did anything, including waking
+     * up with nothing to do, or 0 if it hasn't started.
+     */
+    private volatile long lastActivityMs = 0;
+
+    /**
+     * Maximum enqueue-to-commit latency of the most recently committed batch.
+     */
+    private volatile long lastCommitLatencyMs = 0;
+
+    /**
+     * Time, in milliseconds, that {@link #recordQueued} last checked the alerts.
+     */
+    private volatile long lastQueuedCheckMs = 0;
+
+    /**
+     * Alerts that are currently active.
+     */
+    private final Set<String> activeAlerts = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Alerts found by the most recent check, in the order in which they're checked.
+     */
+    private volatile List<String> lastAlerts = List.of();
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param params data manager parameters, from which the thresholds are extracted
+     */
+    public OperationHistoryMetrics(OperationHistoryDataManagerParams params) {
+        this.persistenceUnit = params.getPersistenceUnit();
+        this.alertQueueDepthPct = params.getAlertQueueDepthPct();
+        this.alertCommitLatencyMs = params.getAlertCommitLatencyMs();
+        this.alertWriterStallMs = params.getAlertWriterStallMs();
+    }
+
+    /**
+     * Indicates that the writer thread is alive and about to look for work.
+     */
+    public void heartbeat() {
+        lastActivityMs = currentTimeMs();
+    }
+
+    /**
+     * Records a batch that was committed.
+     *
+     * @param enqueuedMs times, in milliseconds, at which each record in the batch was
+     *        queued; only the first {@code nrecords} entries are used
+     * @param nrecords number of records in the batch
+     * @param startMs time, in milliseconds, at which the transaction started
+     */
+    public void batchCommitted(long[] enqueuedMs, int nrecords, long startMs) {
+        final long endMs = currentTimeMs();
+
+        batchesCommitted.increment();
+        batchSize.add(nrecords);
+        transactionDuration.add(endMs - startMs);
+
+        var maxLatency = 0L;
+        for (var index = 0; index < nrecords; ++index) {
+            long latency = endMs - enqueuedMs[index];
+            commitLatency.add(latency);
+            maxLatency = Math.max(maxLatency, latency);
+        }
+
+        lastCommitLatencyMs = maxLatency;
+        lastActivityMs = endMs;
+
+        peg(startMs, endMs, true, "committed " + nrecords + " records");
+    }
+
+    /**
+     * Records a batch that could not be committed.
+     *
+     * @param nrecords number of records that were lost with the batch
+     * @param startMs time, in milliseconds, at which the transaction started
+     * @param error error that caused the failure
+     */
+    public void batchFailed(int nrecords, long startMs, RuntimeException error) {
+        final long endMs = currentTimeMs();
+
+        batchesFailed.increment();
+        recordsFailed.add(nrecords);
+        lastActivityMs = endMs;
+
+        peg(startMs, endMs, false, "failed " + nrecords + " records: " + error.getMessage());
+    }
+
+    /**
+     * Indicates that a record has been queued. If the writer thread hasn't done anything
+     * for longer than the stall threshold, then it is no longer checking the alerts
+     * itself, so they're checked here instead, though no more than once a second.
+     *
+     * @param queueLength current length of the queue
+     * @param queueCapacity maximum length of the queue
+     * @param writerDead indicates whether the writer thread should be running, but isn't;
+     *        only invoked if the alerts are checked
+     * @return the active alerts, or an empty list if they weren't checked
+     */
+    public List<String> recordQueued(int queueLength, int queueCapacity, BooleanSupplier writerDead) {
+        final long nowMs = currentTimeMs();
+        final long lastActivity = lastActivityMs;
+
+        if (lastActivity == 0 || nowMs - lastActivity < alertWriterStallMs
+                        || nowMs - lastQueuedCheckMs < QUEUED_CHECK_INTERVAL_MS) {
+            return Collections.emptyList();
+        }
+
+        lastQueuedCheckMs = nowMs;
+
+        return checkAlerts(queueLength, queueCapacity, writerDead.getAsBoolean());
+    }
+
+    /**
+     * Computes the alerts that are currently active, logging a warning and pegging a
+     * failed transaction for any that were not previously active.
+     *
+     * @param queueLength current length of the queue
+     * @param queueCapacity maximum length of the queue
+     * @param writerDead {@code true} if the writer thread should be running, but isn't
+     * @return the active alerts
+     */
+    public List<String> checkAlerts(int queueLength, int queueCapacity, boolean writerDead) {
+        List<String> alerts = new ArrayList<>();
+
+        if (queueLength * 100L >= (long) queueCapacity * alertQueueDepthPct) {
+            alerts.add(ALERT_QUEUE_DEPTH);
+        }
+
+        if (lastCommitLatencyMs >= alertCommitLatencyMs) {
+            alerts.add(ALERT_COMMIT_LATENCY);
+        }
+
+        if (writerDead) {
+            alerts.add(ALERT_WRITER_DEAD);
+
+        } else if (lastActivityMs > 0 && currentTimeMs() - lastActivityMs >= alertWriterStallMs) {
+            alerts.add(ALERT_WRITER_STALLED);
+        }
+
+        for (String alert : alerts) {
+            if (activeAlerts.add(alert)) {
+                logger.warn("operation history alert raised: {} (queue={}/{}, commitLatencyMs={}, lastActivityMs={})",
+                    alert, queueLength, queueCapacity, lastCommitLatencyMs, lastActivityMs);
+
+                long nowMs = currentTimeMs();
+                peg(nowMs, nowMs, false, "alert raised: " + alert);
+            }
+        }
+
+        if (activeAlerts.retainAll(alerts)) {
+            logger.info("operation history alerts now {}", alerts);
+        }
+
+        lastAlerts = List.copyOf(alerts);
+
+        return alerts;
+    }
+
+    /**
+     * Makes a snapshot of the metrics. The alerts are not checked; the snapshot reports
+     * those found by the most recent check.
+     *
+     * @param dataManager data manager whose metrics are to be included
+     * @param queueLength current length of the queue
+     * @param queueCapacity maximum length of the queue
+     * @param writerAlive {@code true} if the writer thread is running
+     * @return a snapshot of the metrics
+     */
+    public Snapshot snapshot(OperationHistoryDataManagerImpl dataManager, int queueLength, int queueCapacity,
+                    boolean writerAlive) {
+
+        long lastActivity = lastActivityMs;
+
+        return Snapshot.builder()
+            .queueLength(queueLength)
+            .queueCapacity(queueCapacity)
+            .recordsCommitted(dataManager.getRecordsCommitted())
+            .recordsInserted(dataManager.getRecordsInserted())
+            .recordsUpdated(dataManager.getRecordsUpdated())
+            .recordsDiscarded(dataManager.getRecordsDiscarded())
+            .recordsRejected(dataManager.getRecordsRejected())
+            .recordsBlocked(dataManager.getRecordsBlocked())
+            .recordsTimedOut(dataManager.getRecordsTimedOut())
+            .recordsSpilled(dataManager.getRecordsSpilled())
+            .recordsFailed(recordsFailed.sum())
+            .batchesCommitted(batchesCommitted.sum())
+            .batchesFailed(batchesFailed.sum())
+            .writerAlive(writerAlive)
+            .lastActivity(lastActivity > 0 ? Instant.ofEpochMilli(lastActivity) : null)
+            .lastCommitLatencyMs(lastCommitLatencyMs)
+            .commitLatencyMs(commitLatency.snapshot())
+            .batchSize(batchSize.snapshot())
+            .transactionMs(transactionDuration.snapshot())
+            .alerts(lastAlerts)
+            .build();
+    }
+
+    /**
+     * Pegs a batch, or an alert, to the metric log.
+     *
+     * @param startMs time, in milliseconds, at which the transaction started
+     * @param endMs time, in milliseconds, at which the transaction ended
+     * @param success {@code true} if the batch was committed
+     * @param description description of the outcome
+     */
+    private void peg(long startMs, long endMs, boolean success, String description) {
+        try {
+            MdcTransaction.newTransaction(UUID.randomUUID().toString(), METRIC_SERVICE_NAME)
+                .setServiceName(METRIC_SERVICE_NAME)
+                .setTargetEntity(persistenceUnit)
+                .setStartTime(Instant.ofEpochMilli(startMs))
+                .setEndTime(Instant.ofEpochMilli(endMs))
+                .setStatusCode(success)
+                .setResponseDescription(description)
+                .metric()
+                .resetTransaction();
+
+        } catch (RuntimeException e) {
+            logger.info("error pegging operation history metric", e);
+        }
+    }
+
+    /**
+     * Immutable view of the metrics.
+     */
+    @Getter
+    @Builder
+    public static class Snapshot {
+        private final int queueLength;
+        private final int queueCapacity;
+        private final long recordsCommitted;
+        private final long recordsInserted;
+        private final long recordsUpdated;
+        private final long recordsDiscarded;
+        private final long recordsRejected;
+        private final long recordsBlocked;
+        private final long recordsTimedOut;
+        private final long recordsSpilled;
+        private final long recordsFailed;
+        private final long batchesCommitted;
+        private final long batchesFailed;
+        private final boolean writerAlive;
+        private final Instant lastActivity;
+        private final long lastCommitLatencyMs;
+        private final HistogramSnapshot commitLatencyMs;
+        private final HistogramSnapshot batchSize;
+        private final HistogramSnapshot transactionMs;
+        private final List<String> alerts;
+    }
+
+    /**
+     * Immutable view of a histogram.
+     */
+    @Getter
+    @Builder
+    public static class HistogramSnapshot {
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        /**
+         * Number of values falling within each bucket, keyed by the bucket's (inclusive)
+         * upper bound; the final bucket, "+Inf", holds anything larger.
+         */
+        private final Map<String, Long> buckets;
+    }
+
+    /**
+     * Histogram with fixed bucket boundaries.
+     */
+    static class Histogram {
+        private final long[] bounds;
+        private final AtomicLongArray counts;
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        Histogram(long[] bounds) {
+            this.bounds = bounds;
+            this.counts = new AtomicLongArray(bounds.length + 1);
+        }
+
+        void add(long value) {
+            var index = 0;
+            while (index < bounds.length && value > bounds[index]) {
+                ++index;
+            }
+
+            counts.incrementAndGet(index);
+            sum.add(value);
+            max.accumulateAndGet(value, Math::max);
+        }
+
+        HistogramSnapshot snapshot() {
+            Map<String, Long> buckets = new LinkedHashMap<>();
+            var count = 0L;
+
+            for (var index = 0; index <= bounds.length; ++index) {
+                long value = counts.get(index);
+                count += value;
+                buckets.put(index < bounds.length ? String.valueOf(bounds[index]) : "+Inf", value);
+            }
+
+            return HistogramSnapshot.builder().count(count).sum(sum.sum()).max(max.get())
+                .buckets(Collections.unmodifiableMap(buckets)).build();
+        }
+    }
+
+    // the following may be overridden by junit tests
+
+    protected long currentTimeMs() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,268 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.ophistory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.onap.policy.controlloop.ControlLoopOperation;
+
+/**
+ * In-memory index of the operations that were recently performed on each target, by
+ * actor. Entries older than the window, or beyond the per-actor limit, are discarded.
+ * Successive updates to the same operation (e.g., its start and its completion) replace
+ * the earlier entry, rather than adding a new one. The entries for each actor are kept
+ * in order of their start time, regardless of the order in which they complete.
+ */
+public class RecentOperationsIndex {
+
+    /**
+     * Maximum age, in milliseconds, of the entries that are retained.
+     */
+    @Getter
+    private final long windowMs;
+
+    /**
+     * Maximum number of entries retained for each target and actor.
+     */
+    @Getter
+    private final int maxPerActor;
+
+    /**
+     * Maps a target entity to its entries, by actor. Each target's map is also used as
+     * the lock for all of that target's entries.
+     */
+    private final Map<String, Map<String, List<Entry>>> target2ops = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param windowMs maximum age, in milliseconds, of the entries that are retained
+     * @param maxPerActor maximum number of entries retained for each target and actor
+     */
+    public RecentOperationsIndex(long windowMs, int maxPerActor) {
+        this.windowMs = windowMs;
+        this.maxPerActor = maxPerActor;
+    }
+
+    /**
+     * Adds an operation to the index, replacing any previous entry for the same
+     * operation.
+     *
+     * @param requestId request ID
+     * @param clName control loop name
+     * @param targetEntity target entity
+     * @param operation operation to be added
+     */
+    public void add(String requestId, String clName, String targetEntity, ControlLoopOperation operation) {
+        if (targetEntity == null || operation.getActor() == null) {
+            return;
+        }
+
+        var recent = new RecentOperation(requestId, clName, targetEntity, operation.getActor(),
+                        operation.getOperation(), operation.getSubRequestId(), operation.getOutcome(),
+                        operation.getStart(), operation.getEnd());
+
+        final long nowMs = currentTimeMs();
+        final long timeMs = (operation.getStart() != null ? operation.getStart().toEpochMilli() : nowMs);
+
+        for (;;) {
+            Map<String, List<Entry>> actor2ops = target2ops.computeIfAbsent(targetEntity, unused -> new HashMap<>());
+
+            synchronized (actor2ops) {
+                // retry if purge() discarded this target before we locked it
+                if (target2ops.get(targetEntity) == actor2ops) {
+                    List<Entry> ops = actor2ops.computeIfAbsent(operation.getActor(), unused -> new ArrayList<>());
+                    add(ops, new Entry(timeMs, recent), nowMs);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds an entry to a target's entries, keeping them ordered by start time. Assumes
+     * the entries are already locked.
+     *
+     * @param ops entries to which the new entry should be added
+     * @param newEntry entry to be added
+     * @param nowMs current time, in milliseconds
+     */
+    private void add(List<Entry> ops, Entry newEntry, long nowMs) {
+        prune(ops, nowMs - windowMs);
+
+        ops.removeIf(entry -> entry.isSame(newEntry.operation));
+
+        // completions arrive out of start order, thus search back for the insertion point
+        var index = ops.size();
+        while (index > 0 && ops.get(index - 1).timeMs > newEntry.timeMs) {
+            --index;
+        }
+
+        ops.add(index, newEntry);
+
+        while (ops.size() > maxPerActor) {
+            ops.remove(0);
+        }
+    }
+
+    /**
+     * Gets the operations recently performed on a target.
+     *
+     * @param targetEntity target entity of interest
+     * @param actor actor of interest, or {@code null} to include all actors
+     * @param window how far back to look; limited by the window of the index itself
+     * @return the operations that were performed within the window, oldest first
+     */
+    public List<RecentOperation> getRecentOperations(String targetEntity, String actor, Duration window) {
+        final long nowMs = currentTimeMs();
+        final long cutoffMs = nowMs - Math.min(window.toMillis(), windowMs);
+
+        List<Entry> recent = new ArrayList<>();
+
+        Map<String, List<Entry>> actor2ops = target2ops.get(targetEntity);
+        if (actor2ops == null) {
+            return List.of();
+        }
+
+        synchronized (actor2ops) {
+            if (actor != null) {
+                addRecent(recent, actor2ops.get(actor), nowMs, cutoffMs);
+
+            } else {
+                for (List<Entry> ops : actor2ops.values()) {
+                    addRecent(recent, ops, nowMs, cutoffMs);
+                }
+
+                // each actor's entries are already in order, thus this just merges them
+                recent.sort(Comparator.comparingLong(entry -> entry.timeMs));
+            }
+        }
+
+        return recent.stream().map(entry -> entry.operation).toList();
+    }
+
+    /**
+     * Adds the entries that fall within the cutoff to a result list. Assumes the entries
+     * are already locked.
+     *
+     * @param result list to which the entries should be added
+     * @param ops entries to be examined, or {@code null}
+     * @param nowMs current time, in milliseconds
+     * @param cutoffMs time, in milliseconds, before which entries are excluded
+     */
+    private void addRecent(List<Entry> result, List<Entry> ops, long nowMs, long cutoffMs) {
+        if (ops == null) {
+            return;
+        }
+
+        prune(ops, nowMs - windowMs);
+
+        for (Entry entry : ops) {
+            if (entry.timeMs >= cutoffMs) {
+                result.add(entry);
+            }
+        }
+    }
+
+    /**
+     * Discards entries that have aged out of every target's window, along with any
+     * targets that no longer have entries.
+     */
+    public void purge() {
+        final long cutoffMs = currentTimeMs() - windowMs;
+
+        for (Map.Entry<String, Map<String, List<Entry>>> ent : target2ops.entrySet()) {
+            Map<String, List<Entry>> actor2ops = ent.getValue();
+
+            synchronized (actor2ops) {
+                actor2ops.values().removeIf(ops -> {
+                    prune(ops, cutoffMs);
+                    return ops.isEmpty();
+                });
+
+                if (actor2ops.isEmpty()) {
+                    target2ops.remove(ent.getKey(), actor2ops);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of targets, by actor, that currently have entries in the index.
+     *
+     * @return the number of target-actor pairs in the index
+     */
+    public int size() {
+        var count = 0;
+
+        for (Map<String, List<Entry>> actor2ops : target2ops.values()) {
+            synchronized (actor2ops) {
+                count += actor2ops.size();
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Discards entries older than the cutoff time. As the entries are ordered by start
+     * time, only a prefix of the list is discarded.
+     *
+     * @param ops entries to be pruned
+     * @param cutoffMs cutoff time, in milliseconds
+     */
+    private void prune(List<Entry> ops, long cutoffMs) {
+        var count = 0;
+        while (count < ops.size() && ops.get(count).timeMs < cutoffMs) {
+            ++count;
+        }
+
+        ops.subList(0, count).clear();
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final long timeMs;
+        private final RecentOperation operation;
+
+        private boolean isSame(RecentOperation other) {
+            return (operation.getSubRequestId() != null
+                            && operation.getSubRequestId().equals(other.getSubRequestId())
+                            && Objects.equals(operation.getRequestId(), other.getRequestId())
+                            && Objects.equals(operation.getOperation(), other.getOperation()));
+        }
+    }
+
+    // the following may be overridden by junit tests
+
+    protected long currentTimeMs() {
+        return System.currentTimeMillis();
+    }
+}
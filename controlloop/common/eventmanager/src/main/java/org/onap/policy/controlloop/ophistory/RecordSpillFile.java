@@ -0,0 +1,250 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.ophistory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import org.onap.policy.common.utils.coder.Coder;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
+import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerImpl.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * File to which operation history records are written when the queue overflows, one JSON
+ * record per line. Records are appended to the "active" file. When the background thread
+ * is ready for them, the active file is renamed to the "drain" file, from which they are
+ * read, in order, while new records continue to be appended to a new active file.
+ */
+class RecordSpillFile {
+    private static final Logger logger = LoggerFactory.getLogger(RecordSpillFile.class);
+
+    private static final Coder coder = new StandardCoder();
+
+    private final Path activeFile;
+    private final Path drainFile;
+
+    /**
+     * Number of records that have been written to the file(s), but not yet read back.
+     */
+    private final AtomicLong pending = new AtomicLong();
+
+    /**
+     * Number of records in the drain file that have not yet been read.
+     */
+    private long drainRemaining;
+
+    private BufferedWriter writer;
+    private BufferedReader reader;
+
+    /**
+     * Constructs the object. Any records left over from a previous run are retained and
+     * will be returned by {@link #poll()}.
+     *
+     * @param directory directory in which the files should be written
+     * @param baseName base name of the files
+     */
+    public RecordSpillFile(String directory, String baseName) {
+        this.activeFile = Path.of(directory, baseName + ".spill");
+        this.drainFile = Path.of(directory, baseName + ".spill.drain");
+
+        drainRemaining = countLines(drainFile);
+        pending.set(drainRemaining + countLines(activeFile));
+        if (pending.get() > 0) {
+            logger.warn("found {} operation history records spilled by a previous run", pending.get());
+        }
+    }
+
+    /**
+     * Determines if any records remain to be read back.
+     *
+     * @return {@code true} if there are records in the file(s), {@code false} otherwise
+     */
+    public boolean hasRecords() {
+        return (pending.get() > 0);
+    }
+
+    /**
+     * Appends a record to the active file.
+     *
+     * @param rec record to be appended
+     * @return {@code true} if the record was written, {@code false} otherwise
+     */
+    public synchronized boolean append(Record rec) {
+        try {
+            if (writer == null) {
+                Files.createDirectories(activeFile.getParent());
+                writer = Files.newBufferedWriter(activeFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                                StandardOpenOption.APPEND);
+            }
+
+            writer.write(coder.encode(rec));
+            writer.newLine();
+            writer.flush();
+
+            pending.incrementAndGet();
+            return true;
+
+        } catch (IOException | CoderException e) {
+            logger.error("cannot write operation history record to {}", activeFile, e);
+            closeWriter();
+            return false;
+        }
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the next record, or {@code null} if there are no more records
+     */
+    public synchronized Record poll() {
+        if (!hasRecords()) {
+            return null;
+        }
+
+        try {
+            for (;;) {
+                if (reader == null && !openReader()) {
+                    return null;
+                }
+
+                String line = reader.readLine();
+                if (line != null) {
+                    pending.decrementAndGet();
+                    --drainRemaining;
+                    return coder.decode(line, Record.class);
+                }
+
+                // reached the end of the drain file - discard it and switch to the next
+                reader.close();
+                reader = null;
+                Files.deleteIfExists(drainFile);
+            }
+
+        } catch (IOException | CoderException e) {
+            logger.error("cannot read operation history records from {}; discarding them", drainFile, e);
+            closeReader();
+            pending.set(0);
+            return null;
+        }
+    }
+
+    /**
+     * Closes the files, leaving any unread records for a subsequent run. Records that
+     * have already been read are removed from the drain file, so that they are not read
+     * again.
+     */
+    public synchronized void close() {
+        closeWriter();
+
+        try {
+            if (drainRemaining <= 0) {
+                closeReader();
+                Files.deleteIfExists(drainFile);
+
+            } else if (reader != null) {
+                // keep only the unread records
+                var tempFile = drainFile.resolveSibling(drainFile.getFileName() + ".tmp");
+                try (var tempWriter = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                    reader.transferTo(tempWriter);
+                }
+
+                closeReader();
+                Files.move(tempFile, drainFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+        } catch (IOException e) {
+            logger.warn("cannot remove the records that were read from {}", drainFile, e);
+        }
+
+        closeReader();
+    }
+
+    /**
+     * Opens the drain file for reading, first moving the active file into its place, if
+     * there is no drain file.
+     *
+     * @return {@code true} if the drain file was opened, {@code false} if there is no
+     *         data to be read
+     * @throws IOException if the files cannot be moved or opened
+     */
+    private boolean openReader() throws IOException {
+        if (!Files.exists(drainFile)) {
+            if (!Files.exists(activeFile)) {
+                pending.set(0);
+                return false;
+            }
+
+            closeWriter();
+            Files.move(activeFile, drainFile, StandardCopyOption.REPLACE_EXISTING);
+
+            // everything that is pending was in the active file
+            drainRemaining = pending.get();
+        }
+
+        reader = Files.newBufferedReader(drainFile, StandardCharsets.UTF_8);
+        return true;
+    }
+
+    private void closeWriter() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.warn("cannot close {}", activeFile, e);
+            }
+            writer = null;
+        }
+    }
+
+    private void closeReader() {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                logger.warn("cannot close {}", drainFile, e);
+            }
+            reader = null;
+        }
+    }
+
+    private static long countLines(Path file) {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+
+        try (var lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return lines.count();
+
+        } catch (IOException e) {
+            logger.warn("cannot read {}", file, e);
+            return 0;
+        }
+    }
+}
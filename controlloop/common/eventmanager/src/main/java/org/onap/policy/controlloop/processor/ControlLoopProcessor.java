@@ -3,6 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2017-2021 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +22,10 @@
 package org.onap.policy.controlloop.processor;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import org.onap.policy.common.utils.coder.CoderException;
 import org.onap.policy.common.utils.coder.StandardYamlCoder;
@@ -33,9 +38,17 @@ import org.onap.policy.drools.domain.models.operational.OperationalPolicy;
 import org.onap.policy.drools.system.PolicyEngineConstants;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ControlLoopProcessor implements Serializable {
     private static final long serialVersionUID = 1L;
+    private static final Logger logger = LoggerFactory.getLogger(ControlLoopProcessor.class);
+
+    /**
+     * Policy metadata key specifying the control loop's priority.
+     */
+    public static final String PRIORITY_METADATA = "priority";
 
     private static final StandardYamlCoder coder = new StandardYamlCoder();
 
@@ -99,10 +112,61 @@ public class ControlLoopProcessor implements Serializable {
         controlLoopParams.setPolicyName(policy.getName());
         controlLoopParams.setPolicyVersion(policy.getVersion());
         controlLoopParams.setToscaPolicy(toscaOpPolicy);
+        controlLoopParams.setPriority(detmPriority());
+        controlLoopParams.setActors(detmActors());
 
         return controlLoopParams;
     }
 
+    /**
+     * Determines the control loop's priority from the policy metadata.
+     *
+     * @return the priority, limited to the range allowed by {@link ControlLoopParams}, or
+     *         0, if the metadata does not specify a valid priority
+     */
+    private int detmPriority() {
+        Map<String, ?> metadata = (toscaOpPolicy == null ? null : toscaOpPolicy.getMetadata());
+        Object text = (metadata == null ? null : metadata.get(PRIORITY_METADATA));
+        if (text == null) {
+            return 0;
+        }
+
+        int priority;
+        try {
+            // the metadata may contain a number or a string
+            priority = (int) Double.parseDouble(text.toString().strip());
+
+        } catch (NumberFormatException e) {
+            logger.warn("invalid {} {} in policy {}", PRIORITY_METADATA, text, toscaOpPolicy.getName(), e);
+            return 0;
+        }
+
+        if (priority < ControlLoopParams.MIN_PRIORITY || priority > ControlLoopParams.MAX_PRIORITY) {
+            logger.warn("{} {} in policy {} is out of range", PRIORITY_METADATA, text, toscaOpPolicy.getName());
+            return Math.max(ControlLoopParams.MIN_PRIORITY, Math.min(ControlLoopParams.MAX_PRIORITY, priority));
+        }
+
+        return priority;
+    }
+
+    /**
+     * Determines the actors used by the policy's operations.
+     *
+     * @return the names of the actors
+     */
+    private Set<String> detmActors() {
+        if (policy.getProperties() == null || policy.getProperties().getOperations() == null) {
+            return Set.of();
+        }
+
+        return policy.getProperties().getOperations().stream()
+                        .map(Operation::getActorOperation)
+                        .filter(Objects::nonNull)
+                        .map(actorOperation -> actorOperation.getActor())
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toUnmodifiableSet());
+    }
+
     public OperationFinalResult checkIsCurrentPolicyFinal() {
         return OperationFinalResult.toResult(this.currentNestedPolicyId);
     }
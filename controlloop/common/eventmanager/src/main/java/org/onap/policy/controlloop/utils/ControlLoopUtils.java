@@ -1,6 +1,7 @@
 /*-
  * ============LICENSE_START=======================================================
  * Copyright (C) 2019-2021 AT&T Intellectual Property. All rights reserved.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +19,7 @@
 
 package org.onap.policy.controlloop.utils;
 
+import java.util.Properties;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.onap.policy.controlloop.ControlLoopException;
@@ -49,4 +51,55 @@ public final class ControlLoopUtils {
             return null;
         }
     }
+
+    /**
+     * Converts a string to an enumeration constant, ignoring case and surrounding
+     * white space.
+     *
+     * @param clazz enumeration class
+     * @param text text to be converted
+     * @return the corresponding constant, or {@code null} if the text is {@code null},
+     *         empty, or does not correspond to a constant
+     */
+    public static <E extends Enum<E>> E parseEnum(Class<E> clazz, String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+
+        String name = text.strip();
+
+        for (E value : clazz.getEnumConstants()) {
+            if (value.name().equalsIgnoreCase(name)) {
+                return value;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets a numeric property, ignoring surrounding white space.
+     *
+     * @param owner name of the owner of the properties (e.g., a controller name), used
+     *        when logging an invalid value
+     * @param props properties from which to get the value, or {@code null}
+     * @param propName name of the property of interest
+     * @param defaultValue value to be used if the property is missing or invalid
+     * @return the property's value, or the default value if the property is missing or
+     *         is not a valid number
+     */
+    public static long getLong(String owner, Properties props, String propName, long defaultValue) {
+        String text = (props == null ? null : props.getProperty(propName));
+        if (text == null || text.isBlank()) {
+            return defaultValue;
+        }
+
+        try {
+            return Long.parseLong(text.strip());
+
+        } catch (NumberFormatException e) {
+            logger.warn("{}: invalid {} property {}; using {}", owner, propName, text, defaultValue, e);
+            return defaultValue;
+        }
+    }
 }
@@ -0,0 +1,206 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.actorserviceprovider.Actor;
+import org.onap.policy.controlloop.actorserviceprovider.ActorService;
+
+class ActorStartupTest {
+    private static final long WAIT_MS = 5000;
+    private static final String ACTOR1 = "actor-A";
+    private static final String ACTOR2 = "actor-B";
+    private static final String UNCONFIGURED = "actor-C";
+    private static final String UNKNOWN = "unknown";
+    private static final IllegalStateException EXPECTED_EXCEPTION = new IllegalStateException("expected exception");
+
+    private ActorService actorService;
+    private Actor actor1;
+    private Actor actor2;
+    private Actor actor3;
+
+    private ActorStartup startup;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        actor1 = makeActor(ACTOR1, true);
+        actor2 = makeActor(ACTOR2, true);
+        actor3 = makeActor(UNCONFIGURED, false);
+
+        actorService = mock(ActorService.class);
+        when(actorService.getActors()).thenReturn(List.of(actor1, actor2, actor3));
+        when(actorService.getActor(ACTOR1)).thenReturn(actor1);
+        when(actorService.getActor(ACTOR2)).thenReturn(actor2);
+        when(actorService.getActor(UNCONFIGURED)).thenReturn(actor3);
+        when(actorService.getActor(UNKNOWN)).thenThrow(new IllegalArgumentException("unknown actor"));
+
+        startup = new ActorStartup(actorService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        startup.stop();
+    }
+
+    @Test
+    void testConfigure() {
+        // configuration failures are logged, but do not prevent other actors from being configured
+        doThrow(EXPECTED_EXCEPTION).when(actor2).configure(any());
+
+        startup.configure(Map.of(ACTOR1, Map.of("abc", "def"), ACTOR2, Map.of()));
+
+        verify(actor1).configure(Map.of("abc", "def"));
+        verify(actor2).configure(any());
+        verify(actor3, never()).configure(any());
+
+        // service is only marked as configured
+        verify(actorService).configure(Map.of());
+    }
+
+    @Test
+    void testStartEager() {
+        startup.start(ActorStartupMode.EAGER);
+
+        assertTrue(startup.isStarted(ACTOR1));
+        assertTrue(startup.isStarted(ACTOR2));
+        assertTrue(startup.isStarted(UNCONFIGURED));
+
+        verify(actor1).start();
+        verify(actor2).start();
+        verify(actor3, never()).start();
+        verify(actorService).start();
+    }
+
+    @Test
+    void testStartBackground() {
+        var latch = new CountDownLatch(1);
+        doAnswer(args -> latch.await(WAIT_MS, TimeUnit.MILLISECONDS)).when(actor1).start();
+
+        startup.start(ActorStartupMode.BACKGROUND);
+
+        // returns without waiting for the actors
+        assertFalse(startup.isStarted(ACTOR1));
+        verify(actorService, never()).start();
+
+        latch.countDown();
+        await().atMost(WAIT_MS, TimeUnit.MILLISECONDS).until(() -> startup.isStarted(ACTOR1));
+        verify(actor2, timeout(WAIT_MS)).start();
+        verify(actorService, timeout(WAIT_MS)).start();
+    }
+
+    @Test
+    void testStartLazy() {
+        startup.start(ActorStartupMode.LAZY);
+
+        assertFalse(startup.isStarted(ACTOR1));
+        verify(actor1, never()).start();
+
+        // started on first use
+        startup.whenStarted(ACTOR1);
+        await().atMost(WAIT_MS, TimeUnit.MILLISECONDS).until(() -> startup.isStarted(ACTOR1));
+        verify(actor1).start();
+
+        // other actors are left alone
+        assertFalse(startup.isStarted(ACTOR2));
+        verify(actor2, never()).start();
+        verify(actorService, never()).start();
+    }
+
+    @Test
+    void testWhenAllStarted() {
+        var latch = new CountDownLatch(1);
+        doAnswer(args -> latch.await(WAIT_MS, TimeUnit.MILLISECONDS)).when(actor1).start();
+
+        // does not wait for the actors
+        var future = startup.whenAllStarted(List.of(ACTOR1, ACTOR2));
+        assertFalse(future.isDone());
+
+        latch.countDown();
+        await().atMost(WAIT_MS, TimeUnit.MILLISECONDS).until(future::isDone);
+
+        // nothing to start
+        assertTrue(startup.whenAllStarted(List.of()).isDone());
+        future = startup.whenAllStarted(List.of(UNCONFIGURED, UNKNOWN));
+        await().atMost(WAIT_MS, TimeUnit.MILLISECONDS).until(future::isDone);
+        verify(actor3, never()).start();
+    }
+
+    @Test
+    void testWhenStartedFailure() {
+        when(actor1.start()).thenThrow(EXPECTED_EXCEPTION);
+
+        // the failure is logged; there is nothing more to wait for
+        startup.whenStarted(ACTOR1);
+        await().atMost(WAIT_MS, TimeUnit.MILLISECONDS).until(() -> startup.isStarted(ACTOR1));
+    }
+
+    @Test
+    void testStop() {
+        startup.start(ActorStartupMode.EAGER);
+        startup.stop();
+
+        verify(actorService).stop();
+        verify(actor1).stop();
+        verify(actor2).stop();
+        verify(actor3).stop();
+
+        // no longer starts actors
+        assertTrue(startup.whenStarted(ACTOR1).isCompletedExceptionally());
+        assertTrue(startup.whenAllStarted(List.of(ACTOR2)).isCompletedExceptionally());
+    }
+
+    @Test
+    void testStopFailure() {
+        when(actor1.stop()).thenThrow(EXPECTED_EXCEPTION);
+        startup.stop();
+
+        // other actors are still stopped
+        verify(actor2).stop();
+    }
+
+    private Actor makeActor(String name, boolean configured) {
+        var actor = mock(Actor.class);
+        when(actor.getName()).thenReturn(name);
+        when(actor.isConfigured()).thenReturn(configured);
+        return actor;
+    }
+}
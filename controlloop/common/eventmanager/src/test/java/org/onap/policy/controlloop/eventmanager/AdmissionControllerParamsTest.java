@@ -0,0 +1,87 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdmissionControllerParamsTest {
+    private static final String CONTAINER = "my-container";
+
+    private AdmissionControllerParams params;
+
+    @BeforeEach
+    void setUp() {
+        params = AdmissionControllerParams.builder().build();
+    }
+
+    @Test
+    void test() {
+        assertEquals(0, params.getMaxInFlight());
+        assertEquals(0, params.getMaxInFlightPerLoop());
+        assertEquals(0, params.getLoopRate(), 0);
+        assertEquals(0, params.getLoopBurst());
+        assertEquals(0, params.getMaxHeapUsedPercent());
+        assertEquals(0, params.getMaxLatencyMs());
+
+        // no-arg constructor should have the same defaults
+        assertEquals(params, new AdmissionControllerParams());
+    }
+
+    @Test
+    void testValidate() {
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setMaxInFlight(-1);
+        assertFalse(params.validate(CONTAINER).isValid());
+
+        params.setMaxInFlight(1);
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setMaxInFlightPerLoop(-1);
+        assertFalse(params.validate(CONTAINER).isValid());
+
+        params.setMaxInFlightPerLoop(1);
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setLoopBurst(-1);
+        assertFalse(params.validate(CONTAINER).isValid());
+
+        params.setLoopBurst(1);
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setMaxHeapUsedPercent(101);
+        assertFalse(params.validate(CONTAINER).isValid());
+
+        params.setMaxHeapUsedPercent(100);
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setMaxLatencyMs(-1);
+        assertFalse(params.validate(CONTAINER).isValid());
+
+        params.setMaxLatencyMs(0);
+        assertTrue(params.validate(CONTAINER).isValid());
+    }
+}
@@ -0,0 +1,240 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.eventmanager.AdmissionController.Permit;
+import org.onap.policy.controlloop.eventmanager.AdmissionController.Reason;
+
+class AdmissionControllerTest {
+    private static final String LOOP1 = "loop-1";
+    private static final String LOOP2 = "loop-2";
+
+    private AdmissionControllerParams params;
+    private long nowMs;
+    private int heapUsedPercent;
+    private AdmissionController controller;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        params = new AdmissionControllerParams();
+        nowMs = 1000;
+        heapUsedPercent = 50;
+        controller = new MyController();
+    }
+
+    @Test
+    void testAdmit_Unlimited() {
+        List<Permit> permits = new ArrayList<>();
+        for (var count = 0; count < 100; ++count) {
+            Permit permit = controller.admit(LOOP1);
+            assertTrue(permit.isAdmitted());
+            assertNull(permit.getReason());
+            assertNull(permit.getMessage());
+            permits.add(permit);
+        }
+
+        var metrics = controller.getMetrics();
+        assertEquals(100, metrics.getInFlight());
+        assertEquals(100, metrics.getAdmitted());
+
+        permits.forEach(Permit::release);
+        assertEquals(0, controller.getMetrics().getInFlight());
+    }
+
+    @Test
+    void testAdmit_GlobalLimit() {
+        params.setMaxInFlight(2);
+        controller = new MyController();
+
+        Permit permit1 = controller.admit(LOOP1);
+        assertTrue(permit1.isAdmitted());
+        assertTrue(controller.admit(LOOP2).isAdmitted());
+
+        Permit permit = controller.admit(LOOP1);
+        assertFalse(permit.isAdmitted());
+        assertSame(Reason.GLOBAL_LIMIT, permit.getReason());
+        assertEquals(Reason.GLOBAL_LIMIT.getMessage(), permit.getMessage());
+
+        // releasing a rejected permit has no effect
+        permit.release();
+        assertEquals(2, controller.getMetrics().getInFlight());
+
+        // releasing twice has no effect
+        permit1.release();
+        permit1.release();
+        assertEquals(1, controller.getMetrics().getInFlight());
+
+        assertTrue(controller.admit(LOOP2).isAdmitted());
+
+        var metrics = controller.getMetrics();
+        assertEquals(3, metrics.getAdmitted());
+        assertEquals(1, metrics.getShedGlobalLimit());
+        assertEquals(0, metrics.getShedLoopLimit());
+    }
+
+    @Test
+    void testAdmit_LoopLimit() {
+        params.setMaxInFlightPerLoop(1);
+        controller = new MyController();
+
+        Permit permit1 = controller.admit(LOOP1);
+        assertTrue(permit1.isAdmitted());
+        assertSame(Reason.LOOP_LIMIT, controller.admit(LOOP1).getReason());
+
+        // other loops are not affected
+        assertTrue(controller.admit(LOOP2).isAdmitted());
+
+        // the shed event is not counted as being in progress
+        assertEquals(2, controller.getMetrics().getInFlight());
+
+        permit1.release();
+        assertTrue(controller.admit(LOOP1).isAdmitted());
+
+        assertEquals(1, controller.getMetrics().getShedLoopLimit());
+    }
+
+    @Test
+    void testAdmit_RateLimit() {
+        params.setLoopRate(2);
+        params.setLoopBurst(3);
+        controller = new MyController();
+
+        // burst
+        for (var count = 0; count < 3; ++count) {
+            assertTrue(controller.admit(LOOP1).isAdmitted());
+        }
+
+        assertSame(Reason.RATE_LIMIT, controller.admit(LOOP1).getReason());
+
+        // other loops have their own buckets
+        assertTrue(controller.admit(LOOP2).isAdmitted());
+
+        // half a second adds one token
+        nowMs += 500;
+        assertTrue(controller.admit(LOOP1).isAdmitted());
+        assertSame(Reason.RATE_LIMIT, controller.admit(LOOP1).getReason());
+
+        // the bucket never holds more than the burst
+        nowMs += 10000;
+        for (var count = 0; count < 3; ++count) {
+            assertTrue(controller.admit(LOOP1).isAdmitted());
+        }
+
+        assertSame(Reason.RATE_LIMIT, controller.admit(LOOP1).getReason());
+
+        var metrics = controller.getMetrics();
+        assertEquals(3, metrics.getShedRateLimit());
+        assertEquals(8, metrics.getInFlight());
+    }
+
+    @Test
+    void testAdmit_RateLimitDefaultBurst() {
+        params.setLoopRate(0.5);
+        controller = new MyController();
+
+        // burst is at least one
+        assertTrue(controller.admit(LOOP1).isAdmitted());
+        assertSame(Reason.RATE_LIMIT, controller.admit(LOOP1).getReason());
+
+        nowMs += 2000;
+        assertTrue(controller.admit(LOOP1).isAdmitted());
+    }
+
+    @Test
+    void testAdmit_HeapLimit() {
+        params.setMaxHeapUsedPercent(80);
+        controller = new MyController();
+
+        assertTrue(controller.admit(LOOP1).isAdmitted());
+
+        heapUsedPercent = 81;
+        assertSame(Reason.HEAP_LIMIT, controller.admit(LOOP1).getReason());
+
+        heapUsedPercent = 80;
+        assertTrue(controller.admit(LOOP1).isAdmitted());
+
+        assertEquals(1, controller.getMetrics().getShedHeapLimit());
+    }
+
+    @Test
+    void testAdmit_LatencyLimit() {
+        params.setMaxLatencyMs(1000);
+        controller = new MyController();
+
+        Permit slow = controller.admit(LOOP1);
+        Permit other = controller.admit(LOOP2);
+
+        // an event that takes a very long time raises the average
+        nowMs += 100000;
+        slow.release();
+        assertEquals(10000, controller.getMetrics().getAverageLatencyMs());
+
+        assertSame(Reason.LATENCY_LIMIT, controller.admit(LOOP1).getReason());
+        assertEquals(1, controller.getMetrics().getShedLatencyLimit());
+
+        // once nothing is in progress, events are admitted again
+        other.release();
+        assertEquals(0, controller.getMetrics().getInFlight());
+        assertTrue(controller.admit(LOOP1).isAdmitted());
+    }
+
+    @Test
+    void testGetHeapUsedPercent() {
+        int percent = new AdmissionController(params).getHeapUsedPercent();
+        assertTrue(percent >= 0 && percent <= 100);
+    }
+
+    @Test
+    void testCurrentTimeMillis() {
+        long tbegin = System.currentTimeMillis();
+        long actual = new AdmissionController(params).currentTimeMillis();
+        assertTrue(actual >= tbegin && actual <= System.currentTimeMillis());
+    }
+
+    private class MyController extends AdmissionController {
+        public MyController() {
+            super(params);
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            return nowMs;
+        }
+
+        @Override
+        protected int getHeapUsedPercent() {
+            return heapUsedPercent;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BulkheadParamsTest {
+    private static final String CONTAINER = "my-container";
+
+    private BulkheadParams params;
+
+    @BeforeEach
+    void setUp() {
+        params = BulkheadParams.builder().build();
+    }
+
+    @Test
+    void test() {
+        assertEquals(10, params.getMaxInFlight());
+        assertEquals(50, params.getMaxQueued());
+
+        // no-arg constructor should have the same defaults
+        assertEquals(params, new BulkheadParams());
+    }
+
+    @Test
+    void testValidate() {
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setMaxInFlight(0);
+        assertFalse(params.validate(CONTAINER).isValid());
+        params.setMaxInFlight(1);
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setMaxQueued(-1);
+        assertFalse(params.validate(CONTAINER).isValid());
+        params.setMaxQueued(0);
+        assertTrue(params.validate(CONTAINER).isValid());
+    }
+}
@@ -0,0 +1,79 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class BulkheadRegistryTest {
+    private static final String ACTOR1 = "SO";
+    private static final String ACTOR2 = "AAI";
+    private static final String OPERATION1 = "VF Module Create";
+    private static final String OPERATION2 = "VF Module Delete";
+
+    @Test
+    void testGet() {
+        var registry = new BulkheadRegistry(Map.of(ACTOR1, BulkheadParams.builder().maxInFlight(3).build()));
+        assertThat(registry.getMetrics()).isEmpty();
+
+        Bulkhead bulkhead = registry.get(ACTOR1, OPERATION1);
+        assertNotNull(bulkhead);
+        assertEquals(ACTOR1, bulkhead.getActor());
+        assertEquals(OPERATION1, bulkhead.getOperation());
+        assertEquals(3, bulkhead.getMetrics().getMaxInFlight());
+
+        // same operation yields the same bulkhead
+        assertSame(bulkhead, registry.get(ACTOR1, OPERATION1));
+        assertNotSame(bulkhead, registry.get(ACTOR1, OPERATION2));
+
+        // no bulkheads for this actor
+        assertNull(registry.get(ACTOR2, OPERATION1));
+
+        assertThat(registry.getMetrics()).extracting(Bulkhead.Metrics::getOperation)
+                        .containsExactly(OPERATION1, OPERATION2);
+    }
+
+    @Test
+    void testSetLimits() {
+        var registry = new BulkheadRegistry(Map.of(ACTOR1, new BulkheadParams()));
+        Bulkhead bulkhead1 = registry.get(ACTOR1, OPERATION1);
+        Bulkhead bulkhead2 = registry.get(ACTOR1, OPERATION2);
+
+        registry.setLimits(ACTOR1, BulkheadParams.builder().maxInFlight(7).maxQueued(8).build());
+        assertEquals(7, bulkhead1.getMetrics().getMaxInFlight());
+        assertEquals(8, bulkhead1.getMetrics().getMaxQueued());
+        assertEquals(7, bulkhead2.getMetrics().getMaxInFlight());
+
+        // new bulkheads get the new limits
+        assertEquals(7, registry.get(ACTOR1, "other").getMetrics().getMaxInFlight());
+
+        // add an actor at runtime
+        registry.setLimits(ACTOR2, BulkheadParams.builder().maxInFlight(2).build());
+        assertEquals(2, registry.get(ACTOR2, OPERATION1).getMetrics().getMaxInFlight());
+    }
+}
@@ -0,0 +1,136 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.eventmanager.Bulkhead.Admission;
+import org.onap.policy.controlloop.eventmanager.Bulkhead.Metrics;
+
+class BulkheadTest {
+    private static final String ACTOR = "SO";
+    private static final String OPERATION = "VF Module Create";
+
+    private final List<String> started = new ArrayList<>();
+    private Bulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        bulkhead = new Bulkhead(ACTOR, OPERATION, BulkheadParams.builder().maxInFlight(2).maxQueued(2).build());
+    }
+
+    @Test
+    void testAcquire_testRelease() {
+        assertEquals(ACTOR, bulkhead.getActor());
+        assertEquals(OPERATION, bulkhead.getOperation());
+
+        assertEquals(Admission.ADMITTED, bulkhead.acquire(task("a")));
+        assertEquals(Admission.ADMITTED, bulkhead.acquire(task("b")));
+        assertEquals(Admission.QUEUED, bulkhead.acquire(task("c")));
+        assertEquals(Admission.QUEUED, bulkhead.acquire(task("d")));
+        assertEquals(Admission.REJECTED, bulkhead.acquire(task("e")));
+
+        // tasks are only run for queued calls
+        assertThat(started).isEmpty();
+
+        Metrics metrics = bulkhead.getMetrics();
+        assertEquals(ACTOR, metrics.getActor());
+        assertEquals(OPERATION, metrics.getOperation());
+        assertEquals(2, metrics.getMaxInFlight());
+        assertEquals(2, metrics.getMaxQueued());
+        assertEquals(2, metrics.getInFlight());
+        assertEquals(2, metrics.getQueueDepth());
+        assertEquals(2, metrics.getMaxQueueDepth());
+        assertEquals(2, metrics.getAdmitted());
+        assertEquals(2, metrics.getQueued());
+        assertEquals(1, metrics.getRejected());
+
+        // releasing a call starts the next one, in order
+        bulkhead.release();
+        assertThat(started).containsExactly("c");
+
+        bulkhead.release();
+        assertThat(started).containsExactly("c", "d");
+
+        metrics = bulkhead.getMetrics();
+        assertEquals(2, metrics.getInFlight());
+        assertEquals(0, metrics.getQueueDepth());
+        assertEquals(2, metrics.getMaxQueueDepth());
+        assertEquals(4, metrics.getAdmitted());
+
+        bulkhead.release();
+        bulkhead.release();
+        assertEquals(0, bulkhead.getMetrics().getInFlight());
+        assertEquals(Admission.ADMITTED, bulkhead.acquire(task("f")));
+    }
+
+    @Test
+    void testRemove() {
+        bulkhead.acquire(task("a"));
+        bulkhead.acquire(task("b"));
+
+        Runnable taskc = task("c");
+        assertEquals(Admission.QUEUED, bulkhead.acquire(taskc));
+        assertTrue(bulkhead.remove(taskc));
+        assertFalse(bulkhead.remove(taskc));
+
+        bulkhead.release();
+        assertThat(started).isEmpty();
+        assertEquals(1, bulkhead.getMetrics().getInFlight());
+    }
+
+    @Test
+    void testSetLimits() {
+        bulkhead.acquire(task("a"));
+        bulkhead.acquire(task("b"));
+        bulkhead.acquire(task("c"));
+        bulkhead.acquire(task("d"));
+
+        // raising the limit starts the queued calls
+        bulkhead.setLimits(BulkheadParams.builder().maxInFlight(3).maxQueued(0).build());
+        assertThat(started).containsExactly("c");
+
+        // nothing more may be queued, but the queued call remains
+        assertEquals(Admission.REJECTED, bulkhead.acquire(task("e")));
+        assertEquals(1, bulkhead.getMetrics().getQueueDepth());
+
+        // lowering the limit leaves the calls in flight alone
+        bulkhead.setLimits(BulkheadParams.builder().maxInFlight(1).maxQueued(0).build());
+        assertEquals(3, bulkhead.getMetrics().getInFlight());
+        assertEquals(1, bulkhead.getMetrics().getMaxInFlight());
+
+        bulkhead.release();
+        bulkhead.release();
+        bulkhead.release();
+        assertThat(started).containsExactly("c", "d");
+    }
+
+    private Runnable task(String name) {
+        return () -> started.add(name);
+    }
+}
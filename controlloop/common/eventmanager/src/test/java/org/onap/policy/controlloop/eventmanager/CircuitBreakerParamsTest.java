@@ -0,0 +1,83 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerParamsTest {
+    private static final String CONTAINER = "my-container";
+
+    private CircuitBreakerParams params;
+
+    @BeforeEach
+    void setUp() {
+        params = CircuitBreakerParams.builder().build();
+    }
+
+    @Test
+    void test() {
+        assertEquals(20, params.getWindowSize());
+        assertEquals(10, params.getMinimumCalls());
+        assertEquals(50, params.getFailureRatePercent());
+        assertEquals(0, params.getSlowCallMs());
+        assertEquals(30000, params.getOpenMs());
+
+        // no-arg constructor should have the same defaults
+        assertEquals(params, new CircuitBreakerParams());
+    }
+
+    @Test
+    void testValidate() {
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setWindowSize(0);
+        assertFalse(params.validate(CONTAINER).isValid());
+        params.setWindowSize(1);
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setMinimumCalls(0);
+        assertFalse(params.validate(CONTAINER).isValid());
+        params.setMinimumCalls(1);
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setFailureRatePercent(0);
+        assertFalse(params.validate(CONTAINER).isValid());
+        params.setFailureRatePercent(101);
+        assertFalse(params.validate(CONTAINER).isValid());
+        params.setFailureRatePercent(100);
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setSlowCallMs(-1);
+        assertFalse(params.validate(CONTAINER).isValid());
+        params.setSlowCallMs(0);
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setOpenMs(0);
+        assertFalse(params.validate(CONTAINER).isValid());
+        params.setOpenMs(1);
+        assertTrue(params.validate(CONTAINER).isValid());
+    }
+}
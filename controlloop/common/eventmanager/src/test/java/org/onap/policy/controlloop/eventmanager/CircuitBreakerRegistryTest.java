@@ -0,0 +1,50 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerRegistryTest {
+    private static final String ACTOR1 = "XACML";
+    private static final String ACTOR2 = "AAI";
+
+    @Test
+    void test() {
+        var registry = new CircuitBreakerRegistry(Map.of(ACTOR1, new CircuitBreakerParams(),
+                        ACTOR2, new CircuitBreakerParams()));
+
+        CircuitBreaker breaker = registry.get(ACTOR1);
+        assertNotNull(breaker);
+        assertEquals(ACTOR1, breaker.getActor());
+
+        assertNotNull(registry.get(ACTOR2));
+        assertNull(registry.get("unknown"));
+
+        // sorted by actor
+        assertThat(registry.getMetrics()).extracting(CircuitBreaker.Metrics::getActor).containsExactly(ACTOR2, ACTOR1);
+    }
+}
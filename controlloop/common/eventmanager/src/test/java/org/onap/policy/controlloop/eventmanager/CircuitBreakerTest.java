@@ -0,0 +1,209 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.eventmanager.CircuitBreaker.Metrics;
+import org.onap.policy.controlloop.eventmanager.CircuitBreaker.State;
+import org.onap.policy.controlloop.eventmanager.CircuitBreaker.Transition;
+
+class CircuitBreakerTest {
+    private static final String ACTOR = "AAI";
+    private static final long OPEN_MS = 1000;
+    private static final long SLOW_MS = 200;
+
+    private final AtomicLong nowMs = new AtomicLong(10000);
+    private CircuitBreaker breaker;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        // @formatter:off
+        var params = CircuitBreakerParams.builder()
+                        .windowSize(4)
+                        .minimumCalls(2)
+                        .failureRatePercent(50)
+                        .slowCallMs(SLOW_MS)
+                        .openMs(OPEN_MS)
+                        .build();
+        // @formatter:on
+
+        breaker = new CircuitBreaker(ACTOR, params) {
+            @Override
+            protected long currentTimeMillis() {
+                return nowMs.get();
+            }
+        };
+    }
+
+    @Test
+    void testClosed() {
+        assertEquals(ACTOR, breaker.getActor());
+        assertEquals(State.CLOSED, breaker.getState());
+
+        // successes keep it closed
+        for (var count = 0; count < 10; ++count) {
+            breaker.tryAcquire().success();
+        }
+        assertEquals(State.CLOSED, breaker.getState());
+
+        // one failure in a window of four is below the threshold
+        breaker.tryAcquire().failure();
+        assertEquals(State.CLOSED, breaker.getState());
+
+        Metrics metrics = breaker.getMetrics();
+        assertEquals(11, metrics.getCalls());
+        assertEquals(1, metrics.getFailures());
+        assertEquals(25, metrics.getFailureRatePercent());
+        assertThat(metrics.getTransitions()).isEmpty();
+    }
+
+    @Test
+    void testOpenOnFailureRate() {
+        // not enough calls yet
+        breaker.tryAcquire().failure();
+        assertEquals(State.CLOSED, breaker.getState());
+
+        breaker.tryAcquire().failure();
+        assertEquals(State.OPEN, breaker.getState());
+
+        // calls are now rejected
+        assertNull(breaker.tryAcquire());
+        assertNull(breaker.tryAcquire());
+
+        Metrics metrics = breaker.getMetrics();
+        assertEquals(State.OPEN, metrics.getState());
+        assertEquals(2, metrics.getCalls());
+        assertEquals(2, metrics.getFailures());
+        assertEquals(2, metrics.getRejected());
+        assertThat(metrics.getTransitions()).hasSize(1);
+
+        Transition transition = metrics.getTransitions().get(0);
+        assertEquals(State.CLOSED, transition.getFrom());
+        assertEquals(State.OPEN, transition.getTo());
+        assertEquals(nowMs.get(), transition.getTime().toEpochMilli());
+        assertEquals("bad call rate 100%", transition.getReason());
+    }
+
+    @Test
+    void testOpenOnLatency() {
+        var permit1 = breaker.tryAcquire();
+        var permit2 = breaker.tryAcquire();
+        nowMs.addAndGet(SLOW_MS + 1);
+        permit1.success();
+        permit2.success();
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(2, breaker.getMetrics().getSlowCalls());
+        assertEquals(0, breaker.getMetrics().getFailures());
+    }
+
+    @Test
+    void testProbeSucceeds() {
+        openBreaker();
+
+        // still open
+        nowMs.addAndGet(OPEN_MS - 1);
+        assertNull(breaker.tryAcquire());
+
+        // now half-open, letting a single probe through
+        nowMs.incrementAndGet();
+        var probe = breaker.tryAcquire();
+        assertNotNull(probe);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+
+        probe.success();
+        assertEquals(State.CLOSED, breaker.getState());
+        assertNotNull(breaker.tryAcquire());
+
+        assertThat(breaker.getMetrics().getTransitions()).extracting(Transition::getTo)
+                        .containsExactly(State.OPEN, State.HALF_OPEN, State.CLOSED);
+    }
+
+    @Test
+    void testProbeFails() {
+        openBreaker();
+
+        nowMs.addAndGet(OPEN_MS);
+        breaker.tryAcquire().failure();
+        assertEquals(State.OPEN, breaker.getState());
+
+        // the open interval starts over
+        assertNull(breaker.tryAcquire());
+        nowMs.addAndGet(OPEN_MS);
+        assertNotNull(breaker.tryAcquire());
+    }
+
+    @Test
+    void testProbeReleased() {
+        openBreaker();
+
+        nowMs.addAndGet(OPEN_MS);
+        breaker.tryAcquire().release();
+        assertEquals(State.HALF_OPEN, breaker.getState());
+
+        // another probe may now be sent
+        var probe = breaker.tryAcquire();
+        assertNotNull(probe);
+
+        // only the first report has any effect
+        probe.success();
+        probe.failure();
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testLateResultIgnored() {
+        var late = breaker.tryAcquire();
+        openBreaker();
+
+        // result of a call made before the breaker opened
+        late.success();
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void testTransitionsBounded() {
+        for (var count = 0; count < 10; ++count) {
+            openBreaker();
+            nowMs.addAndGet(OPEN_MS);
+            breaker.tryAcquire().success();
+        }
+
+        assertThat(breaker.getMetrics().getTransitions()).hasSize(10);
+    }
+
+    private void openBreaker() {
+        breaker.tryAcquire().failure();
+        breaker.tryAcquire().failure();
+        assertEquals(State.OPEN, breaker.getState());
+    }
+}
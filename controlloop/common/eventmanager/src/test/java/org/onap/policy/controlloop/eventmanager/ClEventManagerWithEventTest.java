@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2021, 2023 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023-2025 OpenInfra Foundation Europe. All rights reserved.
+ * Modifications Copyright (C) 2023-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -162,6 +162,12 @@ class ClEventManagerWithEventTest {
         assertThat(notif.getMessage()).contains(SIMPLE_ACTOR);
         assertThat(notif.getHistory()).hasSize(3);
         assertThat(notif.getAai()).isEqualTo(event.getAai());
+
+        // A&AI data should be shared by all notifications and be immutable
+        var aai = notif.getAai();
+        assertSame(aai, mgr.makeNotification().getAai());
+        assertThatThrownBy(() -> aai.put("abc", "def")).isInstanceOf(UnsupportedOperationException.class);
+
         assertThat(notif.getClosedLoopAlarmEnd()).isEqualTo(event.getClosedLoopAlarmEnd());
         assertThat(notif.getClosedLoopAlarmStart()).isEqualTo(event.getClosedLoopAlarmStart());
         assertThat(notif.getClosedLoopControlName()).isEqualTo(event.getClosedLoopControlName());
@@ -207,6 +213,7 @@ class ClEventManagerWithEventTest {
     void testStoreInDataBase() throws ControlLoopException {
         mgr.start();
         OperationOutcome outcome = makeOutcome();
+        outcome.setResponse("my-response");
         mgr.addToHistory(outcome);
 
         var peeked = mgr.getPartialHistory().peekLast();
@@ -215,6 +222,9 @@ class ClEventManagerWithEventTest {
 
         verify(dataMgr).store(REQ_ID.toString(), event.getClosedLoopControlName(), event, MY_TARGET,
             peeked.getClOperation());
+
+        // response should have been discarded
+        assertNull(outcome.getResponse());
     }
 
     @Test
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2021, 2023 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023, 2025 OpenInfra Foundation Europe. All rights reserved.
+ * Modifications Copyright (C) 2023, 2025-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -225,6 +225,68 @@ class ClEventManagerWithOutcomeTest {
         assertSame(outcome, mgr.getFullHistory().peekLast().getOutcome());
     }
 
+    @Test
+    void testGetPartialClHistory_testGetFullClHistory() throws Exception {
+        loadPolicy(EVENT_MGR_MULTI_YAML);
+        mgr = new MyManager(services, params, REQ_ID, workMem);
+        mgr.start();
+
+        assertThat(mgr.getPartialClHistory()).isEmpty();
+        assertThat(mgr.getFullClHistory()).isEmpty();
+
+        // add a "start" outcome
+        mgr.addToHistory(makeOutcome());
+        var partial = mgr.getPartialClHistory();
+        var full = mgr.getFullClHistory();
+        assertThat(partial).hasSize(1).containsExactly(mgr.getPartialHistory().peekLast().getClOperation());
+        assertThat(full).hasSize(1).containsExactly(mgr.getFullHistory().peekLast().getClOperation());
+
+        // add a "completion" outcome - should replace the start without altering the snapshots
+        var start = partial.get(0);
+        mgr.addToHistory(makeCompletedOutcome());
+        assertThat(partial).containsExactly(start);
+        assertThat(full).containsExactly(start);
+
+        assertThat(mgr.getPartialClHistory()).containsExactly(mgr.getPartialHistory().peekLast().getClOperation());
+        assertThat(mgr.getFullClHistory()).containsExactly(mgr.getFullHistory().peekLast().getClOperation());
+
+        // load the next policy - should clear the partial history, only
+        mgr.loadNextPolicy(OperationResult.SUCCESS);
+        assertThat(mgr.getPartialClHistory()).isEmpty();
+        assertThat(mgr.getFullClHistory()).hasSize(1);
+    }
+
+    @Test
+    void testCompactHistory() throws Exception {
+        when(services.getHistoryMaxEntries()).thenReturn(2);
+        loadPolicy(EVENT_MGR_MULTI_YAML);
+        mgr = new MyManager(services, params, REQ_ID, workMem);
+        mgr.start();
+
+        for (var count = 0; count < 5; ++count) {
+            mgr.addToHistory(makeOutcome());
+            mgr.addToHistory(makeCompletedOutcome());
+        }
+
+        // only the most recent outcomes are retained
+        assertThat(mgr.getPartialHistory()).hasSize(2);
+        assertThat(mgr.getFullHistory()).hasSize(2);
+
+        // older operations are replaced by a summary record
+        var history = mgr.getFullClHistory();
+        assertThat(history).hasSize(3);
+        assertEquals(ClOperationHistory.SUMMARY_OPERATION, history.get(0).getOperation());
+        assertThat(history.get(0).getMessage()).startsWith("3 earlier operations");
+        assertSame(mgr.getFullHistory().peekLast().getClOperation(), history.get(2));
+
+        assertThat(mgr.getPartialClHistory()).hasSize(3);
+
+        // partial history no longer has a summary once the next policy is loaded
+        mgr.loadNextPolicy(OperationResult.SUCCESS);
+        assertThat(mgr.getPartialClHistory()).isEmpty();
+        assertThat(mgr.getFullClHistory()).hasSize(3);
+    }
+
     @Test
     void testMakeNotification() throws Exception {
         loadPolicy(EVENT_MGR_MULTI_YAML);
@@ -244,6 +306,9 @@ class ClEventManagerWithOutcomeTest {
         assertThat(notif.getMessage()).contains(SIMPLE_ACTOR);
         assertThat(notif.getHistory()).hasSize(3);
 
+        // history should be shared until it changes
+        assertSame(notif.getHistory(), mgr.makeNotification().getHistory());
+
         // indicate success and load the next policy - should clear the partial history
         mgr.loadNextPolicy(OperationResult.SUCCESS);
 
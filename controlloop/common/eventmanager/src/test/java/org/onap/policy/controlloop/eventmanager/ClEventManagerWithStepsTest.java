@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2021, 2023 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023-2025 OpenInfra Foundation Europe. All rights reserved.
+ * Modifications Copyright (C) 2023-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,8 +33,12 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -45,6 +49,7 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import org.drools.core.WorkingMemory;
 import org.drools.core.common.InternalFactHandle;
@@ -174,6 +179,61 @@ class ClEventManagerWithStepsTest {
         verify(workMem).update(factHandle, mgr);
     }
 
+    @Test
+    void testOnCompleteWithBackoff() throws Exception {
+        var scheduler = mock(RetryScheduler.class);
+        when(services.getRetryScheduler()).thenReturn(scheduler);
+        when(scheduler.isEnabled(SIMPLE_ACTOR)).thenReturn(true);
+        when(scheduler.getDelayMs(eq(SIMPLE_ACTOR), anyLong(), anyLong())).thenReturn(500L);
+
+        var future = mock(ScheduledFuture.class);
+        doReturn(future).when(scheduler).schedule(any(), anyLong(), any());
+
+        loadPolicy(EVENT_MGR_SIMPLE_YAML, 2);
+        mgr = new MyManager(services, params, REQ_ID, workMem);
+        mgr.start();
+
+        // success is not retried
+        var outcome = makeCompletedOutcome();
+        outcome.setFinalOutcome(true);
+        mgr.onComplete(outcome);
+        assertTrue(outcome.isFinalOutcome());
+        verify(scheduler, never()).schedule(any(), anyLong(), any());
+
+        // first failure
+        outcome = makeFailedOutcome();
+        mgr.onComplete(outcome);
+        assertFalse(outcome.isFinalOutcome());
+        assertEquals(OperationResult.FAILURE, outcome.getResult());
+        verify(scheduler).getDelayMs(eq(SIMPLE_ACTOR), eq(1), anyLong());
+        verify(scheduler).schedule(eq(SIMPLE_ACTOR), eq(500L), any());
+
+        // second failure
+        outcome = makeFailedOutcome();
+        mgr.onComplete(outcome);
+        assertFalse(outcome.isFinalOutcome());
+        verify(scheduler).getDelayMs(eq(SIMPLE_ACTOR), eq(2), anyLong());
+        verify(scheduler, times(2)).schedule(eq(SIMPLE_ACTOR), eq(500L), any());
+
+        // retries exhausted
+        outcome = makeFailedOutcome();
+        mgr.onComplete(outcome);
+        assertTrue(outcome.isFinalOutcome());
+        assertEquals(OperationResult.FAILURE_RETRIES, outcome.getResult());
+        verify(scheduler).exhausted(SIMPLE_ACTOR);
+        verify(scheduler, times(2)).schedule(any(), anyLong(), any());
+
+        // no longer intercepted
+        outcome = makeFailedOutcome();
+        mgr.onComplete(outcome);
+        assertEquals(OperationResult.FAILURE, outcome.getResult());
+        verify(scheduler).exhausted(SIMPLE_ACTOR);
+
+        // the pending retry should be canceled
+        mgr.destroy();
+        verify(future).cancel(false);
+    }
+
     @Test
     void testToString() {
         assertNotNull(mgr.toString());
@@ -271,6 +331,26 @@ class ClEventManagerWithStepsTest {
         assertNotNull(params2.getCompleteCallback());
     }
 
+    @Test
+    void testLoadPolicyWithBackoff() throws Exception {
+        loadPolicy(EVENT_MGR_SIMPLE_YAML, 2);
+
+        // no backoff for the actor - the operation performs its own retries
+        var scheduler = mock(RetryScheduler.class);
+        when(services.getRetryScheduler()).thenReturn(scheduler);
+
+        mgr = new MyManager(services, params, REQ_ID, workMem);
+        mgr.start();
+        assertEquals(Integer.valueOf(2), mgr.getSteps().peek().getParams().getRetry());
+
+        // backoff for the actor - the manager performs the retries
+        when(scheduler.isEnabled(SIMPLE_ACTOR)).thenReturn(true);
+
+        mgr = new MyManager(services, params, REQ_ID, workMem);
+        mgr.start();
+        assertEquals(Integer.valueOf(0), mgr.getSteps().peek().getParams().getRetry());
+    }
+
     @Test
     void testLoadPreprocessorSteps() {
         stepa = new MyStep(ControlLoopOperationParams.builder().build()) {
@@ -348,6 +428,83 @@ class ClEventManagerWithStepsTest {
         // step returns true
         when(stepa.start(anyLong())).thenReturn(true);
         assertTrue(mgr.executeStep());
+
+        // only preprocessor steps have been started
+        assertFalse(mgr.isOperationStarted());
+
+        when(stepa.isPolicyStep()).thenReturn(true);
+        assertTrue(mgr.executeStep());
+        assertTrue(mgr.isOperationStarted());
+    }
+
+    @Test
+    void testExecuteStepWithCircuitBreaker() {
+        var breaker = mock(CircuitBreaker.class);
+        var breakers = mock(CircuitBreakerRegistry.class);
+        when(breakers.get(SIMPLE_ACTOR)).thenReturn(breaker);
+        when(services.getCircuitBreakers()).thenReturn(breakers);
+
+        when(stepa.getActorName()).thenReturn(SIMPLE_ACTOR);
+        when(stepa.start(anyLong())).thenReturn(true);
+        mgr.getSteps().add(stepa);
+
+        assertTrue(mgr.executeStep());
+        verify(stepa).setCircuitBreaker(breaker);
+    }
+
+    @Test
+    void testExecuteStepWithBulkhead() {
+        var bulkhead = mock(Bulkhead.class);
+        var bulkheads = mock(BulkheadRegistry.class);
+        when(bulkheads.get(SIMPLE_ACTOR, SIMPLE_OPERATION)).thenReturn(bulkhead);
+        when(services.getBulkheads()).thenReturn(bulkheads);
+
+        when(stepa.getActorName()).thenReturn(SIMPLE_ACTOR);
+        when(stepa.getOperationName()).thenReturn(SIMPLE_OPERATION);
+        when(stepa.start(anyLong())).thenReturn(true);
+        mgr.getSteps().add(stepa);
+
+        assertTrue(mgr.executeStep());
+        verify(stepa).setBulkhead(bulkhead);
+    }
+
+    @Test
+    void testCancelOnAbatement() throws ControlLoopException {
+        mgr.getSteps().add(stepa);
+
+        // abatements are ignored by default
+        assertFalse(mgr.cancelOnAbatement());
+        verify(stepa, never()).cancel();
+
+        when(services.getAbatementMode()).thenReturn(AbatementMode.CANCEL);
+        mgr = new MyManager(services, params, REQ_ID, workMem);
+        mgr.getSteps().add(stepa);
+        mgr.getSteps().add(stepb);
+        mgr.getOutcomes().add(makeOutcome());
+
+        assertTrue(mgr.cancelOnAbatement());
+        verify(stepa).cancel();
+        verify(stepb).cancel();
+        assertThat(mgr.getSteps()).isEmpty();
+        assertThat(mgr.getOutcomes()).isEmpty();
+        assertEquals(ClEventManagerWithSteps.State.DONE, mgr.getState());
+        assertEquals(OperationFinalResult.FINAL_SUCCESS, mgr.getFinalResult());
+        assertEquals(ClEventManagerWithSteps.ABATED_MESSAGE, mgr.getFinalMessage());
+
+        // already done
+        assertFalse(mgr.cancelOnAbatement());
+
+        // policy operation has already been started
+        mgr = new MyManager(services, params, REQ_ID, workMem);
+        var policyStep = mock(MyStep.class);
+        when(policyStep.isPolicyStep()).thenReturn(true);
+        when(policyStep.start(anyLong())).thenReturn(true);
+        mgr.getSteps().add(policyStep);
+        mgr.executeStep();
+
+        assertFalse(mgr.cancelOnAbatement());
+        verify(policyStep, never()).cancel();
+        assertThat(mgr.getSteps()).hasSize(1);
     }
 
     @Test
@@ -372,8 +529,30 @@ class ClEventManagerWithStepsTest {
         assertThatCode(() -> mgr.deliver(MY_SINK, "publishB", "B notification", "B rule")).doesNotThrowAnyException();
     }
 
+    @Test
+    void testDeliverWithPublisher() {
+        var publisher = mock(NotificationPublisher.class);
+        when(services.getNotificationPublisher()).thenReturn(publisher);
+
+        mgr.deliver(MY_SINK, null, "null notification", "null rule");
+        verify(publisher, never()).deliver(any(), any(), any());
+
+        mgr.deliver(MY_SINK, "publishA", "A notification", "A rule");
+        verify(publisher).deliver(MY_SINK, REQ_ID, "publishA");
+        verify(engineMgr, never()).deliver(any(), any());
+
+        // cause deliver() to throw an exception
+        doThrow(new IllegalStateException("expected exception")).when(publisher).deliver(any(), any(), any());
+        assertThatCode(() -> mgr.deliver(MY_SINK, "publishB", "B notification", "B rule")).doesNotThrowAnyException();
+    }
+
     private void loadPolicy(String fileName) throws CoderException {
-        var template = yamlCoder.decode(ResourceUtils.getResourceAsString(fileName), ToscaServiceTemplate.class);
+        loadPolicy(fileName, 0);
+    }
+
+    private void loadPolicy(String fileName, int retries) throws CoderException {
+        var yaml = ResourceUtils.getResourceAsString(fileName).replace("retries: 0", "retries: " + retries);
+        var template = yamlCoder.decode(yaml, ToscaServiceTemplate.class);
         ToscaPolicy tosca = template.getToscaTopologyTemplate().getPolicies().get(0).values().iterator().next();
 
         params.setToscaPolicy(tosca);
@@ -386,6 +565,14 @@ class ClEventManagerWithStepsTest {
         return outcome;
     }
 
+    private OperationOutcome makeFailedOutcome() {
+        var outcome = makeCompletedOutcome();
+        outcome.setResult(OperationResult.FAILURE);
+        outcome.setFinalOutcome(true);
+
+        return outcome;
+    }
+
     private OperationOutcome makeOutcome() {
         var outcome = new OperationOutcome();
         outcome.setActor(SIMPLE_ACTOR);
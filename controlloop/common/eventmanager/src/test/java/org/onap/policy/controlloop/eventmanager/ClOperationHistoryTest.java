@@ -0,0 +1,198 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.utils.io.Serializer;
+import org.onap.policy.controlloop.ControlLoopOperation;
+
+class ClOperationHistoryTest {
+    private ClOperationHistory history;
+
+    @BeforeEach
+    void setUp() {
+        history = new ClOperationHistory();
+    }
+
+    @Test
+    void testAdd_testSnapshot() {
+        assertThat(history.snapshot()).isEmpty();
+
+        List<ControlLoopOperation> expected = new ArrayList<>();
+        List<List<ControlLoopOperation>> snapshots = new ArrayList<>();
+
+        // add enough to force the array to grow a couple of times
+        for (var count = 0; count < 20; ++count) {
+            var oper = makeOperation(count);
+            history.add(oper);
+            expected.add(oper);
+
+            var snapshot = history.snapshot();
+            assertSame(snapshot, history.snapshot());
+            assertThat(snapshot).isEqualTo(expected);
+
+            snapshots.add(snapshot);
+        }
+
+        assertEquals(20, history.size());
+
+        // earlier snapshots should be unchanged
+        for (var count = 0; count < snapshots.size(); ++count) {
+            assertThat(snapshots.get(count)).isEqualTo(expected.subList(0, count + 1));
+        }
+    }
+
+    @Test
+    void testRemoveLast() {
+        // no effect when empty
+        history.removeLast();
+        assertEquals(0, history.size());
+
+        var oper0 = makeOperation(0);
+        var oper1 = makeOperation(1);
+        var oper2 = makeOperation(2);
+
+        // remove an item that isn't visible to any snapshot
+        history.add(oper0);
+        history.add(oper1);
+        history.removeLast();
+        history.add(oper2);
+        assertThat(history.snapshot()).containsExactly(oper0, oper2);
+
+        // remove an item that is visible to a snapshot - snapshot should be unchanged
+        var snapshot = history.snapshot();
+        history.removeLast();
+        history.add(oper1);
+        assertThat(snapshot).containsExactly(oper0, oper2);
+        assertThat(history.snapshot()).containsExactly(oper0, oper1);
+    }
+
+    @Test
+    void testClear() {
+        var oper0 = makeOperation(0);
+        var oper1 = makeOperation(1);
+
+        // clear without a snapshot
+        history.add(oper0);
+        history.clear();
+        assertEquals(0, history.size());
+        assertThat(history.snapshot()).isEmpty();
+
+        // clear with a snapshot
+        history.add(oper0);
+        var snapshot = history.snapshot();
+        history.clear();
+        history.add(oper1);
+
+        assertThat(snapshot).containsExactly(oper0);
+        assertThat(history.snapshot()).containsExactly(oper1);
+    }
+
+    @Test
+    void testCompact() {
+        // no effect when unbounded or within bounds
+        history.add(makeOperation(0));
+        history.compact(0);
+        history.compact(1);
+        assertEquals(1, history.size());
+        assertEquals(0, history.getCompacted());
+
+        var oper1 = makeOperation(1);
+        var oper2 = makeOperation(2);
+        history.add(oper1);
+        history.add(oper2);
+        var snapshot = history.snapshot();
+
+        history.compact(2);
+        assertEquals(1, history.getCompacted());
+        assertThat(snapshot).hasSize(3);
+
+        var compacted = history.snapshot();
+        assertThat(compacted).hasSize(3);
+        assertEquals(ClOperationHistory.SUMMARY_ACTOR, compacted.get(0).getActor());
+        assertEquals(ClOperationHistory.SUMMARY_OPERATION, compacted.get(0).getOperation());
+        assertEquals(ClOperationHistory.SUMMARY_OUTCOME, compacted.get(0).getOutcome());
+        assertEquals(Instant.ofEpochMilli(0), compacted.get(0).getStart());
+        assertEquals(Instant.ofEpochMilli(1), compacted.get(0).getEnd());
+        assertThat(compacted.get(0).getMessage()).startsWith("1 earlier operations").contains("SUCCESS=1");
+        assertThat(compacted.subList(1, 3)).containsExactly(oper1, oper2);
+
+        // compact again - should merge into the summary
+        var oper3 = makeOperation(3);
+        history.add(oper3);
+        history.compact(2);
+        assertEquals(2, history.getCompacted());
+        assertThat(history.snapshot()).hasSize(3);
+        assertThat(history.snapshot().get(0).getMessage()).startsWith("2 earlier operations");
+        assertThat(history.snapshot().subList(1, 3)).containsExactly(oper2, oper3);
+
+        // the summary record is never removed
+        history.removeLast();
+        history.removeLast();
+        history.removeLast();
+        assertThat(history.snapshot()).hasSize(1);
+
+        // clear discards the summary
+        history.clear();
+        assertEquals(0, history.getCompacted());
+        assertThat(history.snapshot()).isEmpty();
+    }
+
+    @Test
+    void testSnapshot() throws Exception {
+        history.add(makeOperation(0));
+        history.add(makeOperation(1));
+
+        var snapshot = history.snapshot();
+        var oper = makeOperation(2);
+
+        assertThatThrownBy(() -> snapshot.add(oper)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> snapshot.remove(0)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> snapshot.set(0, oper)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> snapshot.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> snapshot.get(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+
+        // items beyond the snapshot should not be serialized
+        history.add(oper);
+        Object copy = Serializer.roundTrip((Serializable) snapshot);
+        assertThat(copy).isInstanceOf(ArrayList.class).isEqualTo(snapshot);
+    }
+
+    private ControlLoopOperation makeOperation(int index) {
+        var oper = new ControlLoopOperation();
+        oper.setActor("actor-" + index);
+        oper.setOperation("operation-" + index);
+        oper.setStart(Instant.ofEpochMilli(index));
+        oper.setEnd(Instant.ofEpochMilli(index + 1L));
+        oper.setOutcome("SUCCESS");
+        return oper;
+    }
+}
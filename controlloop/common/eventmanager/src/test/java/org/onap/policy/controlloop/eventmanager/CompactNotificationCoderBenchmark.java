@@ -0,0 +1,84 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import org.onap.policy.controlloop.VirtualControlLoopNotification;
+import org.onap.policy.controlloop.util.Serialization;
+
+/**
+ * Compares the time and bytes needed to encode a notification via the compact coder with
+ * those needed by the pretty gson that the topic sinks have traditionally used. This is
+ * not run as part of the build; run it manually, e.g., from the IDE, or via:
+ *
+ * <pre>
+ * mvn exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.onap.policy.controlloop.eventmanager.CompactNotificationCoderBenchmark
+ * </pre>
+ */
+public class CompactNotificationCoderBenchmark {
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    /**
+     * Sizes of the history lists to be encoded.
+     */
+    private static final int[] HISTORY_SIZES = {1, 5, 20};
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args not used
+     */
+    public static void main(String[] args) {
+        var compact = new CompactNotificationCoder();
+
+        for (int nops : HISTORY_SIZES) {
+            var notification = CompactNotificationCoderTest.makeNotification(nops);
+
+            run("gsonPretty", nops, notification, Serialization.gsonPretty::toJson);
+            run("gson", nops, notification, Serialization.gson::toJson);
+            run("compact", nops, notification, compact::toJson);
+        }
+    }
+
+    private static void run(String name, int nops, VirtualControlLoopNotification notification,
+                    Function<Object, String> encoder) {
+
+        long bytes = 0;
+        for (var count = 0; count < WARMUP_ITERATIONS; ++count) {
+            bytes += encoder.apply(notification).length();
+        }
+
+        final long tstart = System.nanoTime();
+        for (var count = 0; count < ITERATIONS; ++count) {
+            bytes += encoder.apply(notification).length();
+        }
+        final long elapsed = System.nanoTime() - tstart;
+
+        int size = encoder.apply(notification).getBytes(StandardCharsets.UTF_8).length;
+
+        // "bytes" is printed so the JIT cannot discard the encoding
+        System.out.printf("%-10s history=%-3d %8d ns/op %7d bytes/msg (checksum %d)%n", name, nops,
+                        elapsed / ITERATIONS, size, bytes);
+    }
+}
@@ -0,0 +1,165 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.gson.JsonParser;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.ControlLoopNotificationType;
+import org.onap.policy.controlloop.ControlLoopOperation;
+import org.onap.policy.controlloop.ControlLoopResponse;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
+import org.onap.policy.controlloop.VirtualControlLoopNotification;
+import org.onap.policy.controlloop.util.Serialization;
+
+class CompactNotificationCoderTest {
+    private CompactNotificationCoder coder;
+
+    @BeforeEach
+    void setUp() {
+        coder = new CompactNotificationCoder();
+    }
+
+    @Test
+    void testNotification() {
+        var notification = makeNotification(5);
+
+        String json = coder.toJson(notification);
+        assertThat(json).doesNotContain("\n");
+        assertEquals(JsonParser.parseString(Serialization.gsonPretty.toJson(notification)),
+                        JsonParser.parseString(json));
+
+        // should be able to decode it
+        var decoded = coder.fromJson(json, VirtualControlLoopNotification.class);
+        assertEquals(notification.getRequestId(), decoded.getRequestId());
+        assertEquals(notification.getNotification(), decoded.getNotification());
+        assertEquals(notification.getHistory().size(), decoded.getHistory().size());
+        assertEquals(notification.getAai(), decoded.getAai());
+
+        // encode again, reusing the buffer
+        assertEquals(json, coder.toJson(notification));
+    }
+
+    @Test
+    void testResponse() {
+        var response = new ControlLoopResponse();
+        response.setClosedLoopControlName("my-loop");
+        response.setRequestId(UUID.randomUUID());
+        response.setTarget("DCAE");
+        response.setFrom("SDNR");
+        response.setPayload("{\"key\": \"a <value> & more\"}");
+        response.setPolicyName("my-policy");
+        response.setPolicyVersion("1.0.0");
+        response.setVersion("1.0.2");
+
+        String json = coder.toJson(response);
+        assertThat(json).doesNotContain("\n");
+        assertEquals(JsonParser.parseString(Serialization.gsonPretty.toJson(response)),
+                        JsonParser.parseString(json));
+    }
+
+    @Test
+    void testToJsonNull() {
+        assertEquals("null", coder.toJson(null));
+    }
+
+    @Test
+    void testToJsonLarge() {
+        // large enough that the buffer will be discarded afterward
+        var large = makeNotification(2000);
+        String json = coder.toJson(large);
+        assertThat(json.length()).isGreaterThan(64 * 1024);
+        assertEquals(JsonParser.parseString(Serialization.gson.toJson(large)), JsonParser.parseString(json));
+
+        // subsequent, small encoding should still work
+        var small = makeNotification(1);
+        assertEquals(JsonParser.parseString(Serialization.gson.toJson(small)),
+                        JsonParser.parseString(coder.toJson(small)));
+    }
+
+    @Test
+    void testToJsonMultipleThreads() throws InterruptedException, ExecutionException {
+        var notif1 = makeNotification(1);
+        var notif2 = makeNotification(2);
+
+        String json1 = coder.toJson(notif1);
+
+        // each thread has its own buffer
+        var future = CompletableFuture.supplyAsync(() -> coder.toJson(notif2));
+        assertEquals(json1, coder.toJson(notif1));
+        assertEquals(coder.toJson(notif2), future.get());
+    }
+
+    @Test
+    void testCompact() {
+        assertThat(CompactNotificationCoder.compact).isNotNull();
+    }
+
+    /**
+     * Makes a notification.
+     *
+     * @param nops number of operations to add to the history
+     * @return a new notification
+     */
+    static VirtualControlLoopNotification makeNotification(int nops) {
+        var event = new VirtualControlLoopEvent();
+        event.setClosedLoopControlName("my-loop");
+        event.setRequestId(UUID.randomUUID());
+        event.setTarget("generic-vnf.vnf-id");
+        event.setClosedLoopAlarmStart(Instant.ofEpochMilli(1000));
+        event.setAai(Map.of("generic-vnf.vnf-id", "my-vnf", "vserver.vserver-name", "my-vserver"));
+
+        var notification = new VirtualControlLoopNotification(event);
+        notification.setNotification(ControlLoopNotificationType.OPERATION_SUCCESS);
+        notification.setMessage("my-actor.my-operation: success");
+        notification.setPolicyName("my-policy");
+        notification.setPolicyVersion("1.0.0");
+        notification.setPolicyScope("my-rule");
+
+        List<ControlLoopOperation> history = new ArrayList<>(nops);
+        for (var count = 0; count < nops; ++count) {
+            var operation = new ControlLoopOperation();
+            operation.setActor("my-actor");
+            operation.setOperation("my-operation");
+            operation.setTarget("my-target");
+            operation.setSubRequestId(String.valueOf(count));
+            operation.setStart(Instant.ofEpochMilli(1000L + count));
+            operation.setEnd(Instant.ofEpochMilli(2000L + count));
+            operation.setOutcome("Success");
+            operation.setMessage("operation " + count + " completed \"successfully\"");
+            history.add(operation);
+        }
+
+        notification.setHistory(history);
+
+        return notification;
+    }
+}
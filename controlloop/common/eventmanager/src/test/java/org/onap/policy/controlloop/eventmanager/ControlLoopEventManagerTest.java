@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023, 2025 OpenInfra Foundation Europe. All rights reserved.
+ * Modifications Copyright (C) 2023, 2025-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,8 +26,12 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,17 +40,22 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.onap.policy.aai.AaiCqResponse;
 import org.onap.policy.common.utils.coder.Coder;
 import org.onap.policy.common.utils.coder.CoderException;
 import org.onap.policy.common.utils.coder.StandardYamlCoder;
 import org.onap.policy.common.utils.io.Serializer;
 import org.onap.policy.common.utils.resources.ResourceUtils;
 import org.onap.policy.controlloop.ControlLoopException;
+import org.onap.policy.controlloop.ControlLoopNotificationType;
 import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
+import org.onap.policy.controlloop.actorserviceprovider.OperationProperties;
 import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
 import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
 import org.onap.policy.controlloop.ophistory.OperationHistoryDataManager;
@@ -115,6 +124,7 @@ class ControlLoopEventManagerTest {
         assertEquals(POLICY_VERSION, mgr.getPolicyVersion());
         assertNotNull(mgr.getProcessor());
         assertThat(mgr.getEndTimeMs()).isGreaterThanOrEqualTo(preCreateTimeMs);
+        assertEquals(NotificationLevel.FULL, mgr.getNotificationLevel());
     }
 
     @Test
@@ -191,6 +201,17 @@ class ControlLoopEventManagerTest {
         assertTrue(mgr.getOutcomes().isEmpty());
     }
 
+    /**
+     * Tests that, by default, locks are requested via the services.
+     */
+    @Test
+    void testMakeLock() throws ControlLoopException {
+        mgr = new ControlLoopEventManager(services, params, REQ_ID);
+        mgr.requestLock(LOCK1);
+
+        verify(services).createLock(eq(LOCK1), eq(REQ_ID.toString()), anyInt(), any());
+    }
+
     @Test
     void testReleaseLock() {
         mgr.requestLock(LOCK1);
@@ -324,6 +345,29 @@ class ControlLoopEventManagerTest {
 
         mgr.removeProperty(MY_KEY);
         assertFalse(mgr.contains(MY_KEY));
+
+        // well-known property
+        mgr.setProperty(OperationProperties.AAI_TARGET_ENTITY, LOCK1);
+        assertTrue(mgr.contains(OperationProperties.AAI_TARGET_ENTITY));
+        assertEquals(LOCK1, mgr.getProperty(OperationProperties.AAI_TARGET_ENTITY));
+
+        mgr.removeProperty(OperationProperties.AAI_TARGET_ENTITY);
+        assertFalse(mgr.contains(OperationProperties.AAI_TARGET_ENTITY));
+
+        // typed accessors
+        assertNull(mgr.getAaiTargetEntity());
+        mgr.setAaiTargetEntity(LOCK1);
+        assertEquals(LOCK1, mgr.getAaiTargetEntity());
+        assertEquals(LOCK1, mgr.getProperty(OperationProperties.AAI_TARGET_ENTITY));
+
+        assertNull(mgr.getVfCount());
+        mgr.setVfCount(5);
+        assertEquals(5, mgr.getVfCount());
+
+        var aaicq = new AaiCqResponse("{}");
+        assertNull(mgr.getAaiCq());
+        mgr.setAaiCq(aaicq);
+        assertSame(aaicq, mgr.getAaiCq());
     }
 
     /**
@@ -351,6 +395,112 @@ class ControlLoopEventManagerTest {
         assertThat(mgr.getDataManager()).isInstanceOf(OperationHistoryDataManagerStub.class);
     }
 
+    @Test
+    void testGetNotificationPublisher() {
+        var publisher = mock(NotificationPublisher.class);
+        when(services.getNotificationPublisher()).thenReturn(publisher);
+
+        assertThat(mgr.getNotificationPublisher()).isSameAs(publisher);
+    }
+
+    @Test
+    void testDetmNotificationLevel() throws ControlLoopException {
+        // default from the services
+        when(services.getNotificationLevel()).thenReturn(NotificationLevel.OPERATIONS);
+        assertEquals(NotificationLevel.OPERATIONS, new MyManager(services, params, REQ_ID).getNotificationLevel());
+
+        // no services
+        assertEquals(NotificationLevel.FULL, new MyManager(null, params, REQ_ID).getNotificationLevel());
+
+        // from the policy metadata
+        tosca.getMetadata().put(ControlLoopEventManager.NOTIFICATION_LEVEL_METADATA, "Final_Only");
+        assertEquals(NotificationLevel.FINAL_ONLY, new MyManager(services, params, REQ_ID).getNotificationLevel());
+
+        // invalid metadata - falls back to the services
+        tosca.getMetadata().put(ControlLoopEventManager.NOTIFICATION_LEVEL_METADATA, "unknown");
+        assertEquals(NotificationLevel.OPERATIONS, new MyManager(services, params, REQ_ID).getNotificationLevel());
+
+        // no metadata
+        tosca.setMetadata(null);
+        assertEquals(NotificationLevel.OPERATIONS, new MyManager(services, params, REQ_ID).getNotificationLevel());
+    }
+
+    @Test
+    void testDetmAbatementMode() throws ControlLoopException {
+        // default from the services
+        when(services.getAbatementMode()).thenReturn(AbatementMode.CANCEL);
+        assertEquals(AbatementMode.CANCEL, new MyManager(services, params, REQ_ID).getAbatementMode());
+
+        // no services
+        assertEquals(AbatementMode.IGNORE, new MyManager(null, params, REQ_ID).getAbatementMode());
+
+        // from the policy metadata
+        when(services.getAbatementMode()).thenReturn(AbatementMode.IGNORE);
+        tosca.getMetadata().put(ControlLoopEventManager.ABATEMENT_MODE_METADATA, "Cancel");
+        assertEquals(AbatementMode.CANCEL, new MyManager(services, params, REQ_ID).getAbatementMode());
+
+        // invalid metadata - falls back to the services
+        tosca.getMetadata().put(ControlLoopEventManager.ABATEMENT_MODE_METADATA, "unknown");
+        assertEquals(AbatementMode.IGNORE, new MyManager(services, params, REQ_ID).getAbatementMode());
+
+        // no metadata
+        tosca.setMetadata(null);
+        assertEquals(AbatementMode.IGNORE, new MyManager(services, params, REQ_ID).getAbatementMode());
+    }
+
+    @Test
+    void testGetPriority_testGetExecutor() throws ControlLoopException {
+        assertEquals(0, mgr.getPriority());
+        assertSame(ForkJoinPool.commonPool(), mgr.getExecutor());
+
+        params.setPriority(5);
+        var executor = mock(PriorityExecutor.class);
+        var prioExecutor = mock(Executor.class);
+        when(executor.forPriority(5)).thenReturn(prioExecutor);
+        when(services.getPriorityExecutor()).thenReturn(executor);
+
+        mgr = new MyManager(services, params, REQ_ID);
+        assertEquals(5, mgr.getPriority());
+        assertSame(prioExecutor, mgr.getExecutor());
+    }
+
+    @Test
+    void testGetCircuitBreaker() {
+        assertNull(mgr.getCircuitBreaker("AAI"));
+
+        var breaker = mock(CircuitBreaker.class);
+        var breakers = mock(CircuitBreakerRegistry.class);
+        when(breakers.get("AAI")).thenReturn(breaker);
+        when(services.getCircuitBreakers()).thenReturn(breakers);
+
+        assertSame(breaker, mgr.getCircuitBreaker("AAI"));
+        assertNull(mgr.getCircuitBreaker("SO"));
+    }
+
+    @Test
+    void testGetBulkhead() {
+        assertNull(mgr.getBulkhead("SO", "VF Module Create"));
+
+        var bulkhead = mock(Bulkhead.class);
+        var bulkheads = mock(BulkheadRegistry.class);
+        when(bulkheads.get("SO", "VF Module Create")).thenReturn(bulkhead);
+        when(services.getBulkheads()).thenReturn(bulkheads);
+
+        assertSame(bulkhead, mgr.getBulkhead("SO", "VF Module Create"));
+        assertNull(mgr.getBulkhead("SO", "VF Module Delete"));
+    }
+
+    @Test
+    void testIsNotificationEnabled() throws ControlLoopException {
+        assertTrue(mgr.isNotificationEnabled(ControlLoopNotificationType.OPERATION));
+
+        tosca.getMetadata().put(ControlLoopEventManager.NOTIFICATION_LEVEL_METADATA, "FINAL_ONLY");
+        mgr = new MyManager(services, params, REQ_ID);
+        assertFalse(mgr.isNotificationEnabled(ControlLoopNotificationType.OPERATION));
+        assertFalse(mgr.isNotificationEnabled(ControlLoopNotificationType.OPERATION_SUCCESS));
+        assertTrue(mgr.isNotificationEnabled(ControlLoopNotificationType.FINAL_SUCCESS));
+    }
+
     @Test
     void testToString() {
         assertNotNull(mgr.toString());
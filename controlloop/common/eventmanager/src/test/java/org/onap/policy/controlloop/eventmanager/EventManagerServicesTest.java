@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023, 2025 OpenInfra Foundation Europe. All rights reserved.
+ * Modifications Copyright (C) 2023, 2025-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,26 +21,47 @@
 
 package org.onap.policy.controlloop.eventmanager;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.drools.core.WorkingMemory;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.onap.policy.common.endpoints.http.client.HttpClientFactoryInstance;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
 import org.onap.policy.controlloop.actorserviceprovider.ActorService;
+import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
+import org.onap.policy.controlloop.eventmanager.EventManagerServices.Readiness;
+import org.onap.policy.controlloop.ophistory.OperationHistoryDataManager;
+import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerDeferred;
 import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerImpl;
 import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerStub;
 import org.onap.policy.drools.persistence.SystemPersistenceConstants;
 
 class EventManagerServicesTest {
     private static final String FILEPFX = "eventService/";
+    private static final long WAIT_SEC = 5;
     private static final IllegalArgumentException EXPECTED_EXCEPTION =
                     new IllegalArgumentException("expected exception");
 
@@ -76,6 +97,8 @@ class EventManagerServicesTest {
         services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled");
         assertInstanceOf(OperationHistoryDataManagerStub.class, services.getDataManager());
         assertNotNull(services.getActorService());
+        assertNotNull(services.getNotificationPublisher());
+        assertEquals(NotificationLevel.FULL, services.getNotificationLevel());
 
         // try with guard enabled - should create a DB connection
         services = new EventManagerServices(FILEPFX + "event-svc-with-db");
@@ -107,16 +130,385 @@ class EventManagerServicesTest {
         assertInstanceOf(OperationHistoryDataManagerStub.class, services.getDataManager());
     }
 
+    @Test
+    void testProbeGuard() throws Exception {
+        // guard disabled
+        services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled");
+        assertFalse(services.isGuarded());
+        assertFalse(services.getGuardProbe().get(WAIT_SEC, TimeUnit.SECONDS));
+
+        // guard enabled
+        services = new EventManagerServices(FILEPFX + "event-svc-with-db");
+        assertTrue(services.isGuarded());
+        assertTrue(services.getGuardProbe().get(WAIT_SEC, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testMakeGuardedDataManager() {
+        // guard actor is still starting
+        final var probe = new CompletableFuture<Boolean>();
+
+        services = new EventManagerServices(FILEPFX + "event-svc-with-db") {
+            @Override
+            public CompletableFuture<Boolean> probeGuard() {
+                return probe;
+            }
+        };
+
+        var deferred = assertInstanceOf(OperationHistoryDataManagerDeferred.class, services.getDataManager());
+        assertInstanceOf(OperationHistoryDataManagerStub.class, deferred.getDelegate());
+
+        // guard actor is running - should now use a DB connection
+        probe.complete(true);
+        assertInstanceOf(OperationHistoryDataManagerImpl.class, deferred.getDelegate());
+        services.shutdown();
+
+        // guard actor failed to start - should continue to use the stub
+        final var probe2 = new CompletableFuture<Boolean>();
+
+        services = new EventManagerServices(FILEPFX + "event-svc-with-db") {
+            @Override
+            public CompletableFuture<Boolean> probeGuard() {
+                return probe2;
+            }
+        };
+
+        deferred = assertInstanceOf(OperationHistoryDataManagerDeferred.class, services.getDataManager());
+        probe2.complete(false);
+        assertInstanceOf(OperationHistoryDataManagerStub.class, deferred.getDelegate());
+    }
+
+    @Test
+    void testCheckReady() {
+        final var startup = mock(ActorStartup.class);
+        final var started = new CompletableFuture<Void>();
+        when(startup.whenAllStarted(any())).thenReturn(started);
+
+        services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled") {
+            @Override
+            public ActorStartup getActorStartup() {
+                return startup;
+            }
+        };
+
+        var params = new ControlLoopParams();
+        params.setActors(Set.of("SO"));
+
+        var event = new VirtualControlLoopEvent();
+        var workMem = mock(WorkingMemory.class);
+
+        // still starting - deferred without blocking
+        assertEquals(Readiness.DEFERRED, services.checkReady(params, event, workMem));
+        verify(workMem, never()).insert(event);
+
+        // re-inserted once the actors have started
+        started.complete(null);
+        verify(workMem).insert(event);
+
+        assertEquals(Readiness.READY, services.checkReady(params, event, workMem));
+
+        // no actors
+        params.setActors(null);
+        when(startup.whenAllStarted(any())).thenReturn(CompletableFuture.completedFuture(null));
+        assertEquals(Readiness.READY, services.checkReady(params, new VirtualControlLoopEvent(), workMem));
+    }
+
+    @Test
+    void testCheckReadyTimeout() {
+        final var startup = mock(ActorStartup.class);
+        when(startup.whenAllStarted(any())).thenReturn(new CompletableFuture<>());
+
+        services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled") {
+            @Override
+            public ActorStartup getActorStartup() {
+                return startup;
+            }
+
+            @Override
+            public long detmActorReadyWaitMs(Properties props) {
+                return 100;
+            }
+        };
+
+        var params = new ControlLoopParams();
+        params.setActors(Set.of("SO"));
+
+        var event = new VirtualControlLoopEvent();
+        var workMem = mock(WorkingMemory.class);
+
+        assertEquals(Readiness.DEFERRED, services.checkReady(params, event, workMem));
+
+        // re-inserted once the wait time has elapsed, and then rejected
+        verify(workMem, timeout(5000)).insert(event);
+        assertEquals(Readiness.NOT_READY, services.checkReady(params, event, workMem));
+
+        // not re-inserted after shut down
+        var event2 = new VirtualControlLoopEvent();
+        assertEquals(Readiness.DEFERRED, services.checkReady(params, event2, workMem));
+        services.shutdown();
+        verify(workMem, after(300).never()).insert(event2);
+    }
+
+    @Test
+    void testShutdown() {
+        final var publisher = mock(NotificationPublisher.class);
+        final var executor = mock(PriorityExecutor.class);
+        final var scheduler = mock(RetryScheduler.class);
+
+        services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled") {
+            @Override
+            public NotificationPublisher makeNotificationPublisher(Properties props) {
+                return publisher;
+            }
+
+            @Override
+            public PriorityExecutor makePriorityExecutor(Properties props) {
+                return executor;
+            }
+
+            @Override
+            public RetryScheduler makeRetryScheduler(Properties props) {
+                return scheduler;
+            }
+        };
+
+        // an exception from one service should not prevent the others from being stopped
+        doThrow(EXPECTED_EXCEPTION).when(publisher).stop();
+
+        services.shutdown();
+        verify(publisher).stop();
+        verify(executor).stop();
+        verify(scheduler).stop();
+
+        // should only stop them once
+        services.shutdown();
+        verify(publisher).stop();
+        verify(executor).stop();
+        verify(scheduler).stop();
+    }
+
+    @Test
+    void testShutdownConstructorFailure() {
+        final var mgr = mock(OperationHistoryDataManager.class);
+
+        assertThatThrownBy(() -> new EventManagerServices(FILEPFX + "event-svc-invalid-publisher") {
+            @Override
+            public OperationHistoryDataManager makeGuardedDataManager(Properties props) {
+                return mgr;
+            }
+        }).isInstanceOf(IllegalArgumentException.class);
+
+        // those created before the failure should have been stopped
+        verify(mgr).stop();
+    }
+
     @Test
     void testMakeDataManager() {
         assertThatThrownBy(() -> new EventManagerServices(FILEPFX + "event-svc-invalid-db"))
                         .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void testMakeNotificationPublisher() {
+        assertThatThrownBy(() -> new EventManagerServices(FILEPFX + "event-svc-invalid-publisher"))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("notification publisher");
+    }
+
+    @Test
+    void testMakeAdmissionController() {
+        services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled");
+        assertNotNull(services.getAdmissionController());
+        assertEquals(0, services.getAdmissionController().getMetrics().getInFlight());
+
+        assertThatThrownBy(() -> new EventManagerServices(FILEPFX + "event-svc-invalid-admission"))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("admission");
+    }
+
+    @Test
+    void testMakeRetryScheduler() {
+        services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled");
+        assertNull(services.getRetryScheduler());
+
+        var props = new Properties();
+        assertNull(services.makeRetryScheduler(props));
+
+        props.setProperty(EventManagerServices.RETRY_BACKOFF_PROPERTIES + ".SO.initialDelayMs", "500");
+        props.setProperty(EventManagerServices.RETRY_BACKOFF_PROPERTIES + ".APPC.maxDelayMs", "10000");
+        var scheduler = services.makeRetryScheduler(props);
+        assertNotNull(scheduler);
+        assertTrue(scheduler.isEnabled("SO"));
+        assertTrue(scheduler.isEnabled("APPC"));
+        assertFalse(scheduler.isEnabled("VFC"));
+        scheduler.stop();
+
+        assertThatThrownBy(() -> new EventManagerServices(FILEPFX + "event-svc-invalid-retry"))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("retry backoff");
+    }
+
+    @Test
+    void testMakeCircuitBreakers() {
+        services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled");
+        assertNull(services.getCircuitBreakers());
+
+        var props = new Properties();
+        assertNull(services.makeCircuitBreakers(props));
+
+        props.setProperty(EventManagerServices.CIRCUIT_BREAKER_PROPERTIES + ".AAI.openMs", "5000");
+        props.setProperty(EventManagerServices.CIRCUIT_BREAKER_PROPERTIES + ".XACML.windowSize", "10");
+        var breakers = services.makeCircuitBreakers(props);
+        assertNotNull(breakers);
+        assertNotNull(breakers.get("AAI"));
+        assertNotNull(breakers.get("XACML"));
+        assertNull(breakers.get("SO"));
+
+        assertThatThrownBy(() -> new EventManagerServices(FILEPFX + "event-svc-invalid-breaker"))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("circuit breaker");
+    }
+
+    @Test
+    void testMakeBulkheads() {
+        services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled");
+        assertNotNull(services.getBulkheads());
+        assertNull(services.getBulkheads().get("SO", "VF Module Create"));
+
+        var props = new Properties();
+        props.setProperty(EventManagerServices.BULKHEAD_PROPERTIES + ".SO.maxInFlight", "5");
+        props.setProperty(EventManagerServices.BULKHEAD_PROPERTIES + ".AAI.maxQueued", "100");
+        var bulkheads = services.makeBulkheads(props);
+        assertEquals(5, bulkheads.get("SO", "VF Module Create").getMetrics().getMaxInFlight());
+        assertEquals(100, bulkheads.get("AAI", "CustomQuery").getMetrics().getMaxQueued());
+        assertNull(bulkheads.get("APPC", "Restart"));
+
+        assertThatThrownBy(() -> new EventManagerServices(FILEPFX + "event-svc-invalid-bulkhead"))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("bulkhead");
+    }
+
+    @Test
+    void testDetmActorStartupMode() {
+        services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled");
+
+        var props = new Properties();
+        assertEquals(ActorStartupMode.EAGER, services.detmActorStartupMode(props));
+
+        props.setProperty(EventManagerServices.ACTOR_STARTUP_MODE_PROPERTY, " lazy ");
+        assertEquals(ActorStartupMode.LAZY, services.detmActorStartupMode(props));
+
+        props.setProperty(EventManagerServices.ACTOR_STARTUP_MODE_PROPERTY, "unknown");
+        assertEquals(ActorStartupMode.EAGER, services.detmActorStartupMode(props));
+    }
+
+    @Test
+    void testDetmActorReadyWaitMs() {
+        services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled");
+        assertEquals(EventManagerServices.DEFAULT_ACTOR_READY_WAIT_MS, services.getActorReadyWaitMs());
+
+        var props = new Properties();
+        props.setProperty(EventManagerServices.ACTOR_READY_WAIT_MS_PROPERTY, " 200 ");
+        assertEquals(200, services.detmActorReadyWaitMs(props));
+
+        props.setProperty(EventManagerServices.ACTOR_READY_WAIT_MS_PROPERTY, "unknown");
+        assertEquals(EventManagerServices.DEFAULT_ACTOR_READY_WAIT_MS, services.detmActorReadyWaitMs(props));
+    }
+
+    @Test
+    void testDetmHistoryMaxEntries() {
+        services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled");
+        assertEquals(EventManagerServices.DEFAULT_HISTORY_MAX_ENTRIES, services.getHistoryMaxEntries());
+
+        var props = new Properties();
+        props.setProperty(EventManagerServices.HISTORY_MAX_ENTRIES_PROPERTY, " 20 ");
+        assertEquals(20, services.detmHistoryMaxEntries(props));
+
+        props.setProperty(EventManagerServices.HISTORY_MAX_ENTRIES_PROPERTY, "unknown");
+        assertEquals(EventManagerServices.DEFAULT_HISTORY_MAX_ENTRIES, services.detmHistoryMaxEntries(props));
+    }
+
+    @Test
+    void testDetmFastPathPolicyTypes() {
+        services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled");
+        assertThat(services.getFastPathPolicyTypes()).isEmpty();
+
+        var props = new Properties();
+        props.setProperty(EventManagerServices.FAST_PATH_POLICY_TYPES_PROPERTY, " ");
+        assertThat(services.detmFastPathPolicyTypes(props)).isEmpty();
+
+        props.setProperty(EventManagerServices.FAST_PATH_POLICY_TYPES_PROPERTY, " typeA,, typeB ");
+        assertThat(services.detmFastPathPolicyTypes(props)).containsExactlyInAnyOrder("typeA", "typeB");
+    }
+
+    @Test
+    void testDetmOnsetCoalescing() {
+        services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled");
+        assertEquals(OnsetCoalescing.NONE, services.getOnsetCoalescing());
+
+        var props = new Properties();
+        assertEquals(OnsetCoalescing.NONE, services.detmOnsetCoalescing(props));
+
+        props.setProperty(EventManagerServices.ONSET_COALESCING_PROPERTY, "attach");
+        assertEquals(OnsetCoalescing.ATTACH, services.detmOnsetCoalescing(props));
+
+        props.setProperty(EventManagerServices.ONSET_COALESCING_PROPERTY, "unknown");
+        assertEquals(OnsetCoalescing.NONE, services.detmOnsetCoalescing(props));
+    }
+
+    @Test
+    void testDetmAbatementMode() {
+        services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled");
+        assertEquals(AbatementMode.IGNORE, services.getAbatementMode());
+
+        var props = new Properties();
+        assertEquals(AbatementMode.IGNORE, services.detmAbatementMode(props));
+
+        props.setProperty(EventManagerServices.ABATEMENT_MODE_PROPERTY, "cancel");
+        assertEquals(AbatementMode.CANCEL, services.detmAbatementMode(props));
+
+        props.setProperty(EventManagerServices.ABATEMENT_MODE_PROPERTY, "unknown");
+        assertEquals(AbatementMode.IGNORE, services.detmAbatementMode(props));
+    }
+
+    @Test
+    void testMakePriorityExecutor() {
+        services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled");
+        assertNull(services.getPriorityExecutor());
+
+        var props = new Properties();
+        assertNull(services.makePriorityExecutor(props));
+
+        props.setProperty(EventManagerServices.PRIORITY_EXECUTOR_THREADS_PROPERTY, "0");
+        assertNull(services.makePriorityExecutor(props));
+
+        props.setProperty(EventManagerServices.PRIORITY_EXECUTOR_THREADS_PROPERTY, "abc");
+        assertNull(services.makePriorityExecutor(props));
+
+        props.setProperty(EventManagerServices.PRIORITY_EXECUTOR_THREADS_PROPERTY, "2");
+        var executor = services.makePriorityExecutor(props);
+        assertNotNull(executor);
+        executor.stop();
+    }
+
+    @Test
+    void testDetmNotificationLevel() {
+        services = new EventManagerServices(FILEPFX + "event-svc-guard-disabled");
+
+        var props = new Properties();
+        assertEquals(NotificationLevel.FULL, services.detmNotificationLevel(props));
+
+        props.setProperty(EventManagerServices.NOTIFICATION_LEVEL_PROPERTY, "final_only");
+        assertEquals(NotificationLevel.FINAL_ONLY, services.detmNotificationLevel(props));
+
+        props.setProperty(EventManagerServices.NOTIFICATION_LEVEL_PROPERTY, "unknown");
+        assertEquals(NotificationLevel.FULL, services.detmNotificationLevel(props));
+    }
+
 
     private void closeDb() {
         if (services != null) {
-            services.getDataManager().stop();
+            services.shutdown();
         }
     }
 }
@@ -0,0 +1,55 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.ControlLoopNotificationType;
+
+class NotificationLevelTest {
+
+    @Test
+    void testIsEnabled() {
+        // everything is enabled at the FULL level
+        for (ControlLoopNotificationType type : ControlLoopNotificationType.values()) {
+            assertTrue(NotificationLevel.FULL.isEnabled(type), type.toString());
+        }
+
+        assertFalse(NotificationLevel.OPERATIONS.isEnabled(ControlLoopNotificationType.OPERATION));
+        assertTrue(NotificationLevel.OPERATIONS.isEnabled(ControlLoopNotificationType.OPERATION_SUCCESS));
+        assertTrue(NotificationLevel.OPERATIONS.isEnabled(ControlLoopNotificationType.OPERATION_FAILURE));
+
+        assertFalse(NotificationLevel.FINAL_ONLY.isEnabled(ControlLoopNotificationType.OPERATION));
+        assertFalse(NotificationLevel.FINAL_ONLY.isEnabled(ControlLoopNotificationType.OPERATION_SUCCESS));
+        assertFalse(NotificationLevel.FINAL_ONLY.isEnabled(ControlLoopNotificationType.OPERATION_FAILURE));
+
+        // transaction boundaries are always enabled
+        for (NotificationLevel level : NotificationLevel.values()) {
+            assertTrue(level.isEnabled(ControlLoopNotificationType.ACTIVE), level.toString());
+            assertTrue(level.isEnabled(ControlLoopNotificationType.REJECTED), level.toString());
+            assertTrue(level.isEnabled(ControlLoopNotificationType.FINAL_SUCCESS), level.toString());
+            assertTrue(level.isEnabled(ControlLoopNotificationType.FINAL_FAILURE), level.toString());
+            assertTrue(level.isEnabled(ControlLoopNotificationType.FINAL_OPENLOOP), level.toString());
+        }
+    }
+}
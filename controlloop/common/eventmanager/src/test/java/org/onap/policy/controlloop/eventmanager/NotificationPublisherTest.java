@@ -0,0 +1,324 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.drools.system.PolicyEngine;
+
+class NotificationPublisherTest {
+    private static final String MY_SINK = "my-sink";
+    private static final String REQ_ID = "my-request";
+    private static final String NOTIFICATION = "my-notification";
+    private static final int NTHREADS = 3;
+
+    private PolicyEngine engineMgr;
+    private List<Thread> threads;
+    private List<Object> delivered;
+    private NotificationPublisherParams params;
+    private MyPublisher publisher;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        engineMgr = mock(PolicyEngine.class);
+        threads = Collections.synchronizedList(new ArrayList<>());
+        delivered = Collections.synchronizedList(new ArrayList<>());
+
+        doAnswer(args -> delivered.add(args.getArgument(1))).when(engineMgr).deliver(any(), any());
+
+        params = NotificationPublisherParams.builder().async(true).threads(NTHREADS).maxQueueLength(5).offerTimeoutMs(0)
+                        .build();
+        publisher = new MyPublisher(params);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        publisher.stop();
+
+        for (Thread thread : threads) {
+            thread.join(5000);
+        }
+    }
+
+    @Test
+    void testConstructor() {
+        params.setThreads(0);
+        assertThatIllegalArgumentException().isThrownBy(() -> new MyPublisher(params));
+    }
+
+    @Test
+    void testStart() {
+        publisher.start();
+        assertEquals(NTHREADS, threads.size());
+        assertTrue(threads.get(0).isDaemon());
+        assertTrue(publisher.getMetrics().isAsync());
+
+        // should not start more threads
+        publisher.start();
+        assertEquals(NTHREADS, threads.size());
+    }
+
+    @Test
+    void testStartNotAsync() {
+        params.setAsync(false);
+        publisher = new MyPublisher(params);
+        publisher.start();
+        assertTrue(threads.isEmpty());
+        assertFalse(publisher.getMetrics().isAsync());
+
+        // should be published synchronously
+        publisher.deliver(MY_SINK, REQ_ID, NOTIFICATION);
+        verify(engineMgr).deliver(MY_SINK, NOTIFICATION);
+        assertEquals(1, publisher.getMetrics().getPublished());
+    }
+
+    @Test
+    void testStartAfterStop() {
+        publisher.stop();
+        publisher.start();
+        assertTrue(threads.isEmpty());
+    }
+
+    @Test
+    void testStop() throws InterruptedException {
+        final var latch = blockPublisher();
+
+        publisher.start();
+        publisher.deliver(MY_SINK, REQ_ID, "first");
+        publisher.deliver(MY_SINK, REQ_ID, "second");
+
+        publisher.stop();
+        assertFalse(publisher.getMetrics().isAsync());
+
+        // delivered after the stop, but before the queue drains - should be queued
+        publisher.deliver(MY_SINK, REQ_ID, "third");
+        assertTrue(publisher.getQueueLength() > 0);
+
+        // the queued notifications should still be published
+        latch.countDown();
+        for (Thread thread : threads) {
+            thread.join(5000);
+            assertFalse(thread.isAlive());
+        }
+
+        // delivered after the queue drains - should be published synchronously
+        publisher.deliver(MY_SINK, REQ_ID, "fourth");
+
+        assertThat(delivered).containsExactly("first", "second", "third", "fourth");
+        assertEquals(0, publisher.getQueueLength());
+    }
+
+    @Test
+    void testDeliverNotStarted() {
+        publisher.deliver(MY_SINK, REQ_ID, NOTIFICATION);
+        verify(engineMgr).deliver(MY_SINK, NOTIFICATION);
+    }
+
+    @Test
+    void testDeliverInOrder() {
+        publisher.start();
+
+        final var count = 100;
+        for (var index = 0; index < count; ++index) {
+            publisher.deliver(MY_SINK, REQ_ID, index);
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> delivered.size() == count);
+
+        for (var index = 0; index < count; ++index) {
+            assertEquals(index, delivered.get(index));
+        }
+
+        var metrics = publisher.getMetrics();
+        assertEquals(count, metrics.getPublished());
+        assertEquals(0, metrics.getFailed());
+        assertEquals(0, metrics.getDropped());
+        assertEquals(NTHREADS, metrics.getThreads());
+        assertTrue(metrics.getMaxLatencyMs() >= metrics.getAverageLatencyMs());
+    }
+
+    @Test
+    void testDeliverQueueFull() {
+        final var latch = blockPublisher();
+        publisher.start();
+
+        // first one is taken by the publisher thread, the next five fill the queue
+        publisher.deliver(MY_SINK, REQ_ID, "taken");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> publisher.getQueueLength() == 0);
+
+        for (var index = 0; index < 5; ++index) {
+            publisher.deliver(MY_SINK, REQ_ID, index);
+        }
+        assertEquals(5, publisher.getQueueLength());
+
+        // this one should be discarded
+        publisher.deliver(MY_SINK, REQ_ID, "discarded");
+        assertEquals(1, publisher.getMetrics().getDropped());
+        assertEquals(5, publisher.getMetrics().getQueueLength());
+
+        latch.countDown();
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> delivered.size() == 6);
+        assertThat(delivered).doesNotContain("discarded");
+        verify(engineMgr, never()).deliver(MY_SINK, "discarded");
+    }
+
+    @Test
+    void testDeliverQueueFullConcurrent() throws InterruptedException {
+        final var latch = blockPublisher();
+        params.setOfferTimeoutMs(1000);
+        publisher = new MyPublisher(params);
+        publisher.start();
+
+        publisher.deliver(MY_SINK, REQ_ID, "taken");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> publisher.getQueueLength() == 0);
+
+        for (var index = 0; index < 5; ++index) {
+            publisher.deliver(MY_SINK, REQ_ID, index);
+        }
+
+        // deliveries waiting for the same queue should wait concurrently, not one after another
+        List<Thread> deliverers = new ArrayList<>();
+        for (var index = 0; index < 4; ++index) {
+            var thread = new Thread(() -> publisher.deliver(MY_SINK, REQ_ID, "discarded"));
+            deliverers.add(thread);
+            thread.start();
+        }
+
+        final long startMs = System.currentTimeMillis();
+        for (Thread thread : deliverers) {
+            thread.join(5000);
+        }
+
+        assertTrue(System.currentTimeMillis() - startMs < 3000);
+        assertEquals(4, publisher.getMetrics().getDropped());
+
+        latch.countDown();
+    }
+
+    @Test
+    void testDeliverInterrupted() {
+        final var latch = blockPublisher();
+        params.setOfferTimeoutMs(5000);
+        publisher = new MyPublisher(params);
+        publisher.start();
+
+        publisher.deliver(MY_SINK, REQ_ID, "taken");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> publisher.getQueueLength() == 0);
+
+        for (var index = 0; index < 5; ++index) {
+            publisher.deliver(MY_SINK, REQ_ID, index);
+        }
+
+        Thread.currentThread().interrupt();
+        publisher.deliver(MY_SINK, REQ_ID, "discarded");
+
+        // interrupt flag should have been restored
+        assertTrue(Thread.interrupted());
+        assertEquals(1, publisher.getMetrics().getDropped());
+
+        latch.countDown();
+    }
+
+    @Test
+    void testPublishException() {
+        doThrow(new IllegalStateException("expected exception")).when(engineMgr).deliver(eq(MY_SINK), any());
+
+        publisher.deliver(MY_SINK, REQ_ID, NOTIFICATION);
+
+        publisher.start();
+        publisher.deliver(MY_SINK, REQ_ID, NOTIFICATION);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> publisher.getMetrics().getFailed() == 2);
+        assertEquals(0, publisher.getMetrics().getPublished());
+    }
+
+    @Test
+    void testGetPolicyEngineManager() {
+        assertThat(new NotificationPublisher(params).getPolicyEngineManager()).isNotNull();
+    }
+
+    @Test
+    void testMakeThread() {
+        var thread = new NotificationPublisher(params).makeThread(() -> { }, "my-thread");
+        assertEquals("my-thread", thread.getName());
+        assertFalse(thread.isAlive());
+    }
+
+    /**
+     * Causes the publisher threads to block while publishing, until the returned latch
+     * is released.
+     *
+     * @return a latch that releases the publisher threads
+     */
+    private CountDownLatch blockPublisher() {
+        var latch = new CountDownLatch(1);
+
+        doAnswer(args -> {
+            latch.await(5, TimeUnit.SECONDS);
+            return delivered.add(args.getArgument(1));
+        }).when(engineMgr).deliver(any(), any());
+
+        return latch;
+    }
+
+    private class MyPublisher extends NotificationPublisher {
+
+        public MyPublisher(NotificationPublisherParams params) {
+            super(params);
+        }
+
+        @Override
+        protected PolicyEngine getPolicyEngineManager() {
+            return engineMgr;
+        }
+
+        @Override
+        protected Thread makeThread(Runnable command, String name) {
+            var thread = super.makeThread(command, name);
+            threads.add(thread);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.eventmanager.PriorityExecutor.Metrics;
+
+class PriorityExecutorTest {
+    private static final long WAIT_SEC = 5;
+
+    private final AtomicLong nowMs = new AtomicLong(1000);
+    private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+    private PriorityExecutor executor;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        executor = new PriorityExecutor(1) {
+            @Override
+            protected long currentTimeMillis() {
+                return nowMs.get();
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.stop();
+    }
+
+    @Test
+    void testExecute() throws InterruptedException {
+        // tie up the only thread, so that the remaining tasks are queued
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        executor.execute(0, () -> {
+            started.countDown();
+            try {
+                release.await(WAIT_SEC, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(WAIT_SEC, TimeUnit.SECONDS));
+
+        var done = new CountDownLatch(5);
+        executor.execute(0, () -> record("a", done));
+        executor.forPriority(5).execute(() -> record("b", done));
+        executor.execute(-3, () -> record("c", done));
+        executor.forPriority(5).execute(() -> record("d", done));
+        executor.execute(0, () -> record("e", done));
+
+        nowMs.addAndGet(500);
+        release.countDown();
+        assertTrue(done.await(WAIT_SEC, TimeUnit.SECONDS));
+
+        // highest priority first, FIFO within a priority
+        assertEquals(List.of("b", "d", "a", "e", "c"), executed);
+
+        List<Metrics> metrics = executor.getMetrics();
+        assertThat(metrics).extracting(Metrics::getPriority).containsExactly(5, 0, -3);
+
+        Metrics high = metrics.get(0);
+        assertEquals(0, high.getQueued());
+        assertEquals(2, high.getExecuted());
+        assertEquals(500, high.getAverageWaitMs());
+        assertEquals(500, high.getMaxWaitMs());
+
+        // includes the task that tied up the thread, which did not wait at all
+        Metrics normal = metrics.get(1);
+        assertEquals(0, normal.getQueued());
+        assertEquals(3, normal.getExecuted());
+        assertEquals(333, normal.getAverageWaitMs());
+        assertEquals(500, normal.getMaxWaitMs());
+
+        Metrics low = metrics.get(2);
+        assertEquals(1, low.getExecuted());
+        assertEquals(500, low.getAverageWaitMs());
+    }
+
+    @Test
+    void testGetMetricsEmpty() {
+        assertThat(executor.getMetrics()).isEmpty();
+    }
+
+    @Test
+    void testMakeThread() {
+        Thread thread = executor.makeThread(() -> { }, "my-thread");
+        assertEquals("my-thread", thread.getName());
+        assertTrue(thread.isDaemon());
+    }
+
+    private void record(String name, CountDownLatch done) {
+        executed.add(name);
+        done.countDown();
+    }
+}
@@ -0,0 +1,178 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.eventmanager.RetryScheduler.Metrics;
+
+class RetrySchedulerTest {
+    private static final long WAIT_SEC = 5;
+    private static final String ACTOR1 = "SO";
+    private static final String ACTOR2 = "APPC";
+    private static final String UNKNOWN_ACTOR = "unknown";
+
+    /**
+     * Bound passed to the most recent invocation of nextRandom().
+     */
+    private long lastBound;
+
+    private RetryScheduler scheduler;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        var params1 = RetryBackoffParams.builder().initialDelayMs(100).maxDelayMs(1000).multiplier(3).build();
+        var params2 = RetryBackoffParams.builder().build();
+
+        scheduler = new RetryScheduler(Map.of(ACTOR1, params1, ACTOR2, params2)) {
+            @Override
+            protected long nextRandom(long bound) {
+                // always choose the largest possible delay
+                lastBound = bound;
+                return bound - 1;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    void testIsEnabled() {
+        assertTrue(scheduler.isEnabled(ACTOR1));
+        assertTrue(scheduler.isEnabled(ACTOR2));
+        assertFalse(scheduler.isEnabled(UNKNOWN_ACTOR));
+    }
+
+    @Test
+    void testGetDelayMs() {
+        // grows exponentially
+        assertEquals(100, scheduler.getDelayMs(ACTOR1, 1, 100000));
+        assertEquals(101, lastBound);
+        assertEquals(300, scheduler.getDelayMs(ACTOR1, 2, 100000));
+        assertEquals(900, scheduler.getDelayMs(ACTOR1, 3, 100000));
+
+        // capped by the max delay
+        assertEquals(1000, scheduler.getDelayMs(ACTOR1, 4, 100000));
+        assertEquals(1000, scheduler.getDelayMs(ACTOR1, 50, 100000));
+
+        // capped by the remaining time
+        assertEquals(250, scheduler.getDelayMs(ACTOR1, 4, 250));
+        assertEquals(0, scheduler.getDelayMs(ACTOR1, 4, -10));
+
+        // default parameters
+        assertEquals(1000, scheduler.getDelayMs(ACTOR2, 1, 100000));
+        assertEquals(30000, scheduler.getDelayMs(ACTOR2, 10, 100000));
+
+        // not enabled for the actor
+        assertEquals(0, scheduler.getDelayMs(UNKNOWN_ACTOR, 1, 100000));
+    }
+
+    @Test
+    void testGetDelayMsJitter() {
+        // use the real random number generator
+        scheduler.stop();
+        scheduler = new RetryScheduler(Map.of(ACTOR1, RetryBackoffParams.builder().build()));
+
+        for (var count = 0; count < 100; ++count) {
+            assertThat(scheduler.getDelayMs(ACTOR1, 2, 100000)).isBetween(0L, 2000L);
+        }
+    }
+
+    @Test
+    void testSchedule() throws InterruptedException {
+        var latch = new CountDownLatch(1);
+        scheduler.schedule(ACTOR1, 10, latch::countDown);
+        assertTrue(latch.await(WAIT_SEC, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testScheduleCanceled() throws InterruptedException {
+        var latch = new CountDownLatch(1);
+        var future = scheduler.schedule(ACTOR1, 200, latch::countDown);
+        assertTrue(future.cancel(false));
+
+        assertFalse(latch.await(400, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testStop() throws InterruptedException {
+        var latch = new CountDownLatch(1);
+        scheduler.schedule(ACTOR1, 200, latch::countDown);
+        scheduler.stop();
+
+        assertFalse(latch.await(400, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testGetMetrics() {
+        assertThat(scheduler.getMetrics()).isEmpty();
+
+        // use long delays so that nothing is actually run
+        scheduler.schedule(ACTOR1, 50_000, () -> { });
+        scheduler.schedule(ACTOR1, 70_000, () -> { });
+        scheduler.schedule(ACTOR2, 100, () -> { });
+        scheduler.schedule(ACTOR2, 101, () -> { });
+        scheduler.schedule(ACTOR2, 9000, () -> { });
+        scheduler.exhausted(ACTOR2);
+        scheduler.exhausted(UNKNOWN_ACTOR);
+
+        List<Metrics> metrics = scheduler.getMetrics();
+        assertThat(metrics).extracting(Metrics::getActor).containsExactly(ACTOR2, ACTOR1, UNKNOWN_ACTOR);
+
+        Metrics metric = metrics.get(0);
+        assertEquals(3, metric.getRetries());
+        assertEquals(1, metric.getExhausted());
+        assertEquals(3067, metric.getAverageDelayMs());
+        assertEquals(9000, metric.getMaxDelayMs());
+        assertThat(metric.getDelayDistribution()).containsExactly(Map.entry("<=100ms", 1L), Map.entry("<=1s", 1L),
+                        Map.entry("<=10s", 1L), Map.entry("<=60s", 0L), Map.entry(">60s", 0L));
+
+        metric = metrics.get(1);
+        assertEquals(2, metric.getRetries());
+        assertEquals(0, metric.getExhausted());
+        assertEquals(60000, metric.getAverageDelayMs());
+        assertEquals(70000, metric.getMaxDelayMs());
+        assertThat(metric.getDelayDistribution()).containsExactly(Map.entry("<=100ms", 0L), Map.entry("<=1s", 0L),
+                        Map.entry("<=10s", 0L), Map.entry("<=60s", 1L), Map.entry(">60s", 1L));
+
+        metric = metrics.get(2);
+        assertEquals(0, metric.getRetries());
+        assertEquals(1, metric.getExhausted());
+        assertEquals(0, metric.getAverageDelayMs());
+        assertEquals(0, metric.getMaxDelayMs());
+    }
+}
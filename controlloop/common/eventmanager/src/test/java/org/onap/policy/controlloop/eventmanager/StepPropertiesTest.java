@@ -0,0 +1,144 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.aai.AaiCqResponse;
+import org.onap.policy.common.utils.io.Serializer;
+import org.onap.policy.controlloop.actorserviceprovider.OperationProperties;
+
+class StepPropertiesTest {
+    private static final String MY_TARGET = "my-target";
+    private static final String OTHER_KEY = "my-key";
+    private static final String OTHER_VALUE = "my-value";
+
+    private StepProperties props;
+
+    @BeforeEach
+    void setUp() {
+        props = new StepProperties();
+    }
+
+    @Test
+    void testWellKnownProperties() {
+        var aaicq = new AaiCqResponse("{}");
+
+        assertFalse(props.contains(OperationProperties.AAI_TARGET_ENTITY));
+        assertFalse(props.contains(OperationProperties.DATA_VF_COUNT));
+        assertFalse(props.contains(AaiCqResponse.CONTEXT_KEY));
+
+        props.put(OperationProperties.AAI_TARGET_ENTITY, MY_TARGET);
+        props.put(OperationProperties.DATA_VF_COUNT, 10);
+        props.put(AaiCqResponse.CONTEXT_KEY, aaicq);
+
+        assertTrue(props.contains(OperationProperties.AAI_TARGET_ENTITY));
+        assertTrue(props.contains(OperationProperties.DATA_VF_COUNT));
+        assertTrue(props.contains(AaiCqResponse.CONTEXT_KEY));
+
+        assertEquals(MY_TARGET, props.get(OperationProperties.AAI_TARGET_ENTITY));
+        assertEquals(10, props.get(OperationProperties.DATA_VF_COUNT));
+        assertSame(aaicq, props.get(AaiCqResponse.CONTEXT_KEY));
+
+        props.remove(OperationProperties.AAI_TARGET_ENTITY);
+        props.remove(OperationProperties.DATA_VF_COUNT);
+        props.remove(AaiCqResponse.CONTEXT_KEY);
+
+        assertNull(props.get(OperationProperties.AAI_TARGET_ENTITY));
+        assertNull(props.get(OperationProperties.DATA_VF_COUNT));
+        assertNull(props.get(AaiCqResponse.CONTEXT_KEY));
+    }
+
+    @Test
+    void testTypedAccessors() {
+        var aaicq = new AaiCqResponse("{}");
+
+        assertNull(props.getAaiTargetEntity());
+        assertNull(props.getVfCount());
+        assertNull(props.getAaiCq());
+
+        props.setAaiTargetEntity(MY_TARGET);
+        props.setVfCount(10);
+        props.setAaiCq(aaicq);
+
+        assertEquals(MY_TARGET, props.getAaiTargetEntity());
+        assertEquals(10, props.getVfCount());
+        assertSame(aaicq, props.getAaiCq());
+
+        // typed accessors and named properties share the same storage
+        assertEquals(MY_TARGET, props.get(OperationProperties.AAI_TARGET_ENTITY));
+        assertEquals(10, props.get(OperationProperties.DATA_VF_COUNT));
+        assertSame(aaicq, props.get(AaiCqResponse.CONTEXT_KEY));
+
+        props.remove(OperationProperties.AAI_TARGET_ENTITY);
+        assertNull(props.getAaiTargetEntity());
+
+        assertThatThrownBy(() -> props.setAaiTargetEntity(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> props.setAaiCq(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void testOtherProperties() {
+        assertFalse(props.contains(OTHER_KEY));
+
+        props.put(OTHER_KEY, OTHER_VALUE);
+        assertTrue(props.contains(OTHER_KEY));
+        assertEquals(OTHER_VALUE, props.get(OTHER_KEY));
+
+        props.remove(OTHER_KEY);
+        assertFalse(props.contains(OTHER_KEY));
+        assertNull(props.get(OTHER_KEY));
+    }
+
+    @Test
+    void testPutInvalid() {
+        assertThatThrownBy(() -> props.put(OTHER_KEY, null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> props.put(OperationProperties.AAI_TARGET_ENTITY, null))
+                        .isInstanceOf(NullPointerException.class);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> props.put(OperationProperties.AAI_TARGET_ENTITY, 10))
+                        .withMessageContaining(OperationProperties.AAI_TARGET_ENTITY);
+        assertThatIllegalArgumentException().isThrownBy(() -> props.put(OperationProperties.DATA_VF_COUNT, "10"))
+                        .withMessageContaining(OperationProperties.DATA_VF_COUNT);
+        assertThatIllegalArgumentException().isThrownBy(() -> props.put(AaiCqResponse.CONTEXT_KEY, "{}"))
+                        .withMessageContaining(AaiCqResponse.CONTEXT_KEY);
+    }
+
+    @Test
+    void testSerializable() throws Exception {
+        props.put(OperationProperties.AAI_TARGET_ENTITY, MY_TARGET);
+        props.put(OperationProperties.DATA_VF_COUNT, 10);
+        props.put(OTHER_KEY, OTHER_VALUE);
+
+        var props2 = Serializer.roundTrip(props);
+        assertEquals(MY_TARGET, props2.get(OperationProperties.AAI_TARGET_ENTITY));
+        assertEquals(10, props2.get(OperationProperties.DATA_VF_COUNT));
+        assertEquals(OTHER_VALUE, props2.get(OTHER_KEY));
+    }
+}
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023, 2025 OpenInfra Foundation Europe. All rights reserved.
+ * Modifications Copyright (C) 2023, 2025-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ package org.onap.policy.controlloop.eventmanager;
 
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -32,9 +33,14 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.UUID;
@@ -226,6 +232,22 @@ class StepTest {
                         .withMessage("step is already running");
     }
 
+    @Test
+    void testRestart() {
+        step.init();
+        assertTrue(step.start(REMAINING_MS));
+
+        // restart after the first attempt completes
+        future.complete(new OperationOutcome());
+        assertTrue(step.restart(REMAINING_MS));
+        verify(policyOperation, times(2)).start();
+
+        // can't restart once canceled
+        step.cancel();
+        assertFalse(step.restart(REMAINING_MS));
+        verify(policyOperation, times(2)).start();
+    }
+
     /**
      * Tests start() when the operation.start() throws an exception.
      */
@@ -340,6 +362,252 @@ class StepTest {
         assertTrue(outcome.getEnd().getEpochSecond() >= startTime.get().getEpochSecond());
     }
 
+    @Test
+    void testStartCircuitBreakerOpen() throws InterruptedException {
+        var breaker = makeBreaker();
+        breaker.tryAcquire().failure();
+
+        step.setCircuitBreaker(breaker);
+        assertSame(breaker, step.getCircuitBreaker());
+
+        step.init();
+        assertTrue(step.start(REMAINING_MS));
+
+        // should fail immediately, without starting the operation
+        verify(policyOperation, never()).start();
+
+        var outcome = completions.poll(5, TimeUnit.SECONDS);
+        assertNotNull(outcome);
+        assertEquals(OperationResult.FAILURE_EXCEPTION, outcome.getResult());
+        assertEquals(CircuitBreaker.OPEN_MESSAGE, outcome.getMessage());
+        assertEquals(POLICY_ACTOR, outcome.getActor());
+        assertEquals(MY_TARGET, outcome.getTarget());
+        assertTrue(outcome.isFinalOutcome());
+        assertNotNull(startTime.get());
+
+        assertEquals(1, breaker.getMetrics().getRejected());
+    }
+
+    @Test
+    void testStartCircuitBreakerSuccess() {
+        var breaker = makeBreaker();
+        step.setCircuitBreaker(breaker);
+        step.init();
+        step.start(REMAINING_MS);
+
+        // a plain failure means the actor is working
+        var outcome = new OperationOutcome();
+        outcome.setResult(OperationResult.FAILURE);
+        future.complete(outcome);
+
+        assertEquals(1, breaker.getMetrics().getCalls());
+        assertEquals(0, breaker.getMetrics().getFailures());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testStartCircuitBreakerFailure() {
+        var breaker = makeBreaker();
+        step.setCircuitBreaker(breaker);
+        step.init();
+        step.start(REMAINING_MS);
+
+        var outcome = new OperationOutcome();
+        outcome.setResult(OperationResult.FAILURE_EXCEPTION);
+        future.complete(outcome);
+
+        assertEquals(1, breaker.getMetrics().getFailures());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void testStartCircuitBreakerException() {
+        when(policyOperation.start()).thenThrow(new RuntimeException(EXPECTED_EXCEPTION));
+
+        var breaker = makeBreaker();
+        step.setCircuitBreaker(breaker);
+        step.init();
+        step.start(REMAINING_MS);
+
+        assertNotNull(completions.poll());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void testStartCircuitBreakerTimeout() throws InterruptedException {
+        var breaker = makeBreaker();
+        step.setCircuitBreaker(breaker);
+        step.init();
+        step.start(100);
+
+        assertNotNull(completions.poll(5, TimeUnit.SECONDS));
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).isInstanceOf(Exception.class);
+
+        assertEquals(1, breaker.getMetrics().getFailures());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void testStartCircuitBreakerCanceled() {
+        var breaker = makeBreaker();
+        step.setCircuitBreaker(breaker);
+        step.init();
+        step.start(REMAINING_MS);
+
+        step.cancel();
+
+        // canceled operations are not counted
+        assertEquals(0, breaker.getMetrics().getCalls());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testStartBulkheadAdmitted() {
+        var bulkhead = makeBulkhead();
+        step.setBulkhead(bulkhead);
+        assertSame(bulkhead, step.getBulkhead());
+
+        step.init();
+        assertTrue(step.start(REMAINING_MS));
+        verify(policyOperation).start();
+        assertEquals(1, bulkhead.getMetrics().getInFlight());
+
+        // released when the operation completes
+        future.complete(new OperationOutcome());
+        assertEquals(0, bulkhead.getMetrics().getInFlight());
+    }
+
+    @Test
+    void testStartBulkheadQueued() {
+        var bulkhead = makeBulkhead();
+        bulkhead.acquire(() -> { });
+
+        step.setBulkhead(bulkhead);
+        step.init();
+        assertTrue(step.start(REMAINING_MS));
+        verify(policyOperation, never()).start();
+        assertEquals(1, bulkhead.getMetrics().getQueueDepth());
+
+        // can't start it again while it's queued
+        assertThatIllegalStateException().isThrownBy(() -> step.start(REMAINING_MS))
+                        .withMessage("step is already running");
+
+        // releasing the other call should launch this one, via the executor
+        bulkhead.release();
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> verify(policyOperation).start());
+        assertEquals(1, bulkhead.getMetrics().getInFlight());
+        assertEquals(0, bulkhead.getMetrics().getQueueDepth());
+    }
+
+    @Test
+    void testStartBulkheadQueuedTimeout() throws InterruptedException {
+        var bulkhead = makeBulkhead();
+        bulkhead.acquire(() -> { });
+
+        step.setBulkhead(bulkhead);
+        step.init();
+        step.start(100);
+
+        var outcome = completions.poll(5, TimeUnit.SECONDS);
+        assertNotNull(outcome);
+        assertEquals(ActorConstants.CL_TIMEOUT_ACTOR, outcome.getActor());
+        assertTrue(outcome.isFinalOutcome());
+        assertEquals(0, bulkhead.getMetrics().getQueueDepth());
+
+        // never launched, even after the other call is released
+        bulkhead.release();
+        verify(policyOperation, never()).start();
+        assertEquals(0, bulkhead.getMetrics().getInFlight());
+    }
+
+    @Test
+    void testStartBulkheadQueuedCanceled() {
+        var bulkhead = makeBulkhead();
+        bulkhead.acquire(() -> { });
+
+        step.setBulkhead(bulkhead);
+        step.init();
+        step.start(REMAINING_MS);
+
+        step.cancel();
+        assertEquals(0, bulkhead.getMetrics().getQueueDepth());
+
+        bulkhead.release();
+        verify(policyOperation, never()).start();
+        assertEquals(0, bulkhead.getMetrics().getInFlight());
+    }
+
+    @Test
+    void testStartBulkheadRejected() throws InterruptedException {
+        var bulkhead = new Bulkhead(POLICY_ACTOR, POLICY_OPERATION,
+                        BulkheadParams.builder().maxInFlight(1).maxQueued(0).build());
+        bulkhead.acquire(() -> { });
+
+        step.setBulkhead(bulkhead);
+        step.init();
+        assertTrue(step.start(REMAINING_MS));
+        verify(policyOperation, never()).start();
+
+        var outcome = completions.poll(5, TimeUnit.SECONDS);
+        assertNotNull(outcome);
+        assertEquals(OperationResult.FAILURE_EXCEPTION, outcome.getResult());
+        assertEquals(Bulkhead.FULL_MESSAGE, outcome.getMessage());
+        assertTrue(outcome.isFinalOutcome());
+        assertEquals(1, bulkhead.getMetrics().getRejected());
+    }
+
+    @Test
+    void testStartBulkheadRejectedViaExecutor() {
+        var bulkhead = new Bulkhead(POLICY_ACTOR, POLICY_OPERATION,
+                        BulkheadParams.builder().maxInFlight(1).maxQueued(0).build());
+        bulkhead.acquire(() -> { });
+
+        List<Runnable> tasks = new ArrayList<>();
+        params = params.toBuilder().executor(tasks::add).build();
+        step = new Step(params, startTime);
+
+        step.setBulkhead(bulkhead);
+        step.init();
+        assertTrue(step.start(REMAINING_MS));
+
+        // the outcome is not reported until the executor runs the task
+        assertNull(completions.poll());
+        assertEquals(1, tasks.size());
+
+        tasks.get(0).run();
+        assertEquals(Bulkhead.FULL_MESSAGE, completions.poll().getMessage());
+    }
+
+    @Test
+    void testStartBulkheadCircuitBreakerOpen() throws InterruptedException {
+        var breaker = makeBreaker();
+        breaker.tryAcquire().failure();
+        step.setCircuitBreaker(breaker);
+
+        var bulkhead = makeBulkhead();
+        step.setBulkhead(bulkhead);
+
+        step.init();
+        step.start(REMAINING_MS);
+
+        // rejected by the breaker, thus released from the bulkhead
+        assertEquals(CircuitBreaker.OPEN_MESSAGE, completions.poll(5, TimeUnit.SECONDS).getMessage());
+        assertEquals(0, bulkhead.getMetrics().getInFlight());
+    }
+
+    @Test
+    void testStartBulkheadException() {
+        when(policyOperation.start()).thenThrow(new RuntimeException(EXPECTED_EXCEPTION));
+
+        var bulkhead = makeBulkhead();
+        step.setBulkhead(bulkhead);
+        step.init();
+        step.start(REMAINING_MS);
+
+        assertNotNull(completions.poll());
+        assertEquals(0, bulkhead.getMetrics().getInFlight());
+    }
+
     @Test
     void testCancel() {
         // should have no effect
@@ -368,4 +636,24 @@ class StepTest {
     void testToString() {
         assertNotNull(step.toString());
     }
+
+    /**
+     * Makes a breaker that opens on the first failure.
+     *
+     * @return a new breaker
+     */
+    private CircuitBreaker makeBreaker() {
+        return new CircuitBreaker(POLICY_ACTOR,
+                        CircuitBreakerParams.builder().windowSize(1).minimumCalls(1).openMs(60000).build());
+    }
+
+    /**
+     * Makes a bulkhead that admits a single call at a time.
+     *
+     * @return a new bulkhead
+     */
+    private Bulkhead makeBulkhead() {
+        return new Bulkhead(POLICY_ACTOR, POLICY_OPERATION,
+                        BulkheadParams.builder().maxInFlight(1).maxQueued(5).build());
+    }
 }
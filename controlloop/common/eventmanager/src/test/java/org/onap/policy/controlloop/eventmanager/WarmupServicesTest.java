@@ -0,0 +1,185 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.eventmanager;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.ControlLoopNotificationType;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
+import org.onap.policy.controlloop.VirtualControlLoopNotification;
+import org.onap.policy.controlloop.actorserviceprovider.OperationOutcome;
+import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
+import org.onap.policy.controlloop.actorserviceprovider.parameters.ControlLoopOperationParams;
+import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
+import org.onap.policy.controlloop.eventmanager.EventManagerServices.Readiness;
+import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerStub;
+import org.onap.policy.drools.core.lock.Lock;
+import org.onap.policy.drools.core.lock.LockCallback;
+import org.onap.policy.drools.persistence.SystemPersistenceConstants;
+
+class WarmupServicesTest {
+    private static final String CONFIG_FILE = "eventService/event-svc-guard-disabled";
+    private static final long WAIT_SEC = 5;
+    private static final String SINK = "my-sink";
+
+    private WarmupServices services;
+
+    @BeforeAll
+    static void setUpBeforeClass() {
+        SystemPersistenceConstants.getManager().setConfigurationDir("src/test/resources");
+    }
+
+    @BeforeEach
+    void setUp() {
+        services = new WarmupServices(CONFIG_FILE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        services.shutdown();
+    }
+
+    @Test
+    void testConstructor() throws Exception {
+        assertFalse(services.isGuarded());
+        assertFalse(services.getGuardProbe().get(WAIT_SEC, TimeUnit.SECONDS));
+        assertFalse(services.isGuardEnabled());
+        assertInstanceOf(OperationHistoryDataManagerStub.class, services.getDataManager());
+        assertNotNull(services.getNotificationPublisher());
+        assertNotNull(services.getAdmissionController());
+
+        assertThatIllegalStateException().isThrownBy(() -> new WarmupServices("missing-config-file"));
+    }
+
+    @Test
+    void testCheckReady() {
+        var params = new ControlLoopParams();
+        params.setActors(Set.of("SO", "APPC"));
+
+        assertEquals(Readiness.READY, services.checkReady(params, new VirtualControlLoopEvent(), null));
+    }
+
+    @Test
+    void testGetActorService() throws Exception {
+        var actors = services.getActorService();
+        assertSame(actors.getActor("SO"), actors.getActor("SO"));
+        assertSame(actors.getActor("SO").getOperator("VF Module Create"),
+                        actors.getActor("SO").getOperator("VF Module Create"));
+
+        List<OperationOutcome> starts = new ArrayList<>();
+        List<OperationOutcome> completions = new ArrayList<>();
+
+        // @formatter:off
+        var params = ControlLoopOperationParams.builder()
+                        .actorService(actors)
+                        .actor("SO")
+                        .operation("VF Module Create")
+                        .requestId(UUID.randomUUID())
+                        .executor(Runnable::run)
+                        .startCallback(starts::add)
+                        .completeCallback(completions::add)
+                        .build();
+        // @formatter:on
+
+        var operation = params.build();
+        assertTrue(operation.getPropertyNames().isEmpty());
+
+        var outcome = operation.start().get(WAIT_SEC, TimeUnit.SECONDS);
+        assertEquals(OperationResult.SUCCESS, outcome.getResult());
+        assertEquals(WarmupServices.WARMUP_MESSAGE, outcome.getMessage());
+        assertTrue(outcome.isFinalOutcome());
+        assertNotNull(outcome.getEnd());
+
+        assertEquals(1, starts.size());
+        assertFalse(starts.get(0).isFinalOutcome());
+        assertEquals(List.of(outcome), completions);
+    }
+
+    @Test
+    void testCreateLock() {
+        var callback = mock(LockCallback.class);
+        services.createLock("my-target", "my-owner", 10, callback);
+
+        verify(callback).lockAvailable(any(Lock.class));
+    }
+
+    @Test
+    void testAwaitFinal() {
+        var requestId = UUID.randomUUID();
+        var future = services.awaitFinal(requestId);
+        assertSame(future, services.awaitFinal(requestId));
+
+        var publisher = services.getNotificationPublisher();
+
+        // not a notification
+        publisher.deliver(SINK, requestId, "some text");
+        assertFalse(future.isDone());
+
+        // not final
+        publisher.deliver(SINK, requestId, makeNotification(requestId, ControlLoopNotificationType.ACTIVE));
+        assertFalse(future.isDone());
+
+        // final, but for a different request
+        publisher.deliver(SINK, requestId,
+                        makeNotification(UUID.randomUUID(), ControlLoopNotificationType.FINAL_SUCCESS));
+        assertFalse(future.isDone());
+
+        var notif = makeNotification(requestId, ControlLoopNotificationType.FINAL_FAILURE);
+        publisher.deliver(SINK, requestId, notif);
+        assertSame(notif, future.join());
+
+        // nothing was actually published
+        assertEquals(0, publisher.getMetrics().getPublished());
+    }
+
+    @Test
+    void testShutdown() {
+        var future = services.awaitFinal(UUID.randomUUID());
+
+        services.shutdown();
+        assertTrue(future.isCancelled());
+    }
+
+    private VirtualControlLoopNotification makeNotification(UUID requestId, ControlLoopNotificationType type) {
+        var notif = new VirtualControlLoopNotification();
+        notif.setRequestId(requestId);
+        notif.setNotification(type);
+        return notif;
+    }
+}
@@ -0,0 +1,174 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.ophistory;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BoundedRecordQueueTest {
+    private static final int CAPACITY = 7;
+
+    private BoundedRecordQueue<Integer> queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new BoundedRecordQueue<>(CAPACITY);
+    }
+
+    @Test
+    void testConstructor() {
+        assertEquals(CAPACITY, queue.getCapacity());
+        assertTrue(queue.isEmpty());
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new BoundedRecordQueue<>(0));
+    }
+
+    @Test
+    void testOfferPoll() {
+        // wrap around several times
+        for (var round = 0; round < 3; ++round) {
+            for (var item = 0; item < CAPACITY; ++item) {
+                assertTrue(queue.offer(item));
+            }
+
+            assertFalse(queue.offer(CAPACITY));
+            assertEquals(CAPACITY, queue.size());
+
+            for (var item = 0; item < CAPACITY; ++item) {
+                assertEquals(item, queue.poll());
+            }
+
+            assertNull(queue.poll());
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    void testOfferTimeout() throws InterruptedException {
+        for (var item = 0; item < CAPACITY; ++item) {
+            queue.offer(item);
+        }
+
+        // full - should time out
+        assertFalse(queue.offer(CAPACITY, 1, TimeUnit.MILLISECONDS));
+
+        // make room while another thread waits
+        var thread = new Thread(() -> {
+            sleep(50);
+            queue.poll();
+        });
+        thread.setDaemon(true);
+        thread.start();
+
+        assertTrue(queue.offer(CAPACITY, 5, TimeUnit.SECONDS));
+
+        // interrupted
+        Thread.currentThread().interrupt();
+        assertThatThrownBy(() -> queue.offer(CAPACITY, 5, TimeUnit.SECONDS))
+                        .isInstanceOf(InterruptedException.class);
+    }
+
+    @Test
+    void testPollTimeout() throws InterruptedException {
+        assertNull(queue.poll(1, TimeUnit.MILLISECONDS));
+
+        // item arrives while waiting
+        var thread = new Thread(() -> {
+            sleep(50);
+            queue.offer(10);
+        });
+        thread.setDaemon(true);
+        thread.start();
+
+        assertEquals(10, queue.poll(5, TimeUnit.SECONDS));
+
+        // woken without an item
+        var waiting = new CountDownLatch(1);
+        thread = new Thread(() -> {
+            waiting.countDown();
+            sleep(50);
+            queue.wakeWaiter();
+        });
+        thread.setDaemon(true);
+        thread.start();
+
+        assertTrue(waiting.await(5, TimeUnit.SECONDS));
+        assertNull(queue.poll(100, TimeUnit.MILLISECONDS));
+
+        // interrupted
+        Thread.currentThread().interrupt();
+        assertThatThrownBy(() -> queue.poll(5, TimeUnit.SECONDS)).isInstanceOf(InterruptedException.class);
+    }
+
+    @Test
+    void testMultipleProducers() throws InterruptedException {
+        final int nproducers = 4;
+        final int nitems = 1000;
+
+        List<Thread> producers = new ArrayList<>();
+        for (var producer = 0; producer < nproducers; ++producer) {
+            var thread = new Thread(() -> {
+                for (var item = 0; item < nitems; ++item) {
+                    while (!queue.offer(item)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+            producers.add(thread);
+        }
+
+        var count = 0;
+        while (count < nproducers * nitems) {
+            if (queue.poll(5, TimeUnit.SECONDS) == null) {
+                break;
+            }
+            ++count;
+        }
+
+        assertEquals(nproducers * nitems, count);
+        assertTrue(queue.isEmpty());
+
+        for (var thread : producers) {
+            thread.join(5000);
+        }
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
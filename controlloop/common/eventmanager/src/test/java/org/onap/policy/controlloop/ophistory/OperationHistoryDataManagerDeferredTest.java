@@ -0,0 +1,131 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.ophistory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.ControlLoopOperation;
+
+class OperationHistoryDataManagerDeferredTest {
+    private static final String REQ_ID = "my-request-id";
+    private static final String MY_LOOP_NAME = "my-loop-name";
+    private static final String MY_TARGET = "my-target";
+    private static final String MY_ACTOR = "my-actor";
+    private static final String MY_OPERATION = "my-operation";
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private CompletableFuture<Boolean> condition;
+    private OperationHistoryDataManager real;
+    private AtomicInteger made;
+    private OperationHistoryDataManagerDeferred mgr;
+
+    @BeforeEach
+    void setUp() {
+        condition = new CompletableFuture<>();
+        real = mock(OperationHistoryDataManager.class);
+        made = new AtomicInteger();
+
+        mgr = new OperationHistoryDataManagerDeferred(condition, () -> {
+            made.incrementAndGet();
+            return real;
+        });
+    }
+
+    @Test
+    void testUndecided() {
+        assertInstanceOf(OperationHistoryDataManagerStub.class, mgr.getDelegate());
+
+        mgr.start();
+        mgr.store(REQ_ID, MY_LOOP_NAME, null, MY_TARGET, new ControlLoopOperation());
+        assertEquals(List.of(), mgr.getRecentOperations(MY_TARGET, MY_ACTOR, WINDOW));
+        assertEquals(0, made.get());
+    }
+
+    @Test
+    void testUseReal() {
+        condition.complete(true);
+        assertSame(real, mgr.getDelegate());
+        assertEquals(1, made.get());
+
+        var operation = new ControlLoopOperation();
+        mgr.store(REQ_ID, MY_LOOP_NAME, null, MY_TARGET, operation);
+        verify(real).store(REQ_ID, MY_LOOP_NAME, null, MY_TARGET, operation);
+
+        when(real.countRecentOperations(MY_TARGET, MY_ACTOR, MY_OPERATION, WINDOW)).thenReturn(2);
+        assertEquals(2, mgr.countRecentOperations(MY_TARGET, MY_ACTOR, MY_OPERATION, WINDOW));
+
+        mgr.getRecentOperations(MY_TARGET, MY_ACTOR, WINDOW);
+        verify(real).getRecentOperations(MY_TARGET, MY_ACTOR, WINDOW);
+
+        mgr.getMetrics();
+        verify(real).getMetrics();
+
+        mgr.stop();
+        verify(real).stop();
+    }
+
+    @Test
+    void testUseStub() {
+        condition.complete(false);
+        assertInstanceOf(OperationHistoryDataManagerStub.class, mgr.getDelegate());
+        assertEquals(0, made.get());
+    }
+
+    @Test
+    void testConditionFailed() {
+        condition.completeExceptionally(new IllegalStateException("expected exception"));
+        assertInstanceOf(OperationHistoryDataManagerStub.class, mgr.getDelegate());
+        assertEquals(0, made.get());
+    }
+
+    @Test
+    void testFactoryException() {
+        mgr = new OperationHistoryDataManagerDeferred(condition, () -> {
+            throw new IllegalArgumentException("expected exception");
+        });
+
+        condition.complete(true);
+        assertInstanceOf(OperationHistoryDataManagerStub.class, mgr.getDelegate());
+    }
+
+    @Test
+    void testStopBeforeDecided() {
+        mgr.stop();
+
+        // should not make the data manager once stopped
+        condition.complete(true);
+        assertInstanceOf(OperationHistoryDataManagerStub.class, mgr.getDelegate());
+        assertEquals(0, made.get());
+        verify(real, never()).stop();
+    }
+}
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023-2025 OpenInfra Foundation Europe. All rights reserved.
+ * Modifications Copyright (C) 2023-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ package org.onap.policy.controlloop.ophistory;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -33,6 +34,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jakarta.persistence.EntityManagerFactory;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Properties;
 import java.util.UUID;
@@ -45,9 +48,11 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.onap.policy.controlloop.ControlLoopOperation;
 import org.onap.policy.controlloop.VirtualControlLoopEvent;
 import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerParams.OperationHistoryDataManagerParamsBuilder;
+import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerParams.OverflowPolicy;
 
 class OperationHistoryDataManagerImplTest {
 
@@ -60,9 +65,13 @@ class OperationHistoryDataManagerImplTest {
     private static final String REQ_ID = "my-request-id";
     private static final int BATCH_SIZE = 5;
     private static final int MAX_QUEUE_LENGTH = 23;
+    private static final int NEXTRA = 5;
 
     private static EntityManagerFactory emf;
 
+    @TempDir
+    Path spillDir;
+
     private Thread thread = mock(Thread.class);
 
     private OperationHistoryDataManagerParams params;
@@ -206,14 +215,145 @@ class OperationHistoryDataManagerImplTest {
      */
     @Test
     void testStoreTooManyItems() throws InterruptedException {
-        final int nextra = 5;
-        for (int nitems = 0; nitems < MAX_QUEUE_LENGTH + nextra; ++nitems) {
-            mgr.store(REQ_ID, event.getClosedLoopControlName(), event, MY_ENTITY, operation);
-        }
+        storeTooMany();
+
+        assertEquals(MAX_QUEUE_LENGTH, mgr.getQueueLength());
+
+        runThread();
+
+        assertEquals(MAX_QUEUE_LENGTH, mgr.getRecordsCommitted());
+        assertEquals(NEXTRA, mgr.getRecordsDiscarded());
+        assertEquals(0, mgr.getRecordsRejected());
+    }
+
+    /**
+     * Tests store() when the queue is full and the newest records are to be discarded.
+     */
+    @Test
+    void testStoreTooManyItemsDropNewest() throws InterruptedException {
+        params.setOverflowPolicy(OverflowPolicy.DROP_NEWEST);
+        mgr = new PseudoThread();
+        mgr.start();
+
+        storeTooMany();
+
+        runThread();
+
+        assertEquals(MAX_QUEUE_LENGTH, mgr.getRecordsCommitted());
+        assertEquals(NEXTRA, mgr.getRecordsRejected());
+        assertEquals(0, mgr.getRecordsDiscarded());
+    }
+
+    /**
+     * Tests store() when the queue is full and the caller is to wait for room.
+     */
+    @Test
+    void testStoreTooManyItemsBlock() throws InterruptedException {
+        params.setOverflowPolicy(OverflowPolicy.BLOCK);
+        params.setBlockTimeoutMs(1);
+        mgr = new PseudoThread();
+        mgr.start();
+
+        // nothing is taking records from the queue, thus the extra records time out
+        storeTooMany();
 
         runThread();
 
         assertEquals(MAX_QUEUE_LENGTH, mgr.getRecordsCommitted());
+        assertEquals(NEXTRA, mgr.getRecordsBlocked());
+        assertEquals(NEXTRA, mgr.getRecordsTimedOut());
+    }
+
+    /**
+     * Tests store() when the queue is full and the records are to be spilled to a file.
+     */
+    @Test
+    void testStoreTooManyItemsSpill() throws InterruptedException {
+        params.setOverflowPolicy(OverflowPolicy.SPILL);
+        params.setSpillDir(spillDir.toString());
+        mgr = new PseudoThread();
+        mgr.start();
+
+        storeTooMany();
+
+        assertEquals(NEXTRA, mgr.getRecordsSpilled());
+
+        runThread();
+
+        // spilled records should also have been stored
+        assertEquals(MAX_QUEUE_LENGTH + NEXTRA, mgr.getRecordsCommitted());
+        assertEquals(0, mgr.getRecordsRejected());
+    }
+
+    @Test
+    void testGetMetrics() throws InterruptedException {
+        mgr.store(REQ_ID, event.getClosedLoopControlName(), event, MY_ENTITY, operation);
+
+        var metrics = mgr.getMetrics();
+        assertEquals(1, metrics.getQueueLength());
+        assertEquals(MAX_QUEUE_LENGTH, metrics.getQueueCapacity());
+
+        // pseudo thread is not alive, but getting the metrics should not check the alerts
+        assertFalse(metrics.isWriterAlive());
+        assertTrue(metrics.getAlerts().isEmpty());
+
+        runThread();
+
+        metrics = mgr.getMetrics();
+        assertEquals(0, metrics.getQueueLength());
+        assertEquals(1, metrics.getRecordsCommitted());
+        assertEquals(1, metrics.getBatchesCommitted());
+        assertEquals(1, metrics.getBatchSize().getCount());
+        assertEquals(1, metrics.getCommitLatencyMs().getCount());
+
+        // stopped, thus no longer expected to be alive
+        assertTrue(metrics.getAlerts().isEmpty());
+    }
+
+    /**
+     * Tests getMetrics() when a batch cannot be stored.
+     */
+    @Test
+    void testGetMetricsFailure() throws InterruptedException {
+        when(emfSpy.createEntityManager()).thenThrow(EXPECTED_EXCEPTION);
+
+        mgr.store(REQ_ID, event.getClosedLoopControlName(), event, MY_ENTITY, operation);
+
+        runThread();
+
+        var metrics = mgr.getMetrics();
+        assertEquals(1, metrics.getBatchesFailed());
+        assertEquals(1, metrics.getRecordsFailed());
+        assertEquals(0, metrics.getRecordsCommitted());
+    }
+
+    @Test
+    void testGetRecentOperations() {
+        operation.setStart(Instant.now());
+        mgr.store(REQ_ID, event.getClosedLoopControlName(), event, MY_ENTITY, operation);
+
+        // update the same operation
+        operation = new ControlLoopOperation(operation);
+        operation.setEnd(Instant.now());
+        mgr.store(REQ_ID, event.getClosedLoopControlName(), event, MY_ENTITY, operation);
+
+        // different operation
+        operation = new ControlLoopOperation(operation);
+        operation.setSubRequestId(UUID.randomUUID().toString());
+        mgr.store(REQ_ID, event.getClosedLoopControlName(), event, MY_ENTITY, operation);
+
+        assertEquals(2, mgr.getRecentOperations(MY_ENTITY, MY_ACTOR, Duration.ofMinutes(1)).size());
+        assertEquals(2, mgr.countRecentOperations(MY_ENTITY, MY_ACTOR, MY_OPERATION, Duration.ofMinutes(1)));
+        assertEquals(0, mgr.countRecentOperations(MY_ENTITY, MY_ACTOR, "other-operation", Duration.ofMinutes(1)));
+        assertTrue(mgr.getRecentOperations(MY_TARGET, null, Duration.ofMinutes(1)).isEmpty());
+    }
+
+    private void storeTooMany() {
+        for (int nitems = 0; nitems < MAX_QUEUE_LENGTH + NEXTRA; ++nitems) {
+            operation = new ControlLoopOperation(operation);
+            operation.setSubRequestId(UUID.randomUUID().toString());
+            mgr.store(REQ_ID, event.getClosedLoopControlName(), event, MY_ENTITY, operation);
+        }
     }
 
     @Test
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023-2025 OpenInfra Foundation Europe. All rights reserved.
+ * Modifications Copyright (C) 2023-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerParams.OperationHistoryDataManagerParamsBuilder;
+import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerParams.OverflowPolicy;
 
 class OperationHistoryDataManagerParamsTest {
     private static final String CONTAINER = "my-container";
@@ -57,6 +58,14 @@ class OperationHistoryDataManagerParamsTest {
         assertEquals(OperationHistoryDataManagerParams.DEFAULT_DRIVER, params.getDriver());
         assertEquals(MY_URL, params.getUrl());
         assertEquals(MY_USER, params.getUserName());
+        assertEquals(OverflowPolicy.DROP_OLDEST, params.getOverflowPolicy());
+        assertEquals(100, params.getBlockTimeoutMs());
+        assertEquals(3600, params.getRecentWindowSec());
+        assertEquals(100, params.getRecentMaxPerActor());
+        assertEquals(80, params.getAlertQueueDepthPct());
+        assertEquals(30000, params.getAlertCommitLatencyMs());
+        assertEquals(60000, params.getAlertWriterStallMs());
+        assertEquals(OperationHistoryDataManagerParams.DEFAULT_SPILL_DIR, params.getSpillDir());
 
         // use specified PU
         assertEquals(MY_PU, makeBuilder().persistenceUnit(MY_PU).build().getPersistenceUnit());
@@ -74,6 +83,8 @@ class OperationHistoryDataManagerParamsTest {
         testValidateField("password", "null", params2 -> params2.setPassword(null));
         testValidateField("persistenceUnit", "null", params2 -> params2.setPersistenceUnit(null));
         testValidateField("driver", "null", params2 -> params2.setDriver(null));
+        testValidateField("overflowPolicy", "null", params2 -> params2.setOverflowPolicy(null));
+        testValidateField("spillDir", "null", params2 -> params2.setSpillDir(null));
 
         // check edge cases
         params.setBatchSize(0);
@@ -88,6 +99,45 @@ class OperationHistoryDataManagerParamsTest {
         params.setMaxQueueLength(1);
         assertTrue(params.validate(CONTAINER).isValid());
 
+        params.setRecentWindowSec(0);
+        assertFalse(params.validate(CONTAINER).isValid());
+
+        params.setRecentWindowSec(1);
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setRecentMaxPerActor(0);
+        assertFalse(params.validate(CONTAINER).isValid());
+
+        params.setRecentMaxPerActor(1);
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setAlertQueueDepthPct(0);
+        assertFalse(params.validate(CONTAINER).isValid());
+
+        params.setAlertQueueDepthPct(101);
+        assertFalse(params.validate(CONTAINER).isValid());
+
+        params.setAlertQueueDepthPct(100);
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setAlertCommitLatencyMs(0);
+        assertFalse(params.validate(CONTAINER).isValid());
+
+        params.setAlertCommitLatencyMs(1);
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setAlertWriterStallMs(0);
+        assertFalse(params.validate(CONTAINER).isValid());
+
+        params.setAlertWriterStallMs(1);
+        assertTrue(params.validate(CONTAINER).isValid());
+
+        params.setBlockTimeoutMs(-1);
+        assertFalse(params.validate(CONTAINER).isValid());
+
+        params.setBlockTimeoutMs(0);
+        assertTrue(params.validate(CONTAINER).isValid());
+
         // blank password is ok
         params.setPassword("");
         assertTrue(params.validate(CONTAINER).isValid());
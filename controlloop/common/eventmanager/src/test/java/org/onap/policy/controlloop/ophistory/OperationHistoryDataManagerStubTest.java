@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2020-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023, 2025 OpenInfra Foundation Europe. All rights reserved.
+ * Modifications Copyright (C) 2023, 2025-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,7 +22,11 @@
 package org.onap.policy.controlloop.ophistory;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 
 class OperationHistoryDataManagerStubTest {
@@ -33,5 +37,9 @@ class OperationHistoryDataManagerStubTest {
 
         assertThatCode(() -> mgr.store(null, null, null, null, null)).doesNotThrowAnyException();
         assertThatCode(mgr::stop).doesNotThrowAnyException();
+
+        assertTrue(mgr.getRecentOperations("my-target", null, Duration.ofMinutes(1)).isEmpty());
+        assertNull(mgr.getMetrics());
+        assertEquals(0, mgr.countRecentOperations("my-target", "my-actor", null, Duration.ofMinutes(1)));
     }
 }
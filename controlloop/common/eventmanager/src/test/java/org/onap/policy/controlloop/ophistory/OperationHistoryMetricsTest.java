@@ -0,0 +1,176 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.ophistory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OperationHistoryMetricsTest {
+    private static final int CAPACITY = 10;
+    private static final int QUEUE_PCT = 50;
+    private static final long LATENCY_MS = 1000;
+    private static final long STALL_MS = 5000;
+
+    private long nowMs;
+    private OperationHistoryMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        nowMs = 1_000_000L;
+
+        var params = OperationHistoryDataManagerParams.builder().url("my-url").userName("my-user")
+                        .alertQueueDepthPct(QUEUE_PCT).alertCommitLatencyMs(LATENCY_MS)
+                        .alertWriterStallMs(STALL_MS).build();
+
+        metrics = new OperationHistoryMetrics(params) {
+            @Override
+            protected long currentTimeMs() {
+                return nowMs;
+            }
+        };
+    }
+
+    @Test
+    void testBatchCommitted() {
+        // extra entry in the array should be ignored
+        metrics.batchCommitted(new long[] {nowMs - 20, nowMs - 2000, 0}, 2, nowMs - 3);
+
+        var snapshot = metrics.snapshot(mock(OperationHistoryDataManagerImpl.class), 0, CAPACITY, true);
+        assertEquals(1, snapshot.getBatchesCommitted());
+        assertEquals(2000, snapshot.getLastCommitLatencyMs());
+        assertEquals(Instant.ofEpochMilli(nowMs), snapshot.getLastActivity());
+
+        var latency = snapshot.getCommitLatencyMs();
+        assertEquals(2, latency.getCount());
+        assertEquals(2020, latency.getSum());
+        assertEquals(2000, latency.getMax());
+        assertEquals(1, latency.getBuckets().get("50"));
+        assertEquals(1, latency.getBuckets().get("5000"));
+        assertEquals(0, latency.getBuckets().get("+Inf"));
+
+        assertEquals(1, snapshot.getBatchSize().getBuckets().get("2"));
+        assertEquals(1, snapshot.getTransactionMs().getBuckets().get("5"));
+
+        // latency exceeded the threshold, but the alerts haven't been checked yet
+        assertTrue(snapshot.getAlerts().isEmpty());
+
+        metrics.checkAlerts(0, CAPACITY, false);
+        snapshot = metrics.snapshot(mock(OperationHistoryDataManagerImpl.class), 0, CAPACITY, true);
+        assertEquals(List.of(OperationHistoryMetrics.ALERT_COMMIT_LATENCY), snapshot.getAlerts());
+    }
+
+    @Test
+    void testBatchFailed() {
+        metrics.batchFailed(3, nowMs, new IllegalStateException("expected exception"));
+
+        var snapshot = metrics.snapshot(mock(OperationHistoryDataManagerImpl.class), 0, CAPACITY, true);
+        assertEquals(1, snapshot.getBatchesFailed());
+        assertEquals(3, snapshot.getRecordsFailed());
+        assertEquals(0, snapshot.getBatchesCommitted());
+        assertTrue(snapshot.getAlerts().isEmpty());
+    }
+
+    @Test
+    void testCheckAlerts() {
+        // writer hasn't started yet
+        assertTrue(metrics.checkAlerts(0, CAPACITY, false).isEmpty());
+
+        assertEquals(List.of(OperationHistoryMetrics.ALERT_QUEUE_DEPTH), metrics.checkAlerts(5, CAPACITY, false));
+        assertTrue(metrics.checkAlerts(4, CAPACITY, false).isEmpty());
+
+        assertEquals(List.of(OperationHistoryMetrics.ALERT_WRITER_DEAD), metrics.checkAlerts(0, CAPACITY, true));
+
+        metrics.heartbeat();
+        nowMs += STALL_MS - 1;
+        assertTrue(metrics.checkAlerts(0, CAPACITY, false).isEmpty());
+
+        nowMs += 1;
+        assertEquals(List.of(OperationHistoryMetrics.ALERT_WRITER_STALLED), metrics.checkAlerts(0, CAPACITY, false));
+
+        // check again - should still be active
+        assertEquals(List.of(OperationHistoryMetrics.ALERT_WRITER_STALLED), metrics.checkAlerts(0, CAPACITY, false));
+
+        metrics.heartbeat();
+        assertTrue(metrics.checkAlerts(0, CAPACITY, false).isEmpty());
+    }
+
+    @Test
+    void testRecordQueued() {
+        // writer hasn't started yet - nothing checked
+        assertTrue(metrics.recordQueued(CAPACITY, CAPACITY, () -> true).isEmpty());
+
+        // writer is active - nothing checked
+        metrics.heartbeat();
+        nowMs += STALL_MS - 1;
+        assertTrue(metrics.recordQueued(CAPACITY, CAPACITY, () -> true).isEmpty());
+
+        // writer has gone quiet and its thread has died
+        nowMs += 1;
+        assertEquals(List.of(OperationHistoryMetrics.ALERT_QUEUE_DEPTH, OperationHistoryMetrics.ALERT_WRITER_DEAD),
+                        metrics.recordQueued(CAPACITY, CAPACITY, () -> true));
+
+        // too soon to check again
+        nowMs += 999;
+        assertTrue(metrics.recordQueued(CAPACITY, CAPACITY, () -> true).isEmpty());
+
+        // writer is still running, but stalled
+        nowMs += 1;
+        assertEquals(List.of(OperationHistoryMetrics.ALERT_WRITER_STALLED),
+                        metrics.recordQueued(1, CAPACITY, () -> false));
+    }
+
+    @Test
+    void testSnapshot() {
+        var mgr = mock(OperationHistoryDataManagerImpl.class);
+        when(mgr.getRecordsCommitted()).thenReturn(1L);
+        when(mgr.getRecordsInserted()).thenReturn(2L);
+        when(mgr.getRecordsUpdated()).thenReturn(3L);
+        when(mgr.getRecordsDiscarded()).thenReturn(4L);
+        when(mgr.getRecordsRejected()).thenReturn(5L);
+        when(mgr.getRecordsBlocked()).thenReturn(6L);
+        when(mgr.getRecordsTimedOut()).thenReturn(7L);
+        when(mgr.getRecordsSpilled()).thenReturn(8L);
+
+        var snapshot = metrics.snapshot(mgr, 2, CAPACITY, false);
+        assertEquals(2, snapshot.getQueueLength());
+        assertEquals(CAPACITY, snapshot.getQueueCapacity());
+        assertEquals(1, snapshot.getRecordsCommitted());
+        assertEquals(2, snapshot.getRecordsInserted());
+        assertEquals(3, snapshot.getRecordsUpdated());
+        assertEquals(4, snapshot.getRecordsDiscarded());
+        assertEquals(5, snapshot.getRecordsRejected());
+        assertEquals(6, snapshot.getRecordsBlocked());
+        assertEquals(7, snapshot.getRecordsTimedOut());
+        assertEquals(8, snapshot.getRecordsSpilled());
+        assertFalse(snapshot.isWriterAlive());
+        assertNull(snapshot.getLastActivity());
+        assertEquals(0, snapshot.getCommitLatencyMs().getCount());
+    }
+}
@@ -0,0 +1,213 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.ophistory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.ControlLoopOperation;
+
+class RecentOperationsIndexTest {
+    private static final long WINDOW_MS = 60000;
+    private static final int MAX_PER_ACTOR = 3;
+    private static final String REQ_ID = "my-request-id";
+    private static final String MY_LOOP_NAME = "my-loop-name";
+    private static final String MY_TARGET = "my-target";
+    private static final String MY_TARGET2 = "my-target-2";
+    private static final String MY_ACTOR = "my-actor";
+    private static final String MY_ACTOR2 = "my-actor-2";
+    private static final String MY_OPERATION = "my-operation";
+    private static final Duration ALL = Duration.ofMillis(WINDOW_MS);
+
+    private long nowMs;
+    private RecentOperationsIndex index;
+
+    @BeforeEach
+    void setUp() {
+        nowMs = 1_000_000L;
+
+        index = new RecentOperationsIndex(WINDOW_MS, MAX_PER_ACTOR) {
+            @Override
+            protected long currentTimeMs() {
+                return nowMs;
+            }
+        };
+    }
+
+    @Test
+    void testGetters() {
+        assertEquals(WINDOW_MS, index.getWindowMs());
+        assertEquals(MAX_PER_ACTOR, index.getMaxPerActor());
+    }
+
+    @Test
+    void testAdd() {
+        // ignored, due to missing target or actor
+        index.add(REQ_ID, MY_LOOP_NAME, null, makeOperation(MY_ACTOR, nowMs));
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, makeOperation(null, nowMs));
+        assertEquals(0, index.size());
+
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, makeOperation(MY_ACTOR, nowMs));
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, makeOperation(MY_ACTOR2, nowMs));
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET2, makeOperation(MY_ACTOR, nowMs));
+        assertEquals(3, index.size());
+
+        assertEquals(2, index.getRecentOperations(MY_TARGET, null, ALL).size());
+        assertEquals(1, index.getRecentOperations(MY_TARGET, MY_ACTOR, ALL).size());
+        assertEquals(1, index.getRecentOperations(MY_TARGET2, null, ALL).size());
+        assertTrue(index.getRecentOperations("unknown-target", null, ALL).isEmpty());
+    }
+
+    @Test
+    void testAddUpdate() {
+        var operation = makeOperation(MY_ACTOR, nowMs);
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, operation);
+
+        // completion of the same operation should replace the original entry
+        operation = new ControlLoopOperation(operation);
+        operation.setEnd(Instant.ofEpochMilli(nowMs + 10));
+        operation.setOutcome("Success");
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, operation);
+
+        List<RecentOperation> ops = index.getRecentOperations(MY_TARGET, MY_ACTOR, ALL);
+        assertEquals(1, ops.size());
+
+        RecentOperation recent = ops.get(0);
+        assertEquals("Success", recent.getOutcome());
+        assertEquals(REQ_ID, recent.getRequestId());
+        assertEquals(MY_LOOP_NAME, recent.getClName());
+        assertEquals(MY_TARGET, recent.getTargetEntity());
+        assertEquals(MY_ACTOR, recent.getActor());
+        assertEquals(MY_OPERATION, recent.getOperation());
+        assertEquals(Instant.ofEpochMilli(nowMs), recent.getStart());
+        assertEquals(Instant.ofEpochMilli(nowMs + 10), recent.getEnd());
+    }
+
+    @Test
+    void testAddTooMany() {
+        for (var count = 0; count < MAX_PER_ACTOR + 2; ++count) {
+            index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, makeOperation(MY_ACTOR, nowMs + count));
+        }
+
+        // should only have the newest ones
+        List<Instant> starts = index.getRecentOperations(MY_TARGET, MY_ACTOR, ALL).stream()
+                        .map(RecentOperation::getStart).collect(Collectors.toList());
+        assertEquals(List.of(Instant.ofEpochMilli(nowMs + 2), Instant.ofEpochMilli(nowMs + 3),
+                        Instant.ofEpochMilli(nowMs + 4)), starts);
+    }
+
+    @Test
+    void testAddOutOfOrder() {
+        // the older operation completes after the newer one
+        var older = makeOperation(MY_ACTOR, nowMs - 5000);
+        var newer = makeOperation(MY_ACTOR, nowMs - 1000);
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, newer);
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, older);
+
+        List<Instant> starts = index.getRecentOperations(MY_TARGET, MY_ACTOR, ALL).stream()
+                        .map(RecentOperation::getStart).collect(Collectors.toList());
+        assertEquals(List.of(older.getStart(), newer.getStart()), starts);
+
+        // the older one ages out first, even though it was added last
+        nowMs += WINDOW_MS - 3000;
+        starts = index.getRecentOperations(MY_TARGET, MY_ACTOR, ALL).stream()
+                        .map(RecentOperation::getStart).collect(Collectors.toList());
+        assertEquals(List.of(newer.getStart()), starts);
+    }
+
+    @Test
+    void testGetRecentOperationsAllActors() {
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, makeOperation(MY_ACTOR, nowMs));
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, makeOperation(MY_ACTOR2, nowMs));
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET2, makeOperation(MY_ACTOR, nowMs));
+
+        List<String> actors = index.getRecentOperations(MY_TARGET, null, ALL).stream()
+                        .map(RecentOperation::getActor).sorted().collect(Collectors.toList());
+        assertEquals(List.of(MY_ACTOR, MY_ACTOR2), actors);
+
+        assertTrue(index.getRecentOperations(MY_TARGET2, MY_ACTOR2, ALL).isEmpty());
+    }
+
+    @Test
+    void testGetRecentOperationsAllActorsOrder() {
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, makeOperation(MY_ACTOR, nowMs - 4000));
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, makeOperation(MY_ACTOR2, nowMs - 3000));
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, makeOperation(MY_ACTOR, nowMs - 2000));
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, makeOperation(MY_ACTOR2, nowMs - 1000));
+
+        // the actors' operations should be interleaved, oldest first
+        List<String> actors = index.getRecentOperations(MY_TARGET, null, ALL).stream()
+                        .map(RecentOperation::getActor).collect(Collectors.toList());
+        assertEquals(List.of(MY_ACTOR, MY_ACTOR2, MY_ACTOR, MY_ACTOR2), actors);
+    }
+
+    @Test
+    void testGetRecentOperationsWindow() {
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, makeOperation(MY_ACTOR, nowMs - 5000));
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, makeOperation(MY_ACTOR, nowMs - 1000));
+
+        // no start time - uses the current time
+        var operation = makeOperation(MY_ACTOR, nowMs);
+        operation.setStart(null);
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, operation);
+
+        assertEquals(3, index.getRecentOperations(MY_TARGET, MY_ACTOR, ALL).size());
+        assertEquals(2, index.getRecentOperations(MY_TARGET, MY_ACTOR, Duration.ofSeconds(2)).size());
+
+        // a larger window than the index's own window is limited to the index's window
+        nowMs += WINDOW_MS - 2000;
+        assertEquals(2, index.getRecentOperations(MY_TARGET, MY_ACTOR, Duration.ofDays(1)).size());
+    }
+
+    @Test
+    void testPurge() {
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, makeOperation(MY_ACTOR, nowMs));
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET2, makeOperation(MY_ACTOR, nowMs + 5000));
+
+        nowMs += WINDOW_MS + 1000;
+        index.purge();
+
+        // first target should have been discarded
+        assertEquals(1, index.size());
+        assertTrue(index.getRecentOperations(MY_TARGET, null, ALL).isEmpty());
+        assertEquals(1, index.getRecentOperations(MY_TARGET2, null, ALL).size());
+
+        // adding after a purge should still work
+        index.add(REQ_ID, MY_LOOP_NAME, MY_TARGET, makeOperation(MY_ACTOR, nowMs));
+        assertEquals(1, index.getRecentOperations(MY_TARGET, null, ALL).size());
+    }
+
+    private ControlLoopOperation makeOperation(String actor, long startMs) {
+        var operation = new ControlLoopOperation();
+        operation.setActor(actor);
+        operation.setOperation(MY_OPERATION);
+        operation.setSubRequestId(UUID.randomUUID().toString());
+        operation.setStart(Instant.ofEpochMilli(startMs));
+        return operation;
+    }
+}
@@ -0,0 +1,158 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.controlloop.ophistory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.policy.controlloop.ControlLoopOperation;
+import org.onap.policy.controlloop.ophistory.OperationHistoryDataManagerImpl.Record;
+
+class RecordSpillFileTest {
+    private static final String BASE_NAME = "my-spill";
+    private static final String MY_LOOP_NAME = "my-loop-name";
+    private static final String MY_ENTITY = "my-entity";
+
+    @TempDir
+    Path dir;
+
+    private RecordSpillFile spill;
+
+    @BeforeEach
+    void setUp() {
+        spill = new RecordSpillFile(dir.toString(), BASE_NAME);
+    }
+
+    @Test
+    void testAppendPoll() {
+        assertFalse(spill.hasRecords());
+        assertNull(spill.poll());
+
+        assertTrue(spill.append(makeRecord("A")));
+        assertTrue(spill.append(makeRecord("B")));
+        assertTrue(spill.hasRecords());
+
+        Record rec = spill.poll();
+        assertEquals("A", rec.getRequestId());
+        assertEquals(MY_LOOP_NAME, rec.getClName());
+        assertEquals(MY_ENTITY, rec.getTargetEntity());
+        assertEquals(1000L, rec.getStartMs());
+        assertNull(rec.getEndMs());
+
+        // append while draining - should come after the others
+        assertTrue(spill.append(makeRecord("C")));
+
+        assertEquals("B", spill.poll().getRequestId());
+        assertEquals("C", spill.poll().getRequestId());
+
+        assertFalse(spill.hasRecords());
+        assertNull(spill.poll());
+
+        spill.close();
+    }
+
+    @Test
+    void testLeftOverRecords() {
+        spill.append(makeRecord("A"));
+        spill.append(makeRecord("B"));
+        spill.close();
+
+        // new instance should pick up the records
+        spill = new RecordSpillFile(dir.toString(), BASE_NAME);
+        assertTrue(spill.hasRecords());
+        assertEquals("A", spill.poll().getRequestId());
+        assertEquals("B", spill.poll().getRequestId());
+        assertNull(spill.poll());
+    }
+
+    @Test
+    void testCloseAfterDrained() {
+        spill.append(makeRecord("A"));
+        spill.append(makeRecord("B"));
+
+        assertEquals("A", spill.poll().getRequestId());
+        assertEquals("B", spill.poll().getRequestId());
+        spill.close();
+
+        // the records have all been read - should not be read again
+        assertFalse(Files.exists(dir.resolve(BASE_NAME + ".spill.drain")));
+
+        spill = new RecordSpillFile(dir.toString(), BASE_NAME);
+        assertFalse(spill.hasRecords());
+        assertNull(spill.poll());
+    }
+
+    @Test
+    void testCloseWhileDraining() {
+        spill.append(makeRecord("A"));
+        spill.append(makeRecord("B"));
+
+        assertEquals("A", spill.poll().getRequestId());
+        spill.close();
+
+        // only the unread record should be retained
+        spill = new RecordSpillFile(dir.toString(), BASE_NAME);
+        assertTrue(spill.hasRecords());
+        assertEquals("B", spill.poll().getRequestId());
+        assertNull(spill.poll());
+    }
+
+    @Test
+    void testPollInvalidData() throws Exception {
+        Files.writeString(dir.resolve(BASE_NAME + ".spill"), "{invalid json\n", StandardCharsets.UTF_8);
+
+        spill = new RecordSpillFile(dir.toString(), BASE_NAME);
+        assertTrue(spill.hasRecords());
+
+        // should discard the data
+        assertNull(spill.poll());
+        assertFalse(spill.hasRecords());
+    }
+
+    @Test
+    void testAppendError() throws Exception {
+        // make the directory a file, so that it cannot be written
+        var file = dir.resolve("file");
+        Files.writeString(file, "", StandardCharsets.UTF_8);
+
+        spill = new RecordSpillFile(file.toString(), BASE_NAME);
+        assertFalse(spill.append(makeRecord("A")));
+        assertFalse(spill.hasRecords());
+    }
+
+    private Record makeRecord(String requestId) {
+        var operation = new ControlLoopOperation();
+        operation.setActor("my-actor");
+        operation.setOperation("my-operation");
+        operation.setStart(Instant.ofEpochMilli(1000));
+
+        return new Record(requestId, MY_LOOP_NAME, MY_ENTITY, operation);
+    }
+}
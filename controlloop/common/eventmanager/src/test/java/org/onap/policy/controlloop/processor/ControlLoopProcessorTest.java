@@ -22,6 +22,7 @@
 package org.onap.policy.controlloop.processor;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -30,6 +31,8 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 import org.onap.policy.common.utils.coder.CoderException;
@@ -37,6 +40,7 @@ import org.onap.policy.common.utils.coder.StandardCoder;
 import org.onap.policy.common.utils.resources.ResourceUtils;
 import org.onap.policy.controlloop.ControlLoopException;
 import org.onap.policy.controlloop.actorserviceprovider.OperationResult;
+import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
 import org.slf4j.Logger;
@@ -97,6 +101,45 @@ class ControlLoopProcessorTest {
                 ).getCurrentPolicy());
     }
 
+    @Test
+    void testGetControlLoopParamsPriority() throws CoderException, ControlLoopException {
+        var toscaPolicy = getPolicyFromResource(
+                "policies/vCPE.policy.operational.input.tosca.json", "operational.restart");
+
+        // no metadata
+        toscaPolicy.setMetadata(null);
+        assertEquals(0, new ControlLoopProcessor(toscaPolicy).getControlLoopParams().getPriority());
+
+        toscaPolicy.setMetadata(new HashMap<>());
+        assertEquals(0, new ControlLoopProcessor(toscaPolicy).getControlLoopParams().getPriority());
+
+        toscaPolicy.getMetadata().put(ControlLoopProcessor.PRIORITY_METADATA, "5");
+        assertEquals(5, new ControlLoopProcessor(toscaPolicy).getControlLoopParams().getPriority());
+
+        toscaPolicy.getMetadata().put(ControlLoopProcessor.PRIORITY_METADATA, " -3 ");
+        assertEquals(-3, new ControlLoopProcessor(toscaPolicy).getControlLoopParams().getPriority());
+
+        // out of range
+        toscaPolicy.getMetadata().put(ControlLoopProcessor.PRIORITY_METADATA, "100");
+        assertEquals(ControlLoopParams.MAX_PRIORITY,
+                new ControlLoopProcessor(toscaPolicy).getControlLoopParams().getPriority());
+
+        toscaPolicy.getMetadata().put(ControlLoopProcessor.PRIORITY_METADATA, "-100");
+        assertEquals(ControlLoopParams.MIN_PRIORITY,
+                new ControlLoopProcessor(toscaPolicy).getControlLoopParams().getPriority());
+
+        // invalid
+        toscaPolicy.getMetadata().put(ControlLoopProcessor.PRIORITY_METADATA, "high");
+        assertEquals(0, new ControlLoopProcessor(toscaPolicy).getControlLoopParams().getPriority());
+    }
+
+    @Test
+    void testGetControlLoopParamsActors() throws CoderException, ControlLoopException {
+        var toscaPolicy = getPolicyFromResource(
+                "policies/vDNS.policy.operational.input.tosca.json", "operational.scaleout");
+        assertEquals(Set.of("SO"), new ControlLoopProcessor(toscaPolicy).getControlLoopParams().getActors());
+    }
+
     @Test
     void testControlLoopFromToscaCompliantBad() throws CoderException {
         var toscaPolicy = getPolicyFromResource(
@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2019-2020 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023, 2025 OpenInfra Foundation Europe. All rights reserved.
+ * Modifications Copyright (C) 2023, 2025-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,10 +25,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.util.Properties;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.onap.policy.common.utils.coder.StandardCoder;
 import org.onap.policy.common.utils.resources.ResourceUtils;
+import org.onap.policy.controlloop.eventmanager.AbatementMode;
+import org.onap.policy.controlloop.eventmanager.ActorStartupMode;
+import org.onap.policy.controlloop.eventmanager.NotificationLevel;
+import org.onap.policy.controlloop.eventmanager.OnsetCoalescing;
 import org.onap.policy.models.tosca.authorative.concepts.ToscaServiceTemplate;
 
 class ControlLoopUtilsTest {
@@ -51,4 +56,66 @@ class ControlLoopUtilsTest {
 
         assertNull(ControlLoopUtils.toControlLoopParams(null));
     }
+
+    @Test
+    void testGetLong() {
+        var props = new Properties();
+        props.setProperty("valid", " 10 ");
+        props.setProperty("blank", "  ");
+        props.setProperty("invalid", "abc");
+
+        assertEquals(10, ControlLoopUtils.getLong("my-owner", props, "valid", 5));
+        assertEquals(5, ControlLoopUtils.getLong("my-owner", props, "blank", 5));
+        assertEquals(5, ControlLoopUtils.getLong("my-owner", props, "invalid", 5));
+        assertEquals(5, ControlLoopUtils.getLong("my-owner", props, "missing", 5));
+        assertEquals(5, ControlLoopUtils.getLong("my-owner", null, "valid", 5));
+    }
+
+    @Test
+    void testParseEnumNotificationLevel() {
+        assertEquals(NotificationLevel.FULL, ControlLoopUtils.parseEnum(NotificationLevel.class, "FULL"));
+        assertEquals(NotificationLevel.OPERATIONS, ControlLoopUtils.parseEnum(NotificationLevel.class, " operations "));
+        assertEquals(NotificationLevel.FINAL_ONLY, ControlLoopUtils.parseEnum(NotificationLevel.class, "Final_Only"));
+
+        assertNull(ControlLoopUtils.parseEnum(NotificationLevel.class, null));
+        assertNull(ControlLoopUtils.parseEnum(NotificationLevel.class, ""));
+        assertNull(ControlLoopUtils.parseEnum(NotificationLevel.class, "  "));
+        assertNull(ControlLoopUtils.parseEnum(NotificationLevel.class, "unknown"));
+    }
+
+    @Test
+    void testParseEnumOnsetCoalescing() {
+        assertEquals(OnsetCoalescing.NONE, ControlLoopUtils.parseEnum(OnsetCoalescing.class, "NONE"));
+        assertEquals(OnsetCoalescing.ATTACH, ControlLoopUtils.parseEnum(OnsetCoalescing.class, " attach "));
+        assertEquals(OnsetCoalescing.REJECT, ControlLoopUtils.parseEnum(OnsetCoalescing.class, "Reject"));
+
+        assertNull(ControlLoopUtils.parseEnum(OnsetCoalescing.class, null));
+        assertNull(ControlLoopUtils.parseEnum(OnsetCoalescing.class, ""));
+        assertNull(ControlLoopUtils.parseEnum(OnsetCoalescing.class, "  "));
+        assertNull(ControlLoopUtils.parseEnum(OnsetCoalescing.class, "unknown"));
+    }
+
+    @Test
+    void testParseEnumAbatementMode() {
+        assertEquals(AbatementMode.IGNORE, ControlLoopUtils.parseEnum(AbatementMode.class, "IGNORE"));
+        assertEquals(AbatementMode.CANCEL, ControlLoopUtils.parseEnum(AbatementMode.class, " cancel "));
+        assertEquals(AbatementMode.CANCEL, ControlLoopUtils.parseEnum(AbatementMode.class, "Cancel"));
+
+        assertNull(ControlLoopUtils.parseEnum(AbatementMode.class, null));
+        assertNull(ControlLoopUtils.parseEnum(AbatementMode.class, ""));
+        assertNull(ControlLoopUtils.parseEnum(AbatementMode.class, "  "));
+        assertNull(ControlLoopUtils.parseEnum(AbatementMode.class, "unknown"));
+    }
+
+    @Test
+    void testParseEnumActorStartupMode() {
+        assertEquals(ActorStartupMode.EAGER, ControlLoopUtils.parseEnum(ActorStartupMode.class, "EAGER"));
+        assertEquals(ActorStartupMode.BACKGROUND, ControlLoopUtils.parseEnum(ActorStartupMode.class, " background "));
+        assertEquals(ActorStartupMode.LAZY, ControlLoopUtils.parseEnum(ActorStartupMode.class, "Lazy"));
+
+        assertNull(ControlLoopUtils.parseEnum(ActorStartupMode.class, null));
+        assertNull(ControlLoopUtils.parseEnum(ActorStartupMode.class, ""));
+        assertNull(ControlLoopUtils.parseEnum(ActorStartupMode.class, "  "));
+        assertNull(ControlLoopUtils.parseEnum(ActorStartupMode.class, "unknown"));
+    }
 }
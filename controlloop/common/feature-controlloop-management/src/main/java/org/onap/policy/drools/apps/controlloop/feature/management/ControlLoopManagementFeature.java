@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2018-2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2024 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,20 +22,54 @@
 
 package org.onap.policy.drools.apps.controlloop.feature.management;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
+import org.onap.policy.controlloop.eventmanager.AdmissionController;
+import org.onap.policy.controlloop.eventmanager.Bulkhead;
+import org.onap.policy.controlloop.eventmanager.BulkheadParams;
+import org.onap.policy.controlloop.eventmanager.CircuitBreaker;
+import org.onap.policy.controlloop.eventmanager.EventManagerServices;
+import org.onap.policy.controlloop.eventmanager.NotificationPublisher;
+import org.onap.policy.controlloop.eventmanager.PriorityExecutor;
+import org.onap.policy.controlloop.eventmanager.RetryScheduler;
+import org.onap.policy.controlloop.ophistory.OperationHistoryMetrics;
+import org.onap.policy.controlloop.ophistory.RecentOperation;
+import org.onap.policy.drools.controller.DroolsController;
+import org.onap.policy.drools.features.PolicyControllerFeatureApi;
 import org.onap.policy.drools.features.PolicyEngineFeatureApi;
 import org.onap.policy.drools.system.PolicyController;
 import org.onap.policy.drools.system.PolicyControllerConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * Control Loop Management Feature.
+ * Control Loop Management Feature. Also shuts down a controller's event services when
+ * the controller is stopped, as its sessions, which hold the services, are discarded.
  */
-public class ControlLoopManagementFeature implements PolicyEngineFeatureApi {
+public class ControlLoopManagementFeature implements PolicyEngineFeatureApi, PolicyControllerFeatureApi {
+    private static final Logger logger = LoggerFactory.getLogger(ControlLoopManagementFeature.class);
 
     private static final String FEATURE_NAME = "controlloop-management";
     private static final int SEQNO = 1000;
 
+    /**
+     * Metrics retrievers, keyed by component name.
+     */
+    private static final Map<String, BiFunction<String, String, List<?>>> METRICS = Map.of(
+        "history", ControlLoopManagementFeature::historyMetrics,
+        "notifications", ControlLoopManagementFeature::notificationMetrics,
+        "admission", ControlLoopManagementFeature::admissionMetrics,
+        "priority", ControlLoopManagementFeature::priorityMetrics,
+        "retry", ControlLoopManagementFeature::retryMetrics,
+        "breakers", ControlLoopManagementFeature::circuitBreakers,
+        "bulkheads", ControlLoopManagementFeature::bulkheadMetrics);
+
     /**
      * Factory for various objects.  May be overridden by junit tests.
      */
@@ -49,20 +84,195 @@ public class ControlLoopManagementFeature implements PolicyEngineFeatureApi {
      * @return control loops.
      */
     public static Stream<ControlLoopParams> controlLoops(String controllerName, String sessionName) {
+        return facts(controllerName, sessionName, ControlLoopParams.class);
+    }
+
+    /**
+     * retrieves the operations recently performed on a target.
+     *
+     * @param controllerName controller name.
+     * @param sessionName session name.
+     * @param targetEntity target entity.
+     * @param actor actor, or {@code null} for all actors.
+     * @param window how far back to look.
+     * @return recent operations, oldest first.
+     */
+    public static List<RecentOperation> recentOperations(String controllerName, String sessionName,
+                    String targetEntity, String actor, Duration window) {
+
+        return facts(controllerName, sessionName, EventManagerServices.class)
+            .flatMap(services ->
+                services.getDataManager().getRecentOperations(targetEntity, actor, window).stream())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * retrieves the metrics of an event manager component.
+     *
+     * @param controllerName controller name.
+     * @param sessionName session name.
+     * @param component component name, one of "history", "notifications", "admission", "priority",
+     *        "retry", "breakers" or "bulkheads".
+     * @return the component's metrics.
+     */
+    public static List<?> metrics(String controllerName, String sessionName, String component) {
+        BiFunction<String, String, List<?>> retriever = METRICS.get(component);
+        if (retriever == null) {
+            throw new IllegalArgumentException("Invalid Metrics Component");
+        }
+
+        return retriever.apply(controllerName, sessionName);
+    }
+
+    /**
+     * retrieves the operation history writer metrics.
+     *
+     * @param controllerName controller name.
+     * @param sessionName session name.
+     * @return operation history metrics, one per data manager that collects them.
+     */
+    public static List<OperationHistoryMetrics.Snapshot> historyMetrics(String controllerName, String sessionName) {
+        return facts(controllerName, sessionName, EventManagerServices.class)
+            .map(services -> services.getDataManager().getMetrics())
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * retrieves the notification publisher metrics.
+     *
+     * @param controllerName controller name.
+     * @param sessionName session name.
+     * @return notification publisher metrics, one per publisher.
+     */
+    public static List<NotificationPublisher.Metrics> notificationMetrics(String controllerName,
+                    String sessionName) {
+        return facts(controllerName, sessionName, EventManagerServices.class)
+            .map(EventManagerServices::getNotificationPublisher)
+            .filter(Objects::nonNull)
+            .map(NotificationPublisher::getMetrics)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * retrieves the admission control metrics.
+     *
+     * @param controllerName controller name.
+     * @param sessionName session name.
+     * @return admission metrics, one per admission controller.
+     */
+    public static List<AdmissionController.Metrics> admissionMetrics(String controllerName, String sessionName) {
+        return facts(controllerName, sessionName, EventManagerServices.class)
+            .map(EventManagerServices::getAdmissionController)
+            .filter(Objects::nonNull)
+            .map(AdmissionController::getMetrics)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * retrieves the priority executor metrics.
+     *
+     * @param controllerName controller name.
+     * @param sessionName session name.
+     * @return priority metrics, one per priority, highest priority first.
+     */
+    public static List<PriorityExecutor.Metrics> priorityMetrics(String controllerName, String sessionName) {
+        return facts(controllerName, sessionName, EventManagerServices.class)
+            .map(EventManagerServices::getPriorityExecutor)
+            .filter(Objects::nonNull)
+            .flatMap(executor -> executor.getMetrics().stream())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * retrieves the retry scheduler metrics.
+     *
+     * @param controllerName controller name.
+     * @param sessionName session name.
+     * @return retry metrics, one per actor.
+     */
+    public static List<RetryScheduler.Metrics> retryMetrics(String controllerName, String sessionName) {
+        return facts(controllerName, sessionName, EventManagerServices.class)
+            .map(EventManagerServices::getRetryScheduler)
+            .filter(Objects::nonNull)
+            .flatMap(scheduler -> scheduler.getMetrics().stream())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * retrieves the circuit breaker states and metrics.
+     *
+     * @param controllerName controller name.
+     * @param sessionName session name.
+     * @return breaker metrics, one per actor.
+     */
+    public static List<CircuitBreaker.Metrics> circuitBreakers(String controllerName, String sessionName) {
+        return facts(controllerName, sessionName, EventManagerServices.class)
+            .map(EventManagerServices::getCircuitBreakers)
+            .filter(Objects::nonNull)
+            .flatMap(breakers -> breakers.getMetrics().stream())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * retrieves the bulkhead metrics.
+     *
+     * @param controllerName controller name.
+     * @param sessionName session name.
+     * @return bulkhead metrics, one per operation.
+     */
+    public static List<Bulkhead.Metrics> bulkheadMetrics(String controllerName, String sessionName) {
+        return facts(controllerName, sessionName, EventManagerServices.class)
+            .map(EventManagerServices::getBulkheads)
+            .filter(Objects::nonNull)
+            .flatMap(bulkheads -> bulkheads.getMetrics().stream())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * changes the bulkhead limits of an actor.
+     *
+     * @param controllerName controller name.
+     * @param sessionName session name.
+     * @param actor actor name.
+     * @param limits new limits.
+     */
+    public static void setBulkheadLimits(String controllerName, String sessionName, String actor,
+                    BulkheadParams limits) {
+        facts(controllerName, sessionName, EventManagerServices.class)
+            .map(EventManagerServices::getBulkheads)
+            .filter(Objects::nonNull)
+            .forEach(bulkheads -> bulkheads.setLimits(actor, limits));
+    }
+
+    /**
+     * retrieves facts of a given type, from the session and from any of its shards.
+     * Facts shared by the shards are only returned once.
+     *
+     * @param controllerName controller name.
+     * @param sessionName session name.
+     * @param clazz type of fact.
+     * @return facts.
+     */
+    private static <T> Stream<T> facts(String controllerName, String sessionName, Class<T> clazz) {
         PolicyController controller = factory.getController(controllerName);
         if (controller == null) {
             throw new IllegalArgumentException("Invalid Controller Name");
         }
 
-        if (controller.getDrools().getSessionNames().stream().noneMatch(sessionName::equals)) {
+        List<String> sessionNames = controller.getDrools().getSessionNames();
+        if (sessionNames.stream().noneMatch(sessionName::equals)) {
             throw new IllegalArgumentException("Invalid Session Name");
         }
 
-        return controller.getDrools()
-            .facts(sessionName, ControlLoopParams.class.getName(), false)
-            .stream()
-            .filter(ControlLoopParams.class::isInstance)
-            .map(ControlLoopParams.class::cast);
+        String shardPrefix = sessionName + ControlLoopShardingFeature.SHARD_SEPARATOR;
+
+        return sessionNames.stream()
+            .filter(name -> name.equals(sessionName) || name.startsWith(shardPrefix))
+            .flatMap(name -> controller.getDrools().facts(name, clazz.getName(), false).stream())
+            .filter(clazz::isInstance)
+            .map(clazz::cast)
+            .distinct();
     }
 
     /**
@@ -97,6 +307,38 @@ public class ControlLoopManagementFeature implements PolicyEngineFeatureApi {
         return FEATURE_NAME;
     }
 
+    @Override
+    public boolean beforeStop(PolicyController controller) {
+        shutdownServices(controller);
+        return false;
+    }
+
+    @Override
+    public boolean beforeShutdown(PolicyController controller) {
+        shutdownServices(controller);
+        return false;
+    }
+
+    /**
+     * Shuts down the event services held by any of a controller's sessions. Services
+     * shared by several sessions are only shut down once.
+     *
+     * @param controller controller whose services are to be shut down
+     */
+    private void shutdownServices(PolicyController controller) {
+        try {
+            DroolsController drools = controller.getDrools();
+
+            drools.getSessionNames().stream()
+                .flatMap(name -> drools.facts(name, EventManagerServices.class).stream())
+                .distinct()
+                .forEach(EventManagerServices::shutdown);
+
+        } catch (RuntimeException e) {
+            logger.warn("{}: cannot shut down event services", controller.getName(), e);
+        }
+    }
+
     /**
      * Factory that can be overridden by junit tests.
      */
@@ -0,0 +1,390 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controlloop.feature.management;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
+import org.onap.policy.controlloop.eventmanager.EventManagerServices;
+import org.onap.policy.controlloop.utils.ControlLoopUtils;
+import org.onap.policy.drools.controller.DroolsController;
+import org.onap.policy.drools.core.PolicyContainer;
+import org.onap.policy.drools.core.PolicySession;
+import org.onap.policy.drools.core.PolicySessionFeatureApi;
+import org.onap.policy.drools.features.DroolsControllerFeatureApi;
+import org.onap.policy.drools.features.PolicyControllerFeatureApi;
+import org.onap.policy.drools.system.PolicyController;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Feature that spreads a control loop controller's events across several sessions
+ * ("shards") of the same kjar, each of which fires its rules on its own thread. The
+ * number of shards is identified by the controller's {@value #SHARDS_PROPERTY} property;
+ * the additional sessions are created when the controller is started, and are named
+ * after the controller's session, with a {@value #SHARD_SEPARATOR} suffix.
+ *
+ * <p/>Each event is inserted into a single shard, selected by hashing its
+ * closedLoopControlName or, if so configured, its target entity, thus all of the events
+ * for a given control loop (or target) are handled by the same shard. Other facts (e.g.,
+ * policies) are still inserted into every session, thus each shard derives its own
+ * ControlLoopParams. The shards share a single EventManagerServices, which this feature
+ * creates before the controller is started, and inserts into every session, including
+ * the original session, before its rules fire, so that the original session does not
+ * create its own.
+ */
+public class ControlLoopShardingFeature
+                implements PolicyControllerFeatureApi, DroolsControllerFeatureApi, PolicySessionFeatureApi {
+    private static final Logger logger = LoggerFactory.getLogger(ControlLoopShardingFeature.class);
+
+    public static final int SEQNO = 1000;
+
+    /**
+     * Controller property containing the number of sessions across which events are
+     * spread. Sharding is disabled if the value is &lt;= 1.
+     */
+    public static final String SHARDS_PROPERTY = "controlloop.shards";
+
+    /**
+     * Controller property identifying the event field on which shards are selected, one
+     * of {@value #KEY_CONTROL_LOOP} or {@value #KEY_TARGET}.
+     */
+    public static final String SHARD_KEY_PROPERTY = "controlloop.shards.key";
+
+    public static final String KEY_CONTROL_LOOP = "closedLoopControlName";
+    public static final String KEY_TARGET = "target";
+
+    /**
+     * Name of the configuration file used to create the event services, the same as is
+     * used by the rules.
+     */
+    public static final String EVENT_SERVICES_CONFIG = "event-manager";
+
+    /**
+     * Separates a session's name from the shard number, in the names of the additional
+     * sessions.
+     */
+    public static final String SHARD_SEPARATOR = "-shard-";
+
+    /**
+     * Maps a drools controller to its shards.
+     */
+    private final Map<DroolsController, Shards> drools2shards = new ConcurrentHashMap<>();
+
+    /**
+     * Maps the policy container of a sharded controller to the services shared by its
+     * sessions.
+     */
+    private final Map<PolicyContainer, EventManagerServices> container2services = new ConcurrentHashMap<>();
+
+
+    @Override
+    public int getSequenceNumber() {
+        return SEQNO;
+    }
+
+    /**
+     * Creates the services to be shared by the shards, and inserts them into any of the
+     * controller's sessions that already exist. Sessions created when the controller is
+     * started are given the services by {@link #newPolicySession(PolicySession)}.
+     */
+    @Override
+    public boolean beforeStart(PolicyController controller) {
+        if (getShardCount(controller.getName(), controller.getProperties()) <= 1) {
+            return false;
+        }
+
+        PolicyContainer container = controller.getDrools().getContainer();
+        if (container == null) {
+            return false;
+        }
+
+        EventManagerServices services;
+        try {
+            services = makeServices();
+
+        } catch (RuntimeException e) {
+            logger.error("{}: cannot create event services - events will be processed by a single session",
+                            controller.getName(), e);
+            return false;
+        }
+
+        stopServices(container2services.put(container, services));
+
+        for (PolicySession session : container.getPolicySessions()) {
+            if (!session.getName().contains(SHARD_SEPARATOR)) {
+                replaceServices(session.getKieSession(), services);
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gives the shared services to a newly created session of a sharded controller,
+     * before the session's rules fire. The additional sessions are given the services
+     * when they are made, thus they are skipped here.
+     */
+    @Override
+    public void newPolicySession(PolicySession session) {
+        EventManagerServices services = container2services.get(session.getContainer());
+        if (services != null && !session.getName().contains(SHARD_SEPARATOR)) {
+            session.getKieSession().insert(services);
+        }
+    }
+
+    @Override
+    public boolean afterStart(PolicyController controller) {
+        Properties props = controller.getProperties();
+        int count = getShardCount(controller.getName(), props);
+        if (count <= 1) {
+            return false;
+        }
+
+        PolicyContainer container = controller.getDrools().getContainer();
+        EventManagerServices services = (container == null ? null : container2services.get(container));
+        if (services == null) {
+            logger.error("{}: no event services - events will be processed by a single session",
+                            controller.getName());
+            return false;
+        }
+
+        try {
+            Shards shards = makeShards(controller, count, KEY_TARGET.equals(getProperty(props, SHARD_KEY_PROPERTY)),
+                            services);
+            drools2shards.put(controller.getDrools(), shards);
+
+        } catch (RuntimeException e) {
+            logger.error("{}: cannot create shards - events will be processed by a single session",
+                            controller.getName(), e);
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean afterStop(PolicyController controller) {
+        forget(controller);
+        return false;
+    }
+
+    @Override
+    public boolean afterShutdown(PolicyController controller) {
+        forget(controller);
+        return false;
+    }
+
+    /**
+     * Discards a controller's shards and shuts down the services that were created for
+     * them. Shutting down the services is a no-op if they have already been shut down.
+     *
+     * @param controller controller of interest
+     */
+    private void forget(PolicyController controller) {
+        DroolsController drools = controller.getDrools();
+        drools2shards.remove(drools);
+
+        PolicyContainer container = drools.getContainer();
+        if (container != null) {
+            stopServices(container2services.remove(container));
+        }
+    }
+
+    /**
+     * Inserts control loop events into the shard selected for them.
+     *
+     * @param drools drools controller
+     * @param fact fact to be inserted
+     * @return {@code true} if the fact is an event that was inserted into a shard, thus
+     *         taking ownership of it, {@code false} otherwise
+     */
+    @Override
+    public boolean beforeInsert(DroolsController drools, Object fact) {
+        if (!(fact instanceof VirtualControlLoopEvent event)) {
+            return false;
+        }
+
+        Shards shards = drools2shards.get(drools);
+        if (shards == null) {
+            return false;
+        }
+
+        shards.getSession(event).insert(event);
+        return true;
+    }
+
+    /**
+     * Gets the shards of a controller.
+     *
+     * @param drools drools controller
+     * @return the controller's shards, or {@code null} if its events are not sharded
+     */
+    public Shards getShards(DroolsController drools) {
+        return drools2shards.get(drools);
+    }
+
+    /**
+     * Makes the shards, creating any additional sessions that don't exist yet. Each new
+     * session is given the shared EventManagerServices and the original session's
+     * policies before it is started. Sessions that already exist are given the shared
+     * EventManagerServices in place of the ones they hold.
+     *
+     * @param controller controller whose events are to be sharded
+     * @param count number of shards
+     * @param byTarget {@code true} if shards are to be selected by target entity
+     * @param services services to be shared by the shards
+     * @return a new set of shards
+     */
+    protected Shards makeShards(PolicyController controller, int count, boolean byTarget,
+                    EventManagerServices services) {
+        DroolsController drools = controller.getDrools();
+        PolicyContainer container = drools.getContainer();
+
+        String primary = drools.getSessionNames().stream().filter(name -> !name.contains(SHARD_SEPARATOR))
+                        .findFirst().orElseThrow(() -> new IllegalStateException("controller has no sessions"));
+
+        var sessions = new KieSession[count];
+        sessions[0] = container.getPolicySession(primary).getKieSession();
+
+        List<ToscaPolicy> policies = null;
+
+        for (var shard = 1; shard < count; ++shard) {
+            String name = primary + SHARD_SEPARATOR + shard;
+
+            PolicySession existing = container.getPolicySession(name);
+            if (existing != null) {
+                // controller was restarted - the shard still holds its facts and the old services
+                sessions[shard] = existing.getKieSession();
+                replaceServices(sessions[shard], services);
+                continue;
+            }
+
+            if (policies == null) {
+                policies = drools.facts(primary, ToscaPolicy.class);
+            }
+
+            KieSession session = container.getKieContainer().newKieSession(primary);
+            session.insert(services);
+            policies.forEach(session::insert);
+
+            container.adoptKieSession(name, session);
+            sessions[shard] = session;
+        }
+
+        logger.info("{}: events are spread across {} sessions by {}", controller.getName(), count,
+                        (byTarget ? KEY_TARGET : KEY_CONTROL_LOOP));
+
+        return new Shards(sessions, byTarget);
+    }
+
+    /**
+     * Replaces any services held by an existing session with the given services.
+     *
+     * @param session session of interest
+     * @param services services to be inserted into the session
+     */
+    private static void replaceServices(KieSession session, EventManagerServices services) {
+        for (FactHandle handle : session.getFactHandles(EventManagerServices.class::isInstance)) {
+            session.delete(handle);
+        }
+
+        session.insert(services);
+    }
+
+    private static void stopServices(EventManagerServices services) {
+        if (services != null) {
+            services.shutdown();
+        }
+    }
+
+    private static int getShardCount(String controllerName, Properties props) {
+        return (int) ControlLoopUtils.getLong(controllerName, props, SHARDS_PROPERTY, 1);
+    }
+
+    private static String getProperty(Properties props, String propName) {
+        return (props == null ? null : props.getProperty(propName));
+    }
+
+    // the following may be overridden by junit tests
+
+    protected EventManagerServices makeServices() {
+        return new EventManagerServices(EVENT_SERVICES_CONFIG);
+    }
+
+    /**
+     * Sessions across which a controller's events are spread.
+     */
+    public static class Shards {
+        private final KieSession[] sessions;
+        private final boolean byTarget;
+
+        /**
+         * Constructs the object.
+         *
+         * @param sessions sessions, the original session first
+         * @param byTarget {@code true} if shards are selected by target entity,
+         *        {@code false} if they are selected by control loop name
+         */
+        public Shards(KieSession[] sessions, boolean byTarget) {
+            this.sessions = sessions;
+            this.byTarget = byTarget;
+        }
+
+        public int size() {
+            return sessions.length;
+        }
+
+        /**
+         * Gets the session that handles an event.
+         *
+         * @param event event of interest
+         * @return the session that handles the event
+         */
+        public KieSession getSession(VirtualControlLoopEvent event) {
+            return sessions[Math.floorMod(Objects.hashCode(getKey(event)), sessions.length)];
+        }
+
+        /**
+         * Gets the key on which an event's shard is selected. When selecting by target,
+         * the target entity is taken from the A&AI data, using the event's target as the
+         * key, falling back to the control loop name if there is no such entry.
+         *
+         * @param event event of interest
+         * @return the event's shard key
+         */
+        private String getKey(VirtualControlLoopEvent event) {
+            if (byTarget && event.getTarget() != null && event.getAai() != null) {
+                String entity = event.getAai().get(event.getTarget());
+                if (entity != null) {
+                    return entity;
+                }
+            }
+
+            return event.getClosedLoopControlName();
+        }
+    }
+}
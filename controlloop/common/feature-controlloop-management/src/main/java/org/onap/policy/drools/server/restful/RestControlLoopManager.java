@@ -4,6 +4,7 @@
  * ================================================================================
  * Copyright (C) 2018-2021 AT&T Intellectual Property. All rights reserved.
  * Modifications Copyright (C) 2023 Nordix Foundation.
+ * Modifications Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,17 +24,23 @@ package org.onap.policy.drools.server.restful;
 
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.onap.policy.aai.AaiManager;
 import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
+import org.onap.policy.controlloop.eventmanager.Bulkhead;
+import org.onap.policy.controlloop.eventmanager.BulkheadParams;
+import org.onap.policy.controlloop.ophistory.RecentOperation;
 import org.onap.policy.drools.apps.controlloop.feature.management.ControlLoopManagementFeature;
 import org.onap.policy.drools.system.PolicyEngineConstants;
 import org.onap.policy.rest.RestManager;
@@ -104,6 +111,107 @@ public class RestControlLoopManager implements PolicyApi {
         }
     }
 
+    /**
+     * GET operations recently performed on a target.
+     *
+     * @param controllerName controller name.
+     * @param sessionName session name.
+     * @param targetEntity target entity.
+     * @param actor actor, or {@code null} for all actors.
+     * @param windowSec how far back to look, in seconds, or {@code null} to use the
+     *        window of the in-memory index.
+     * @return recent operations, oldest first.
+     */
+    @GET
+    @Path("engine/controllers/{controller}/drools/facts/{session}/operations/{targetEntity}")
+    public Response recentOperations(
+        @PathParam("controller") String controllerName,
+        @PathParam("session") String sessionName,
+        @PathParam("targetEntity") String targetEntity,
+        @QueryParam("actor") String actor,
+        @QueryParam("windowSec") Integer windowSec) {
+
+        if (windowSec != null && windowSec <= 0) {
+            return Response.status(Response.Status.BAD_REQUEST).entity("windowSec must be positive").build();
+        }
+
+        try {
+            var window = (windowSec != null ? Duration.ofSeconds(windowSec) : Duration.ofMillis(Long.MAX_VALUE));
+            List<RecentOperation> operations =
+                ControlLoopManagementFeature.recentOperations(controllerName, sessionName, targetEntity, actor,
+                    window);
+
+            return Response.status(Response.Status.OK).entity(operations).build();
+        } catch (IllegalArgumentException e) {
+            logger.error("'GET' recent operations threw an exception", e);
+            return Response.status(Response.Status.NOT_FOUND).entity(e.getMessage()).build();
+        }
+    }
+
+    /**
+     * GET metrics of an event manager component.
+     *
+     * @param controllerName controller name.
+     * @param sessionName session name.
+     * @param component component name.
+     * @return the component's metrics.
+     */
+    @GET
+    @Path("engine/controllers/{controller}/drools/facts/{session}/metrics/{component}")
+    public Response metrics(
+        @PathParam("controller") String controllerName,
+        @PathParam("session") String sessionName,
+        @PathParam("component") String component) {
+
+        try {
+            List<?> metrics = ControlLoopManagementFeature.metrics(controllerName, sessionName, component);
+
+            return Response.status(Response.Status.OK).entity(metrics).build();
+        } catch (IllegalArgumentException e) {
+            logger.error("'GET' {} metrics threw an exception", component, e);
+            return Response.status(Response.Status.NOT_FOUND).entity(e.getMessage()).build();
+        }
+    }
+
+    /**
+     * PUT bulkhead limits of an actor.
+     *
+     * @param controllerName controller name.
+     * @param sessionName session name.
+     * @param actor actor name.
+     * @param limits new limits.
+     * @return bulkhead metrics.
+     */
+    @PUT
+    @Path("engine/controllers/{controller}/drools/facts/{session}/bulkheads/{actor}")
+    public Response bulkheadLimits(
+        @PathParam("controller") String controllerName,
+        @PathParam("session") String sessionName,
+        @PathParam("actor") String actor,
+        BulkheadParams limits) {
+
+        if (limits == null) {
+            return Response.status(Response.Status.BAD_REQUEST).entity("no bulkhead limits").build();
+        }
+
+        var result = limits.validate("bulkhead");
+        if (!result.isValid()) {
+            return Response.status(Response.Status.BAD_REQUEST).entity(result.getResult()).build();
+        }
+
+        try {
+            ControlLoopManagementFeature.setBulkheadLimits(controllerName, sessionName, actor, limits);
+
+            List<Bulkhead.Metrics> metrics =
+                ControlLoopManagementFeature.bulkheadMetrics(controllerName, sessionName);
+
+            return Response.status(Response.Status.OK).entity(metrics).build();
+        } catch (IllegalArgumentException e) {
+            logger.error("'PUT' bulkhead limits threw an exception", e);
+            return Response.status(Response.Status.NOT_FOUND).entity(e.getMessage()).build();
+        }
+    }
+
     /**
      * AAI Custom Query.
      *
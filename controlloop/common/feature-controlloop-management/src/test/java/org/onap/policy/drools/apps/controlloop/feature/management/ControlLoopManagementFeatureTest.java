@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2018-2019 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023, 2025 OpenInfra Foundation Europe. All rights reserved.
+ * Modifications Copyright (C) 2023, 2025-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,14 +23,35 @@ package org.onap.policy.drools.apps.controlloop.feature.management;
 
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
+import org.onap.policy.controlloop.eventmanager.AdmissionController;
+import org.onap.policy.controlloop.eventmanager.Bulkhead;
+import org.onap.policy.controlloop.eventmanager.BulkheadParams;
+import org.onap.policy.controlloop.eventmanager.BulkheadRegistry;
+import org.onap.policy.controlloop.eventmanager.CircuitBreaker;
+import org.onap.policy.controlloop.eventmanager.CircuitBreakerRegistry;
+import org.onap.policy.controlloop.eventmanager.EventManagerServices;
+import org.onap.policy.controlloop.eventmanager.NotificationPublisher;
+import org.onap.policy.controlloop.eventmanager.PriorityExecutor;
+import org.onap.policy.controlloop.eventmanager.RetryScheduler;
+import org.onap.policy.controlloop.ophistory.OperationHistoryDataManager;
+import org.onap.policy.controlloop.ophistory.OperationHistoryMetrics;
+import org.onap.policy.controlloop.ophistory.RecentOperation;
 import org.onap.policy.drools.apps.controlloop.feature.management.ControlLoopManagementFeature.Factory;
 import org.onap.policy.drools.controller.DroolsController;
 import org.onap.policy.drools.system.PolicyController;
@@ -72,6 +93,34 @@ class ControlLoopManagementFeatureTest {
         assertEquals("controlloop-management", new ControlLoopManagementFeature().getName());
     }
 
+    @Test
+    void testBeforeStop_testBeforeShutdown() {
+        var services = mock(EventManagerServices.class);
+        var services2 = mock(EventManagerServices.class);
+
+        // the first two sessions share their services
+        var drools = mock(DroolsController.class);
+        when(drools.getSessionNames()).thenReturn(List.of("session-a", "session-b", "session-c"));
+        when(drools.facts("session-a", EventManagerServices.class)).thenReturn(List.of(services));
+        when(drools.facts("session-b", EventManagerServices.class)).thenReturn(List.of(services));
+        when(drools.facts("session-c", EventManagerServices.class)).thenReturn(List.of(services2));
+
+        var ctlr = mock(PolicyController.class);
+        when(ctlr.getDrools()).thenReturn(drools);
+
+        var feature = new ControlLoopManagementFeature();
+        assertFalse(feature.beforeStop(ctlr));
+        verify(services).shutdown();
+        verify(services2).shutdown();
+
+        assertFalse(feature.beforeShutdown(ctlr));
+        verify(services, times(2)).shutdown();
+
+        // exceptions should be caught
+        when(drools.getSessionNames()).thenThrow(new IllegalStateException("expected exception"));
+        assertFalse(feature.beforeStop(ctlr));
+    }
+
     @Test
     void testControlLoops_InvalidArgs() {
         var factory = mock(Factory.class);
@@ -94,6 +143,306 @@ class ControlLoopManagementFeatureTest {
             .withMessage("Invalid Session Name");
     }
 
+    @Test
+    void testRecentOperations() {
+        var factory = mock(Factory.class);
+        ReflectionTestUtils.setField(ControlLoopManagementFeature.class, FACTORY_FIELD, factory);
+
+        var window = Duration.ofMinutes(1);
+        var recent = new RecentOperation("my-request", "my-loop", "my-target", "my-actor", "my-operation",
+                        "my-sub-request", null, null, null);
+
+        var dataMgr = mock(OperationHistoryDataManager.class);
+        when(dataMgr.getRecentOperations("my-target", "my-actor", window)).thenReturn(List.of(recent));
+        var services = mock(EventManagerServices.class);
+        when(services.getDataManager()).thenReturn(dataMgr);
+
+        var drools = mock(DroolsController.class);
+        when(drools.getSessionNames()).thenReturn(List.of(SESSION_NAME));
+        when(drools.facts(SESSION_NAME, EventManagerServices.class.getName(), false))
+                        .thenReturn(List.of(services, "not-services"));
+        var ctlr = mock(PolicyController.class);
+        when(ctlr.getDrools()).thenReturn(drools);
+        when(factory.getController(any())).thenReturn(ctlr);
+
+        assertEquals(List.of(recent), ControlLoopManagementFeature.recentOperations(CONTROLLER_NAME, SESSION_NAME,
+                        "my-target", "my-actor", window));
+    }
+
+    @Test
+    void testMetrics() {
+        var factory = mock(Factory.class);
+        ReflectionTestUtils.setField(ControlLoopManagementFeature.class, FACTORY_FIELD, factory);
+
+        var snapshot = OperationHistoryMetrics.Snapshot.builder().queueLength(1).build();
+        var dataMgr = mock(OperationHistoryDataManager.class);
+        when(dataMgr.getMetrics()).thenReturn(snapshot);
+        var services = mock(EventManagerServices.class);
+        when(services.getDataManager()).thenReturn(dataMgr);
+
+        var drools = mock(DroolsController.class);
+        when(drools.getSessionNames()).thenReturn(List.of(SESSION_NAME));
+        when(drools.facts(SESSION_NAME, EventManagerServices.class.getName(), false)).thenReturn(List.of(services));
+        var ctlr = mock(PolicyController.class);
+        when(ctlr.getDrools()).thenReturn(drools);
+        when(factory.getController(any())).thenReturn(ctlr);
+
+        assertEquals(List.of(snapshot), ControlLoopManagementFeature.metrics(CONTROLLER_NAME, SESSION_NAME, "history"));
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> ControlLoopManagementFeature.metrics(CONTROLLER_NAME, SESSION_NAME, "unknown"))
+            .withMessage("Invalid Metrics Component");
+    }
+
+    @Test
+    void testHistoryMetrics() {
+        var factory = mock(Factory.class);
+        ReflectionTestUtils.setField(ControlLoopManagementFeature.class, FACTORY_FIELD, factory);
+
+        var snapshot = OperationHistoryMetrics.Snapshot.builder().queueLength(1).build();
+
+        var dataMgr = mock(OperationHistoryDataManager.class);
+        when(dataMgr.getMetrics()).thenReturn(snapshot);
+        var services = mock(EventManagerServices.class);
+        when(services.getDataManager()).thenReturn(dataMgr);
+
+        // stub data manager - no metrics
+        var services2 = mock(EventManagerServices.class);
+        when(services2.getDataManager()).thenReturn(mock(OperationHistoryDataManager.class));
+
+        var drools = mock(DroolsController.class);
+        when(drools.getSessionNames()).thenReturn(List.of(SESSION_NAME));
+        when(drools.facts(SESSION_NAME, EventManagerServices.class.getName(), false))
+                        .thenReturn(List.of(services, services2));
+        var ctlr = mock(PolicyController.class);
+        when(ctlr.getDrools()).thenReturn(drools);
+        when(factory.getController(any())).thenReturn(ctlr);
+
+        assertEquals(List.of(snapshot), ControlLoopManagementFeature.historyMetrics(CONTROLLER_NAME, SESSION_NAME));
+    }
+
+    @Test
+    void testNotificationMetrics() {
+        var factory = mock(Factory.class);
+        ReflectionTestUtils.setField(ControlLoopManagementFeature.class, FACTORY_FIELD, factory);
+
+        var metrics = NotificationPublisher.Metrics.builder().queueLength(1).build();
+
+        var publisher = mock(NotificationPublisher.class);
+        when(publisher.getMetrics()).thenReturn(metrics);
+        var services = mock(EventManagerServices.class);
+        when(services.getNotificationPublisher()).thenReturn(publisher);
+
+        // no publisher
+        var services2 = mock(EventManagerServices.class);
+
+        var drools = mock(DroolsController.class);
+        when(drools.getSessionNames()).thenReturn(List.of(SESSION_NAME));
+        when(drools.facts(SESSION_NAME, EventManagerServices.class.getName(), false))
+                        .thenReturn(List.of(services, services2));
+        var ctlr = mock(PolicyController.class);
+        when(ctlr.getDrools()).thenReturn(drools);
+        when(factory.getController(any())).thenReturn(ctlr);
+
+        assertEquals(List.of(metrics),
+                        ControlLoopManagementFeature.notificationMetrics(CONTROLLER_NAME, SESSION_NAME));
+    }
+
+    @Test
+    void testAdmissionMetrics() {
+        var factory = mock(Factory.class);
+        ReflectionTestUtils.setField(ControlLoopManagementFeature.class, FACTORY_FIELD, factory);
+
+        var metrics = AdmissionController.Metrics.builder().inFlight(1).build();
+
+        var admission = mock(AdmissionController.class);
+        when(admission.getMetrics()).thenReturn(metrics);
+        var services = mock(EventManagerServices.class);
+        when(services.getAdmissionController()).thenReturn(admission);
+
+        // no admission controller
+        var services2 = mock(EventManagerServices.class);
+
+        var drools = mock(DroolsController.class);
+        when(drools.getSessionNames()).thenReturn(List.of(SESSION_NAME));
+        when(drools.facts(SESSION_NAME, EventManagerServices.class.getName(), false))
+                        .thenReturn(List.of(services, services2));
+        var ctlr = mock(PolicyController.class);
+        when(ctlr.getDrools()).thenReturn(drools);
+        when(factory.getController(any())).thenReturn(ctlr);
+
+        assertEquals(List.of(metrics), ControlLoopManagementFeature.admissionMetrics(CONTROLLER_NAME, SESSION_NAME));
+    }
+
+    @Test
+    void testPriorityMetrics() {
+        var factory = mock(Factory.class);
+        ReflectionTestUtils.setField(ControlLoopManagementFeature.class, FACTORY_FIELD, factory);
+
+        var metrics1 = PriorityExecutor.Metrics.builder().priority(5).build();
+        var metrics2 = PriorityExecutor.Metrics.builder().priority(0).build();
+
+        var executor = mock(PriorityExecutor.class);
+        when(executor.getMetrics()).thenReturn(List.of(metrics1, metrics2));
+        var services = mock(EventManagerServices.class);
+        when(services.getPriorityExecutor()).thenReturn(executor);
+
+        // no priority executor
+        var services2 = mock(EventManagerServices.class);
+
+        var drools = mock(DroolsController.class);
+        when(drools.getSessionNames()).thenReturn(List.of(SESSION_NAME));
+        when(drools.facts(SESSION_NAME, EventManagerServices.class.getName(), false))
+                        .thenReturn(List.of(services, services2));
+        var ctlr = mock(PolicyController.class);
+        when(ctlr.getDrools()).thenReturn(drools);
+        when(factory.getController(any())).thenReturn(ctlr);
+
+        assertEquals(List.of(metrics1, metrics2),
+                        ControlLoopManagementFeature.priorityMetrics(CONTROLLER_NAME, SESSION_NAME));
+    }
+
+    @Test
+    void testRetryMetrics() {
+        var factory = mock(Factory.class);
+        ReflectionTestUtils.setField(ControlLoopManagementFeature.class, FACTORY_FIELD, factory);
+
+        var metrics1 = RetryScheduler.Metrics.builder().actor("APPC").build();
+        var metrics2 = RetryScheduler.Metrics.builder().actor("SO").build();
+
+        var scheduler = mock(RetryScheduler.class);
+        when(scheduler.getMetrics()).thenReturn(List.of(metrics1, metrics2));
+        var services = mock(EventManagerServices.class);
+        when(services.getRetryScheduler()).thenReturn(scheduler);
+
+        // no retry scheduler
+        var services2 = mock(EventManagerServices.class);
+
+        var drools = mock(DroolsController.class);
+        when(drools.getSessionNames()).thenReturn(List.of(SESSION_NAME));
+        when(drools.facts(SESSION_NAME, EventManagerServices.class.getName(), false))
+                        .thenReturn(List.of(services, services2));
+        var ctlr = mock(PolicyController.class);
+        when(ctlr.getDrools()).thenReturn(drools);
+        when(factory.getController(any())).thenReturn(ctlr);
+
+        assertEquals(List.of(metrics1, metrics2),
+                        ControlLoopManagementFeature.retryMetrics(CONTROLLER_NAME, SESSION_NAME));
+    }
+
+    @Test
+    void testCircuitBreakers() {
+        var factory = mock(Factory.class);
+        ReflectionTestUtils.setField(ControlLoopManagementFeature.class, FACTORY_FIELD, factory);
+
+        var metrics1 = CircuitBreaker.Metrics.builder().actor("AAI").state(CircuitBreaker.State.OPEN).build();
+        var metrics2 = CircuitBreaker.Metrics.builder().actor("XACML").state(CircuitBreaker.State.CLOSED).build();
+
+        var breakers = mock(CircuitBreakerRegistry.class);
+        when(breakers.getMetrics()).thenReturn(List.of(metrics1, metrics2));
+        var services = mock(EventManagerServices.class);
+        when(services.getCircuitBreakers()).thenReturn(breakers);
+
+        // no circuit breakers
+        var services2 = mock(EventManagerServices.class);
+
+        var drools = mock(DroolsController.class);
+        when(drools.getSessionNames()).thenReturn(List.of(SESSION_NAME));
+        when(drools.facts(SESSION_NAME, EventManagerServices.class.getName(), false))
+                        .thenReturn(List.of(services, services2));
+        var ctlr = mock(PolicyController.class);
+        when(ctlr.getDrools()).thenReturn(drools);
+        when(factory.getController(any())).thenReturn(ctlr);
+
+        assertEquals(List.of(metrics1, metrics2),
+                        ControlLoopManagementFeature.circuitBreakers(CONTROLLER_NAME, SESSION_NAME));
+    }
+
+    @Test
+    void testBulkheadMetrics_testSetBulkheadLimits() {
+        var factory = mock(Factory.class);
+        ReflectionTestUtils.setField(ControlLoopManagementFeature.class, FACTORY_FIELD, factory);
+
+        var metrics1 = Bulkhead.Metrics.builder().actor("AAI").operation("CustomQuery").build();
+        var metrics2 = Bulkhead.Metrics.builder().actor("SO").operation("VF Module Create").build();
+
+        var bulkheads = mock(BulkheadRegistry.class);
+        when(bulkheads.getMetrics()).thenReturn(List.of(metrics1, metrics2));
+        var services = mock(EventManagerServices.class);
+        when(services.getBulkheads()).thenReturn(bulkheads);
+
+        // no bulkheads
+        var services2 = mock(EventManagerServices.class);
+
+        var drools = mock(DroolsController.class);
+        when(drools.getSessionNames()).thenReturn(List.of(SESSION_NAME));
+        when(drools.facts(SESSION_NAME, EventManagerServices.class.getName(), false))
+                        .thenReturn(List.of(services, services2));
+        var ctlr = mock(PolicyController.class);
+        when(ctlr.getDrools()).thenReturn(drools);
+        when(factory.getController(any())).thenReturn(ctlr);
+
+        assertEquals(List.of(metrics1, metrics2),
+                        ControlLoopManagementFeature.bulkheadMetrics(CONTROLLER_NAME, SESSION_NAME));
+
+        var limits = BulkheadParams.builder().maxInFlight(3).build();
+        ControlLoopManagementFeature.setBulkheadLimits(CONTROLLER_NAME, SESSION_NAME, "SO", limits);
+        verify(bulkheads).setLimits("SO", limits);
+    }
+
+    @Test
+    void testFactsAcrossShards() {
+        var factory = mock(Factory.class);
+        ReflectionTestUtils.setField(ControlLoopManagementFeature.class, FACTORY_FIELD, factory);
+
+        final String shard1 = SESSION_NAME + ControlLoopShardingFeature.SHARD_SEPARATOR + "1";
+        final String shard2 = SESSION_NAME + ControlLoopShardingFeature.SHARD_SEPARATOR + "2";
+
+        var metrics = NotificationPublisher.Metrics.builder().queueLength(1).build();
+        var publisher = mock(NotificationPublisher.class);
+        when(publisher.getMetrics()).thenReturn(metrics);
+
+        // the services are shared by all of the shards
+        var services = mock(EventManagerServices.class);
+        when(services.getNotificationPublisher()).thenReturn(publisher);
+
+        var drools = mock(DroolsController.class);
+        when(drools.getSessionNames()).thenReturn(List.of(SESSION_NAME, shard1, shard2, "other-session"));
+        when(drools.facts(any(), eq(EventManagerServices.class.getName()), eq(false)))
+                        .thenReturn(List.of(services));
+
+        // each shard has its own copy of the params
+        var params1 = makeParams("loop-A");
+        var params2 = makeParams("loop-B");
+        when(drools.facts(SESSION_NAME, ControlLoopParams.class.getName(), false))
+                        .thenReturn(List.of(params1, params2));
+        when(drools.facts(shard1, ControlLoopParams.class.getName(), false))
+                        .thenReturn(List.of(makeParams("loop-A"), makeParams("loop-B")));
+        when(drools.facts(shard2, ControlLoopParams.class.getName(), false))
+                        .thenReturn(List.of(makeParams("loop-A"), makeParams("loop-B")));
+        when(drools.facts("other-session", ControlLoopParams.class.getName(), false))
+                        .thenReturn(List.of(makeParams("loop-C")));
+
+        var ctlr = mock(PolicyController.class);
+        when(ctlr.getDrools()).thenReturn(drools);
+        when(factory.getController(any())).thenReturn(ctlr);
+
+        assertEquals(List.of(params1, params2),
+                        ControlLoopManagementFeature.controlLoops(CONTROLLER_NAME, SESSION_NAME).toList());
+        assertEquals(List.of(metrics),
+                        ControlLoopManagementFeature.notificationMetrics(CONTROLLER_NAME, SESSION_NAME));
+
+        // querying a shard directly only returns its own facts
+        assertEquals(2, ControlLoopManagementFeature.controlLoops(CONTROLLER_NAME, shard1).count());
+        verify(drools, never()).facts("other-session", ControlLoopParams.class.getName(), false);
+    }
+
+    private ControlLoopParams makeParams(String closedLoopControlName) {
+        var params = new ControlLoopParams();
+        params.setClosedLoopControlName(closedLoopControlName);
+        return params;
+    }
+
     @Test
     void testFactoryGetController() {
         // invoking controlLoops() will invoke the factory.getController() method
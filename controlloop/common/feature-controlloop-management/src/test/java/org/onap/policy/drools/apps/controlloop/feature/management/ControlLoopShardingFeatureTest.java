@@ -0,0 +1,406 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controlloop.feature.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.onap.policy.controlloop.CanonicalOnset;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
+import org.onap.policy.controlloop.eventmanager.EventManagerServices;
+import org.onap.policy.drools.controller.DroolsController;
+import org.onap.policy.drools.core.PolicyContainer;
+import org.onap.policy.drools.core.PolicySession;
+import org.onap.policy.drools.system.PolicyController;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+
+class ControlLoopShardingFeatureTest {
+    private static final String CONTROLLER_NAME = "my-controller";
+    private static final String SESSION_NAME = "my-session";
+    private static final String SHARD1 = SESSION_NAME + ControlLoopShardingFeature.SHARD_SEPARATOR + "1";
+    private static final String SHARD2 = SESSION_NAME + ControlLoopShardingFeature.SHARD_SEPARATOR + "2";
+
+    private Properties props;
+    private PolicyController controller;
+    private DroolsController drools;
+    private PolicyContainer container;
+    private KieContainer kieContainer;
+    private KieSession primary;
+    private List<KieSession> created;
+    private EventManagerServices services;
+    private ToscaPolicy policy;
+    private PolicySession primarySession;
+    private ControlLoopShardingFeature feature;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        props = new Properties();
+        props.setProperty(ControlLoopShardingFeature.SHARDS_PROPERTY, "3");
+
+        primary = mock(KieSession.class);
+        primarySession = mock(PolicySession.class);
+        when(primarySession.getName()).thenReturn(SESSION_NAME);
+        when(primarySession.getKieSession()).thenReturn(primary);
+
+        created = new ArrayList<>();
+        kieContainer = mock(KieContainer.class);
+        when(kieContainer.newKieSession(SESSION_NAME)).thenAnswer(args -> {
+            var session = mock(KieSession.class);
+            created.add(session);
+            return session;
+        });
+
+        container = mock(PolicyContainer.class);
+        when(container.getPolicySession(SESSION_NAME)).thenReturn(primarySession);
+        when(container.getPolicySessions()).thenReturn(List.of());
+        when(primarySession.getContainer()).thenReturn(container);
+        when(container.getKieContainer()).thenReturn(kieContainer);
+
+        services = mock(EventManagerServices.class);
+        policy = new ToscaPolicy();
+        policy.setName("my-policy");
+
+        drools = mock(DroolsController.class);
+        when(drools.getSessionNames()).thenReturn(List.of(SESSION_NAME));
+        when(drools.getContainer()).thenReturn(container);
+        when(drools.facts(SESSION_NAME, ToscaPolicy.class)).thenReturn(List.of(policy));
+
+        controller = mock(PolicyController.class);
+        when(controller.getName()).thenReturn(CONTROLLER_NAME);
+        when(controller.getProperties()).thenReturn(props);
+        when(controller.getDrools()).thenReturn(drools);
+
+        feature = new MyFeature();
+    }
+
+    @Test
+    void testGetSequenceNumber() {
+        assertEquals(ControlLoopShardingFeature.SEQNO, feature.getSequenceNumber());
+    }
+
+    @Test
+    void testBeforeStart() {
+        assertFalse(feature.beforeStart(controller));
+
+        // the primary session is created when the controller starts
+        verify(primary, never()).insert(any());
+        feature.newPolicySession(primarySession);
+        verify(primary).insert(services);
+    }
+
+    @Test
+    void testBeforeStart_ExistingSessions() {
+        // the primary session already exists, holding old services
+        var oldHandle = mock(FactHandle.class);
+        doReturn(List.of(oldHandle)).when(primary).getFactHandles(any());
+
+        var shardSession = mock(PolicySession.class);
+        var shard = mock(KieSession.class);
+        when(shardSession.getName()).thenReturn(SHARD1);
+        when(shardSession.getKieSession()).thenReturn(shard);
+
+        when(container.getPolicySessions()).thenReturn(List.of(primarySession, shardSession));
+
+        assertFalse(feature.beforeStart(controller));
+
+        verify(primary).delete(oldHandle);
+        verify(primary).insert(services);
+
+        // shards are given the services when they are made
+        verify(shard, never()).insert(any());
+    }
+
+    @Test
+    void testBeforeStart_Restarted() {
+        feature.beforeStart(controller);
+        verify(services, never()).shutdown();
+
+        // services from the previous start are replaced
+        final var services2 = services;
+        services = mock(EventManagerServices.class);
+        feature.beforeStart(controller);
+        verify(services2).shutdown();
+
+        feature.newPolicySession(primarySession);
+        verify(primary).insert(services);
+    }
+
+    @Test
+    void testBeforeStart_NotSharded() {
+        props.remove(ControlLoopShardingFeature.SHARDS_PROPERTY);
+        assertFalse(feature.beforeStart(controller));
+
+        feature.newPolicySession(primarySession);
+        verify(primary, never()).insert(any());
+    }
+
+    @Test
+    void testBeforeStart_NoContainer() {
+        when(drools.getContainer()).thenReturn(null);
+        assertFalse(feature.beforeStart(controller));
+        assertFalse(feature.afterStart(controller));
+        assertNull(feature.getShards(drools));
+    }
+
+    @Test
+    void testBeforeStart_ServicesFailed() {
+        feature = new MyFeature() {
+            @Override
+            protected EventManagerServices makeServices() {
+                throw new IllegalStateException("expected exception");
+            }
+        };
+
+        assertFalse(feature.beforeStart(controller));
+        assertFalse(feature.afterStart(controller));
+        assertNull(feature.getShards(drools));
+        verify(container, never()).adoptKieSession(any(), any());
+    }
+
+    @Test
+    void testNewPolicySession() {
+        feature.beforeStart(controller);
+
+        // sessions of other controllers are not affected
+        var other = mock(PolicySession.class);
+        var otherSession = mock(KieSession.class);
+        when(other.getName()).thenReturn(SESSION_NAME);
+        when(other.getKieSession()).thenReturn(otherSession);
+        when(other.getContainer()).thenReturn(mock(PolicyContainer.class));
+
+        feature.newPolicySession(other);
+        verify(otherSession, never()).insert(any());
+
+        // shards are skipped
+        var shard = mock(PolicySession.class);
+        var shardSession = mock(KieSession.class);
+        when(shard.getName()).thenReturn(SHARD1);
+        when(shard.getKieSession()).thenReturn(shardSession);
+        when(shard.getContainer()).thenReturn(container);
+
+        feature.newPolicySession(shard);
+        verify(shardSession, never()).insert(any());
+    }
+
+    @Test
+    void testAfterStart() {
+        feature.beforeStart(controller);
+        assertFalse(feature.afterStart(controller));
+
+        var shards = feature.getShards(drools);
+        assertEquals(3, shards.size());
+
+        // new sessions were given the services and policies, and then adopted
+        assertEquals(2, created.size());
+        for (KieSession session : created) {
+            verify(session).insert(services);
+            verify(session).insert(policy);
+        }
+
+        verify(container).adoptKieSession(SHARD1, created.get(0));
+        verify(container).adoptKieSession(SHARD2, created.get(1));
+    }
+
+    @Test
+    void testAfterStart_NotSharded() {
+        // property missing
+        props.remove(ControlLoopShardingFeature.SHARDS_PROPERTY);
+        assertFalse(feature.afterStart(controller));
+        assertNull(feature.getShards(drools));
+
+        // one shard
+        props.setProperty(ControlLoopShardingFeature.SHARDS_PROPERTY, "1");
+        assertFalse(feature.afterStart(controller));
+        assertNull(feature.getShards(drools));
+
+        // invalid
+        props.setProperty(ControlLoopShardingFeature.SHARDS_PROPERTY, "many");
+        assertFalse(feature.afterStart(controller));
+        assertNull(feature.getShards(drools));
+
+        verify(drools, never()).getContainer();
+    }
+
+    @Test
+    void testAfterStart_Restarted() {
+        feature.beforeStart(controller);
+
+        // the shards already exist
+        var existing = mock(KieSession.class);
+        var oldHandle = mock(FactHandle.class);
+        doReturn(List.of(oldHandle)).when(existing).getFactHandles(any());
+        var policySession = mock(PolicySession.class);
+        when(policySession.getKieSession()).thenReturn(existing);
+        when(container.getPolicySession(SHARD1)).thenReturn(policySession);
+        when(container.getPolicySession(SHARD2)).thenReturn(policySession);
+
+        assertFalse(feature.afterStart(controller));
+        assertEquals(3, feature.getShards(drools).size());
+
+        verify(kieContainer, never()).newKieSession(any());
+        verify(container, never()).adoptKieSession(any(), any());
+
+        // the stale services are replaced in both shards
+        verify(existing, times(2)).delete(oldHandle);
+        verify(existing, times(2)).insert(services);
+    }
+
+    @Test
+    void testAfterStart_NoServices() {
+        // beforeStart() was not invoked
+        assertFalse(feature.afterStart(controller));
+        assertNull(feature.getShards(drools));
+        verify(container, never()).adoptKieSession(any(), any());
+    }
+
+    @Test
+    void testAfterStopAfterShutdown() {
+        feature.beforeStart(controller);
+        feature.afterStart(controller);
+        assertFalse(feature.afterStop(controller));
+        assertNull(feature.getShards(drools));
+        verify(services).shutdown();
+
+        // the services are no longer given to new sessions
+        feature.newPolicySession(primarySession);
+        verify(primary, never()).insert(any());
+
+        feature.beforeStart(controller);
+        feature.afterStart(controller);
+        assertFalse(feature.afterShutdown(controller));
+        assertNull(feature.getShards(drools));
+        verify(services, times(2)).shutdown();
+
+        // nothing to shut down
+        when(drools.getContainer()).thenReturn(null);
+        assertFalse(feature.afterShutdown(controller));
+    }
+
+    @Test
+    void testBeforeInsert() {
+        // not sharded yet
+        var event = makeEvent("loop-0", null, null);
+        assertFalse(feature.beforeInsert(drools, event));
+
+        feature.beforeStart(controller);
+        feature.afterStart(controller);
+
+        // not an event
+        assertFalse(feature.beforeInsert(drools, policy));
+
+        // events for the same loop always go to the same shard
+        var shards = feature.getShards(drools);
+        var used = new HashSet<KieSession>();
+        for (var loop = 0; loop < 30; ++loop) {
+            String name = "loop-" + loop;
+            KieSession session = shards.getSession(makeEvent(name, null, null));
+            assertSame(session, shards.getSession(makeEvent(name, "vserver.vserver-name", "vm-" + loop)));
+            used.add(session);
+        }
+
+        // should have used every shard
+        assertEquals(Set.of(primary, created.get(0), created.get(1)), used);
+
+        assertTrue(feature.beforeInsert(drools, event));
+        verify(shards.getSession(event)).insert(event);
+
+        var onset = new CanonicalOnset();
+        onset.setClosedLoopControlName("loop-1");
+        assertTrue(feature.beforeInsert(drools, onset));
+        verify(shards.getSession(onset)).insert(onset);
+
+        // other drools controllers are not affected
+        assertFalse(feature.beforeInsert(mock(DroolsController.class), event));
+    }
+
+    @Test
+    void testBeforeInsert_ByTarget() {
+        props.setProperty(ControlLoopShardingFeature.SHARD_KEY_PROPERTY, ControlLoopShardingFeature.KEY_TARGET);
+        feature.beforeStart(controller);
+        feature.afterStart(controller);
+
+        var shards = feature.getShards(drools);
+
+        // different loops on the same target go to the same shard
+        var used = new HashSet<KieSession>();
+        for (var loop = 0; loop < 30; ++loop) {
+            KieSession session = shards.getSession(makeEvent("loop-" + loop, "vserver.vserver-name", "my-vm"));
+            used.add(session);
+        }
+
+        assertEquals(1, used.size());
+
+        // falls back to the loop name when there is no target
+        assertSame(shards.getSession(makeEvent("loop-A", "vserver.vserver-name", null)),
+                        shards.getSession(makeEvent("loop-A", null, null)));
+
+        // different targets for the same loop may go to different shards
+        used.clear();
+        for (var vm = 0; vm < 30; ++vm) {
+            used.add(shards.getSession(makeEvent("loop-A", "vserver.vserver-name", "vm-" + vm)));
+        }
+
+        assertEquals(3, used.size());
+    }
+
+    private VirtualControlLoopEvent makeEvent(String closedLoopControlName, String target, String entity) {
+        var event = new VirtualControlLoopEvent();
+        event.setClosedLoopControlName(closedLoopControlName);
+        event.setTarget(target);
+
+        if (target != null && entity != null) {
+            event.setAai(Map.of(target, entity));
+        }
+
+        return event;
+    }
+
+    private class MyFeature extends ControlLoopShardingFeature {
+        @Override
+        protected EventManagerServices makeServices() {
+            return services;
+        }
+    }
+}
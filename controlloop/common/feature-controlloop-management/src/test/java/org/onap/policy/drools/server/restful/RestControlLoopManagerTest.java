@@ -3,7 +3,7 @@
  * ONAP
  * ================================================================================
  * Copyright (C) 2018-2021 AT&T Intellectual Property. All rights reserved.
- * Modifications Copyright (C) 2023-2025 OpenInfra Foundation Europe. All rights reserved.
+ * Modifications Copyright (C) 2023-2026 OpenInfra Foundation Europe. All rights reserved.
  * ================================================================================
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,12 +22,19 @@
 package org.onap.policy.drools.server.restful;
 
 import static org.awaitility.Awaitility.await;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.core.Response.Status;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
@@ -36,8 +43,22 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.kie.api.builder.ReleaseId;
 import org.onap.policy.common.endpoints.http.client.HttpClientFactoryInstance;
+import org.onap.policy.common.utils.coder.CoderException;
+import org.onap.policy.common.utils.coder.StandardCoder;
 import org.onap.policy.common.utils.logging.LoggerUtils;
 import org.onap.policy.common.utils.network.NetworkUtil;
+import org.onap.policy.controlloop.eventmanager.AdmissionController;
+import org.onap.policy.controlloop.eventmanager.Bulkhead;
+import org.onap.policy.controlloop.eventmanager.BulkheadParams;
+import org.onap.policy.controlloop.eventmanager.BulkheadRegistry;
+import org.onap.policy.controlloop.eventmanager.CircuitBreaker;
+import org.onap.policy.controlloop.eventmanager.CircuitBreakerRegistry;
+import org.onap.policy.controlloop.eventmanager.EventManagerServices;
+import org.onap.policy.controlloop.eventmanager.NotificationPublisher;
+import org.onap.policy.controlloop.eventmanager.PriorityExecutor;
+import org.onap.policy.controlloop.eventmanager.RetryScheduler;
+import org.onap.policy.controlloop.ophistory.OperationHistoryDataManager;
+import org.onap.policy.controlloop.ophistory.OperationHistoryMetrics;
 import org.onap.policy.drools.persistence.SystemPersistenceConstants;
 import org.onap.policy.drools.properties.DroolsPropertyConstants;
 import org.onap.policy.drools.system.PolicyControllerConstants;
@@ -76,6 +97,15 @@ class RestControlLoopManagerTest {
     private static final String URL_CONTEXT_PATH_CONTROLLOOP_POLICY =
         URL_CONTEXT_PATH_CONTROLLOOP + "/policy";
 
+    private static final String URL_CONTEXT_PATH_OPERATIONS =
+        URL_CONTEXT_PATH_KSESSION + "/operations/my-target";
+
+    private static final String URL_CONTEXT_PATH_METRICS =
+        URL_CONTEXT_PATH_KSESSION + "/metrics/";
+
+    private static final String URL_CONTEXT_PATH_BULKHEADS =
+        URL_CONTEXT_PATH_KSESSION + "/bulkheads";
+
     private static final String URL_CONTEXT_PATH_TOOLS = "tools/controlloops/";
     private static final String URL_CONTEXT_PATH_TOOLS_AAI = URL_CONTEXT_PATH_TOOLS + "aai/";
     private static final String URL_CONTEXT_PATH_TOOLS_AAI_CQ =
@@ -120,6 +150,9 @@ class RestControlLoopManagerTest {
 
         await().atMost(1, TimeUnit.MINUTES).until(isContainerAlive());
 
+        PolicyControllerConstants.getFactory().get(CONTROLLER).getDrools().getContainer()
+            .insert(KSESSION, makeServices());
+
         PolicyEngine mgr = PolicyEngineConstants.getManager();
         mgr.setEnvironmentProperty("aai.url", "http://localhost:6666");
         mgr.setEnvironmentProperty("aai.username", "AAI");
@@ -174,6 +207,82 @@ class RestControlLoopManagerTest {
             .get(CONTROLLER).get(URL_CONTEXT_PATH_CONTROLLOOP_POLICY).getStatus());
     }
 
+    /**
+     * Test Recent Operations.
+     */
+    @Test
+    void testRecentOperations() {
+        assertEquals(Status.OK.getStatusCode(), HttpClientFactoryInstance.getClientFactory()
+            .get(CONTROLLER).get(URL_CONTEXT_PATH_OPERATIONS).getStatus());
+
+        assertEquals(Status.OK.getStatusCode(), HttpClientFactoryInstance.getClientFactory()
+            .get(CONTROLLER).get(URL_CONTEXT_PATH_OPERATIONS + "?actor=SO&windowSec=60").getStatus());
+
+        assertEquals(Status.BAD_REQUEST.getStatusCode(), HttpClientFactoryInstance.getClientFactory()
+            .get(CONTROLLER).get(URL_CONTEXT_PATH_OPERATIONS + "?windowSec=0").getStatus());
+
+        assertEquals(Status.NOT_FOUND.getStatusCode(), HttpClientFactoryInstance.getClientFactory()
+            .get(CONTROLLER).get(URL_CONTEXT_PATH_CONTROLLER + "/drools/facts/unknown-session/operations/my-target")
+            .getStatus());
+    }
+
+    /**
+     * Test Event Manager Metrics.
+     */
+    @Test
+    void testMetrics() throws CoderException {
+        assertMetrics("history", "queueLength", 1);
+        assertMetrics("notifications", "published", 2);
+        assertMetrics("admission", "admitted", 3);
+        assertMetrics("priority", "executed", 4);
+        assertMetrics("retry", "retries", 5);
+        assertMetrics("breakers", "calls", 6);
+        assertMetrics("bulkheads", "admitted", 7);
+
+        var response = HttpClientFactoryInstance.getClientFactory()
+            .get(CONTROLLER).get(URL_CONTEXT_PATH_METRICS + "unknown-component");
+        assertEquals(Status.NOT_FOUND.getStatusCode(), response.getStatus());
+        assertEquals("Invalid Metrics Component", response.readEntity(String.class));
+
+        response = HttpClientFactoryInstance.getClientFactory()
+            .get(CONTROLLER).get(URL_CONTEXT_PATH_CONTROLLER + "/drools/facts/unknown-session/metrics/history");
+        assertEquals(Status.NOT_FOUND.getStatusCode(), response.getStatus());
+        assertEquals("Invalid Session Name", response.readEntity(String.class));
+    }
+
+    private void assertMetrics(String component, String fieldName, long expected) throws CoderException {
+        var response = HttpClientFactoryInstance.getClientFactory()
+            .get(CONTROLLER).get(URL_CONTEXT_PATH_METRICS + component);
+        assertEquals(Status.OK.getStatusCode(), response.getStatus());
+
+        List<?> metrics = new StandardCoder().decode(response.readEntity(String.class), List.class);
+        assertThat(metrics).hasSize(1);
+        assertEquals(expected, ((Number) ((Map<?, ?>) metrics.get(0)).get(fieldName)).longValue());
+    }
+
+    @Test
+    void testBulkheadLimits() throws CoderException {
+        var limits = BulkheadParams.builder().maxInFlight(5).maxQueued(10).build();
+        var response = HttpClientFactoryInstance.getClientFactory()
+            .get(CONTROLLER).put(URL_CONTEXT_PATH_BULKHEADS + "/SO", Entity.json(limits), Collections.emptyMap());
+        assertEquals(Status.OK.getStatusCode(), response.getStatus());
+
+        List<?> metrics = new StandardCoder().decode(response.readEntity(String.class), List.class);
+        assertThat(metrics).hasSize(1);
+        assertEquals("SO", ((Map<?, ?>) metrics.get(0)).get("actor"));
+
+        assertEquals(Status.NOT_FOUND.getStatusCode(), HttpClientFactoryInstance.getClientFactory()
+            .get(CONTROLLER).put(URL_CONTEXT_PATH_CONTROLLER + "/drools/facts/unknown-session/bulkheads/SO",
+                Entity.json(limits), Collections.emptyMap())
+            .getStatus());
+
+        // invalid limits
+        limits.setMaxInFlight(0);
+        assertEquals(Status.BAD_REQUEST.getStatusCode(), HttpClientFactoryInstance.getClientFactory()
+            .get(CONTROLLER).put(URL_CONTEXT_PATH_BULKHEADS + "/SO", Entity.json(limits), Collections.emptyMap())
+            .getStatus());
+    }
+
     /**
      * Test AAI Custom Query.
      */
@@ -183,6 +292,46 @@ class RestControlLoopManagerTest {
             .get(CONTROLLER).get(URL_CONTEXT_PATH_TOOLS_AAI_CQ + "dummy").getStatus());
     }
 
+    /**
+     * Makes event manager services whose components each report a single set of metrics.
+     *
+     * @return new event manager services.
+     */
+    private static EventManagerServices makeServices() {
+        var dataMgr = mock(OperationHistoryDataManager.class);
+        when(dataMgr.getMetrics()).thenReturn(OperationHistoryMetrics.Snapshot.builder().queueLength(1).build());
+
+        var publisher = mock(NotificationPublisher.class);
+        when(publisher.getMetrics()).thenReturn(NotificationPublisher.Metrics.builder().published(2).build());
+
+        var admission = mock(AdmissionController.class);
+        when(admission.getMetrics()).thenReturn(AdmissionController.Metrics.builder().admitted(3).build());
+
+        var executor = mock(PriorityExecutor.class);
+        when(executor.getMetrics()).thenReturn(List.of(PriorityExecutor.Metrics.builder().executed(4).build()));
+
+        var scheduler = mock(RetryScheduler.class);
+        when(scheduler.getMetrics()).thenReturn(List.of(RetryScheduler.Metrics.builder().retries(5).build()));
+
+        var breakers = mock(CircuitBreakerRegistry.class);
+        when(breakers.getMetrics()).thenReturn(List.of(CircuitBreaker.Metrics.builder().calls(6).build()));
+
+        var bulkheads = mock(BulkheadRegistry.class);
+        when(bulkheads.getMetrics())
+            .thenReturn(List.of(Bulkhead.Metrics.builder().actor("SO").admitted(7).build()));
+
+        var services = mock(EventManagerServices.class);
+        when(services.getDataManager()).thenReturn(dataMgr);
+        when(services.getNotificationPublisher()).thenReturn(publisher);
+        when(services.getAdmissionController()).thenReturn(admission);
+        when(services.getPriorityExecutor()).thenReturn(executor);
+        when(services.getRetryScheduler()).thenReturn(scheduler);
+        when(services.getCircuitBreakers()).thenReturn(breakers);
+        when(services.getBulkheads()).thenReturn(bulkheads);
+
+        return services;
+    }
+
     /**
      * Test if the session is alive.
      *
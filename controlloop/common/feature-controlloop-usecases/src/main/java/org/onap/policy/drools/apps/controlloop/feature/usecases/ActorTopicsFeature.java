@@ -0,0 +1,108 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controlloop.feature.usecases;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.drools.features.PolicyControllerFeatureApi;
+import org.onap.policy.drools.system.PolicyController;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Feature that keeps messages arriving on actor response topics (e.g., APPC and SDNR
+ * responses) away from the rules. The actors register their own listeners on those
+ * topics, thus the messages still reach the actors, but they are not decoded or inserted
+ * into working memory, only to be retracted again. The topics are identified by the
+ * controller's {@value #ACTOR_TOPICS_PROPERTY} property.
+ */
+public class ActorTopicsFeature implements PolicyControllerFeatureApi {
+    private static final Logger logger = LoggerFactory.getLogger(ActorTopicsFeature.class);
+
+    public static final int SEQNO = 1000;
+
+    /**
+     * Controller property containing a comma-separated list of topics whose messages are
+     * only of interest to the actors.
+     */
+    public static final String ACTOR_TOPICS_PROPERTY = "controlloop.actor.topics";
+
+    /**
+     * Maps a controller name to its actor topics.
+     */
+    private final Map<String, Set<String>> controller2topics = new ConcurrentHashMap<>();
+
+    @Override
+    public int getSequenceNumber() {
+        return SEQNO;
+    }
+
+    @Override
+    public boolean afterCreate(PolicyController controller) {
+        Set<String> topics = getTopics(controller.getProperties());
+        controller2topics.put(controller.getName(), topics);
+
+        if (!topics.isEmpty()) {
+            logger.info("{}: messages on {} will only be seen by the actors", controller.getName(), topics);
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean afterShutdown(PolicyController controller) {
+        controller2topics.remove(controller.getName());
+        return false;
+    }
+
+    /**
+     * Intercepts messages arriving on actor topics.
+     *
+     * @param controller controller
+     * @param protocol protocol
+     * @param topic topic
+     * @param event event
+     * @return {@code true} if the message arrived on an actor topic, thus taking ownership
+     *         of it, {@code false} otherwise
+     */
+    @Override
+    public boolean beforeOffer(PolicyController controller, CommInfrastructure protocol, String topic,
+                    String event) {
+
+        return controller2topics.computeIfAbsent(controller.getName(), key -> getTopics(controller.getProperties()))
+                        .contains(topic);
+    }
+
+    private static Set<String> getTopics(Properties props) {
+        String topics = (props == null ? null : props.getProperty(ACTOR_TOPICS_PROPERTY));
+        if (topics == null || topics.isBlank()) {
+            return Set.of();
+        }
+
+        return Arrays.stream(topics.split(",")).map(String::trim).filter(topic -> !topic.isEmpty())
+                        .collect(Collectors.toUnmodifiableSet());
+    }
+}
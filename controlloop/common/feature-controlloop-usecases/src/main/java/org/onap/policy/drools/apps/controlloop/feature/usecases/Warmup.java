@@ -0,0 +1,358 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controlloop.feature.usecases;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.kie.api.runtime.ClassObjectFilter;
+import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieSession;
+import org.onap.policy.controlloop.CanonicalOnset;
+import org.onap.policy.controlloop.ControlLoopEventStatus;
+import org.onap.policy.controlloop.ControlLoopTargetType;
+import org.onap.policy.controlloop.VirtualControlLoopEvent;
+import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
+import org.onap.policy.controlloop.eventmanager.WarmupServices;
+import org.onap.policy.drools.apps.controller.usecases.DcaeEventCoder;
+import org.onap.policy.drools.controller.DroolsController;
+import org.onap.policy.drools.system.PolicyController;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Warms up a controller's rules, so that the first "real" onsets need not run in the
+ * interpreter. A scratch session is created from the controller's kjar, the deployed
+ * policies are inserted into it, and then synthetic onsets are pushed through it, one at
+ * a time, each waiting for its final notification. The session uses
+ * {@link WarmupServices}, thus nothing is locked, recorded, or published. The onsets are
+ * encoded and decoded by the same coder that decodes the "real" ones.
+ *
+ * <p/>If no policies have been deployed, the warm-up is skipped; {@link #hasPolicies()}
+ * allows the caller to check for that before starting it.
+ */
+public class Warmup implements Runnable {
+    private static final Logger logger = LoggerFactory.getLogger(Warmup.class);
+
+    /**
+     * Configuration file from which the services are configured, the same one used by
+     * the rules.
+     */
+    public static final String SERVICES_CONFIG = "event-manager";
+
+    public static final String TARGET = "generic-vnf.vnf-id";
+    public static final String TARGET_PREFIX = "warm-up-";
+
+    private static final long ONSET_WAIT_MS = 5000;
+
+    private final PolicyController controller;
+    private final int onsetsPerPolicy;
+    private final long deadlineMs;
+    private final CountDownLatch done = new CountDownLatch(1);
+    private final DcaeEventCoder coder = new DcaeEventCoder();
+
+    /**
+     * Outcome of the warm-up, or {@code null} if it was skipped or has not completed yet.
+     */
+    @Getter
+    private volatile Report report;
+
+
+    /**
+     * Constructs the object.
+     *
+     * @param controller controller whose rules are to be warmed up
+     * @param onsetsPerPolicy number of onsets to push through the rules for each policy
+     * @param maxWaitMs maximum time, in milliseconds, for which events should be held back
+     *        while the warm-up runs
+     */
+    public Warmup(PolicyController controller, int onsetsPerPolicy, long maxWaitMs) {
+        this.controller = controller;
+        this.onsetsPerPolicy = onsetsPerPolicy;
+        this.deadlineMs = currentTimeMillis() + maxWaitMs;
+    }
+
+    @Override
+    public void run() {
+        try {
+            report = warmUp();
+
+        } catch (RuntimeException e) {
+            logger.error("{}: warm-up failed", controller.getName(), e);
+
+        } finally {
+            done.countDown();
+        }
+    }
+
+    public boolean isDone() {
+        return (done.getCount() == 0);
+    }
+
+    /**
+     * Determines if any policies have been deployed to the controller, in which case
+     * there is something to warm up.
+     *
+     * @return {@code true} if policies have been deployed, {@code false} otherwise
+     */
+    public boolean hasPolicies() {
+        try {
+            DroolsController drools = controller.getDrools();
+            String sessionName = getSessionName(drools, drools.getContainer().getKieContainer());
+
+            return !drools.facts(sessionName, ToscaPolicy.class).isEmpty();
+
+        } catch (RuntimeException e) {
+            logger.warn("{}: cannot get the deployed policies", controller.getName(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Waits for the warm-up to complete, but no longer than the maximum wait time, as
+     * measured from when this object was created.
+     *
+     * @return {@code true} if the warm-up completed, {@code false} otherwise
+     */
+    public boolean awaitDone() {
+        try {
+            return done.await(Math.max(0, deadlineMs - currentTimeMillis()), TimeUnit.MILLISECONDS);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Runs the warm-up.
+     *
+     * @return the outcome of the warm-up, or {@code null} if it was skipped
+     */
+    protected Report warmUp() {
+        final long startMs = currentTimeMillis();
+        final String name = controller.getName();
+
+        DroolsController drools = controller.getDrools();
+        KieContainer kieContainer = drools.getContainer().getKieContainer();
+        String sessionName = getSessionName(drools, kieContainer);
+
+        List<ToscaPolicy> policies = drools.facts(sessionName, ToscaPolicy.class);
+        if (policies.isEmpty()) {
+            logger.warn("{}: no policies have been deployed; warm-up skipped", name);
+            return null;
+        }
+
+        WarmupServices services = makeServices();
+        KieSession session = kieContainer.newKieSession(sessionName);
+        Thread thread = null;
+
+        try {
+            session.insert(services);
+            policies.forEach(session::insert);
+            session.fireAllRules();
+
+            List<String> loops = session.getObjects(new ClassObjectFilter(ControlLoopParams.class)).stream()
+                            .map(params -> ((ControlLoopParams) params).getClosedLoopControlName()).distinct()
+                            .toList();
+
+            // the outcomes of the operations are processed while the rules are firing
+            thread = makeThread(session::fireUntilHalt, "controlloop-warmup-" + name);
+            thread.start();
+
+            Report result = pushOnsets(services, session, loops, startMs);
+
+            logger.info("{}: warm-up of {} onsets for {} policies took {} ms; latency went from {} to {} us,"
+                            + " {} onsets incomplete", name, result.getOnsets(), result.getPolicies(),
+                            result.getDurationMs(), result.getFirstLatencyUs(), result.getLastLatencyUs(),
+                            result.getIncomplete());
+
+            return result;
+
+        } finally {
+            session.halt();
+            joinThread(thread);
+            session.dispose();
+            services.shutdown();
+        }
+    }
+
+    /**
+     * Pushes the onsets through the rules, interleaving the control loops.
+     *
+     * @param services services used by the session
+     * @param session session through which to push the onsets
+     * @param loops names of the control loops for which onsets are to be generated
+     * @param startMs time, in milliseconds, at which the warm-up started
+     * @return the outcome of the warm-up
+     */
+    private Report pushOnsets(WarmupServices services, KieSession session, List<String> loops, long startMs) {
+        var latencies = new long[onsetsPerPolicy * loops.size()];
+        var count = 0;
+        var incomplete = 0;
+
+        for (var iteration = 0; iteration < onsetsPerPolicy && !Thread.currentThread().isInterrupted();
+                        ++iteration) {
+
+            for (String loop : loops) {
+                var requestId = UUID.randomUUID();
+                var future = services.awaitFinal(requestId);
+
+                final long tstart = System.nanoTime();
+                session.insert(coder.fromJson(makeOnset(loop, requestId, count), CanonicalOnset.class));
+
+                try {
+                    future.get(ONSET_WAIT_MS, TimeUnit.MILLISECONDS);
+
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    ++incomplete;
+                    break;
+
+                } catch (ExecutionException | TimeoutException | RuntimeException e) {
+                    logger.debug("{}: warm-up onset {} did not complete", controller.getName(), requestId, e);
+                    ++incomplete;
+                }
+
+                latencies[count++] = System.nanoTime() - tstart;
+            }
+        }
+
+        return new Report(loops.size(), count, incomplete, currentTimeMillis() - startMs,
+                        medianUs(latencies, count, false), medianUs(latencies, count, true));
+    }
+
+    /**
+     * Makes a synthetic onset, encoded as it would be when received from DCAE.
+     *
+     * @param loop name of the control loop
+     * @param requestId request ID
+     * @param count onset number, used to give each onset its own target
+     * @return the encoded onset
+     */
+    private String makeOnset(String loop, UUID requestId, int count) {
+        var event = new VirtualControlLoopEvent();
+        event.setClosedLoopControlName(loop);
+        event.setRequestId(requestId);
+        event.setClosedLoopEventStatus(ControlLoopEventStatus.ONSET);
+        event.setClosedLoopAlarmStart(Instant.now());
+        event.setClosedLoopEventClient(WarmupServices.WARMUP_MESSAGE);
+        event.setTarget(TARGET);
+        event.setTargetType(ControlLoopTargetType.VNF);
+        event.setAai(Map.of(TARGET, TARGET_PREFIX + count));
+
+        return coder.toJson(event);
+    }
+
+    /**
+     * Computes the median latency of the first or last tenth of the onsets.
+     *
+     * @param latencies latencies, in nanoseconds
+     * @param count number of latencies
+     * @param last {@code true} for the last tenth, {@code false} for the first tenth
+     * @return the median latency, in microseconds
+     */
+    private static long medianUs(long[] latencies, int count, boolean last) {
+        if (count == 0) {
+            return 0;
+        }
+
+        int size = Math.max(1, count / 10);
+        int from = (last ? count - size : 0);
+
+        long[] sorted = Arrays.copyOfRange(latencies, from, from + size);
+        Arrays.sort(sorted);
+
+        return TimeUnit.NANOSECONDS.toMicros(sorted[size / 2]);
+    }
+
+    /**
+     * Gets the name of the controller's session, as defined in its kjar.
+     *
+     * @param drools drools controller
+     * @param kieContainer container from which sessions are created
+     * @return the session's name
+     */
+    private static String getSessionName(DroolsController drools, KieContainer kieContainer) {
+        Set<String> defined = kieContainer.getKieBaseNames().stream()
+                        .flatMap(kbase -> kieContainer.getKieSessionNamesInKieBase(kbase).stream())
+                        .collect(Collectors.toSet());
+
+        return drools.getSessionNames().stream().filter(defined::contains).findFirst()
+                        .orElseThrow(() -> new IllegalStateException("controller has no sessions"));
+    }
+
+    private static void joinThread(Thread thread) {
+        if (thread == null) {
+            return;
+        }
+
+        try {
+            thread.join(ONSET_WAIT_MS);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // the following may be overridden by junit tests
+
+    protected WarmupServices makeServices() {
+        return new WarmupServices(SERVICES_CONFIG);
+    }
+
+    protected Thread makeThread(Runnable runnable, String threadName) {
+        var thread = new Thread(runnable, threadName);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Outcome of a warm-up. Latencies are the median, from the time an onset is inserted
+     * until its final notification is generated, of the first and of the last tenth of
+     * the onsets.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Report {
+        private final int policies;
+        private final int onsets;
+        private final int incomplete;
+        private final long durationMs;
+        private final long firstLatencyUs;
+        private final long lastLatencyUs;
+    }
+}
@@ -0,0 +1,232 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controlloop.feature.usecases;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.controlloop.utils.ControlLoopUtils;
+import org.onap.policy.drools.controller.DroolsController;
+import org.onap.policy.drools.features.DroolsControllerFeatureApi;
+import org.onap.policy.drools.features.PolicyControllerFeatureApi;
+import org.onap.policy.drools.system.PolicyController;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Feature that warms up a controller's rules when the controller is started, before its
+ * topic sources are allowed to deliver any events. The number of synthetic onsets pushed
+ * through the rules, for each deployed policy, is identified by the controller's
+ * {@value #ONSETS_PROPERTY} property; the warm-up is disabled if the value is &lt;= 0.
+ *
+ * <p/>Until the {@link Warmup} completes, or the {@value #MAX_WAIT_MS_PROPERTY} expires,
+ * messages offered by the topic sources are held back at a gate, by blocking the source's
+ * thread, thus no messages are lost. The gate is opened once, after which messages pass
+ * straight through. If no policies have been deployed when the controller is started, the
+ * warm-up is deferred until the first policy is deployed, at which point the gate is
+ * closed. This runs after the {@link ActorTopicsFeature}, so that messages on actor topics
+ * are never held back.
+ */
+public class WarmupFeature implements PolicyControllerFeatureApi, DroolsControllerFeatureApi {
+    private static final Logger logger = LoggerFactory.getLogger(WarmupFeature.class);
+
+    public static final int SEQNO = ActorTopicsFeature.SEQNO + 100;
+
+    /**
+     * Controller property containing the number of synthetic onsets to push through the
+     * rules for each deployed policy.
+     */
+    public static final String ONSETS_PROPERTY = "controlloop.warmup.onsets";
+
+    /**
+     * Controller property containing the maximum time, in milliseconds, for which
+     * messages are held back while the warm-up runs.
+     */
+    public static final String MAX_WAIT_MS_PROPERTY = "controlloop.warmup.maxWaitMs";
+
+    public static final long DEFAULT_MAX_WAIT_MS = 60000;
+
+    /**
+     * Maps a controller name to its warm-up.
+     */
+    private final Map<String, Warmup> controller2warmup = new ConcurrentHashMap<>();
+
+    /**
+     * Maps a controller name to the warm-up for which its messages are held back. An
+     * entry is removed once the gate has been opened.
+     */
+    private final Map<String, Warmup> controller2gate = new ConcurrentHashMap<>();
+
+    /**
+     * Controllers, keyed by their drools controller, whose warm-up awaits the deployment
+     * of the first policy.
+     */
+    private final Map<DroolsController, PolicyController> drools2pending = new ConcurrentHashMap<>();
+
+    @Override
+    public int getSequenceNumber() {
+        return SEQNO;
+    }
+
+    @Override
+    public boolean afterStart(PolicyController controller) {
+        warmUp(controller, true);
+        return false;
+    }
+
+    /**
+     * Starts the warm-up of a controller that was waiting for its first policy.
+     *
+     * @param drools drools controller into which the fact was inserted
+     * @param fact fact that was inserted
+     * @param successInsert {@code true} if the fact was inserted
+     * @return {@code false}, so that other features are also invoked
+     */
+    @Override
+    public boolean afterInsert(DroolsController drools, Object fact, boolean successInsert) {
+        if (!successInsert || !(fact instanceof ToscaPolicy)) {
+            return false;
+        }
+
+        PolicyController controller = drools2pending.remove(drools);
+        if (controller != null) {
+            warmUp(controller, false);
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean afterStop(PolicyController controller) {
+        forget(controller);
+        return false;
+    }
+
+    @Override
+    public boolean afterShutdown(PolicyController controller) {
+        forget(controller);
+        return false;
+    }
+
+    /**
+     * Holds back messages until the controller's warm-up completes.
+     *
+     * @param controller controller
+     * @param protocol protocol
+     * @param topic topic
+     * @param event event
+     * @return {@code false}, so the message is always offered to the controller
+     */
+    @Override
+    public boolean beforeOffer(PolicyController controller, CommInfrastructure protocol, String topic,
+                    String event) {
+
+        Warmup warmup = controller2gate.get(controller.getName());
+        if (warmup == null) {
+            return false;
+        }
+
+        if (!warmup.awaitDone()) {
+            logger.warn("{}: warm-up did not complete in time; releasing events", controller.getName());
+        }
+
+        // open the gate, so subsequent messages are not held back
+        controller2gate.remove(controller.getName(), warmup);
+
+        return false;
+    }
+
+    /**
+     * Gets a controller's warm-up.
+     *
+     * @param controllerName name of the controller of interest
+     * @return the controller's warm-up, or {@code null} if it has none
+     */
+    public Warmup getWarmup(String controllerName) {
+        return controller2warmup.get(controllerName);
+    }
+
+    /**
+     * Starts a controller's warm-up, in a background thread, and closes the gate until it
+     * completes.
+     *
+     * @param controller controller to be warmed up
+     * @param deferrable {@code true} if the warm-up is to be deferred until the first
+     *        policy is deployed, when no policies have been deployed yet
+     */
+    private void warmUp(PolicyController controller, boolean deferrable) {
+        final String name = controller.getName();
+        Properties props = controller.getProperties();
+
+        int onsets = (int) ControlLoopUtils.getLong(name, props, ONSETS_PROPERTY, 0);
+        if (onsets <= 0) {
+            return;
+        }
+
+        long maxWaitMs = ControlLoopUtils.getLong(name, props, MAX_WAIT_MS_PROPERTY, DEFAULT_MAX_WAIT_MS);
+
+        Warmup warmup = makeWarmup(controller, onsets, maxWaitMs);
+        if (!warmup.hasPolicies()) {
+            if (deferrable) {
+                logger.info("{}: no policies have been deployed; warm-up deferred until one is", name);
+                drools2pending.put(controller.getDrools(), controller);
+            } else {
+                logger.warn("{}: no policies to warm up with; warm-up skipped", name);
+            }
+            return;
+        }
+
+        logger.info("{}: warming up with {} onsets per policy; events are held back for up to {} ms", name,
+                        onsets, maxWaitMs);
+
+        controller2warmup.put(name, warmup);
+        controller2gate.put(name, warmup);
+
+        startThread(() -> {
+            warmup.run();
+            controller2gate.remove(name, warmup);
+        }, "controlloop-warmup-" + name);
+    }
+
+    private void forget(PolicyController controller) {
+        controller2warmup.remove(controller.getName());
+        controller2gate.remove(controller.getName());
+
+        DroolsController drools = controller.getDrools();
+        if (drools != null) {
+            drools2pending.remove(drools);
+        }
+    }
+
+    // the following may be overridden by junit tests
+
+    protected Warmup makeWarmup(PolicyController controller, int onsets, long maxWaitMs) {
+        return new Warmup(controller, onsets, maxWaitMs);
+    }
+
+    protected void startThread(Runnable runnable, String threadName) {
+        var thread = new Thread(runnable, threadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,109 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controlloop.feature.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Properties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.drools.system.PolicyController;
+
+class ActorTopicsFeatureTest {
+    private static final String CONTROLLER_NAME = "my-controller";
+    private static final String EVENT = "{}";
+
+    private Properties props;
+    private PolicyController controller;
+    private ActorTopicsFeature feature;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        props = new Properties();
+        props.setProperty(ActorTopicsFeature.ACTOR_TOPICS_PROPERTY, "appc-cl, sdnr-cl-rsp,,");
+
+        controller = mock(PolicyController.class);
+        when(controller.getName()).thenReturn(CONTROLLER_NAME);
+        when(controller.getProperties()).thenReturn(props);
+
+        feature = new ActorTopicsFeature();
+    }
+
+    @Test
+    void testGetSequenceNumber() {
+        assertEquals(ActorTopicsFeature.SEQNO, feature.getSequenceNumber());
+    }
+
+    @Test
+    void testAfterCreate() {
+        assertFalse(feature.afterCreate(controller));
+
+        // should use the topics that were cached, even if the properties change
+        props.clear();
+        assertTrue(feature.beforeOffer(controller, CommInfrastructure.NOOP, "appc-cl", EVENT));
+    }
+
+    @Test
+    void testAfterShutdown() {
+        feature.afterCreate(controller);
+
+        props.clear();
+        assertFalse(feature.afterShutdown(controller));
+
+        // should re-read the properties
+        assertFalse(feature.beforeOffer(controller, CommInfrastructure.NOOP, "appc-cl", EVENT));
+    }
+
+    @Test
+    void testBeforeOffer() {
+        assertTrue(feature.beforeOffer(controller, CommInfrastructure.KAFKA, "appc-cl", EVENT));
+        assertTrue(feature.beforeOffer(controller, CommInfrastructure.KAFKA, "sdnr-cl-rsp", EVENT));
+        assertFalse(feature.beforeOffer(controller, CommInfrastructure.KAFKA, "dcae_topic", EVENT));
+    }
+
+    @Test
+    void testBeforeOfferNoTopics() {
+        props.clear();
+        assertFalse(feature.afterCreate(controller));
+        assertFalse(feature.beforeOffer(controller, CommInfrastructure.KAFKA, "appc-cl", EVENT));
+
+        // no properties at all
+        var controller2 = mock(PolicyController.class);
+        when(controller2.getName()).thenReturn("other-controller");
+        assertFalse(feature.beforeOffer(controller2, CommInfrastructure.KAFKA, "appc-cl", EVENT));
+
+        // blank property
+        var controller3 = mock(PolicyController.class);
+        when(controller3.getName()).thenReturn("blank-controller");
+        var props3 = new Properties();
+        props3.setProperty(ActorTopicsFeature.ACTOR_TOPICS_PROPERTY, " ");
+        when(controller3.getProperties()).thenReturn(props3);
+        assertFalse(feature.beforeOffer(controller3, CommInfrastructure.KAFKA, "appc-cl", EVENT));
+    }
+}
@@ -0,0 +1,286 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controlloop.feature.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Properties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.policy.common.message.bus.event.Topic.CommInfrastructure;
+import org.onap.policy.drools.controller.DroolsController;
+import org.onap.policy.drools.system.PolicyController;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+
+class WarmupFeatureTest {
+    private static final String CONTROLLER_NAME = "my-controller";
+    private static final String TOPIC = "dcae_topic";
+    private static final String EVENT = "{}";
+
+    private Properties props;
+    private PolicyController controller;
+    private DroolsController drools;
+    private Warmup warmup;
+    private int onsets;
+    private long maxWaitMs;
+    private Runnable started;
+    private WarmupFeature feature;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        props = new Properties();
+        props.setProperty(WarmupFeature.ONSETS_PROPERTY, "10");
+        props.setProperty(WarmupFeature.MAX_WAIT_MS_PROPERTY, "2000");
+
+        drools = mock(DroolsController.class);
+
+        controller = mock(PolicyController.class);
+        when(controller.getName()).thenReturn(CONTROLLER_NAME);
+        when(controller.getProperties()).thenReturn(props);
+        when(controller.getDrools()).thenReturn(drools);
+
+        warmup = mock(Warmup.class);
+        when(warmup.hasPolicies()).thenReturn(true);
+        started = null;
+
+        feature = new WarmupFeature() {
+            @Override
+            protected Warmup makeWarmup(PolicyController controller, int onsets, long maxWaitMs) {
+                WarmupFeatureTest.this.onsets = onsets;
+                WarmupFeatureTest.this.maxWaitMs = maxWaitMs;
+                return warmup;
+            }
+
+            @Override
+            protected void startThread(Runnable runnable, String threadName) {
+                started = runnable;
+            }
+        };
+    }
+
+    @Test
+    void testGetSequenceNumber() {
+        assertEquals(WarmupFeature.SEQNO, feature.getSequenceNumber());
+
+        // must follow the actor topics feature
+        assertTrue(feature.getSequenceNumber() > ActorTopicsFeature.SEQNO);
+    }
+
+    @Test
+    void testAfterStart() {
+        assertFalse(feature.afterStart(controller));
+
+        assertSame(warmup, feature.getWarmup(CONTROLLER_NAME));
+        assertNotNull(started);
+        assertEquals(10, onsets);
+        assertEquals(2000, maxWaitMs);
+
+        // run the warm-up - should open the gate
+        started.run();
+        verify(warmup).run();
+
+        assertFalse(feature.beforeOffer(controller, CommInfrastructure.KAFKA, TOPIC, EVENT));
+        verify(warmup, never()).awaitDone();
+
+        // report is still available
+        assertSame(warmup, feature.getWarmup(CONTROLLER_NAME));
+    }
+
+    @Test
+    void testAfterStartNoPolicies() {
+        when(warmup.hasPolicies()).thenReturn(false);
+
+        assertFalse(feature.afterStart(controller));
+        assertNull(feature.getWarmup(CONTROLLER_NAME));
+        assertNull(started);
+
+        // events are not held back
+        assertFalse(feature.beforeOffer(controller, CommInfrastructure.KAFKA, TOPIC, EVENT));
+        verify(warmup, never()).awaitDone();
+
+        // deploy the first policy - should start the warm-up and close the gate
+        when(warmup.hasPolicies()).thenReturn(true);
+        assertFalse(feature.afterInsert(drools, new ToscaPolicy(), true));
+        assertSame(warmup, feature.getWarmup(CONTROLLER_NAME));
+        assertNotNull(started);
+
+        when(warmup.awaitDone()).thenReturn(true);
+        assertFalse(feature.beforeOffer(controller, CommInfrastructure.KAFKA, TOPIC, EVENT));
+        verify(warmup).awaitDone();
+
+        // subsequent policies do not start another warm-up
+        started = null;
+        feature.afterInsert(drools, new ToscaPolicy(), true);
+        assertNull(started);
+    }
+
+    @Test
+    void testAfterInsert() {
+        when(warmup.hasPolicies()).thenReturn(false);
+
+        // not waiting for a policy
+        assertFalse(feature.afterInsert(drools, new ToscaPolicy(), true));
+        assertNull(started);
+
+        feature.afterStart(controller);
+        when(warmup.hasPolicies()).thenReturn(true);
+
+        // not a policy
+        assertFalse(feature.afterInsert(drools, "some fact", true));
+        assertNull(started);
+
+        // insertion failed
+        assertFalse(feature.afterInsert(drools, new ToscaPolicy(), false));
+        assertNull(started);
+
+        // other controller
+        assertFalse(feature.afterInsert(mock(DroolsController.class), new ToscaPolicy(), true));
+        assertNull(started);
+
+        assertFalse(feature.afterInsert(drools, new ToscaPolicy(), true));
+        assertNotNull(started);
+    }
+
+    @Test
+    void testAfterInsertStillNoPolicies() {
+        when(warmup.hasPolicies()).thenReturn(false);
+        feature.afterStart(controller);
+
+        // policy was removed before the warm-up could be started
+        assertFalse(feature.afterInsert(drools, new ToscaPolicy(), true));
+        assertNull(feature.getWarmup(CONTROLLER_NAME));
+        assertNull(started);
+
+        // no longer waiting
+        when(warmup.hasPolicies()).thenReturn(true);
+        feature.afterInsert(drools, new ToscaPolicy(), true);
+        assertNull(started);
+    }
+
+    @Test
+    void testAfterStartDefaultWait() {
+        props.remove(WarmupFeature.MAX_WAIT_MS_PROPERTY);
+        feature.afterStart(controller);
+        assertEquals(WarmupFeature.DEFAULT_MAX_WAIT_MS, maxWaitMs);
+
+        props.setProperty(WarmupFeature.MAX_WAIT_MS_PROPERTY, "abc");
+        feature.afterStart(controller);
+        assertEquals(WarmupFeature.DEFAULT_MAX_WAIT_MS, maxWaitMs);
+    }
+
+    @Test
+    void testAfterStartDisabled() {
+        props.setProperty(WarmupFeature.ONSETS_PROPERTY, "0");
+        assertFalse(feature.afterStart(controller));
+        assertNull(feature.getWarmup(CONTROLLER_NAME));
+
+        props.setProperty(WarmupFeature.ONSETS_PROPERTY, "xyz");
+        assertFalse(feature.afterStart(controller));
+        assertNull(feature.getWarmup(CONTROLLER_NAME));
+
+        props.clear();
+        assertFalse(feature.afterStart(controller));
+        assertNull(feature.getWarmup(CONTROLLER_NAME));
+
+        // no properties at all
+        when(controller.getProperties()).thenReturn(null);
+        assertFalse(feature.afterStart(controller));
+        assertNull(feature.getWarmup(CONTROLLER_NAME));
+
+        assertNull(started);
+    }
+
+    @Test
+    void testAfterStop() {
+        feature.afterStart(controller);
+
+        assertFalse(feature.afterStop(controller));
+        assertNull(feature.getWarmup(CONTROLLER_NAME));
+
+        assertFalse(feature.beforeOffer(controller, CommInfrastructure.KAFKA, TOPIC, EVENT));
+        verify(warmup, never()).awaitDone();
+    }
+
+    @Test
+    void testAfterStopNoPolicies() {
+        when(warmup.hasPolicies()).thenReturn(false);
+        feature.afterStart(controller);
+        feature.afterStop(controller);
+
+        // no longer waiting for a policy
+        when(warmup.hasPolicies()).thenReturn(true);
+        feature.afterInsert(drools, new ToscaPolicy(), true);
+        assertNull(started);
+    }
+
+    @Test
+    void testAfterShutdown() {
+        feature.afterStart(controller);
+
+        assertFalse(feature.afterShutdown(controller));
+        assertNull(feature.getWarmup(CONTROLLER_NAME));
+
+        assertFalse(feature.beforeOffer(controller, CommInfrastructure.KAFKA, TOPIC, EVENT));
+        verify(warmup, never()).awaitDone();
+    }
+
+    @Test
+    void testBeforeOffer() {
+        // no warm-up
+        assertFalse(feature.beforeOffer(controller, CommInfrastructure.KAFKA, TOPIC, EVENT));
+
+        feature.afterStart(controller);
+
+        // warm-up completes while waiting
+        when(warmup.awaitDone()).thenReturn(true);
+        assertFalse(feature.beforeOffer(controller, CommInfrastructure.KAFKA, TOPIC, EVENT));
+        verify(warmup).awaitDone();
+        assertSame(warmup, feature.getWarmup(CONTROLLER_NAME));
+
+        // gate is open - should no longer wait
+        assertFalse(feature.beforeOffer(controller, CommInfrastructure.KAFKA, TOPIC, EVENT));
+        verify(warmup).awaitDone();
+    }
+
+    @Test
+    void testBeforeOfferTimedOut() {
+        feature.afterStart(controller);
+
+        when(warmup.awaitDone()).thenReturn(false);
+        assertFalse(feature.beforeOffer(controller, CommInfrastructure.KAFKA, TOPIC, EVENT));
+
+        // gate is open - should no longer wait
+        assertFalse(feature.beforeOffer(controller, CommInfrastructure.KAFKA, TOPIC, EVENT));
+        verify(warmup).awaitDone();
+    }
+}
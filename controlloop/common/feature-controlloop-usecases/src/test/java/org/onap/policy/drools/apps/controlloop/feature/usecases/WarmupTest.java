@@ -0,0 +1,217 @@
+/*-
+ * ============LICENSE_START=======================================================
+ * ONAP
+ * ================================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ================================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ============LICENSE_END=========================================================
+ */
+
+package org.onap.policy.drools.apps.controlloop.feature.usecases;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.ObjectFilter;
+import org.onap.policy.controlloop.CanonicalOnset;
+import org.onap.policy.controlloop.VirtualControlLoopNotification;
+import org.onap.policy.controlloop.drl.legacy.ControlLoopParams;
+import org.onap.policy.controlloop.eventmanager.WarmupServices;
+import org.onap.policy.drools.controller.DroolsController;
+import org.onap.policy.drools.core.PolicyContainer;
+import org.onap.policy.drools.system.PolicyController;
+import org.onap.policy.models.tosca.authorative.concepts.ToscaPolicy;
+
+class WarmupTest {
+    private static final String CONTROLLER_NAME = "my-controller";
+    private static final String KBASE_NAME = "my-kbase";
+    private static final String SESSION_NAME = "my-session";
+    private static final int ONSETS = 3;
+    private static final long MAX_WAIT_MS = 1000;
+
+    private PolicyController controller;
+    private DroolsController drools;
+    private KieContainer kieContainer;
+    private KieSession session;
+    private WarmupServices services;
+    private ToscaPolicy policy;
+    private Warmup warmup;
+
+    /**
+     * Sets up.
+     */
+    @BeforeEach
+    void setUp() {
+        controller = mock(PolicyController.class);
+        drools = mock(DroolsController.class);
+        kieContainer = mock(KieContainer.class);
+        session = mock(KieSession.class);
+        services = mock(WarmupServices.class);
+        policy = new ToscaPolicy();
+
+        var container = mock(PolicyContainer.class);
+
+        when(controller.getName()).thenReturn(CONTROLLER_NAME);
+        when(controller.getDrools()).thenReturn(drools);
+        when(drools.getContainer()).thenReturn(container);
+        when(container.getKieContainer()).thenReturn(kieContainer);
+
+        // only the second session is defined in the kjar
+        when(drools.getSessionNames()).thenReturn(List.of(SESSION_NAME + "-shard-1", SESSION_NAME));
+        when(kieContainer.getKieBaseNames()).thenReturn(List.of(KBASE_NAME));
+        when(kieContainer.getKieSessionNamesInKieBase(KBASE_NAME)).thenReturn(List.of(SESSION_NAME));
+        when(kieContainer.newKieSession(SESSION_NAME)).thenReturn(session);
+
+        when(drools.facts(SESSION_NAME, ToscaPolicy.class)).thenReturn(List.of(policy));
+        doReturn(List.of(makeParams("loop-A"), makeParams("loop-B"), makeParams("loop-A"))).when(session)
+                        .getObjects(any(ObjectFilter.class));
+
+        when(services.awaitFinal(any()))
+                        .thenReturn(CompletableFuture.completedFuture(new VirtualControlLoopNotification()));
+
+        warmup = new MyWarmup(MAX_WAIT_MS);
+    }
+
+    @Test
+    void testRun() {
+        assertFalse(warmup.isDone());
+
+        warmup.run();
+
+        assertTrue(warmup.isDone());
+        assertTrue(warmup.awaitDone());
+
+        var report = warmup.getReport();
+        assertNotNull(report);
+        assertEquals(2, report.getPolicies());
+        assertEquals(2 * ONSETS, report.getOnsets());
+        assertEquals(0, report.getIncomplete());
+        assertTrue(report.getDurationMs() >= 0);
+        assertTrue(report.getFirstLatencyUs() >= 0);
+        assertTrue(report.getLastLatencyUs() >= 0);
+
+        verify(session).insert(services);
+        verify(session).insert(policy);
+        verify(session).fireAllRules();
+        verify(session).fireUntilHalt();
+        verify(session, times(2 * ONSETS)).insert(any(CanonicalOnset.class));
+        verify(services, times(2 * ONSETS)).awaitFinal(any());
+
+        verify(session).halt();
+        verify(session).dispose();
+        verify(services).shutdown();
+    }
+
+    @Test
+    void testRunIncomplete() {
+        when(services.awaitFinal(any())).thenReturn(CompletableFuture.failedFuture(new IllegalStateException()));
+
+        warmup.run();
+
+        var report = warmup.getReport();
+        assertEquals(2 * ONSETS, report.getOnsets());
+        assertEquals(2 * ONSETS, report.getIncomplete());
+
+        verify(services).shutdown();
+    }
+
+    @Test
+    void testHasPolicies() {
+        assertTrue(warmup.hasPolicies());
+
+        when(drools.facts(SESSION_NAME, ToscaPolicy.class)).thenReturn(List.of());
+        assertFalse(warmup.hasPolicies());
+
+        // no session
+        when(drools.getSessionNames()).thenReturn(List.of("other-session"));
+        assertFalse(warmup.hasPolicies());
+    }
+
+    @Test
+    void testRunNoPolicies() {
+        // policies were undeployed before the warm-up started
+        when(drools.facts(SESSION_NAME, ToscaPolicy.class)).thenReturn(List.of());
+
+        warmup.run();
+
+        assertTrue(warmup.isDone());
+        assertNull(warmup.getReport());
+        verify(kieContainer, never()).newKieSession(any(String.class));
+    }
+
+    @Test
+    void testRunNoSession() {
+        when(drools.getSessionNames()).thenReturn(List.of("other-session"));
+
+        warmup.run();
+
+        assertTrue(warmup.isDone());
+        assertNull(warmup.getReport());
+    }
+
+    @Test
+    void testRunException() {
+        when(session.fireAllRules()).thenThrow(new IllegalStateException("expected exception"));
+
+        warmup.run();
+
+        assertTrue(warmup.isDone());
+        assertNull(warmup.getReport());
+
+        // should still have cleaned up
+        verify(session).dispose();
+        verify(services).shutdown();
+    }
+
+    @Test
+    void testAwaitDone() {
+        // never run, thus times out
+        warmup = new MyWarmup(0);
+        assertFalse(warmup.awaitDone());
+        assertFalse(warmup.isDone());
+    }
+
+    private ControlLoopParams makeParams(String loopName) {
+        var params = new ControlLoopParams();
+        params.setClosedLoopControlName(loopName);
+        return params;
+    }
+
+    private class MyWarmup extends Warmup {
+        public MyWarmup(long maxWaitMs) {
+            super(controller, ONSETS, maxWaitMs);
+        }
+
+        @Override
+        protected WarmupServices makeServices() {
+            return services;
+        }
+    }
+}